@@ -0,0 +1,107 @@
+package com.uptc.bases2.demo.benchmark;
+
+import com.uptc.bases2.demo.mappers.GuiaMapperImpl;
+import com.uptc.bases2.demo.mappers.ReservaMapper;
+import com.uptc.bases2.demo.mappers.ReservaMapperImpl;
+import com.uptc.bases2.demo.mappers.SenderoMapper;
+import com.uptc.bases2.demo.mappers.SenderoMapperImpl;
+import com.uptc.bases2.demo.mappers.VisitanteMapperImpl;
+import com.uptc.bases2.demo.models.dto.response.ReservaResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.SenderoResponseDTO;
+import com.uptc.bases2.demo.models.entities.AsignacionGuia;
+import com.uptc.bases2.demo.models.entities.Guia;
+import com.uptc.bases2.demo.models.entities.Reserva;
+import com.uptc.bases2.demo.models.entities.Sendero;
+import com.uptc.bases2.demo.models.entities.Visitante;
+import com.uptc.bases2.demo.models.enums.Dificultad;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo por objeto del mapeo entidad -> DTO: ModelMapper (reflexivo) frente a los mappers
+ * generados por MapStruct. Ejecutar con: mvn -Pbenchmark test-compile exec:exec
+ * (agregar -Djmh.args="MapeoDTOBenchmark -prof gc" para ver bytes asignados por operación).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapeoDTOBenchmark {
+
+    private ModelMapper modelMapper;
+    private SenderoMapper senderoMapper;
+    private ReservaMapper reservaMapper;
+
+    private Sendero sendero;
+    private Reserva reserva;
+
+    @Setup
+    public void preparar() {
+        modelMapper = new ModelMapper();
+        senderoMapper = new SenderoMapperImpl();
+        reservaMapper = new ReservaMapperImpl(new VisitanteMapperImpl(), senderoMapper, new GuiaMapperImpl());
+
+        sendero = new Sendero();
+        sendero.setIdSendero(1L);
+        sendero.setNombre("Laguna");
+        sendero.setDescripcion("Recorrido por el borde de la laguna");
+        sendero.setDificultad(Dificultad.FACIL);
+        sendero.setDuracionHoras(new BigDecimal("2.5"));
+        sendero.setCupoMaximoDia(40);
+        sendero.setDistanciaKm(new BigDecimal("4.2"));
+
+        Visitante visitante = new Visitante("1001", "Ana", "Díaz", "3001234567", "ana@correo.com", "x");
+        visitante.setId(10L);
+
+        Guia guia = new Guia("2001", "Luis", "Paz", "3007654321", "luis@correo.com", "x", "aves");
+        guia.setId(20L);
+
+        reserva = new Reserva();
+        reserva.setIdReserva(100L);
+        reserva.setVisitante(visitante);
+        reserva.setSendero(sendero);
+        reserva.setFechaVisita(LocalDate.now().plusDays(3));
+        reserva.setHoraInicio(LocalTime.of(8, 0));
+        reserva.setNumeroPersonas(4);
+
+        AsignacionGuia asignacion = new AsignacionGuia(reserva, guia);
+        asignacion.setIdAsignacion(1000L);
+        reserva.setAsignacionGuia(asignacion);
+    }
+
+    @Benchmark
+    public SenderoResponseDTO senderoModelMapper() {
+        return modelMapper.map(sendero, SenderoResponseDTO.class);
+    }
+
+    @Benchmark
+    public SenderoResponseDTO senderoMapStruct() {
+        return senderoMapper.toResponseDTO(sendero);
+    }
+
+    @Benchmark
+    public ReservaResponseDTO reservaModelMapper() {
+        return modelMapper.map(reserva, ReservaResponseDTO.class);
+    }
+
+    @Benchmark
+    public ReservaResponseDTO reservaMapStruct() {
+        return reservaMapper.toResponseDTO(reserva);
+    }
+}
@@ -3,6 +3,7 @@ package com.uptc.bases2.demo;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Clase principal de la aplicación
@@ -13,6 +14,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
  */
 @SpringBootApplication
 @EnableAsync  // Habilita procesamiento asíncrono (para emails)
+@EnableScheduling  // Habilita tareas programadas (reconciliación de cupos)
 public class ParqueNaturalApplication {
 
     public static void main(String[] args) {
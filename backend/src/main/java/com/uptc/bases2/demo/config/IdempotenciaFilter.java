@@ -0,0 +1,284 @@
+package com.uptc.bases2.demo.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uptc.bases2.demo.exceptions.ErrorResponse;
+import com.uptc.bases2.demo.models.entities.Idempotencia;
+import com.uptc.bases2.demo.services.interfaces.IdempotenciaService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Filtro de idempotencia para los POST que crean reservas y asignaciones.
+ *
+ * Si la petición trae el header Idempotency-Key, la primera respuesta se guarda
+ * en IDEMPOTENCIA y los reintentos con la misma clave la reciben tal cual, sin
+ * volver a validar ni insertar. Los duplicados concurrentes esperan a que
+ * termine la primera petición en lugar de competir con ella.
+ */
+@Component
+public class IdempotenciaFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotenciaFilter.class);
+
+    public static final String HEADER_CLAVE = "Idempotency-Key";
+    public static final String HEADER_REPETIDA = "Idempotent-Replayed";
+    private static final int MAX_LONGITUD_CLAVE = 100;
+
+    // Rutas (sin context-path) cuyos POST aceptan Idempotency-Key
+    private static final List<String> RUTAS = List.of("/reservas/**", "/asignaciones", "/lista-espera");
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    // Peticiones en curso por clave (deduplicación dentro de esta instancia)
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> enCurso = new ConcurrentHashMap<>();
+
+    @Autowired
+    private IdempotenciaService idempotenciaService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.idempotencia.espera-ms:30000}")
+    private long esperaMs;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod()) || request.getHeader(HEADER_CLAVE) == null) {
+            return true;
+        }
+        String ruta = request.getServletPath();
+        return RUTAS.stream().noneMatch(patron -> pathMatcher.match(patron, ruta));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String valor = request.getHeader(HEADER_CLAVE).trim();
+        if (valor.isEmpty() || valor.length() > MAX_LONGITUD_CLAVE) {
+            escribirError(request, response, HttpStatus.BAD_REQUEST,
+                "El header " + HEADER_CLAVE + " debe tener entre 1 y " + MAX_LONGITUD_CLAVE + " caracteres");
+            return;
+        }
+
+        // Sin usuario autenticado la petición será rechazada más adelante; no se guarda nada
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String clave = auth.getName() + "|" + valor;
+        String ruta = request.getServletPath();
+        byte[] cuerpo = StreamUtils.copyToByteArray(request.getInputStream());
+        String hash = calcularHash(cuerpo);
+
+        CompletableFuture<Void> propia = new CompletableFuture<>();
+        CompletableFuture<Void> previa;
+        while ((previa = enCurso.putIfAbsent(clave, propia)) != null) {
+            // Duplicado concurrente: esperar a que la primera petición guarde su respuesta
+            try {
+                previa.get(esperaMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) {
+                escribirError(request, response, HttpStatus.CONFLICT,
+                    "Hay una petición en curso con la misma " + HEADER_CLAVE);
+                return;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                escribirError(request, response, HttpStatus.CONFLICT,
+                    "Hay una petición en curso con la misma " + HEADER_CLAVE);
+                return;
+            } catch (ExecutionException ex) {
+                // La primera petición falló sin respuesta guardada; se reintenta la adquisición
+            }
+        }
+
+        try {
+            Optional<Idempotencia> guardada = idempotenciaService.buscarVigente(clave);
+            if (guardada.isPresent()) {
+                repetirRespuesta(guardada.get(), ruta, hash, request, response);
+                return;
+            }
+
+            ContentCachingResponseWrapper respuesta = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(new CuerpoLeidoRequest(request, cuerpo), respuesta);
+
+            if (debeGuardarse(respuesta.getStatus())) {
+                guardarRespuesta(clave, request.getMethod(), ruta, hash, respuesta);
+            }
+            respuesta.copyBodyToResponse();
+        } finally {
+            enCurso.remove(clave, propia);
+            propia.complete(null);
+        }
+    }
+
+    /**
+     * Los errores 5xx y de autorización no se guardan: el cliente puede reintentar con la misma clave
+     */
+    private boolean debeGuardarse(int estado) {
+        return estado < 500
+            && estado != HttpStatus.UNAUTHORIZED.value()
+            && estado != HttpStatus.FORBIDDEN.value()
+            && estado != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private void guardarRespuesta(String clave, String metodo, String ruta, String hash,
+                                  ContentCachingResponseWrapper respuesta) {
+        Idempotencia registro = new Idempotencia();
+        registro.setClave(clave);
+        registro.setMetodo(metodo);
+        registro.setRuta(ruta);
+        registro.setHashPeticion(hash);
+        registro.setEstadoHttp(respuesta.getStatus());
+        registro.setTipoContenido(respuesta.getContentType());
+        registro.setCuerpoRespuesta(new String(respuesta.getContentAsByteArray(), StandardCharsets.UTF_8));
+        try {
+            idempotenciaService.guardar(registro);
+        } catch (RuntimeException ex) {
+            // La respuesta ya se produjo; solo se pierde la posibilidad de repetirla
+            logger.warn("No se pudo guardar la respuesta idempotente para {}: {}", ruta, ex.getMessage());
+        }
+    }
+
+    private void repetirRespuesta(Idempotencia guardada, String ruta, String hash,
+                                  HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!guardada.getRuta().equals(ruta) || !guardada.getHashPeticion().equals(hash)) {
+            escribirError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                "La " + HEADER_CLAVE + " ya se usó con una petición diferente");
+            return;
+        }
+
+        logger.debug("Respuesta idempotente repetida para {}", ruta);
+        response.setStatus(guardada.getEstadoHttp());
+        response.setHeader(HEADER_REPETIDA, "true");
+        if (guardada.getTipoContenido() != null) {
+            response.setContentType(guardada.getTipoContenido());
+        }
+        if (guardada.getCuerpoRespuesta() != null) {
+            byte[] cuerpo = guardada.getCuerpoRespuesta().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(cuerpo.length);
+            response.getOutputStream().write(cuerpo);
+        }
+    }
+
+    private void escribirError(HttpServletRequest request, HttpServletResponse response,
+                               HttpStatus status, String mensaje) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(status.value());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(status.value())
+            .error(status.getReasonPhrase())
+            .message(mensaje)
+            .path(request.getRequestURI())
+            .build();
+
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private String calcularHash(byte[] cuerpo) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(cuerpo));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+
+    /**
+     * Request cuyo cuerpo ya fue leído para calcular el hash; lo entrega de nuevo al controlador
+     */
+    private static class CuerpoLeidoRequest extends HttpServletRequestWrapper {
+
+        private final byte[] cuerpo;
+
+        CuerpoLeidoRequest(HttpServletRequest request, byte[] cuerpo) {
+            super(request);
+            this.cuerpo = cuerpo;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream entrada = new ByteArrayInputStream(cuerpo);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return entrada.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return entrada.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return entrada.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * El cuerpo ya está en memoria: siempre hay datos listos, así que se entregan de inmediato
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.uptc.bases2.demo.config;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -36,6 +37,9 @@ public class SecurityConfig {
     @Autowired
     private CorsConfig corsConfig;
 
+    @Autowired
+    private IdempotenciaFilter idempotenciaFilter;
+
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -74,6 +78,10 @@ public class SecurityConfig {
                                 "/swagger-ui.html")
                         .permitAll()
 
+                        // Disponibilidad por horario (consultada al reservar)
+                        .requestMatchers(HttpMethod.GET, "/horarios/sendero/*/disponibilidad")
+                        .authenticated()
+
                         // Endpoints para ADMIN
                         .requestMatchers(
                                 "/senderos/crear",
@@ -110,7 +118,9 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Después del JWT: la clave de idempotencia se asocia al usuario autenticado
+                .addFilterAfter(idempotenciaFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,249 @@
+package com.uptc.bases2.demo.controllers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.uptc.bases2.demo.models.dto.response.ApiResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.CuboReservasDTO;
+import com.uptc.bases2.demo.models.dto.response.DashboardDTO;
+import com.uptc.bases2.demo.models.dto.response.EstadisticasGeneralesDTO;
+import com.uptc.bases2.demo.models.dto.response.EstadisticasRangoDTO;
+import com.uptc.bases2.demo.models.dto.response.GuiaRankingDTO;
+import com.uptc.bases2.demo.models.dto.response.HoraPicoDTO;
+import com.uptc.bases2.demo.models.dto.response.OcupacionSenderoDTO;
+import com.uptc.bases2.demo.models.dto.response.PromedioPersonasDTO;
+import com.uptc.bases2.demo.models.dto.response.RecomendacionCupoDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservasPorEstadoDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservasPorMesDTO;
+import com.uptc.bases2.demo.models.dto.response.SenderoPopularDTO;
+import com.uptc.bases2.demo.models.dto.response.TasaCancelacionDTO;
+import com.uptc.bases2.demo.models.dto.response.TendenciasDTO;
+import com.uptc.bases2.demo.models.dto.response.VisitanteFrecuenteDTO;
+import com.uptc.bases2.demo.services.interfaces.ClasificacionService;
+import com.uptc.bases2.demo.services.interfaces.CuboReservasService;
+import com.uptc.bases2.demo.services.interfaces.DashboardService;
+import com.uptc.bases2.demo.services.interfaces.EstadisticasService;
+import com.uptc.bases2.demo.services.interfaces.HorasPicoService;
+import com.uptc.bases2.demo.services.interfaces.SeriesReservasService;
+import com.uptc.bases2.demo.utils.Constants;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controlador de estadísticas de reservas (resumen diario RESERVA_DIARIA)
+ */
+@RestController
+@RequestMapping("/estadisticas")
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Estadísticas", description = "Indicadores de reservas calculados desde el resumen diario")
+public class EstadisticasController {
+
+    @Autowired
+    private EstadisticasService estadisticasService;
+
+    @Autowired
+    private HorasPicoService horasPicoService;
+
+    @Autowired
+    private SeriesReservasService seriesReservasService;
+
+    @Autowired
+    private ClasificacionService clasificacionService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private CuboReservasService cuboReservasService;
+
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Obtener la instantánea del tablero de administración",
+               description = "Ocupación de hoy, reservas por confirmar y sin guía, recorridos en curso y totales del mes; " +
+                             "las secciones que no responden a tiempo se listan en seccionesNoDisponibles")
+    public ResponseEntity<DashboardDTO> obtenerDashboard() {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(Constants.CACHE_DASHBOARD_SEGUNDOS, TimeUnit.SECONDS))
+            .body(dashboardService.obtenerDashboard());
+    }
+
+    @GetMapping("/generales")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Obtener estadísticas generales del sistema")
+    public ResponseEntity<EstadisticasGeneralesDTO> obtenerGenerales() {
+        return ResponseEntity.ok(estadisticasService.obtenerGenerales());
+    }
+
+    @GetMapping("/reservas/estados")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Obtener reservas por estado",
+               description = "Sin fechas considera todas las reservas; con fechas filtra por fecha de visita")
+    public ResponseEntity<List<ReservasPorEstadoDTO>> obtenerReservasPorEstado(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+
+        return ResponseEntity.ok(estadisticasService.obtenerReservasPorEstado(desde, hasta));
+    }
+
+    @GetMapping("/reservas/mes")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Obtener reservas por mes de un año")
+    public ResponseEntity<List<ReservasPorMesDTO>> obtenerReservasPorMes(
+            @RequestParam(required = false) Integer year) {
+
+        int anio = year != null ? year : LocalDate.now().getYear();
+        return ResponseEntity.ok(estadisticasService.obtenerReservasPorMes(anio));
+    }
+
+    @GetMapping("/rango")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Obtener estadísticas por rango de fechas de visita")
+    public ResponseEntity<EstadisticasRangoDTO> obtenerPorRango(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaFin) {
+
+        return ResponseEntity.ok(estadisticasService.obtenerPorRango(fechaInicio, fechaFin));
+    }
+
+    @GetMapping("/ocupacion")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GUIA')")
+    @Operation(summary = "Obtener la ocupación de todos los senderos activos en una fecha",
+               description = "Personas reservadas, cupo y porcentaje por sendero y por horario; por defecto hoy")
+    public ResponseEntity<List<OcupacionSenderoDTO>> obtenerOcupacion(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fecha) {
+
+        List<OcupacionSenderoDTO> ocupacion =
+            estadisticasService.obtenerOcupacion(fecha != null ? fecha : LocalDate.now());
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(Constants.CACHE_OCUPACION_SEGUNDOS, TimeUnit.SECONDS))
+            .body(ocupacion);
+    }
+
+    @GetMapping("/horas-pico")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Obtener horas pico de reservas",
+               description = "Reservas por día de la semana y hora de inicio, de mayor a menor; sin sendero suma todos")
+    public ResponseEntity<List<HoraPicoDTO>> obtenerHorasPico(
+            @RequestParam(required = false) Long senderoId,
+            @RequestParam(required = false) Integer limit) {
+
+        return ResponseEntity.ok(horasPicoService.obtenerHorasPico(senderoId, limit));
+    }
+
+    @GetMapping("/horas-pico/sendero/{senderoId}/recomendacion-cupos")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Recomendar el cupo de cada horario de un sendero",
+               description = "Reparte el cupo diario entre los horarios según su participación en la demanda histórica")
+    public ResponseEntity<List<RecomendacionCupoDTO>> recomendarCupos(@PathVariable Long senderoId) {
+        return ResponseEntity.ok(horasPicoService.recomendarCupos(senderoId));
+    }
+
+    @GetMapping("/tendencias")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Obtener la tendencia mensual de reservas",
+               description = "Serie de los últimos meses (incluido el actual) por mes de visita; sin sendero suma todos")
+    public ResponseEntity<TendenciasDTO> obtenerTendencias(
+            @RequestParam(defaultValue = "6") Integer meses,
+            @RequestParam(required = false) Long senderoId) {
+
+        return ResponseEntity.ok(seriesReservasService.obtenerTendencias(meses, senderoId));
+    }
+
+    @GetMapping("/cancelaciones")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Obtener la tasa de cancelación de un periodo",
+               description = "Periodos: mes, trimestre, semestre o año")
+    public ResponseEntity<TasaCancelacionDTO> obtenerTasaCancelacion(
+            @RequestParam(defaultValue = "mes") String periodo,
+            @RequestParam(required = false) Long senderoId) {
+
+        return ResponseEntity.ok(seriesReservasService.obtenerTasaCancelacion(periodo, senderoId));
+    }
+
+    @GetMapping("/promedio-personas")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Obtener el promedio de personas por reserva, general y por sendero")
+    public ResponseEntity<PromedioPersonasDTO> obtenerPromedioPersonas() {
+        return ResponseEntity.ok(seriesReservasService.obtenerPromedioPersonas());
+    }
+
+    @GetMapping("/guias/top-rated")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Obtener los guías activos con mejor calificación",
+               description = "A igual calificación, primero el guía con más recorridos")
+    public ResponseEntity<List<GuiaRankingDTO>> obtenerTopGuias(
+            @RequestParam(defaultValue = "10") Integer limit) {
+
+        return ResponseEntity.ok(clasificacionService.obtenerTopGuias(limit));
+    }
+
+    @GetMapping("/visitantes/frecuentes")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Obtener los visitantes activos con más visitas completadas")
+    public ResponseEntity<List<VisitanteFrecuenteDTO>> obtenerVisitantesFrecuentes(
+            @RequestParam(defaultValue = "10") Integer limit) {
+
+        return ResponseEntity.ok(clasificacionService.obtenerVisitantesFrecuentes(limit));
+    }
+
+    @GetMapping("/senderos/populares")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Obtener los senderos activos con más reservas",
+               description = "Cuenta las reservas en cualquier estado; a igual número, primero el de más personas")
+    public ResponseEntity<List<SenderoPopularDTO>> obtenerSenderosPopulares(
+            @RequestParam(defaultValue = "10") Integer limit) {
+
+        return ResponseEntity.ok(clasificacionService.obtenerSenderosPopulares(limit));
+    }
+
+    @GetMapping("/cubo")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Consultar el cubo de reservas en memoria",
+               description = "Agrupa por sendero, dificultad, anio, mes, diaSemana, hora, estado o personas " +
+                             "(separadas por coma) y filtra por sendero, dificultad, estados y fecha de visita")
+    public ResponseEntity<CuboReservasDTO> consultarCubo(
+            @RequestParam(required = false) String agrupar,
+            @RequestParam(required = false) Long senderoId,
+            @RequestParam(required = false) String dificultad,
+            @RequestParam(required = false) String estado,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+
+        return ResponseEntity.ok(cuboReservasService.consultar(agrupar, senderoId, dificultad, estado, desde, hasta));
+    }
+
+    @PostMapping("/cubo/recargar")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Recargar el cubo de reservas desde RESERVA")
+    public ResponseEntity<ApiResponseDTO<Void>> recargarCubo() {
+        cuboReservasService.recargar();
+        return ResponseEntity.ok(ApiResponseDTO.success("Cubo de reservas recargado"));
+    }
+
+    @PostMapping("/resumen/reconstruir")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reconstruir el resumen diario",
+               description = "Recalcula RESERVA_DIARIA desde RESERVA; sin fechas recorre todas las fechas de visita")
+    public ResponseEntity<ApiResponseDTO<Integer>> reconstruirResumen(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+
+        int filas = estadisticasService.reconstruirResumen(desde, hasta);
+        return ResponseEntity.ok(ApiResponseDTO.success("Resumen diario reconstruido", filas));
+    }
+}
@@ -4,6 +4,8 @@ import com.uptc.bases2.demo.models.dto.request.GuiaRequestDTO;
 import com.uptc.bases2.demo.models.dto.response.AgendaGuiaResponseDTO;
 import com.uptc.bases2.demo.models.dto.response.ApiResponseDTO;
 import com.uptc.bases2.demo.models.dto.response.GuiaResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.PaginaDTO;
+import com.uptc.bases2.demo.models.enums.EstadoGeneral;
 import com.uptc.bases2.demo.services.interfaces.GuiaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -55,6 +57,19 @@ public class GuiaController {
         return ResponseEntity.ok(guias);
     }
 
+    @GetMapping("/pagina")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Listar guías paginados por cursor", 
+               description = "Orden por ID; enviar siguienteCursor de la respuesta para la página siguiente")
+    public ResponseEntity<PaginaDTO<GuiaResponseDTO>> obtenerPagina(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamano,
+            @RequestParam(required = false) EstadoGeneral estado) {
+
+        PaginaDTO<GuiaResponseDTO> pagina = guiaService.obtenerPagina(cursor, tamano, estado);
+        return ResponseEntity.ok(pagina);
+    }
+
     @GetMapping("/activos")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Listar guías activos")
@@ -2,6 +2,7 @@ package com.uptc.bases2.demo.controllers;
 
 import com.uptc.bases2.demo.models.dto.request.HorarioRequestDTO;
 import com.uptc.bases2.demo.models.dto.response.ApiResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.HorarioDisponibilidadDTO;
 import com.uptc.bases2.demo.models.dto.response.HorarioResponseDTO;
 import com.uptc.bases2.demo.services.interfaces.HorarioDisponibleService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,11 +10,13 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -59,6 +62,16 @@ public class HorarioDisponibleController {
         return ResponseEntity.ok(horarios);
     }
 
+    @GetMapping("/sendero/{senderoId}/disponibilidad")
+    @Operation(summary = "Obtener cupo restante de cada horario de un sendero en una fecha")
+    public ResponseEntity<List<HorarioDisponibilidadDTO>> obtenerDisponibilidad(
+            @PathVariable Long senderoId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fecha) {
+        
+        List<HorarioDisponibilidadDTO> disponibilidad = horarioService.obtenerDisponibilidad(senderoId, fecha);
+        return ResponseEntity.ok(disponibilidad);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Actualizar horario")
@@ -0,0 +1,57 @@
+package com.uptc.bases2.demo.controllers;
+
+import com.uptc.bases2.demo.models.dto.response.ImportacionResponseDTO;
+import com.uptc.bases2.demo.models.enums.FormatoImportacion;
+import com.uptc.bases2.demo.services.interfaces.ImportacionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Controlador para la importación masiva de datos (CSV con encabezado, arreglo JSON o NDJSON).
+ * El cuerpo de la petición se lee por streaming; el formato se toma del Content-Type.
+ */
+@RestController
+@RequestMapping("/importaciones")
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Importaciones", description = "Carga masiva de visitantes, senderos y horarios")
+public class ImportacionController {
+
+    @Autowired
+    private ImportacionService importacionService;
+
+    @PostMapping(value = "/visitantes", consumes = {"text/csv", "application/json", "application/x-ndjson"})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Importar visitantes",
+               description = "Valida en paralelo, verifica email y cédula por lote e inserta con JDBC batch")
+    public ResponseEntity<ImportacionResponseDTO> importarVisitantes(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(importacionService.importarVisitantes(formato(request), request.getInputStream()));
+    }
+
+    @PostMapping(value = "/senderos", consumes = {"text/csv", "application/json", "application/x-ndjson"})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Importar senderos")
+    public ResponseEntity<ImportacionResponseDTO> importarSenderos(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(importacionService.importarSenderos(formato(request), request.getInputStream()));
+    }
+
+    @PostMapping(value = "/horarios", consumes = {"text/csv", "application/json", "application/x-ndjson"})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Importar horarios de senderos")
+    public ResponseEntity<ImportacionResponseDTO> importarHorarios(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(importacionService.importarHorarios(formato(request), request.getInputStream()));
+    }
+
+    private FormatoImportacion formato(HttpServletRequest request) {
+        return FormatoImportacion.desdeTipoContenido(request.getContentType());
+    }
+}
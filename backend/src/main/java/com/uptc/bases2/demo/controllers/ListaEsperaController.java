@@ -0,0 +1,80 @@
+package com.uptc.bases2.demo.controllers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.uptc.bases2.demo.models.dto.request.ReservaRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.ApiResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.ListaEsperaResponseDTO;
+import com.uptc.bases2.demo.services.interfaces.ListaEsperaService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+
+/**
+ * Controlador para la lista de espera de senderos sin cupo
+ */
+@RestController
+@RequestMapping("/lista-espera")
+@SecurityRequirement(name = "Bearer Authentication")
+@Tag(name = "Lista de Espera", description = "Solicitudes en espera de cupo, promovidas automáticamente")
+public class ListaEsperaController {
+
+    @Autowired
+    private ListaEsperaService listaEsperaService;
+
+    @PostMapping("/visitante/{visitanteId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VISITANTE')")
+    @Operation(summary = "Inscribirse en lista de espera", 
+               description = "Registra la solicitud si no hay cupo; se convierte en reserva al liberarse cupo")
+    public ResponseEntity<ListaEsperaResponseDTO> inscribir(
+            @PathVariable Long visitanteId,
+            @Valid @RequestBody ReservaRequestDTO request) {
+
+        ListaEsperaResponseDTO solicitud = listaEsperaService.inscribir(visitanteId, request);
+        return new ResponseEntity<>(solicitud, HttpStatus.CREATED);
+    }
+
+    @GetMapping("/visitante/{visitanteId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VISITANTE')")
+    @Operation(summary = "Obtener solicitudes en lista de espera de un visitante")
+    public ResponseEntity<List<ListaEsperaResponseDTO>> obtenerPorVisitante(@PathVariable Long visitanteId) {
+        List<ListaEsperaResponseDTO> solicitudes = listaEsperaService.obtenerPorVisitante(visitanteId);
+        return ResponseEntity.ok(solicitudes);
+    }
+
+    @GetMapping("/sendero/{senderoId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Obtener la cola de espera de un sendero para una fecha")
+    public ResponseEntity<List<ListaEsperaResponseDTO>> obtenerCola(
+            @PathVariable Long senderoId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fecha) {
+
+        List<ListaEsperaResponseDTO> cola = listaEsperaService.obtenerCola(senderoId, fecha);
+        return ResponseEntity.ok(cola);
+    }
+
+    @PatchMapping("/{id}/cancelar")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VISITANTE')")
+    @Operation(summary = "Retirar solicitud de la lista de espera")
+    public ResponseEntity<ApiResponseDTO<Void>> cancelar(@PathVariable Long id) {
+        listaEsperaService.cancelar(id);
+        return ResponseEntity.ok(ApiResponseDTO.success("Solicitud retirada de la lista de espera"));
+    }
+}
@@ -1,10 +1,13 @@
 package com.uptc.bases2.demo.controllers;
 
+import java.io.IOException;
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -17,16 +20,31 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.uptc.bases2.demo.models.dto.request.ReservaLoteRequestDTO;
 import com.uptc.bases2.demo.models.dto.request.ReservaRequestDTO;
 import com.uptc.bases2.demo.models.dto.request.ReservaUpdateDTO;
+import com.uptc.bases2.demo.models.dto.request.TransicionMasivaRequestDTO;
 import com.uptc.bases2.demo.models.dto.response.ApiResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.PaginaDTO;
+import com.uptc.bases2.demo.models.dto.response.ProcesoBatchResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservaLoteResponseDTO;
 import com.uptc.bases2.demo.models.dto.response.ReservaResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.TicketReservaDTO;
+import com.uptc.bases2.demo.models.dto.response.TransicionMasivaResponseDTO;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.models.enums.FormatoExportacion;
+import com.uptc.bases2.demo.models.enums.TransicionReserva;
+import com.uptc.bases2.demo.services.interfaces.CierreDiarioService;
+import com.uptc.bases2.demo.services.interfaces.ColaReservaService;
+import com.uptc.bases2.demo.services.interfaces.ExportacionService;
 import com.uptc.bases2.demo.services.interfaces.ReservaService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 /**
@@ -41,6 +59,15 @@ public class ReservaController {
     @Autowired
     private ReservaService reservaService;
 
+    @Autowired
+    private ColaReservaService colaReservaService;
+
+    @Autowired
+    private CierreDiarioService cierreDiarioService;
+
+    @Autowired
+    private ExportacionService exportacionService;
+
     @PostMapping("/visitante/{visitanteId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'VISITANTE')")
     @Operation(summary = "Crear nueva reserva", description = "Crea una reserva validando todas las reglas de negocio")
@@ -52,6 +79,61 @@ public class ReservaController {
         return new ResponseEntity<>(reserva, HttpStatus.CREATED);
     }
 
+    @PostMapping("/cola/visitante/{visitanteId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VISITANTE')")
+    @Operation(summary = "Encolar reserva", 
+               description = "Recibe la reserva para procesarla en segundo plano y retorna un ticket (202)")
+    public ResponseEntity<TicketReservaDTO> encolar(
+            @PathVariable Long visitanteId,
+            @Valid @RequestBody ReservaRequestDTO request) {
+
+        TicketReservaDTO ticket = colaReservaService.encolar(visitanteId, request);
+        URI ubicacion = ServletUriComponentsBuilder.fromCurrentContextPath()
+            .path("/reservas/tickets/{ticketId}")
+            .buildAndExpand(ticket.getTicketId())
+            .toUri();
+        return ResponseEntity.accepted().location(ubicacion).body(ticket);
+    }
+
+    @GetMapping("/tickets/{ticketId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VISITANTE')")
+    @Operation(summary = "Consultar ticket de reserva encolada", 
+               description = "Retorna el estado de la solicitud y, al finalizar, la reserva creada o el motivo de rechazo")
+    public ResponseEntity<TicketReservaDTO> obtenerTicket(@PathVariable String ticketId) {
+        TicketReservaDTO ticket = colaReservaService.obtenerTicket(ticketId);
+        return ResponseEntity.ok(ticket);
+    }
+
+    @PostMapping("/holds/visitante/{visitanteId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VISITANTE')")
+    @Operation(summary = "Retener cupo temporalmente", 
+               description = "Crea una reserva RETENIDA que expira si no se confirma a tiempo")
+    public ResponseEntity<ReservaResponseDTO> retener(
+            @PathVariable Long visitanteId,
+            @Valid @RequestBody ReservaRequestDTO request) {
+
+        ReservaResponseDTO reserva = reservaService.retener(visitanteId, request);
+        return new ResponseEntity<>(reserva, HttpStatus.CREATED);
+    }
+
+    @PatchMapping("/holds/{id}/confirmar")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VISITANTE')")
+    @Operation(summary = "Confirmar retención", description = "Convierte una retención vigente en reserva PENDIENTE")
+    public ResponseEntity<ReservaResponseDTO> confirmarRetencion(@PathVariable Long id) {
+        ReservaResponseDTO reserva = reservaService.confirmarRetencion(id);
+        return ResponseEntity.ok(reserva);
+    }
+
+    @PostMapping("/lote")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Crear reservas en lote", 
+               description = "Crea reservas para grupos (TODO_O_NADA o MEJOR_ESFUERZO) con resultado por reserva")
+    public ResponseEntity<ReservaLoteResponseDTO> crearLote(@Valid @RequestBody ReservaLoteRequestDTO request) {
+        ReservaLoteResponseDTO resultado = reservaService.crearLote(request);
+        HttpStatus status = resultado.getTotalCreadas() > 0 ? HttpStatus.CREATED : HttpStatus.UNPROCESSABLE_ENTITY;
+        return new ResponseEntity<>(resultado, status);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'VISITANTE', 'GUIA')")
     @Operation(summary = "Obtener reserva por ID")
@@ -102,6 +184,44 @@ public class ReservaController {
         return ResponseEntity.ok(reservas);
     }
 
+    @GetMapping("/pagina")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Listar reservas paginadas por cursor", 
+               description = "Orden por fecha de visita e ID; enviar siguienteCursor de la respuesta para la página siguiente")
+    public ResponseEntity<PaginaDTO<ReservaResponseDTO>> obtenerPagina(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamano,
+            @RequestParam(required = false) EstadoReserva estado,
+            @RequestParam(required = false) Long senderoId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+
+        PaginaDTO<ReservaResponseDTO> pagina = reservaService.obtenerPagina(
+            cursor, tamano, estado, senderoId, desde, hasta);
+        return ResponseEntity.ok(pagina);
+    }
+
+    @GetMapping("/exportar")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Exportar reservas por streaming", 
+               description = "Escribe las reservas en NDJSON o CSV a medida que se leen, sin cargarlas en memoria")
+    public void exportar(
+            @RequestParam(defaultValue = "NDJSON") FormatoExportacion formato,
+            @RequestParam(required = false) EstadoReserva estado,
+            @RequestParam(required = false) Long senderoId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            HttpServletResponse response) throws IOException {
+
+        response.setContentType(formato.getTipoContenido());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"reservas." + formato.getExtension() + "\"");
+
+        exportacionService.exportarReservas(formato, desde, hasta, senderoId, estado,
+            response.getOutputStream());
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'VISITANTE')")
     @Operation(summary = "Modificar reserva", description = "Modifica una reserva validando reglas de negocio")
@@ -147,4 +267,46 @@ public class ReservaController {
         reservaService.marcarNoAsistio(id);
         return ResponseEntity.ok(ApiResponseDTO.success("Reserva marcada como 'No Asistió'"));
     }
+
+    @PatchMapping("/lote/confirmar")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Confirmar varias reservas", 
+               description = "Confirma las reservas PENDIENTES indicadas por IDs o por sendero y fecha")
+    public ResponseEntity<TransicionMasivaResponseDTO> confirmarLote(
+            @Valid @RequestBody TransicionMasivaRequestDTO request) {
+        return ResponseEntity.ok(reservaService.aplicarTransicionMasiva(TransicionReserva.CONFIRMAR, request));
+    }
+
+    @PatchMapping("/lote/completar")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Completar varias reservas", 
+               description = "Marca como completadas las reservas CONFIRMADAS indicadas por IDs o por sendero y fecha")
+    public ResponseEntity<TransicionMasivaResponseDTO> completarLote(
+            @Valid @RequestBody TransicionMasivaRequestDTO request) {
+        return ResponseEntity.ok(reservaService.aplicarTransicionMasiva(TransicionReserva.COMPLETAR, request));
+    }
+
+    @PatchMapping("/lote/no-asistio")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Marcar varias reservas como 'No Asistió'", 
+               description = "Aplica 'No Asistió' a las reservas CONFIRMADAS indicadas por IDs o por sendero y fecha")
+    public ResponseEntity<TransicionMasivaResponseDTO> marcarNoAsistioLote(
+            @Valid @RequestBody TransicionMasivaRequestDTO request) {
+        return ResponseEntity.ok(reservaService.aplicarTransicionMasiva(TransicionReserva.NO_ASISTIO, request));
+    }
+
+    @PostMapping("/cierre-diario")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Ejecutar cierre diario", 
+               description = "Pasa a NO_ASISTIO y EXPIRADA las reservas con fecha pasada y retorna las métricas")
+    public ResponseEntity<List<ProcesoBatchResponseDTO>> ejecutarCierreDiario() {
+        return ResponseEntity.ok(cierreDiarioService.ejecutarCierre());
+    }
+
+    @GetMapping("/cierre-diario")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Estado del cierre diario", description = "Punto de control y métricas de la última ejecución")
+    public ResponseEntity<List<ProcesoBatchResponseDTO>> obtenerEstadoCierreDiario() {
+        return ResponseEntity.ok(cierreDiarioService.obtenerEstado());
+    }
 }
@@ -2,21 +2,31 @@ package com.uptc.bases2.demo.controllers;
 
 import com.uptc.bases2.demo.models.dto.request.SenderoRequestDTO;
 import com.uptc.bases2.demo.models.dto.response.ApiResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.CalendarioCupoDTO;
+import com.uptc.bases2.demo.models.dto.response.DisponibilidadSenderoDTO;
+import com.uptc.bases2.demo.models.dto.response.PaginaDTO;
 import com.uptc.bases2.demo.models.dto.response.SenderoResponseDTO;
+import com.uptc.bases2.demo.models.enums.Dificultad;
+import com.uptc.bases2.demo.models.enums.EstadoGeneral;
+import com.uptc.bases2.demo.services.interfaces.OcupacionService;
 import com.uptc.bases2.demo.services.interfaces.SenderoService;
+import com.uptc.bases2.demo.utils.Constants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Controlador para gestión de senderos
@@ -29,6 +39,9 @@ public class SenderoController {
     @Autowired
     private SenderoService senderoService;
 
+    @Autowired
+    private OcupacionService ocupacionService;
+
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     @SecurityRequirement(name = "Bearer Authentication")
@@ -52,6 +65,19 @@ public class SenderoController {
         return ResponseEntity.ok(senderos);
     }
 
+    @GetMapping("/pagina")
+    @Operation(summary = "Listar senderos paginados por cursor", 
+               description = "Orden por ID; enviar siguienteCursor de la respuesta para la página siguiente")
+    public ResponseEntity<PaginaDTO<SenderoResponseDTO>> obtenerPagina(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamano,
+            @RequestParam(required = false) EstadoGeneral estado,
+            @RequestParam(required = false) Dificultad dificultad) {
+
+        PaginaDTO<SenderoResponseDTO> pagina = senderoService.obtenerPagina(cursor, tamano, estado, dificultad);
+        return ResponseEntity.ok(pagina);
+    }
+
     @GetMapping("/activos")
     @Operation(summary = "Listar senderos activos (público)")
     public ResponseEntity<List<SenderoResponseDTO>> obtenerActivos() {
@@ -110,4 +136,42 @@ public class SenderoController {
         Integer cupo = senderoService.calcularCupoDisponible(id, fecha);
         return ResponseEntity.ok(ApiResponseDTO.success("Cupo calculado", cupo));
     }
+
+    @GetMapping("/{id}/calendario")
+    @Operation(summary = "Calendario de cupo disponible por día en un rango de fechas")
+    public ResponseEntity<CalendarioCupoDTO> obtenerCalendario(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta) {
+        
+        CalendarioCupoDTO calendario = senderoService.obtenerCalendario(id, desde, hasta);
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(Constants.CACHE_CALENDARIO_SEGUNDOS, TimeUnit.SECONDS))
+            .body(calendario);
+    }
+
+    @GetMapping("/disponibilidad")
+    @Operation(summary = "Buscar senderos con cupo para un grupo en un rango de fechas")
+    public ResponseEntity<List<DisponibilidadSenderoDTO>> buscarDisponibilidad(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate desde,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hasta,
+            @RequestParam(defaultValue = "1") Integer personas,
+            @RequestParam(required = false) Dificultad dificultad,
+            @RequestParam(required = false) BigDecimal duracionMaxima) {
+        
+        List<DisponibilidadSenderoDTO> disponibilidad =
+            senderoService.buscarDisponibilidad(desde, hasta, personas, dificultad, duracionMaxima);
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(Constants.CACHE_CALENDARIO_SEGUNDOS, TimeUnit.SECONDS))
+            .body(disponibilidad);
+    }
+
+    @PostMapping("/ocupacion/reconciliar")
+    @PreAuthorize("hasRole('ADMIN')")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @Operation(summary = "Reconciliar el contador de cupos con las reservas activas")
+    public ResponseEntity<ApiResponseDTO<Integer>> reconciliarOcupacion() {
+        int corregidas = ocupacionService.reconciliar();
+        return ResponseEntity.ok(ApiResponseDTO.success("Ocupación reconciliada", corregidas));
+    }
 }
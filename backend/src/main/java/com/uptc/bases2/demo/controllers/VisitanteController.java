@@ -2,7 +2,9 @@ package com.uptc.bases2.demo.controllers;
 
 import com.uptc.bases2.demo.models.dto.request.VisitanteRequestDTO;
 import com.uptc.bases2.demo.models.dto.response.ApiResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.PaginaDTO;
 import com.uptc.bases2.demo.models.dto.response.VisitanteResponseDTO;
+import com.uptc.bases2.demo.models.enums.EstadoGeneral;
 import com.uptc.bases2.demo.services.interfaces.VisitanteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -51,6 +53,19 @@ public class VisitanteController {
         return ResponseEntity.ok(visitantes);
     }
 
+    @GetMapping("/pagina")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Listar visitantes paginados por cursor", 
+               description = "Orden por ID; enviar siguienteCursor de la respuesta para la página siguiente")
+    public ResponseEntity<PaginaDTO<VisitanteResponseDTO>> obtenerPagina(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamano,
+            @RequestParam(required = false) EstadoGeneral estado) {
+
+        PaginaDTO<VisitanteResponseDTO> pagina = visitanteService.obtenerPagina(cursor, tamano, estado);
+        return ResponseEntity.ok(pagina);
+    }
+
     @GetMapping("/activos")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Listar visitantes activos")
@@ -0,0 +1,16 @@
+package com.uptc.bases2.demo.exceptions;
+
+/**
+ * Excepción para capacidad temporalmente agotada (503)
+ * Ej: Cola de reservas llena durante una ráfaga de solicitudes
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
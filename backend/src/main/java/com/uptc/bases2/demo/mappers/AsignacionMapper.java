@@ -0,0 +1,34 @@
+package com.uptc.bases2.demo.mappers;
+
+import com.uptc.bases2.demo.models.dto.response.AsignacionResponseDTO;
+import com.uptc.bases2.demo.models.entities.AsignacionGuia;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper AsignacionGuia -> DTO generado en compilación (MapStruct)
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR,
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+        uses = {GuiaMapper.class, ReservaMapper.class})
+public interface AsignacionMapper {
+
+    @Mapping(target = "idReserva", source = "reserva.idReserva")
+    @Mapping(target = "reserva", source = "reserva", qualifiedByName = "sinAsignacion")
+    AsignacionResponseDTO toResponseDTO(AsignacionGuia asignacion);
+
+    /**
+     * La asignación que se está convirtiendo es la de su reserva
+     */
+    @AfterMapping
+    default void completarGuiaDeReserva(@MappingTarget AsignacionResponseDTO dto) {
+        if (dto.getReserva() != null) {
+            dto.getReserva().setTieneGuiaAsignado(dto.getGuia() != null);
+            dto.getReserva().setGuiaAsignado(dto.getGuia());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.uptc.bases2.demo.mappers;
+
+import com.uptc.bases2.demo.models.dto.response.GuiaResponseDTO;
+import com.uptc.bases2.demo.models.entities.Guia;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper Guia -> DTO generado en compilación (MapStruct)
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface GuiaMapper {
+
+    GuiaResponseDTO toResponseDTO(Guia guia);
+}
@@ -0,0 +1,31 @@
+package com.uptc.bases2.demo.mappers;
+
+import com.uptc.bases2.demo.models.dto.response.ReservaResponseDTO;
+import com.uptc.bases2.demo.models.entities.Reserva;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper Reserva -> DTO generado en compilación (MapStruct).
+ * Solo lee visitante, sendero y la asignación; no toca el horario ni colecciones.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR,
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+        uses = {VisitanteMapper.class, SenderoMapper.class, GuiaMapper.class})
+public interface ReservaMapper {
+
+    @Mapping(target = "tieneGuiaAsignado", expression = "java(reserva.tieneGuiaAsignado())")
+    @Mapping(target = "guiaAsignado", source = "asignacionGuia.guia")
+    ReservaResponseDTO toResponseDTO(Reserva reserva);
+
+    /**
+     * Reserva sin leer su asignación (lado inverso); la completa quien ya tiene la asignación
+     */
+    @Named("sinAsignacion")
+    @Mapping(target = "tieneGuiaAsignado", ignore = true)
+    @Mapping(target = "guiaAsignado", ignore = true)
+    ReservaResponseDTO toResponseDTOSinAsignacion(Reserva reserva);
+}
@@ -0,0 +1,28 @@
+package com.uptc.bases2.demo.mappers;
+
+import com.uptc.bases2.demo.models.dto.request.SenderoRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.SenderoResponseDTO;
+import com.uptc.bases2.demo.models.entities.Sendero;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper Sendero <-> DTOs generado en compilación (MapStruct)
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface SenderoMapper {
+
+    SenderoResponseDTO toResponseDTO(Sendero sendero);
+
+    /**
+     * Nuevo sendero a partir de la petición; estado y fechas quedan con los valores del constructor
+     */
+    @Mapping(target = "idSendero", ignore = true)
+    @Mapping(target = "estado", ignore = true)
+    @Mapping(target = "fechaCreacion", ignore = true)
+    @Mapping(target = "fechaModificacion", ignore = true)
+    @Mapping(target = "reservas", ignore = true)
+    @Mapping(target = "horarios", ignore = true)
+    Sendero toEntity(SenderoRequestDTO request);
+}
@@ -0,0 +1,15 @@
+package com.uptc.bases2.demo.mappers;
+
+import com.uptc.bases2.demo.models.dto.response.VisitanteResponseDTO;
+import com.uptc.bases2.demo.models.entities.Visitante;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Mapper Visitante -> DTO generado en compilación (MapStruct)
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface VisitanteMapper {
+
+    VisitanteResponseDTO toResponseDTO(Visitante visitante);
+}
@@ -0,0 +1,24 @@
+package com.uptc.bases2.demo.models.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO para una reserva dentro de un lote: los datos de la reserva más el visitante
+ */
+public class ReservaLoteItemDTO extends ReservaRequestDTO {
+
+    @NotNull(message = "El ID del visitante es obligatorio")
+    private Long idVisitante;
+
+    // Constructores
+    public ReservaLoteItemDTO() {}
+
+    // Getters y Setters
+    public Long getIdVisitante() {
+        return idVisitante;
+    }
+
+    public void setIdVisitante(Long idVisitante) {
+        this.idVisitante = idVisitante;
+    }
+}
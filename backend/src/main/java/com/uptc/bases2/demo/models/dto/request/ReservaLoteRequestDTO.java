@@ -0,0 +1,41 @@
+package com.uptc.bases2.demo.models.dto.request;
+
+import com.uptc.bases2.demo.models.enums.ModoLote;
+import com.uptc.bases2.demo.utils.Constants;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+/**
+ * DTO para crear reservas en lote (colegios, operadores turísticos)
+ */
+public class ReservaLoteRequestDTO {
+
+    @NotNull(message = "El modo del lote es obligatorio")
+    private ModoLote modo;
+
+    @NotEmpty(message = "El lote debe contener al menos una reserva")
+    @Size(max = Constants.MAX_RESERVAS_POR_LOTE, 
+          message = "El lote no puede exceder " + Constants.MAX_RESERVAS_POR_LOTE + " reservas")
+    private List<@Valid ReservaLoteItemDTO> reservas;
+
+    // Constructores
+    public ReservaLoteRequestDTO() {}
+
+    // Getters y Setters
+    public ModoLote getModo() {
+        return modo;
+    }
+
+    public void setModo(ModoLote modo) {
+        this.modo = modo;
+    }
+
+    public List<ReservaLoteItemDTO> getReservas() {
+        return reservas;
+    }
+
+    public void setReservas(List<ReservaLoteItemDTO> reservas) {
+        this.reservas = reservas;
+    }
+}
@@ -0,0 +1,49 @@
+package com.uptc.bases2.demo.models.dto.request;
+
+import com.uptc.bases2.demo.utils.Constants;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO para aplicar una transición de estado a varias reservas:
+ * por lista de IDs o por filtro (sendero + fecha de visita)
+ */
+public class TransicionMasivaRequestDTO {
+
+    @Size(max = Constants.MAX_RESERVAS_POR_TRANSICION,
+          message = "No se pueden procesar más de " + Constants.MAX_RESERVAS_POR_TRANSICION + " reservas a la vez")
+    private List<Long> ids;
+
+    private Long idSendero;
+
+    private LocalDate fechaVisita;
+
+    // Constructores
+    public TransicionMasivaRequestDTO() {}
+
+    // Getters y Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public Long getIdSendero() {
+        return idSendero;
+    }
+
+    public void setIdSendero(Long idSendero) {
+        this.idSendero = idSendero;
+    }
+
+    public LocalDate getFechaVisita() {
+        return fechaVisita;
+    }
+
+    public void setFechaVisita(LocalDate fechaVisita) {
+        this.fechaVisita = fechaVisita;
+    }
+}
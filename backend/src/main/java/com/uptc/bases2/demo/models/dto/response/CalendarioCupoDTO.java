@@ -0,0 +1,70 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de respuesta con el cupo restante de un sendero para cada día de un rango.
+ * cuposDisponibles[i] corresponde a la fecha desde + i días; desde es la primera fecha reservable
+ * del rango solicitado y, si no queda ninguna, cuposDisponibles está vacío.
+ */
+public class CalendarioCupoDTO {
+
+    private Long idSendero;
+    private LocalDate desde;
+    private LocalDate hasta;
+    private Integer cupoMaximoDia;
+    private int[] cuposDisponibles;
+
+    // Constructores
+    public CalendarioCupoDTO() {}
+
+    public CalendarioCupoDTO(Long idSendero, LocalDate desde, LocalDate hasta,
+                             Integer cupoMaximoDia, int[] cuposDisponibles) {
+        this.idSendero = idSendero;
+        this.desde = desde;
+        this.hasta = hasta;
+        this.cupoMaximoDia = cupoMaximoDia;
+        this.cuposDisponibles = cuposDisponibles;
+    }
+
+    // Getters y Setters
+    public Long getIdSendero() {
+        return idSendero;
+    }
+
+    public void setIdSendero(Long idSendero) {
+        this.idSendero = idSendero;
+    }
+
+    public LocalDate getDesde() {
+        return desde;
+    }
+
+    public void setDesde(LocalDate desde) {
+        this.desde = desde;
+    }
+
+    public LocalDate getHasta() {
+        return hasta;
+    }
+
+    public void setHasta(LocalDate hasta) {
+        this.hasta = hasta;
+    }
+
+    public Integer getCupoMaximoDia() {
+        return cupoMaximoDia;
+    }
+
+    public void setCupoMaximoDia(Integer cupoMaximoDia) {
+        this.cupoMaximoDia = cupoMaximoDia;
+    }
+
+    public int[] getCuposDisponibles() {
+        return cuposDisponibles;
+    }
+
+    public void setCuposDisponibles(int[] cuposDisponibles) {
+        this.cuposDisponibles = cuposDisponibles;
+    }
+}
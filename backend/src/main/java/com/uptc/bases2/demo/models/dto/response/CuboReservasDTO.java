@@ -0,0 +1,103 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO de respuesta con una consulta agrupada sobre el cubo de reservas en memoria
+ */
+public class CuboReservasDTO {
+
+    private List<String> dimensiones = new ArrayList<>();
+    private Integer filasCubo;
+    private Long totalReservas;
+    private Long totalPersonas;
+    private List<GrupoDTO> grupos = new ArrayList<>();
+
+    // Constructores
+    public CuboReservasDTO() {}
+
+    // Getters y Setters
+    public List<String> getDimensiones() {
+        return dimensiones;
+    }
+
+    public void setDimensiones(List<String> dimensiones) {
+        this.dimensiones = dimensiones;
+    }
+
+    public Integer getFilasCubo() {
+        return filasCubo;
+    }
+
+    public void setFilasCubo(Integer filasCubo) {
+        this.filasCubo = filasCubo;
+    }
+
+    public Long getTotalReservas() {
+        return totalReservas;
+    }
+
+    public void setTotalReservas(Long totalReservas) {
+        this.totalReservas = totalReservas;
+    }
+
+    public Long getTotalPersonas() {
+        return totalPersonas;
+    }
+
+    public void setTotalPersonas(Long totalPersonas) {
+        this.totalPersonas = totalPersonas;
+    }
+
+    public List<GrupoDTO> getGrupos() {
+        return grupos;
+    }
+
+    public void setGrupos(List<GrupoDTO> grupos) {
+        this.grupos = grupos;
+    }
+
+    /**
+     * Valores de las dimensiones de un grupo y sus totales
+     */
+    public static class GrupoDTO {
+
+        private Map<String, Object> claves = new LinkedHashMap<>();
+        private Long reservas;
+        private Long personas;
+
+        public GrupoDTO() {}
+
+        public GrupoDTO(Long reservas, Long personas) {
+            this.reservas = reservas;
+            this.personas = personas;
+        }
+
+        public Map<String, Object> getClaves() {
+            return claves;
+        }
+
+        public void setClaves(Map<String, Object> claves) {
+            this.claves = claves;
+        }
+
+        public Long getReservas() {
+            return reservas;
+        }
+
+        public void setReservas(Long reservas) {
+            this.reservas = reservas;
+        }
+
+        public Long getPersonas() {
+            return personas;
+        }
+
+        public void setPersonas(Long personas) {
+            this.personas = personas;
+        }
+    }
+}
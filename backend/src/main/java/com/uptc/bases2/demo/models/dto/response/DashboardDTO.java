@@ -0,0 +1,108 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO de respuesta con la instantánea del tablero de administración.
+ * Una sección que no se pudo calcular a tiempo queda en null y se nombra en seccionesNoDisponibles.
+ */
+public class DashboardDTO {
+
+    private LocalDateTime generadoEn;
+    private LocalDate fecha;
+    private List<OcupacionSenderoDTO> ocupacion;
+    private Long totalPendientesConfirmacion;
+    private List<ReservaResumenDTO> pendientesConfirmacion;
+    private Long totalPendientesAsignacion;
+    private List<ReservaResumenDTO> pendientesAsignacion;
+    private List<RecorridoEnCursoDTO> recorridosEnCurso;
+    private List<ReservasPorEstadoDTO> totalesMes;
+    private List<String> seccionesNoDisponibles = new ArrayList<>();
+
+    // Constructores
+    public DashboardDTO() {}
+
+    // Getters y Setters
+    public LocalDateTime getGeneradoEn() {
+        return generadoEn;
+    }
+
+    public void setGeneradoEn(LocalDateTime generadoEn) {
+        this.generadoEn = generadoEn;
+    }
+
+    public LocalDate getFecha() {
+        return fecha;
+    }
+
+    public void setFecha(LocalDate fecha) {
+        this.fecha = fecha;
+    }
+
+    public List<OcupacionSenderoDTO> getOcupacion() {
+        return ocupacion;
+    }
+
+    public void setOcupacion(List<OcupacionSenderoDTO> ocupacion) {
+        this.ocupacion = ocupacion;
+    }
+
+    public Long getTotalPendientesConfirmacion() {
+        return totalPendientesConfirmacion;
+    }
+
+    public void setTotalPendientesConfirmacion(Long totalPendientesConfirmacion) {
+        this.totalPendientesConfirmacion = totalPendientesConfirmacion;
+    }
+
+    public List<ReservaResumenDTO> getPendientesConfirmacion() {
+        return pendientesConfirmacion;
+    }
+
+    public void setPendientesConfirmacion(List<ReservaResumenDTO> pendientesConfirmacion) {
+        this.pendientesConfirmacion = pendientesConfirmacion;
+    }
+
+    public Long getTotalPendientesAsignacion() {
+        return totalPendientesAsignacion;
+    }
+
+    public void setTotalPendientesAsignacion(Long totalPendientesAsignacion) {
+        this.totalPendientesAsignacion = totalPendientesAsignacion;
+    }
+
+    public List<ReservaResumenDTO> getPendientesAsignacion() {
+        return pendientesAsignacion;
+    }
+
+    public void setPendientesAsignacion(List<ReservaResumenDTO> pendientesAsignacion) {
+        this.pendientesAsignacion = pendientesAsignacion;
+    }
+
+    public List<RecorridoEnCursoDTO> getRecorridosEnCurso() {
+        return recorridosEnCurso;
+    }
+
+    public void setRecorridosEnCurso(List<RecorridoEnCursoDTO> recorridosEnCurso) {
+        this.recorridosEnCurso = recorridosEnCurso;
+    }
+
+    public List<ReservasPorEstadoDTO> getTotalesMes() {
+        return totalesMes;
+    }
+
+    public void setTotalesMes(List<ReservasPorEstadoDTO> totalesMes) {
+        this.totalesMes = totalesMes;
+    }
+
+    public List<String> getSeccionesNoDisponibles() {
+        return seccionesNoDisponibles;
+    }
+
+    public void setSeccionesNoDisponibles(List<String> seccionesNoDisponibles) {
+        this.seccionesNoDisponibles = seccionesNoDisponibles;
+    }
+}
@@ -0,0 +1,115 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO de respuesta de la búsqueda de disponibilidad: un sendero con los días
+ * del rango que tienen cupo suficiente para el grupo solicitado.
+ */
+public class DisponibilidadSenderoDTO {
+
+    private Long idSendero;
+    private String nombre;
+    private String dificultad;
+    private BigDecimal duracionHoras;
+    private Integer cupoMaximoDia;
+    private List<DiaDisponibleDTO> dias = new ArrayList<>();
+
+    // Constructores
+    public DisponibilidadSenderoDTO() {}
+
+    public DisponibilidadSenderoDTO(Long idSendero, String nombre, String dificultad,
+                                    BigDecimal duracionHoras, Integer cupoMaximoDia) {
+        this.idSendero = idSendero;
+        this.nombre = nombre;
+        this.dificultad = dificultad;
+        this.duracionHoras = duracionHoras;
+        this.cupoMaximoDia = cupoMaximoDia;
+    }
+
+    // Getters y Setters
+    public Long getIdSendero() {
+        return idSendero;
+    }
+
+    public void setIdSendero(Long idSendero) {
+        this.idSendero = idSendero;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public String getDificultad() {
+        return dificultad;
+    }
+
+    public void setDificultad(String dificultad) {
+        this.dificultad = dificultad;
+    }
+
+    public BigDecimal getDuracionHoras() {
+        return duracionHoras;
+    }
+
+    public void setDuracionHoras(BigDecimal duracionHoras) {
+        this.duracionHoras = duracionHoras;
+    }
+
+    public Integer getCupoMaximoDia() {
+        return cupoMaximoDia;
+    }
+
+    public void setCupoMaximoDia(Integer cupoMaximoDia) {
+        this.cupoMaximoDia = cupoMaximoDia;
+    }
+
+    public List<DiaDisponibleDTO> getDias() {
+        return dias;
+    }
+
+    public void setDias(List<DiaDisponibleDTO> dias) {
+        this.dias = dias;
+    }
+
+    /**
+     * Día con cupo suficiente y el cupo que queda en él
+     */
+    public static class DiaDisponibleDTO {
+
+        private LocalDate fecha;
+        private Integer cupoDisponible;
+
+        // Constructores
+        public DiaDisponibleDTO() {}
+
+        public DiaDisponibleDTO(LocalDate fecha, Integer cupoDisponible) {
+            this.fecha = fecha;
+            this.cupoDisponible = cupoDisponible;
+        }
+
+        // Getters y Setters
+        public LocalDate getFecha() {
+            return fecha;
+        }
+
+        public void setFecha(LocalDate fecha) {
+            this.fecha = fecha;
+        }
+
+        public Integer getCupoDisponible() {
+            return cupoDisponible;
+        }
+
+        public void setCupoDisponible(Integer cupoDisponible) {
+            this.cupoDisponible = cupoDisponible;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DTO de respuesta con las estadísticas generales del sistema
+ */
+public class EstadisticasGeneralesDTO {
+
+    private Long totalReservas;
+    private Long totalPersonas;
+    private Long reservasHoy;
+    private Long personasHoy;
+    private Long visitantesActivos;
+    private Long senderosActivos;
+    private Map<EstadoReserva, Long> reservasPorEstado = new LinkedHashMap<>();
+
+    // Constructores
+    public EstadisticasGeneralesDTO() {}
+
+    // Getters y Setters
+    public Long getTotalReservas() {
+        return totalReservas;
+    }
+
+    public void setTotalReservas(Long totalReservas) {
+        this.totalReservas = totalReservas;
+    }
+
+    public Long getTotalPersonas() {
+        return totalPersonas;
+    }
+
+    public void setTotalPersonas(Long totalPersonas) {
+        this.totalPersonas = totalPersonas;
+    }
+
+    public Long getReservasHoy() {
+        return reservasHoy;
+    }
+
+    public void setReservasHoy(Long reservasHoy) {
+        this.reservasHoy = reservasHoy;
+    }
+
+    public Long getPersonasHoy() {
+        return personasHoy;
+    }
+
+    public void setPersonasHoy(Long personasHoy) {
+        this.personasHoy = personasHoy;
+    }
+
+    public Long getVisitantesActivos() {
+        return visitantesActivos;
+    }
+
+    public void setVisitantesActivos(Long visitantesActivos) {
+        this.visitantesActivos = visitantesActivos;
+    }
+
+    public Long getSenderosActivos() {
+        return senderosActivos;
+    }
+
+    public void setSenderosActivos(Long senderosActivos) {
+        this.senderosActivos = senderosActivos;
+    }
+
+    public Map<EstadoReserva, Long> getReservasPorEstado() {
+        return reservasPorEstado;
+    }
+
+    public void setReservasPorEstado(Map<EstadoReserva, Long> reservasPorEstado) {
+        this.reservasPorEstado = reservasPorEstado;
+    }
+}
@@ -0,0 +1,132 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO de respuesta con las estadísticas de reservas en un rango de fechas de visita
+ */
+public class EstadisticasRangoDTO {
+
+    private LocalDate fechaInicio;
+    private LocalDate fechaFin;
+    private Long totalReservas;
+    private Long totalPersonas;
+    private Map<EstadoReserva, Long> reservasPorEstado = new LinkedHashMap<>();
+    private List<SenderoResumenDTO> senderos = new ArrayList<>();
+
+    // Constructores
+    public EstadisticasRangoDTO() {}
+
+    public EstadisticasRangoDTO(LocalDate fechaInicio, LocalDate fechaFin) {
+        this.fechaInicio = fechaInicio;
+        this.fechaFin = fechaFin;
+    }
+
+    // Getters y Setters
+    public LocalDate getFechaInicio() {
+        return fechaInicio;
+    }
+
+    public void setFechaInicio(LocalDate fechaInicio) {
+        this.fechaInicio = fechaInicio;
+    }
+
+    public LocalDate getFechaFin() {
+        return fechaFin;
+    }
+
+    public void setFechaFin(LocalDate fechaFin) {
+        this.fechaFin = fechaFin;
+    }
+
+    public Long getTotalReservas() {
+        return totalReservas;
+    }
+
+    public void setTotalReservas(Long totalReservas) {
+        this.totalReservas = totalReservas;
+    }
+
+    public Long getTotalPersonas() {
+        return totalPersonas;
+    }
+
+    public void setTotalPersonas(Long totalPersonas) {
+        this.totalPersonas = totalPersonas;
+    }
+
+    public Map<EstadoReserva, Long> getReservasPorEstado() {
+        return reservasPorEstado;
+    }
+
+    public void setReservasPorEstado(Map<EstadoReserva, Long> reservasPorEstado) {
+        this.reservasPorEstado = reservasPorEstado;
+    }
+
+    public List<SenderoResumenDTO> getSenderos() {
+        return senderos;
+    }
+
+    public void setSenderos(List<SenderoResumenDTO> senderos) {
+        this.senderos = senderos;
+    }
+
+    /**
+     * Totales de un sendero en el rango
+     */
+    public static class SenderoResumenDTO {
+
+        private Long idSendero;
+        private String nombre;
+        private Long totalReservas;
+        private Long totalPersonas;
+
+        // Constructores
+        public SenderoResumenDTO() {}
+
+        public SenderoResumenDTO(Long idSendero, String nombre, Long totalReservas, Long totalPersonas) {
+            this.idSendero = idSendero;
+            this.nombre = nombre;
+            this.totalReservas = totalReservas;
+            this.totalPersonas = totalPersonas;
+        }
+
+        // Getters y Setters
+        public Long getIdSendero() {
+            return idSendero;
+        }
+
+        public void setIdSendero(Long idSendero) {
+            this.idSendero = idSendero;
+        }
+
+        public String getNombre() {
+            return nombre;
+        }
+
+        public void setNombre(String nombre) {
+            this.nombre = nombre;
+        }
+
+        public Long getTotalReservas() {
+            return totalReservas;
+        }
+
+        public void setTotalReservas(Long totalReservas) {
+            this.totalReservas = totalReservas;
+        }
+
+        public Long getTotalPersonas() {
+            return totalPersonas;
+        }
+
+        public void setTotalPersonas(Long totalPersonas) {
+            this.totalPersonas = totalPersonas;
+        }
+    }
+}
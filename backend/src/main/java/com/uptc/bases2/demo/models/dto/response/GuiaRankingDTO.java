@@ -0,0 +1,65 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+/**
+ * DTO de respuesta con la posición de un guía en la clasificación por calificación
+ */
+public class GuiaRankingDTO {
+
+    private Integer posicion;
+    private Long idGuia;
+    private String nombreCompleto;
+    private Double calificacionPromedio;
+    private Integer numeroRecorridos;
+
+    // Constructores
+    public GuiaRankingDTO() {}
+
+    public GuiaRankingDTO(Integer posicion, Long idGuia, String nombreCompleto, Double calificacionPromedio, Integer numeroRecorridos) {
+        this.posicion = posicion;
+        this.idGuia = idGuia;
+        this.nombreCompleto = nombreCompleto;
+        this.calificacionPromedio = calificacionPromedio;
+        this.numeroRecorridos = numeroRecorridos;
+    }
+
+    // Getters y Setters
+    public Integer getPosicion() {
+        return posicion;
+    }
+
+    public void setPosicion(Integer posicion) {
+        this.posicion = posicion;
+    }
+
+    public Long getIdGuia() {
+        return idGuia;
+    }
+
+    public void setIdGuia(Long idGuia) {
+        this.idGuia = idGuia;
+    }
+
+    public String getNombreCompleto() {
+        return nombreCompleto;
+    }
+
+    public void setNombreCompleto(String nombreCompleto) {
+        this.nombreCompleto = nombreCompleto;
+    }
+
+    public Double getCalificacionPromedio() {
+        return calificacionPromedio;
+    }
+
+    public void setCalificacionPromedio(Double calificacionPromedio) {
+        this.calificacionPromedio = calificacionPromedio;
+    }
+
+    public Integer getNumeroRecorridos() {
+        return numeroRecorridos;
+    }
+
+    public void setNumeroRecorridos(Integer numeroRecorridos) {
+        this.numeroRecorridos = numeroRecorridos;
+    }
+}
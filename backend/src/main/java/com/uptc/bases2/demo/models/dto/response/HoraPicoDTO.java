@@ -0,0 +1,66 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import com.uptc.bases2.demo.models.enums.DiaSemana;
+
+/**
+ * DTO de respuesta con las reservas de un día de la semana y hora de inicio
+ */
+public class HoraPicoDTO {
+
+    private DiaSemana diaSemana;
+    private Integer hora;
+    private Integer reservas;
+    private Integer personas;
+    private Double porcentaje;
+
+    // Constructores
+    public HoraPicoDTO() {}
+
+    public HoraPicoDTO(DiaSemana diaSemana, Integer hora, Integer reservas, Integer personas) {
+        this.diaSemana = diaSemana;
+        this.hora = hora;
+        this.reservas = reservas;
+        this.personas = personas;
+    }
+
+    // Getters y Setters
+    public DiaSemana getDiaSemana() {
+        return diaSemana;
+    }
+
+    public void setDiaSemana(DiaSemana diaSemana) {
+        this.diaSemana = diaSemana;
+    }
+
+    public Integer getHora() {
+        return hora;
+    }
+
+    public void setHora(Integer hora) {
+        this.hora = hora;
+    }
+
+    public Integer getReservas() {
+        return reservas;
+    }
+
+    public void setReservas(Integer reservas) {
+        this.reservas = reservas;
+    }
+
+    public Integer getPersonas() {
+        return personas;
+    }
+
+    public void setPersonas(Integer personas) {
+        this.personas = personas;
+    }
+
+    public Double getPorcentaje() {
+        return porcentaje;
+    }
+
+    public void setPorcentaje(Double porcentaje) {
+        this.porcentaje = porcentaje;
+    }
+}
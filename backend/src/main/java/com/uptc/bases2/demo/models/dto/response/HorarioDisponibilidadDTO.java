@@ -0,0 +1,81 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import java.time.LocalTime;
+
+/**
+ * DTO de respuesta con el cupo restante de un horario en una fecha
+ */
+public class HorarioDisponibilidadDTO {
+
+    private Long idHorario;
+    private LocalTime horaInicio;
+    private LocalTime horaFin;
+    private Integer cupoHorario;
+    private Integer personasReservadas;
+    private Integer cupoDisponible;
+
+    // Constructores
+    public HorarioDisponibilidadDTO() {}
+
+    /**
+     * Constructor usado por la consulta JPQL de disponibilidad
+     */
+    public HorarioDisponibilidadDTO(Long idHorario, LocalTime horaInicio, LocalTime horaFin,
+                                    Integer cupoHorario, Integer personasReservadas) {
+        this.idHorario = idHorario;
+        this.horaInicio = horaInicio;
+        this.horaFin = horaFin;
+        this.cupoHorario = cupoHorario;
+        this.personasReservadas = personasReservadas != null ? personasReservadas : 0;
+        this.cupoDisponible = Math.max(cupoHorario - this.personasReservadas, 0);
+    }
+
+    // Getters y Setters
+    public Long getIdHorario() {
+        return idHorario;
+    }
+
+    public void setIdHorario(Long idHorario) {
+        this.idHorario = idHorario;
+    }
+
+    public LocalTime getHoraInicio() {
+        return horaInicio;
+    }
+
+    public void setHoraInicio(LocalTime horaInicio) {
+        this.horaInicio = horaInicio;
+    }
+
+    public LocalTime getHoraFin() {
+        return horaFin;
+    }
+
+    public void setHoraFin(LocalTime horaFin) {
+        this.horaFin = horaFin;
+    }
+
+    public Integer getCupoHorario() {
+        return cupoHorario;
+    }
+
+    public void setCupoHorario(Integer cupoHorario) {
+        this.cupoHorario = cupoHorario;
+    }
+
+    public Integer getPersonasReservadas() {
+        return personasReservadas;
+    }
+
+    public void setPersonasReservadas(Integer personasReservadas) {
+        this.personasReservadas = personasReservadas;
+    }
+
+    public Integer getCupoDisponible() {
+        return cupoDisponible;
+    }
+
+    public void setCupoDisponible(Integer cupoDisponible) {
+        this.cupoDisponible = cupoDisponible;
+    }
+}
@@ -0,0 +1,134 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import com.uptc.bases2.demo.models.enums.FormatoImportacion;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO de respuesta de una importación masiva con los errores por fila y el throughput
+ */
+public class ImportacionResponseDTO {
+
+    private String tipo;
+    private FormatoImportacion formato;
+    private Long totalFilas;
+    private Long totalImportadas;
+    private Long totalRechazadas;
+    private Long duracionMs;
+    private Double filasPorSegundo;
+    private Boolean erroresTruncados;
+    private List<ErrorFilaDTO> errores = new ArrayList<>();
+
+    // Constructores
+    public ImportacionResponseDTO() {}
+
+    public ImportacionResponseDTO(String tipo, FormatoImportacion formato) {
+        this.tipo = tipo;
+        this.formato = formato;
+        this.erroresTruncados = false;
+    }
+
+    // Getters y Setters
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public FormatoImportacion getFormato() {
+        return formato;
+    }
+
+    public void setFormato(FormatoImportacion formato) {
+        this.formato = formato;
+    }
+
+    public Long getTotalFilas() {
+        return totalFilas;
+    }
+
+    public void setTotalFilas(Long totalFilas) {
+        this.totalFilas = totalFilas;
+    }
+
+    public Long getTotalImportadas() {
+        return totalImportadas;
+    }
+
+    public void setTotalImportadas(Long totalImportadas) {
+        this.totalImportadas = totalImportadas;
+    }
+
+    public Long getTotalRechazadas() {
+        return totalRechazadas;
+    }
+
+    public void setTotalRechazadas(Long totalRechazadas) {
+        this.totalRechazadas = totalRechazadas;
+    }
+
+    public Long getDuracionMs() {
+        return duracionMs;
+    }
+
+    public void setDuracionMs(Long duracionMs) {
+        this.duracionMs = duracionMs;
+    }
+
+    public Double getFilasPorSegundo() {
+        return filasPorSegundo;
+    }
+
+    public void setFilasPorSegundo(Double filasPorSegundo) {
+        this.filasPorSegundo = filasPorSegundo;
+    }
+
+    public Boolean getErroresTruncados() {
+        return erroresTruncados;
+    }
+
+    public void setErroresTruncados(Boolean erroresTruncados) {
+        this.erroresTruncados = erroresTruncados;
+    }
+
+    public List<ErrorFilaDTO> getErrores() {
+        return errores;
+    }
+
+    public void setErrores(List<ErrorFilaDTO> errores) {
+        this.errores = errores;
+    }
+
+    // Clase interna con el error de una fila (numerada desde 1, sin contar el encabezado CSV)
+    public static class ErrorFilaDTO {
+        private Long fila;
+        private String mensaje;
+
+        public ErrorFilaDTO() {
+        }
+
+        public ErrorFilaDTO(Long fila, String mensaje) {
+            this.fila = fila;
+            this.mensaje = mensaje;
+        }
+
+        // Getters y Setters
+        public Long getFila() {
+            return fila;
+        }
+
+        public void setFila(Long fila) {
+            this.fila = fila;
+        }
+
+        public String getMensaje() {
+            return mensaje;
+        }
+
+        public void setMensaje(String mensaje) {
+            this.mensaje = mensaje;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import com.uptc.bases2.demo.models.enums.EstadoListaEspera;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * DTO de respuesta para solicitudes en lista de espera
+ */
+public class ListaEsperaResponseDTO {
+
+    private Long idListaEspera;
+    private Long idVisitante;
+    private Long idSendero;
+    private String nombreSendero;
+    private LocalDate fechaVisita;
+    private LocalTime horaInicio;
+    private Integer numeroPersonas;
+    private EstadoListaEspera estado;
+    private Long posicion;
+    private LocalDateTime fechaRegistro;
+    private LocalDateTime fechaPromocion;
+    private Long idReserva;
+
+    // Constructores
+    public ListaEsperaResponseDTO() {}
+
+    // Getters y Setters
+    public Long getIdListaEspera() {
+        return idListaEspera;
+    }
+
+    public void setIdListaEspera(Long idListaEspera) {
+        this.idListaEspera = idListaEspera;
+    }
+
+    public Long getIdVisitante() {
+        return idVisitante;
+    }
+
+    public void setIdVisitante(Long idVisitante) {
+        this.idVisitante = idVisitante;
+    }
+
+    public Long getIdSendero() {
+        return idSendero;
+    }
+
+    public void setIdSendero(Long idSendero) {
+        this.idSendero = idSendero;
+    }
+
+    public String getNombreSendero() {
+        return nombreSendero;
+    }
+
+    public void setNombreSendero(String nombreSendero) {
+        this.nombreSendero = nombreSendero;
+    }
+
+    public LocalDate getFechaVisita() {
+        return fechaVisita;
+    }
+
+    public void setFechaVisita(LocalDate fechaVisita) {
+        this.fechaVisita = fechaVisita;
+    }
+
+    public LocalTime getHoraInicio() {
+        return horaInicio;
+    }
+
+    public void setHoraInicio(LocalTime horaInicio) {
+        this.horaInicio = horaInicio;
+    }
+
+    public Integer getNumeroPersonas() {
+        return numeroPersonas;
+    }
+
+    public void setNumeroPersonas(Integer numeroPersonas) {
+        this.numeroPersonas = numeroPersonas;
+    }
+
+    public EstadoListaEspera getEstado() {
+        return estado;
+    }
+
+    public void setEstado(EstadoListaEspera estado) {
+        this.estado = estado;
+    }
+
+    public Long getPosicion() {
+        return posicion;
+    }
+
+    public void setPosicion(Long posicion) {
+        this.posicion = posicion;
+    }
+
+    public LocalDateTime getFechaRegistro() {
+        return fechaRegistro;
+    }
+
+    public void setFechaRegistro(LocalDateTime fechaRegistro) {
+        this.fechaRegistro = fechaRegistro;
+    }
+
+    public LocalDateTime getFechaPromocion() {
+        return fechaPromocion;
+    }
+
+    public void setFechaPromocion(LocalDateTime fechaPromocion) {
+        this.fechaPromocion = fechaPromocion;
+    }
+
+    public Long getIdReserva() {
+        return idReserva;
+    }
+
+    public void setIdReserva(Long idReserva) {
+        this.idReserva = idReserva;
+    }
+}
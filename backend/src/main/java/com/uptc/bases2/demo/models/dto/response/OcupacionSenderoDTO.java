@@ -0,0 +1,101 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO de respuesta con la ocupación de un sendero en una fecha y el detalle por horario
+ */
+public class OcupacionSenderoDTO {
+
+    private Long idSendero;
+    private String nombre;
+    private LocalDate fecha;
+    private Integer cupoMaximoDia;
+    private Integer personasReservadas;
+    private Integer cupoDisponible;
+    private Double porcentajeOcupacion;
+    private List<HorarioDisponibilidadDTO> horarios = new ArrayList<>();
+
+    // Constructores
+    public OcupacionSenderoDTO() {}
+
+    public OcupacionSenderoDTO(Long idSendero, String nombre, LocalDate fecha,
+                               Integer cupoMaximoDia, Integer personasReservadas) {
+        this.idSendero = idSendero;
+        this.nombre = nombre;
+        this.fecha = fecha;
+        this.cupoMaximoDia = cupoMaximoDia;
+        this.personasReservadas = personasReservadas != null ? personasReservadas : 0;
+        this.cupoDisponible = Math.max(cupoMaximoDia - this.personasReservadas, 0);
+        this.porcentajeOcupacion = cupoMaximoDia > 0
+            ? Math.round(this.personasReservadas * 1000.0 / cupoMaximoDia) / 10.0
+            : 0.0;
+    }
+
+    // Getters y Setters
+    public Long getIdSendero() {
+        return idSendero;
+    }
+
+    public void setIdSendero(Long idSendero) {
+        this.idSendero = idSendero;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public LocalDate getFecha() {
+        return fecha;
+    }
+
+    public void setFecha(LocalDate fecha) {
+        this.fecha = fecha;
+    }
+
+    public Integer getCupoMaximoDia() {
+        return cupoMaximoDia;
+    }
+
+    public void setCupoMaximoDia(Integer cupoMaximoDia) {
+        this.cupoMaximoDia = cupoMaximoDia;
+    }
+
+    public Integer getPersonasReservadas() {
+        return personasReservadas;
+    }
+
+    public void setPersonasReservadas(Integer personasReservadas) {
+        this.personasReservadas = personasReservadas;
+    }
+
+    public Integer getCupoDisponible() {
+        return cupoDisponible;
+    }
+
+    public void setCupoDisponible(Integer cupoDisponible) {
+        this.cupoDisponible = cupoDisponible;
+    }
+
+    public Double getPorcentajeOcupacion() {
+        return porcentajeOcupacion;
+    }
+
+    public void setPorcentajeOcupacion(Double porcentajeOcupacion) {
+        this.porcentajeOcupacion = porcentajeOcupacion;
+    }
+
+    public List<HorarioDisponibilidadDTO> getHorarios() {
+        return horarios;
+    }
+
+    public void setHorarios(List<HorarioDisponibilidadDTO> horarios) {
+        this.horarios = horarios;
+    }
+}
@@ -0,0 +1,76 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * DTO genérico para una página de resultados paginada por cursor (keyset)
+ */
+public class PaginaDTO<T> {
+
+    private List<T> contenido;
+    private int tamano;
+    private boolean hayMas;
+    private String siguienteCursor;
+
+    // Constructores
+    public PaginaDTO() {
+    }
+
+    public PaginaDTO(List<T> contenido, int tamano, boolean hayMas, String siguienteCursor) {
+        this.contenido = contenido;
+        this.tamano = tamano;
+        this.hayMas = hayMas;
+        this.siguienteCursor = siguienteCursor;
+    }
+
+    /**
+     * Construir la página a partir de las filas leídas con tamano + 1:
+     * la fila sobrante solo indica que existe una página siguiente.
+     */
+    public static <E, T> PaginaDTO<T> desdeFilas(List<E> filas, int tamano,
+                                                 Function<E, T> mapper,
+                                                 Function<E, String> cursor) {
+        boolean hayMas = filas.size() > tamano;
+        List<E> pagina = hayMas ? filas.subList(0, tamano) : filas;
+
+        String siguienteCursor = hayMas ? cursor.apply(pagina.get(pagina.size() - 1)) : null;
+        List<T> contenido = pagina.stream().map(mapper).collect(Collectors.toList());
+
+        return new PaginaDTO<>(contenido, tamano, hayMas, siguienteCursor);
+    }
+
+    // Getters y Setters
+    public List<T> getContenido() {
+        return contenido;
+    }
+
+    public void setContenido(List<T> contenido) {
+        this.contenido = contenido;
+    }
+
+    public int getTamano() {
+        return tamano;
+    }
+
+    public void setTamano(int tamano) {
+        this.tamano = tamano;
+    }
+
+    public boolean isHayMas() {
+        return hayMas;
+    }
+
+    public void setHayMas(boolean hayMas) {
+        this.hayMas = hayMas;
+    }
+
+    public String getSiguienteCursor() {
+        return siguienteCursor;
+    }
+
+    public void setSiguienteCursor(String siguienteCursor) {
+        this.siguienteCursor = siguienteCursor;
+    }
+}
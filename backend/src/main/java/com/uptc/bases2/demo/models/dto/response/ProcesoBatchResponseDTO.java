@@ -0,0 +1,116 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import com.uptc.bases2.demo.models.enums.EstadoProcesoBatch;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta con el estado y las métricas de un proceso por lotes
+ */
+public class ProcesoBatchResponseDTO {
+
+    private String nombre;
+    private EstadoProcesoBatch estado;
+    private LocalDate fechaCorte;
+    private Long ultimoId;
+    private Long procesadas;
+    private Integer lotes;
+    private LocalDateTime fechaInicio;
+    private LocalDateTime fechaFin;
+    private Long duracionMs;
+    private BigDecimal filasPorSegundo;
+    private String mensajeError;
+
+    // Constructores
+    public ProcesoBatchResponseDTO() {}
+
+    // Getters y Setters
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public EstadoProcesoBatch getEstado() {
+        return estado;
+    }
+
+    public void setEstado(EstadoProcesoBatch estado) {
+        this.estado = estado;
+    }
+
+    public LocalDate getFechaCorte() {
+        return fechaCorte;
+    }
+
+    public void setFechaCorte(LocalDate fechaCorte) {
+        this.fechaCorte = fechaCorte;
+    }
+
+    public Long getUltimoId() {
+        return ultimoId;
+    }
+
+    public void setUltimoId(Long ultimoId) {
+        this.ultimoId = ultimoId;
+    }
+
+    public Long getProcesadas() {
+        return procesadas;
+    }
+
+    public void setProcesadas(Long procesadas) {
+        this.procesadas = procesadas;
+    }
+
+    public Integer getLotes() {
+        return lotes;
+    }
+
+    public void setLotes(Integer lotes) {
+        this.lotes = lotes;
+    }
+
+    public LocalDateTime getFechaInicio() {
+        return fechaInicio;
+    }
+
+    public void setFechaInicio(LocalDateTime fechaInicio) {
+        this.fechaInicio = fechaInicio;
+    }
+
+    public LocalDateTime getFechaFin() {
+        return fechaFin;
+    }
+
+    public void setFechaFin(LocalDateTime fechaFin) {
+        this.fechaFin = fechaFin;
+    }
+
+    public Long getDuracionMs() {
+        return duracionMs;
+    }
+
+    public void setDuracionMs(Long duracionMs) {
+        this.duracionMs = duracionMs;
+    }
+
+    public BigDecimal getFilasPorSegundo() {
+        return filasPorSegundo;
+    }
+
+    public void setFilasPorSegundo(BigDecimal filasPorSegundo) {
+        this.filasPorSegundo = filasPorSegundo;
+    }
+
+    public String getMensajeError() {
+        return mensajeError;
+    }
+
+    public void setMensajeError(String mensajeError) {
+        this.mensajeError = mensajeError;
+    }
+}
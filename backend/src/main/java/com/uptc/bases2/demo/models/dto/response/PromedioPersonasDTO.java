@@ -0,0 +1,105 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO de respuesta con el promedio de personas por reserva, general y por sendero
+ */
+public class PromedioPersonasDTO {
+
+    private Long totalReservas;
+    private Long totalPersonas;
+    private Double promedioGeneral;
+    private List<PromedioSenderoDTO> senderos = new ArrayList<>();
+
+    // Constructores
+    public PromedioPersonasDTO() {}
+
+    // Getters y Setters
+    public Long getTotalReservas() {
+        return totalReservas;
+    }
+
+    public void setTotalReservas(Long totalReservas) {
+        this.totalReservas = totalReservas;
+    }
+
+    public Long getTotalPersonas() {
+        return totalPersonas;
+    }
+
+    public void setTotalPersonas(Long totalPersonas) {
+        this.totalPersonas = totalPersonas;
+    }
+
+    public Double getPromedioGeneral() {
+        return promedioGeneral;
+    }
+
+    public void setPromedioGeneral(Double promedioGeneral) {
+        this.promedioGeneral = promedioGeneral;
+    }
+
+    public List<PromedioSenderoDTO> getSenderos() {
+        return senderos;
+    }
+
+    public void setSenderos(List<PromedioSenderoDTO> senderos) {
+        this.senderos = senderos;
+    }
+
+    /**
+     * Promedio de personas por reserva de un sendero
+     */
+    public static class PromedioSenderoDTO {
+
+        private Long idSendero;
+        private Long totalReservas;
+        private Long totalPersonas;
+        private Double promedio;
+
+        // Constructores
+        public PromedioSenderoDTO() {}
+
+        public PromedioSenderoDTO(Long idSendero, Long totalReservas, Long totalPersonas, Double promedio) {
+            this.idSendero = idSendero;
+            this.totalReservas = totalReservas;
+            this.totalPersonas = totalPersonas;
+            this.promedio = promedio;
+        }
+
+        // Getters y Setters
+        public Long getIdSendero() {
+            return idSendero;
+        }
+
+        public void setIdSendero(Long idSendero) {
+            this.idSendero = idSendero;
+        }
+
+        public Long getTotalReservas() {
+            return totalReservas;
+        }
+
+        public void setTotalReservas(Long totalReservas) {
+            this.totalReservas = totalReservas;
+        }
+
+        public Long getTotalPersonas() {
+            return totalPersonas;
+        }
+
+        public void setTotalPersonas(Long totalPersonas) {
+            this.totalPersonas = totalPersonas;
+        }
+
+        public Double getPromedio() {
+            return promedio;
+        }
+
+        public void setPromedio(Double promedio) {
+            this.promedio = promedio;
+        }
+    }
+}
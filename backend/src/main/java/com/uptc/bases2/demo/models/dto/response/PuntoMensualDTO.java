@@ -0,0 +1,90 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+/**
+ * DTO de respuesta con los indicadores de reservas de un mes de visita.
+ * reservas y personas excluyen las reservas canceladas y expiradas.
+ */
+public class PuntoMensualDTO {
+
+    private Integer anio;
+    private Integer mes;
+    private Long reservas;
+    private Long personas;
+    private Long canceladas;
+    private Double tasaCancelacion;
+    private Double promedioPersonas;
+    private Double variacionReservas;
+
+    // Constructores
+    public PuntoMensualDTO() {}
+
+    public PuntoMensualDTO(Integer anio, Integer mes) {
+        this.anio = anio;
+        this.mes = mes;
+    }
+
+    // Getters y Setters
+    public Integer getAnio() {
+        return anio;
+    }
+
+    public void setAnio(Integer anio) {
+        this.anio = anio;
+    }
+
+    public Integer getMes() {
+        return mes;
+    }
+
+    public void setMes(Integer mes) {
+        this.mes = mes;
+    }
+
+    public Long getReservas() {
+        return reservas;
+    }
+
+    public void setReservas(Long reservas) {
+        this.reservas = reservas;
+    }
+
+    public Long getPersonas() {
+        return personas;
+    }
+
+    public void setPersonas(Long personas) {
+        this.personas = personas;
+    }
+
+    public Long getCanceladas() {
+        return canceladas;
+    }
+
+    public void setCanceladas(Long canceladas) {
+        this.canceladas = canceladas;
+    }
+
+    public Double getTasaCancelacion() {
+        return tasaCancelacion;
+    }
+
+    public void setTasaCancelacion(Double tasaCancelacion) {
+        this.tasaCancelacion = tasaCancelacion;
+    }
+
+    public Double getPromedioPersonas() {
+        return promedioPersonas;
+    }
+
+    public void setPromedioPersonas(Double promedioPersonas) {
+        this.promedioPersonas = promedioPersonas;
+    }
+
+    public Double getVariacionReservas() {
+        return variacionReservas;
+    }
+
+    public void setVariacionReservas(Double variacionReservas) {
+        this.variacionReservas = variacionReservas;
+    }
+}
@@ -0,0 +1,86 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import java.time.LocalTime;
+
+/**
+ * DTO de respuesta con el cupo recomendado para un horario según la demanda histórica
+ */
+public class RecomendacionCupoDTO {
+
+    private Long idHorario;
+    private LocalTime horaInicio;
+    private LocalTime horaFin;
+    private String diasSemana;
+    private Integer cupoActual;
+    private Integer cupoRecomendado;
+    private Long personasHistoricas;
+    private Double participacionDemanda;
+
+    // Constructores
+    public RecomendacionCupoDTO() {}
+
+    // Getters y Setters
+    public Long getIdHorario() {
+        return idHorario;
+    }
+
+    public void setIdHorario(Long idHorario) {
+        this.idHorario = idHorario;
+    }
+
+    public LocalTime getHoraInicio() {
+        return horaInicio;
+    }
+
+    public void setHoraInicio(LocalTime horaInicio) {
+        this.horaInicio = horaInicio;
+    }
+
+    public LocalTime getHoraFin() {
+        return horaFin;
+    }
+
+    public void setHoraFin(LocalTime horaFin) {
+        this.horaFin = horaFin;
+    }
+
+    public String getDiasSemana() {
+        return diasSemana;
+    }
+
+    public void setDiasSemana(String diasSemana) {
+        this.diasSemana = diasSemana;
+    }
+
+    public Integer getCupoActual() {
+        return cupoActual;
+    }
+
+    public void setCupoActual(Integer cupoActual) {
+        this.cupoActual = cupoActual;
+    }
+
+    public Integer getCupoRecomendado() {
+        return cupoRecomendado;
+    }
+
+    public void setCupoRecomendado(Integer cupoRecomendado) {
+        this.cupoRecomendado = cupoRecomendado;
+    }
+
+    public Long getPersonasHistoricas() {
+        return personasHistoricas;
+    }
+
+    public void setPersonasHistoricas(Long personasHistoricas) {
+        this.personasHistoricas = personasHistoricas;
+    }
+
+    public Double getParticipacionDemanda() {
+        return participacionDemanda;
+    }
+
+    public void setParticipacionDemanda(Double participacionDemanda) {
+        this.participacionDemanda = participacionDemanda;
+    }
+}
@@ -0,0 +1,86 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de respuesta con un recorrido iniciado y aún no finalizado
+ */
+public class RecorridoEnCursoDTO {
+
+    private Long idAsignacion;
+    private Long idReserva;
+    private Long idGuia;
+    private String nombreGuia;
+    private Long idSendero;
+    private String nombreSendero;
+    private Integer numeroPersonas;
+    private LocalDateTime horaInicioReal;
+
+    // Constructores
+    public RecorridoEnCursoDTO() {}
+
+    // Getters y Setters
+    public Long getIdAsignacion() {
+        return idAsignacion;
+    }
+
+    public void setIdAsignacion(Long idAsignacion) {
+        this.idAsignacion = idAsignacion;
+    }
+
+    public Long getIdReserva() {
+        return idReserva;
+    }
+
+    public void setIdReserva(Long idReserva) {
+        this.idReserva = idReserva;
+    }
+
+    public Long getIdGuia() {
+        return idGuia;
+    }
+
+    public void setIdGuia(Long idGuia) {
+        this.idGuia = idGuia;
+    }
+
+    public String getNombreGuia() {
+        return nombreGuia;
+    }
+
+    public void setNombreGuia(String nombreGuia) {
+        this.nombreGuia = nombreGuia;
+    }
+
+    public Long getIdSendero() {
+        return idSendero;
+    }
+
+    public void setIdSendero(Long idSendero) {
+        this.idSendero = idSendero;
+    }
+
+    public String getNombreSendero() {
+        return nombreSendero;
+    }
+
+    public void setNombreSendero(String nombreSendero) {
+        this.nombreSendero = nombreSendero;
+    }
+
+    public Integer getNumeroPersonas() {
+        return numeroPersonas;
+    }
+
+    public void setNumeroPersonas(Integer numeroPersonas) {
+        this.numeroPersonas = numeroPersonas;
+    }
+
+    public LocalDateTime getHoraInicioReal() {
+        return horaInicioReal;
+    }
+
+    public void setHoraInicioReal(LocalDateTime horaInicioReal) {
+        this.horaInicioReal = horaInicioReal;
+    }
+}
@@ -0,0 +1,147 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import com.uptc.bases2.demo.models.enums.ModoLote;
+import java.util.List;
+
+/**
+ * DTO de respuesta de una reserva en lote con el resultado de cada reserva
+ */
+public class ReservaLoteResponseDTO {
+
+    private ModoLote modo;
+    private Integer totalSolicitadas;
+    private Integer totalCreadas;
+    private Integer totalRechazadas;
+    private List<ResultadoItemDTO> resultados;
+
+    // Constructores
+    public ReservaLoteResponseDTO() {}
+
+    // Getters y Setters
+    public ModoLote getModo() {
+        return modo;
+    }
+
+    public void setModo(ModoLote modo) {
+        this.modo = modo;
+    }
+
+    public Integer getTotalSolicitadas() {
+        return totalSolicitadas;
+    }
+
+    public void setTotalSolicitadas(Integer totalSolicitadas) {
+        this.totalSolicitadas = totalSolicitadas;
+    }
+
+    public Integer getTotalCreadas() {
+        return totalCreadas;
+    }
+
+    public void setTotalCreadas(Integer totalCreadas) {
+        this.totalCreadas = totalCreadas;
+    }
+
+    public Integer getTotalRechazadas() {
+        return totalRechazadas;
+    }
+
+    public void setTotalRechazadas(Integer totalRechazadas) {
+        this.totalRechazadas = totalRechazadas;
+    }
+
+    public List<ResultadoItemDTO> getResultados() {
+        return resultados;
+    }
+
+    public void setResultados(List<ResultadoItemDTO> resultados) {
+        this.resultados = resultados;
+    }
+
+    // Clase interna con el resultado de cada reserva del lote
+    public static class ResultadoItemDTO {
+        private Integer indice;
+        private Long idVisitante;
+        private Boolean creada;
+        private Long idReserva;
+        private String codigoRegla;
+        private String mensaje;
+
+        public ResultadoItemDTO() {
+        }
+
+        public ResultadoItemDTO(Integer indice, Long idVisitante) {
+            this.indice = indice;
+            this.idVisitante = idVisitante;
+            this.creada = false;
+        }
+
+        // Getters y Setters
+        public Integer getIndice() {
+            return indice;
+        }
+
+        public void setIndice(Integer indice) {
+            this.indice = indice;
+        }
+
+        public Long getIdVisitante() {
+            return idVisitante;
+        }
+
+        public void setIdVisitante(Long idVisitante) {
+            this.idVisitante = idVisitante;
+        }
+
+        public Boolean getCreada() {
+            return creada;
+        }
+
+        public void setCreada(Boolean creada) {
+            this.creada = creada;
+        }
+
+        public Long getIdReserva() {
+            return idReserva;
+        }
+
+        public void setIdReserva(Long idReserva) {
+            this.idReserva = idReserva;
+        }
+
+        public String getCodigoRegla() {
+            return codigoRegla;
+        }
+
+        public void setCodigoRegla(String codigoRegla) {
+            this.codigoRegla = codigoRegla;
+        }
+
+        public String getMensaje() {
+            return mensaje;
+        }
+
+        public void setMensaje(String mensaje) {
+            this.mensaje = mensaje;
+        }
+
+        public boolean estaRechazada() {
+            return codigoRegla != null;
+        }
+
+        public void rechazar(String codigoRegla, String mensaje) {
+            this.creada = false;
+            this.idReserva = null;
+            this.codigoRegla = codigoRegla;
+            this.mensaje = mensaje;
+        }
+
+        /**
+         * Quitar el rechazo para volver a evaluar la reserva
+         */
+        public void readmitir() {
+            this.codigoRegla = null;
+            this.mensaje = null;
+        }
+    }
+}
@@ -23,6 +23,7 @@ public class ReservaResponseDTO {
     private LocalDateTime fechaModificacion;
     private LocalDateTime fechaCancelacion;
     private String motivoCancelacion;
+    private LocalDateTime fechaExpiracionRetencion;
     private Boolean tieneGuiaAsignado;
     private GuiaResponseDTO guiaAsignado;
 
@@ -134,6 +135,14 @@ public class ReservaResponseDTO {
         this.motivoCancelacion = motivoCancelacion;
     }
 
+    public LocalDateTime getFechaExpiracionRetencion() {
+        return fechaExpiracionRetencion;
+    }
+
+    public void setFechaExpiracionRetencion(LocalDateTime fechaExpiracionRetencion) {
+        this.fechaExpiracionRetencion = fechaExpiracionRetencion;
+    }
+
     public Boolean getTieneGuiaAsignado() {
         return tieneGuiaAsignado;
     }
@@ -0,0 +1,98 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * DTO de respuesta con los datos mínimos de una reserva para el tablero
+ */
+public class ReservaResumenDTO {
+
+    private Long idReserva;
+    private LocalDate fechaVisita;
+    private LocalTime horaInicio;
+    private Integer numeroPersonas;
+    private EstadoReserva estado;
+    private Long idSendero;
+    private String nombreSendero;
+    private Long idVisitante;
+    private String nombreVisitante;
+
+    // Constructores
+    public ReservaResumenDTO() {}
+
+    // Getters y Setters
+    public Long getIdReserva() {
+        return idReserva;
+    }
+
+    public void setIdReserva(Long idReserva) {
+        this.idReserva = idReserva;
+    }
+
+    public LocalDate getFechaVisita() {
+        return fechaVisita;
+    }
+
+    public void setFechaVisita(LocalDate fechaVisita) {
+        this.fechaVisita = fechaVisita;
+    }
+
+    public LocalTime getHoraInicio() {
+        return horaInicio;
+    }
+
+    public void setHoraInicio(LocalTime horaInicio) {
+        this.horaInicio = horaInicio;
+    }
+
+    public Integer getNumeroPersonas() {
+        return numeroPersonas;
+    }
+
+    public void setNumeroPersonas(Integer numeroPersonas) {
+        this.numeroPersonas = numeroPersonas;
+    }
+
+    public EstadoReserva getEstado() {
+        return estado;
+    }
+
+    public void setEstado(EstadoReserva estado) {
+        this.estado = estado;
+    }
+
+    public Long getIdSendero() {
+        return idSendero;
+    }
+
+    public void setIdSendero(Long idSendero) {
+        this.idSendero = idSendero;
+    }
+
+    public String getNombreSendero() {
+        return nombreSendero;
+    }
+
+    public void setNombreSendero(String nombreSendero) {
+        this.nombreSendero = nombreSendero;
+    }
+
+    public Long getIdVisitante() {
+        return idVisitante;
+    }
+
+    public void setIdVisitante(Long idVisitante) {
+        this.idVisitante = idVisitante;
+    }
+
+    public String getNombreVisitante() {
+        return nombreVisitante;
+    }
+
+    public void setNombreVisitante(String nombreVisitante) {
+        this.nombreVisitante = nombreVisitante;
+    }
+}
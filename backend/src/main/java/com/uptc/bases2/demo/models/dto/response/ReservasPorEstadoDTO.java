@@ -0,0 +1,56 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+
+/**
+ * DTO de respuesta con el total de reservas y personas de un estado
+ */
+public class ReservasPorEstadoDTO {
+
+    private EstadoReserva estado;
+    private Long totalReservas;
+    private Long totalPersonas;
+    private Double porcentaje;
+
+    // Constructores
+    public ReservasPorEstadoDTO() {}
+
+    public ReservasPorEstadoDTO(EstadoReserva estado, Long totalReservas, Long totalPersonas) {
+        this.estado = estado;
+        this.totalReservas = totalReservas;
+        this.totalPersonas = totalPersonas;
+    }
+
+    // Getters y Setters
+    public EstadoReserva getEstado() {
+        return estado;
+    }
+
+    public void setEstado(EstadoReserva estado) {
+        this.estado = estado;
+    }
+
+    public Long getTotalReservas() {
+        return totalReservas;
+    }
+
+    public void setTotalReservas(Long totalReservas) {
+        this.totalReservas = totalReservas;
+    }
+
+    public Long getTotalPersonas() {
+        return totalPersonas;
+    }
+
+    public void setTotalPersonas(Long totalPersonas) {
+        this.totalPersonas = totalPersonas;
+    }
+
+    public Double getPorcentaje() {
+        return porcentaje;
+    }
+
+    public void setPorcentaje(Double porcentaje) {
+        this.porcentaje = porcentaje;
+    }
+}
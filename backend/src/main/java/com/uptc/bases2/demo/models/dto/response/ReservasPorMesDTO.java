@@ -0,0 +1,66 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DTO de respuesta con el total de reservas y personas de un mes
+ */
+public class ReservasPorMesDTO {
+
+    private Integer anio;
+    private Integer mes;
+    private Long totalReservas = 0L;
+    private Long totalPersonas = 0L;
+    private Map<EstadoReserva, Long> reservasPorEstado = new LinkedHashMap<>();
+
+    // Constructores
+    public ReservasPorMesDTO() {}
+
+    public ReservasPorMesDTO(Integer anio, Integer mes) {
+        this.anio = anio;
+        this.mes = mes;
+    }
+
+    // Getters y Setters
+    public Integer getAnio() {
+        return anio;
+    }
+
+    public void setAnio(Integer anio) {
+        this.anio = anio;
+    }
+
+    public Integer getMes() {
+        return mes;
+    }
+
+    public void setMes(Integer mes) {
+        this.mes = mes;
+    }
+
+    public Long getTotalReservas() {
+        return totalReservas;
+    }
+
+    public void setTotalReservas(Long totalReservas) {
+        this.totalReservas = totalReservas;
+    }
+
+    public Long getTotalPersonas() {
+        return totalPersonas;
+    }
+
+    public void setTotalPersonas(Long totalPersonas) {
+        this.totalPersonas = totalPersonas;
+    }
+
+    public Map<EstadoReserva, Long> getReservasPorEstado() {
+        return reservasPorEstado;
+    }
+
+    public void setReservasPorEstado(Map<EstadoReserva, Long> reservasPorEstado) {
+        this.reservasPorEstado = reservasPorEstado;
+    }
+}
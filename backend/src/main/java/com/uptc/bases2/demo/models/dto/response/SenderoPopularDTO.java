@@ -0,0 +1,65 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+/**
+ * DTO de respuesta con la posición de un sendero en la clasificación por número de reservas
+ */
+public class SenderoPopularDTO {
+
+    private Integer posicion;
+    private Long idSendero;
+    private String nombre;
+    private Long totalReservas;
+    private Long totalPersonas;
+
+    // Constructores
+    public SenderoPopularDTO() {}
+
+    public SenderoPopularDTO(Integer posicion, Long idSendero, String nombre, Long totalReservas, Long totalPersonas) {
+        this.posicion = posicion;
+        this.idSendero = idSendero;
+        this.nombre = nombre;
+        this.totalReservas = totalReservas;
+        this.totalPersonas = totalPersonas;
+    }
+
+    // Getters y Setters
+    public Integer getPosicion() {
+        return posicion;
+    }
+
+    public void setPosicion(Integer posicion) {
+        this.posicion = posicion;
+    }
+
+    public Long getIdSendero() {
+        return idSendero;
+    }
+
+    public void setIdSendero(Long idSendero) {
+        this.idSendero = idSendero;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public Long getTotalReservas() {
+        return totalReservas;
+    }
+
+    public void setTotalReservas(Long totalReservas) {
+        this.totalReservas = totalReservas;
+    }
+
+    public Long getTotalPersonas() {
+        return totalPersonas;
+    }
+
+    public void setTotalPersonas(Long totalPersonas) {
+        this.totalPersonas = totalPersonas;
+    }
+}
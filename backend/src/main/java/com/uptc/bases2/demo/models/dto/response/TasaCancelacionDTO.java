@@ -0,0 +1,90 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import com.uptc.bases2.demo.models.enums.PeriodoEstadistica;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO de respuesta con la tasa de cancelación de un periodo.
+ * totalReservas incluye todas las reservas registradas del periodo, en cualquier estado.
+ */
+public class TasaCancelacionDTO {
+
+    private PeriodoEstadistica periodo;
+    private Long idSendero;
+    private YearMonth desde;
+    private YearMonth hasta;
+    private Long totalReservas;
+    private Long canceladas;
+    private Double tasaCancelacion;
+    private List<PuntoMensualDTO> serie = new ArrayList<>();
+
+    // Constructores
+    public TasaCancelacionDTO() {}
+
+    // Getters y Setters
+    public PeriodoEstadistica getPeriodo() {
+        return periodo;
+    }
+
+    public void setPeriodo(PeriodoEstadistica periodo) {
+        this.periodo = periodo;
+    }
+
+    public Long getIdSendero() {
+        return idSendero;
+    }
+
+    public void setIdSendero(Long idSendero) {
+        this.idSendero = idSendero;
+    }
+
+    public YearMonth getDesde() {
+        return desde;
+    }
+
+    public void setDesde(YearMonth desde) {
+        this.desde = desde;
+    }
+
+    public YearMonth getHasta() {
+        return hasta;
+    }
+
+    public void setHasta(YearMonth hasta) {
+        this.hasta = hasta;
+    }
+
+    public Long getTotalReservas() {
+        return totalReservas;
+    }
+
+    public void setTotalReservas(Long totalReservas) {
+        this.totalReservas = totalReservas;
+    }
+
+    public Long getCanceladas() {
+        return canceladas;
+    }
+
+    public void setCanceladas(Long canceladas) {
+        this.canceladas = canceladas;
+    }
+
+    public Double getTasaCancelacion() {
+        return tasaCancelacion;
+    }
+
+    public void setTasaCancelacion(Double tasaCancelacion) {
+        this.tasaCancelacion = tasaCancelacion;
+    }
+
+    public List<PuntoMensualDTO> getSerie() {
+        return serie;
+    }
+
+    public void setSerie(List<PuntoMensualDTO> serie) {
+        this.serie = serie;
+    }
+}
@@ -0,0 +1,60 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO de respuesta con la serie mensual de reservas de los últimos meses
+ */
+public class TendenciasDTO {
+
+    private Long idSendero;
+    private Integer meses;
+    private Long totalReservas;
+    private Long totalPersonas;
+    private List<PuntoMensualDTO> serie = new ArrayList<>();
+
+    // Constructores
+    public TendenciasDTO() {}
+
+    // Getters y Setters
+    public Long getIdSendero() {
+        return idSendero;
+    }
+
+    public void setIdSendero(Long idSendero) {
+        this.idSendero = idSendero;
+    }
+
+    public Integer getMeses() {
+        return meses;
+    }
+
+    public void setMeses(Integer meses) {
+        this.meses = meses;
+    }
+
+    public Long getTotalReservas() {
+        return totalReservas;
+    }
+
+    public void setTotalReservas(Long totalReservas) {
+        this.totalReservas = totalReservas;
+    }
+
+    public Long getTotalPersonas() {
+        return totalPersonas;
+    }
+
+    public void setTotalPersonas(Long totalPersonas) {
+        this.totalPersonas = totalPersonas;
+    }
+
+    public List<PuntoMensualDTO> getSerie() {
+        return serie;
+    }
+
+    public void setSerie(List<PuntoMensualDTO> serie) {
+        this.serie = serie;
+    }
+}
@@ -0,0 +1,125 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import com.uptc.bases2.demo.models.enums.EstadoTicket;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * DTO de respuesta para un ticket de la cola asíncrona de reservas
+ */
+public class TicketReservaDTO {
+
+    private String ticketId;
+    private EstadoTicket estado;
+    private Long idVisitante;
+    private Long idSendero;
+    private LocalDate fechaVisita;
+    private LocalTime horaInicio;
+    private Integer numeroPersonas;
+    private LocalDateTime fechaRecepcion;
+    private LocalDateTime fechaProcesamiento;
+    private Long idReserva;
+    private String codigoRegla;
+    private String mensaje;
+
+    // Constructores
+    public TicketReservaDTO() {}
+
+    // Getters y Setters
+    public String getTicketId() {
+        return ticketId;
+    }
+
+    public void setTicketId(String ticketId) {
+        this.ticketId = ticketId;
+    }
+
+    public EstadoTicket getEstado() {
+        return estado;
+    }
+
+    public void setEstado(EstadoTicket estado) {
+        this.estado = estado;
+    }
+
+    public Long getIdVisitante() {
+        return idVisitante;
+    }
+
+    public void setIdVisitante(Long idVisitante) {
+        this.idVisitante = idVisitante;
+    }
+
+    public Long getIdSendero() {
+        return idSendero;
+    }
+
+    public void setIdSendero(Long idSendero) {
+        this.idSendero = idSendero;
+    }
+
+    public LocalDate getFechaVisita() {
+        return fechaVisita;
+    }
+
+    public void setFechaVisita(LocalDate fechaVisita) {
+        this.fechaVisita = fechaVisita;
+    }
+
+    public LocalTime getHoraInicio() {
+        return horaInicio;
+    }
+
+    public void setHoraInicio(LocalTime horaInicio) {
+        this.horaInicio = horaInicio;
+    }
+
+    public Integer getNumeroPersonas() {
+        return numeroPersonas;
+    }
+
+    public void setNumeroPersonas(Integer numeroPersonas) {
+        this.numeroPersonas = numeroPersonas;
+    }
+
+    public LocalDateTime getFechaRecepcion() {
+        return fechaRecepcion;
+    }
+
+    public void setFechaRecepcion(LocalDateTime fechaRecepcion) {
+        this.fechaRecepcion = fechaRecepcion;
+    }
+
+    public LocalDateTime getFechaProcesamiento() {
+        return fechaProcesamiento;
+    }
+
+    public void setFechaProcesamiento(LocalDateTime fechaProcesamiento) {
+        this.fechaProcesamiento = fechaProcesamiento;
+    }
+
+    public Long getIdReserva() {
+        return idReserva;
+    }
+
+    public void setIdReserva(Long idReserva) {
+        this.idReserva = idReserva;
+    }
+
+    public String getCodigoRegla() {
+        return codigoRegla;
+    }
+
+    public void setCodigoRegla(String codigoRegla) {
+        this.codigoRegla = codigoRegla;
+    }
+
+    public String getMensaje() {
+        return mensaje;
+    }
+
+    public void setMensaje(String mensaje) {
+        this.mensaje = mensaje;
+    }
+}
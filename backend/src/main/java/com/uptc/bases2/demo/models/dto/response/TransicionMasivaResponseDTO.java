@@ -0,0 +1,127 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.models.enums.TransicionReserva;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO de respuesta para una transición de estado aplicada a varias reservas
+ */
+public class TransicionMasivaResponseDTO {
+
+    private TransicionReserva transicion;
+    private EstadoReserva estadoOrigen;
+    private EstadoReserva estadoDestino;
+    private Integer totalAplicadas;
+    private Integer totalOmitidas;
+    private List<Long> aplicadas = new ArrayList<>();
+    private List<OmitidaDTO> omitidas = new ArrayList<>();
+
+    // Constructores
+    public TransicionMasivaResponseDTO() {}
+
+    public TransicionMasivaResponseDTO(TransicionReserva transicion) {
+        this.transicion = transicion;
+        this.estadoOrigen = transicion.getOrigen();
+        this.estadoDestino = transicion.getDestino();
+    }
+
+    // Getters y Setters
+    public TransicionReserva getTransicion() {
+        return transicion;
+    }
+
+    public void setTransicion(TransicionReserva transicion) {
+        this.transicion = transicion;
+    }
+
+    public EstadoReserva getEstadoOrigen() {
+        return estadoOrigen;
+    }
+
+    public void setEstadoOrigen(EstadoReserva estadoOrigen) {
+        this.estadoOrigen = estadoOrigen;
+    }
+
+    public EstadoReserva getEstadoDestino() {
+        return estadoDestino;
+    }
+
+    public void setEstadoDestino(EstadoReserva estadoDestino) {
+        this.estadoDestino = estadoDestino;
+    }
+
+    public Integer getTotalAplicadas() {
+        return totalAplicadas;
+    }
+
+    public void setTotalAplicadas(Integer totalAplicadas) {
+        this.totalAplicadas = totalAplicadas;
+    }
+
+    public Integer getTotalOmitidas() {
+        return totalOmitidas;
+    }
+
+    public void setTotalOmitidas(Integer totalOmitidas) {
+        this.totalOmitidas = totalOmitidas;
+    }
+
+    public List<Long> getAplicadas() {
+        return aplicadas;
+    }
+
+    public void setAplicadas(List<Long> aplicadas) {
+        this.aplicadas = aplicadas;
+    }
+
+    public List<OmitidaDTO> getOmitidas() {
+        return omitidas;
+    }
+
+    public void setOmitidas(List<OmitidaDTO> omitidas) {
+        this.omitidas = omitidas;
+    }
+
+    /**
+     * Reserva solicitada que no cambió de estado
+     */
+    public static class OmitidaDTO {
+        private Long idReserva;
+        private EstadoReserva estadoActual;
+        private String motivo;
+
+        public OmitidaDTO() {}
+
+        public OmitidaDTO(Long idReserva, EstadoReserva estadoActual, String motivo) {
+            this.idReserva = idReserva;
+            this.estadoActual = estadoActual;
+            this.motivo = motivo;
+        }
+
+        public Long getIdReserva() {
+            return idReserva;
+        }
+
+        public void setIdReserva(Long idReserva) {
+            this.idReserva = idReserva;
+        }
+
+        public EstadoReserva getEstadoActual() {
+            return estadoActual;
+        }
+
+        public void setEstadoActual(EstadoReserva estadoActual) {
+            this.estadoActual = estadoActual;
+        }
+
+        public String getMotivo() {
+            return motivo;
+        }
+
+        public void setMotivo(String motivo) {
+            this.motivo = motivo;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.uptc.bases2.demo.models.dto.response;
+
+/**
+ * DTO de respuesta con la posición de un visitante en la clasificación por número de visitas
+ */
+public class VisitanteFrecuenteDTO {
+
+    private Integer posicion;
+    private Long idVisitante;
+    private String nombreCompleto;
+    private Integer numeroVisitas;
+
+    // Constructores
+    public VisitanteFrecuenteDTO() {}
+
+    public VisitanteFrecuenteDTO(Integer posicion, Long idVisitante, String nombreCompleto, Integer numeroVisitas) {
+        this.posicion = posicion;
+        this.idVisitante = idVisitante;
+        this.nombreCompleto = nombreCompleto;
+        this.numeroVisitas = numeroVisitas;
+    }
+
+    // Getters y Setters
+    public Integer getPosicion() {
+        return posicion;
+    }
+
+    public void setPosicion(Integer posicion) {
+        this.posicion = posicion;
+    }
+
+    public Long getIdVisitante() {
+        return idVisitante;
+    }
+
+    public void setIdVisitante(Long idVisitante) {
+        this.idVisitante = idVisitante;
+    }
+
+    public String getNombreCompleto() {
+        return nombreCompleto;
+    }
+
+    public void setNombreCompleto(String nombreCompleto) {
+        this.nombreCompleto = nombreCompleto;
+    }
+
+    public Integer getNumeroVisitas() {
+        return numeroVisitas;
+    }
+
+    public void setNumeroVisitas(Integer numeroVisitas) {
+        this.numeroVisitas = numeroVisitas;
+    }
+}
@@ -10,12 +10,28 @@ import java.time.LocalDateTime;
  * Tabla: ASIGNACION_GUIA
  */
 @Entity
+@NamedEntityGraph(
+    name = AsignacionGuia.GRAFO_DETALLE,
+    attributeNodes = {
+        @NamedAttributeNode("guia"),
+        @NamedAttributeNode(value = "reserva", subgraph = "reserva")
+    },
+    subgraphs = @NamedSubgraph(name = "reserva", attributeNodes = {
+        @NamedAttributeNode("visitante"),
+        @NamedAttributeNode("sendero")
+    })
+)
 @Table(name = "ASIGNACION_GUIA", indexes = {
     @Index(name = "idx_asignacion_guia", columnList = "ID_GUIA"),
     @Index(name = "idx_asignacion_fecha", columnList = "FECHA_ASIGNACION")
 })
 public class AsignacionGuia {
 
+    /**
+     * Plan de carga para las vistas de agenda y asignaciones: guía y reserva con visitante y sendero
+     */
+    public static final String GRAFO_DETALLE = "AsignacionGuia.detalle";
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "asignacion_seq")
     @SequenceGenerator(name = "asignacion_seq", sequenceName = "SEQ_ASIGNACION", allocationSize = 1)
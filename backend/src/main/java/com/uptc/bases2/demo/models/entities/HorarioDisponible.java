@@ -16,7 +16,8 @@ public class HorarioDisponible {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "horario_seq")
-    @SequenceGenerator(name = "horario_seq", sequenceName = "SEQ_HORARIO", allocationSize = 1)
+    // allocationSize debe coincidir con INCREMENT BY de SEQ_HORARIO (IDs en bloque para la importación masiva)
+    @SequenceGenerator(name = "horario_seq", sequenceName = "SEQ_HORARIO", allocationSize = 50)
     @Column(name = "ID_HORARIO")
     private Long idHorario;
 
@@ -0,0 +1,51 @@
+package com.uptc.bases2.demo.models.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Entidad HorarioOcupacion - contador de personas reservadas por horario y fecha
+ * Tabla: HORARIO_OCUPACION
+ *
+ * Complementa a SenderoOcupacion: el cupo diario del sendero y el cupo de cada
+ * franja horaria (cupoHorario) se descuentan en la misma transacción.
+ */
+@Entity
+@Table(name = "HORARIO_OCUPACION")
+public class HorarioOcupacion {
+
+    @EmbeddedId
+    private HorarioOcupacionId id;
+
+    @NotNull
+    @Min(value = 0, message = "Las personas reservadas no pueden ser negativas")
+    @Column(name = "PERSONAS_RESERVADAS", nullable = false)
+    private Integer personasReservadas;
+
+    // Constructores
+    public HorarioOcupacion() {
+        this.personasReservadas = 0;
+    }
+
+    public HorarioOcupacion(HorarioOcupacionId id, Integer personasReservadas) {
+        this.id = id;
+        this.personasReservadas = personasReservadas;
+    }
+
+    // Getters y Setters
+    public HorarioOcupacionId getId() {
+        return id;
+    }
+
+    public void setId(HorarioOcupacionId id) {
+        this.id = id;
+    }
+
+    public Integer getPersonasReservadas() {
+        return personasReservadas;
+    }
+
+    public void setPersonasReservadas(Integer personasReservadas) {
+        this.personasReservadas = personasReservadas;
+    }
+}
@@ -0,0 +1,58 @@
+package com.uptc.bases2.demo.models.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Llave compuesta de HorarioOcupacion (horario + fecha)
+ */
+@Embeddable
+public class HorarioOcupacionId implements Serializable {
+
+    @Column(name = "ID_HORARIO", nullable = false)
+    private Long idHorario;
+
+    @Column(name = "FECHA", nullable = false)
+    private LocalDate fecha;
+
+    // Constructores
+    public HorarioOcupacionId() {}
+
+    public HorarioOcupacionId(Long idHorario, LocalDate fecha) {
+        this.idHorario = idHorario;
+        this.fecha = fecha;
+    }
+
+    // Getters y Setters
+    public Long getIdHorario() {
+        return idHorario;
+    }
+
+    public void setIdHorario(Long idHorario) {
+        this.idHorario = idHorario;
+    }
+
+    public LocalDate getFecha() {
+        return fecha;
+    }
+
+    public void setFecha(LocalDate fecha) {
+        this.fecha = fecha;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof HorarioOcupacionId)) return false;
+        HorarioOcupacionId that = (HorarioOcupacionId) o;
+        return Objects.equals(idHorario, that.idHorario) && Objects.equals(fecha, that.fecha);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idHorario, fecha);
+    }
+}
@@ -0,0 +1,126 @@
+package com.uptc.bases2.demo.models.entities;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad Idempotencia - respuesta guardada de una petición con Idempotency-Key
+ * Tabla: IDEMPOTENCIA
+ *
+ * La clave combina el usuario autenticado y el valor del header, de modo que
+ * dos usuarios no comparten respuestas aunque envíen la misma clave.
+ */
+@Entity
+@Table(name = "IDEMPOTENCIA", indexes = {
+    @Index(name = "idx_idempotencia_expiracion", columnList = "FECHA_EXPIRACION")
+})
+public class Idempotencia {
+
+    @Id
+    @Column(name = "CLAVE", length = 250)
+    private String clave;
+
+    @Column(name = "METODO", nullable = false, length = 10)
+    private String metodo;
+
+    @Column(name = "RUTA", nullable = false, length = 200)
+    private String ruta;
+
+    // SHA-256 del cuerpo de la petición original (detecta claves reutilizadas con otro cuerpo)
+    @Column(name = "HASH_PETICION", nullable = false, length = 64)
+    private String hashPeticion;
+
+    @Column(name = "ESTADO_HTTP", nullable = false)
+    private Integer estadoHttp;
+
+    @Column(name = "TIPO_CONTENIDO", length = 100)
+    private String tipoContenido;
+
+    @Lob
+    @Column(name = "CUERPO_RESPUESTA")
+    private String cuerpoRespuesta;
+
+    @Column(name = "FECHA_CREACION")
+    private LocalDateTime fechaCreacion;
+
+    @Column(name = "FECHA_EXPIRACION", nullable = false)
+    private LocalDateTime fechaExpiracion;
+
+    // Constructores
+    public Idempotencia() {
+        this.fechaCreacion = LocalDateTime.now();
+    }
+
+    // Getters y Setters
+    public String getClave() {
+        return clave;
+    }
+
+    public void setClave(String clave) {
+        this.clave = clave;
+    }
+
+    public String getMetodo() {
+        return metodo;
+    }
+
+    public void setMetodo(String metodo) {
+        this.metodo = metodo;
+    }
+
+    public String getRuta() {
+        return ruta;
+    }
+
+    public void setRuta(String ruta) {
+        this.ruta = ruta;
+    }
+
+    public String getHashPeticion() {
+        return hashPeticion;
+    }
+
+    public void setHashPeticion(String hashPeticion) {
+        this.hashPeticion = hashPeticion;
+    }
+
+    public Integer getEstadoHttp() {
+        return estadoHttp;
+    }
+
+    public void setEstadoHttp(Integer estadoHttp) {
+        this.estadoHttp = estadoHttp;
+    }
+
+    public String getTipoContenido() {
+        return tipoContenido;
+    }
+
+    public void setTipoContenido(String tipoContenido) {
+        this.tipoContenido = tipoContenido;
+    }
+
+    public String getCuerpoRespuesta() {
+        return cuerpoRespuesta;
+    }
+
+    public void setCuerpoRespuesta(String cuerpoRespuesta) {
+        this.cuerpoRespuesta = cuerpoRespuesta;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return fechaCreacion;
+    }
+
+    public void setFechaCreacion(LocalDateTime fechaCreacion) {
+        this.fechaCreacion = fechaCreacion;
+    }
+
+    public LocalDateTime getFechaExpiracion() {
+        return fechaExpiracion;
+    }
+
+    public void setFechaExpiracion(LocalDateTime fechaExpiracion) {
+        this.fechaExpiracion = fechaExpiracion;
+    }
+}
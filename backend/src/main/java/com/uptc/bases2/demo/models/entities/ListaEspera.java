@@ -0,0 +1,181 @@
+package com.uptc.bases2.demo.models.entities;
+
+import com.uptc.bases2.demo.models.enums.EstadoListaEspera;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Entidad ListaEspera - solicitudes de reserva en espera de cupo
+ * Tabla: LISTA_ESPERA
+ *
+ * Las solicitudes de un (sendero, fecha) se atienden en orden de llegada (ID creciente)
+ * cuando una cancelación o modificación libera cupo.
+ */
+@Entity
+@Table(name = "LISTA_ESPERA", indexes = {
+    @Index(name = "idx_espera_cola", columnList = "ID_SENDERO, FECHA_VISITA, ESTADO, ID_LISTA_ESPERA"),
+    @Index(name = "idx_espera_visitante", columnList = "ID_VISITANTE")
+})
+public class ListaEspera {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lista_espera_seq")
+    @SequenceGenerator(name = "lista_espera_seq", sequenceName = "SEQ_LISTA_ESPERA", allocationSize = 1)
+    @Column(name = "ID_LISTA_ESPERA")
+    private Long idListaEspera;
+
+    @NotNull(message = "El visitante es obligatorio")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ID_VISITANTE", nullable = false,
+                foreignKey = @ForeignKey(name = "FK_ESPERA_VISITANTE"))
+    private Visitante visitante;
+
+    @NotNull(message = "El sendero es obligatorio")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ID_SENDERO", nullable = false,
+                foreignKey = @ForeignKey(name = "FK_ESPERA_SENDERO"))
+    private Sendero sendero;
+
+    @NotNull(message = "La fecha de visita es obligatoria")
+    @Column(name = "FECHA_VISITA", nullable = false)
+    private LocalDate fechaVisita;
+
+    @NotNull(message = "La hora de inicio es obligatoria")
+    @Column(name = "HORA_INICIO", nullable = false)
+    private LocalTime horaInicio;
+
+    @NotNull(message = "El número de personas es obligatorio")
+    @Min(value = 1, message = "Debe haber al menos 1 persona")
+    @Max(value = 20, message = "Máximo 20 personas por reserva")
+    @Column(name = "NUMERO_PERSONAS", nullable = false)
+    private Integer numeroPersonas;
+
+    @Size(max = 500)
+    @Column(name = "OBSERVACIONES", length = 500)
+    private String observaciones;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ESTADO", nullable = false, length = 20)
+    private EstadoListaEspera estado;
+
+    @Column(name = "FECHA_REGISTRO")
+    private LocalDateTime fechaRegistro;
+
+    @Column(name = "FECHA_PROMOCION")
+    private LocalDateTime fechaPromocion;
+
+    // Reserva creada al promover la solicitud
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ID_RESERVA",
+                foreignKey = @ForeignKey(name = "FK_ESPERA_RESERVA"))
+    private Reserva reserva;
+
+    // Constructores
+    public ListaEspera() {
+        this.estado = EstadoListaEspera.EN_ESPERA;
+        this.fechaRegistro = LocalDateTime.now();
+    }
+
+    // Getters y Setters
+    public Long getIdListaEspera() {
+        return idListaEspera;
+    }
+
+    public void setIdListaEspera(Long idListaEspera) {
+        this.idListaEspera = idListaEspera;
+    }
+
+    public Visitante getVisitante() {
+        return visitante;
+    }
+
+    public void setVisitante(Visitante visitante) {
+        this.visitante = visitante;
+    }
+
+    public Sendero getSendero() {
+        return sendero;
+    }
+
+    public void setSendero(Sendero sendero) {
+        this.sendero = sendero;
+    }
+
+    public LocalDate getFechaVisita() {
+        return fechaVisita;
+    }
+
+    public void setFechaVisita(LocalDate fechaVisita) {
+        this.fechaVisita = fechaVisita;
+    }
+
+    public LocalTime getHoraInicio() {
+        return horaInicio;
+    }
+
+    public void setHoraInicio(LocalTime horaInicio) {
+        this.horaInicio = horaInicio;
+    }
+
+    public Integer getNumeroPersonas() {
+        return numeroPersonas;
+    }
+
+    public void setNumeroPersonas(Integer numeroPersonas) {
+        this.numeroPersonas = numeroPersonas;
+    }
+
+    public String getObservaciones() {
+        return observaciones;
+    }
+
+    public void setObservaciones(String observaciones) {
+        this.observaciones = observaciones;
+    }
+
+    public EstadoListaEspera getEstado() {
+        return estado;
+    }
+
+    public void setEstado(EstadoListaEspera estado) {
+        this.estado = estado;
+    }
+
+    public LocalDateTime getFechaRegistro() {
+        return fechaRegistro;
+    }
+
+    public void setFechaRegistro(LocalDateTime fechaRegistro) {
+        this.fechaRegistro = fechaRegistro;
+    }
+
+    public LocalDateTime getFechaPromocion() {
+        return fechaPromocion;
+    }
+
+    public void setFechaPromocion(LocalDateTime fechaPromocion) {
+        this.fechaPromocion = fechaPromocion;
+    }
+
+    public Reserva getReserva() {
+        return reserva;
+    }
+
+    public void setReserva(Reserva reserva) {
+        this.reserva = reserva;
+    }
+
+    // Métodos de utilidad
+    public void promover(Reserva reserva) {
+        this.estado = EstadoListaEspera.PROMOVIDA;
+        this.reserva = reserva;
+        this.fechaPromocion = LocalDateTime.now();
+    }
+
+    public boolean estaEnEspera() {
+        return estado == EstadoListaEspera.EN_ESPERA;
+    }
+}
@@ -0,0 +1,195 @@
+package com.uptc.bases2.demo.models.entities;
+
+import com.uptc.bases2.demo.models.enums.EstadoProcesoBatch;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad ProcesoBatch - punto de control y métricas de un proceso por lotes
+ * Tabla: PROCESO_BATCH
+ *
+ * Cada lote actualiza ULTIMO_ID en la misma transacción que procesa las filas,
+ * así un proceso interrumpido se reanuda sin repetir ni saltar lotes.
+ */
+@Entity
+@Table(name = "PROCESO_BATCH")
+public class ProcesoBatch {
+
+    @Id
+    @Column(name = "NOMBRE", length = 50)
+    private String nombre;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ESTADO", nullable = false, length = 20)
+    private EstadoProcesoBatch estado;
+
+    // Se procesan las reservas con fecha de visita anterior a esta fecha
+    @Column(name = "FECHA_CORTE", nullable = false)
+    private LocalDate fechaCorte;
+
+    @Column(name = "ULTIMO_ID", nullable = false)
+    private Long ultimoId;
+
+    @Column(name = "PROCESADAS", nullable = false)
+    private Long procesadas;
+
+    @Column(name = "LOTES", nullable = false)
+    private Integer lotes;
+
+    @Column(name = "FECHA_INICIO")
+    private LocalDateTime fechaInicio;
+
+    @Column(name = "FECHA_FIN")
+    private LocalDateTime fechaFin;
+
+    @Column(name = "DURACION_MS")
+    private Long duracionMs;
+
+    @Column(name = "FILAS_POR_SEGUNDO", precision = 12, scale = 2)
+    private BigDecimal filasPorSegundo;
+
+    @Column(name = "MENSAJE_ERROR", length = 500)
+    private String mensajeError;
+
+    // Constructores
+    public ProcesoBatch() {}
+
+    public ProcesoBatch(String nombre) {
+        this.nombre = nombre;
+    }
+
+    // Getters y Setters
+    public String getNombre() {
+        return nombre;
+    }
+
+    public void setNombre(String nombre) {
+        this.nombre = nombre;
+    }
+
+    public EstadoProcesoBatch getEstado() {
+        return estado;
+    }
+
+    public void setEstado(EstadoProcesoBatch estado) {
+        this.estado = estado;
+    }
+
+    public LocalDate getFechaCorte() {
+        return fechaCorte;
+    }
+
+    public void setFechaCorte(LocalDate fechaCorte) {
+        this.fechaCorte = fechaCorte;
+    }
+
+    public Long getUltimoId() {
+        return ultimoId;
+    }
+
+    public void setUltimoId(Long ultimoId) {
+        this.ultimoId = ultimoId;
+    }
+
+    public Long getProcesadas() {
+        return procesadas;
+    }
+
+    public void setProcesadas(Long procesadas) {
+        this.procesadas = procesadas;
+    }
+
+    public Integer getLotes() {
+        return lotes;
+    }
+
+    public void setLotes(Integer lotes) {
+        this.lotes = lotes;
+    }
+
+    public LocalDateTime getFechaInicio() {
+        return fechaInicio;
+    }
+
+    public void setFechaInicio(LocalDateTime fechaInicio) {
+        this.fechaInicio = fechaInicio;
+    }
+
+    public LocalDateTime getFechaFin() {
+        return fechaFin;
+    }
+
+    public void setFechaFin(LocalDateTime fechaFin) {
+        this.fechaFin = fechaFin;
+    }
+
+    public Long getDuracionMs() {
+        return duracionMs;
+    }
+
+    public void setDuracionMs(Long duracionMs) {
+        this.duracionMs = duracionMs;
+    }
+
+    public BigDecimal getFilasPorSegundo() {
+        return filasPorSegundo;
+    }
+
+    public void setFilasPorSegundo(BigDecimal filasPorSegundo) {
+        this.filasPorSegundo = filasPorSegundo;
+    }
+
+    public String getMensajeError() {
+        return mensajeError;
+    }
+
+    public void setMensajeError(String mensajeError) {
+        this.mensajeError = mensajeError;
+    }
+
+    // Métodos de utilidad
+    public boolean estaEnCurso() {
+        return estado == EstadoProcesoBatch.EN_CURSO;
+    }
+
+    /**
+     * Iniciar una ejecución desde cero para una fecha de corte
+     */
+    public void iniciar(LocalDate fechaCorte) {
+        this.estado = EstadoProcesoBatch.EN_CURSO;
+        this.fechaCorte = fechaCorte;
+        this.ultimoId = 0L;
+        this.procesadas = 0L;
+        this.lotes = 0;
+        this.fechaInicio = LocalDateTime.now();
+        this.fechaFin = null;
+        this.duracionMs = null;
+        this.filasPorSegundo = null;
+        this.mensajeError = null;
+    }
+
+    /**
+     * Registrar un lote procesado y mover el punto de control
+     */
+    public void avanzar(Long ultimoId, int procesadasLote) {
+        this.ultimoId = ultimoId;
+        this.procesadas += procesadasLote;
+        this.lotes++;
+    }
+
+    /**
+     * Cerrar la ejecución acumulando su duración; el throughput considera solo
+     * el tiempo de ejecución, no las pausas entre una interrupción y su reanudación
+     */
+    public void finalizar(EstadoProcesoBatch estadoFinal, String mensajeError, long duracionEjecucionMs) {
+        this.estado = estadoFinal;
+        this.fechaFin = LocalDateTime.now();
+        this.duracionMs = (duracionMs != null ? duracionMs : 0L) + duracionEjecucionMs;
+        this.filasPorSegundo = BigDecimal.valueOf(procesadas * 1000.0 / Math.max(duracionMs, 1L))
+            .setScale(2, RoundingMode.HALF_UP);
+        this.mensajeError = mensajeError;
+    }
+}
@@ -15,13 +15,16 @@ import java.time.LocalTime;
 @Table(name = "RESERVA", indexes = {
     @Index(name = "idx_reserva_visitante", columnList = "ID_VISITANTE"),
     @Index(name = "idx_reserva_sendero", columnList = "ID_SENDERO"),
-    @Index(name = "idx_reserva_fecha", columnList = "FECHA_VISITA")
+    @Index(name = "idx_reserva_fecha", columnList = "FECHA_VISITA, ID_RESERVA"),
+    @Index(name = "idx_reserva_horario", columnList = "ID_HORARIO, FECHA_VISITA"),
+    @Index(name = "idx_reserva_retencion", columnList = "FECHA_EXPIRACION_RETENCION")
 })
 public class Reserva {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reserva_seq")
-    @SequenceGenerator(name = "reserva_seq", sequenceName = "SEQ_RESERVA", allocationSize = 1)
+    // allocationSize debe coincidir con INCREMENT BY de SEQ_RESERVA (IDs en bloque para inserts en lote)
+    @SequenceGenerator(name = "reserva_seq", sequenceName = "SEQ_RESERVA", allocationSize = 50)
     @Column(name = "ID_RESERVA")
     private Long idReserva;
 
@@ -39,6 +42,12 @@ public class Reserva {
                 foreignKey = @ForeignKey(name = "FK_RESERVA_SENDERO"))
     private Sendero sendero;
 
+    // Franja horaria reservada (null si el sendero no tiene horarios configurados)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ID_HORARIO",
+                foreignKey = @ForeignKey(name = "FK_RESERVA_HORARIO"))
+    private HorarioDisponible horario;
+
     @Column(name = "FECHA_RESERVA")
     private LocalDateTime fechaReserva;
 
@@ -78,6 +87,10 @@ public class Reserva {
     @Column(name = "MOTIVO_CANCELACION", length = 200)
     private String motivoCancelacion;
 
+    // Solo tiene valor mientras la reserva está RETENIDA (se limpia al confirmar o liberar)
+    @Column(name = "FECHA_EXPIRACION_RETENCION")
+    private LocalDateTime fechaExpiracionRetencion;
+
     // Relación One-to-One con AsignacionGuia
     @OneToOne(mappedBy = "reserva", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private AsignacionGuia asignacionGuia;
@@ -115,6 +128,14 @@ public class Reserva {
         this.sendero = sendero;
     }
 
+    public HorarioDisponible getHorario() {
+        return horario;
+    }
+
+    public void setHorario(HorarioDisponible horario) {
+        this.horario = horario;
+    }
+
     public LocalDateTime getFechaReserva() {
         return fechaReserva;
     }
@@ -195,6 +216,14 @@ public class Reserva {
         this.motivoCancelacion = motivoCancelacion;
     }
 
+    public LocalDateTime getFechaExpiracionRetencion() {
+        return fechaExpiracionRetencion;
+    }
+
+    public void setFechaExpiracionRetencion(LocalDateTime fechaExpiracionRetencion) {
+        this.fechaExpiracionRetencion = fechaExpiracionRetencion;
+    }
+
     public AsignacionGuia getAsignacionGuia() {
         return asignacionGuia;
     }
@@ -246,6 +275,7 @@ public class Reserva {
         this.estado = EstadoReserva.CANCELADA;
         this.fechaCancelacion = LocalDateTime.now();
         this.motivoCancelacion = motivo;
+        this.fechaExpiracionRetencion = null;
     }
 
     public void confirmar() {
@@ -0,0 +1,60 @@
+package com.uptc.bases2.demo.models.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Entidad ReservaDiaria - resumen de reservas por fecha de visita, sendero, estado y hora
+ * Tabla: RESERVA_DIARIA
+ *
+ * Se actualiza con UPDATEs incrementales en la misma transacción que cambia cada reserva,
+ * de modo que las estadísticas leen unas cuantas filas en lugar de agregar RESERVA.
+ */
+@Entity
+@Table(name = "RESERVA_DIARIA")
+public class ReservaDiaria {
+
+    @EmbeddedId
+    private ReservaDiariaId id;
+
+    @NotNull
+    @Min(value = 0, message = "El total de reservas no puede ser negativo")
+    @Column(name = "TOTAL_RESERVAS", nullable = false)
+    private Integer totalReservas;
+
+    @NotNull
+    @Min(value = 0, message = "El total de personas no puede ser negativo")
+    @Column(name = "TOTAL_PERSONAS", nullable = false)
+    private Integer totalPersonas;
+
+    // Constructores
+    public ReservaDiaria() {
+        this.totalReservas = 0;
+        this.totalPersonas = 0;
+    }
+
+    // Getters y Setters
+    public ReservaDiariaId getId() {
+        return id;
+    }
+
+    public void setId(ReservaDiariaId id) {
+        this.id = id;
+    }
+
+    public Integer getTotalReservas() {
+        return totalReservas;
+    }
+
+    public void setTotalReservas(Integer totalReservas) {
+        this.totalReservas = totalReservas;
+    }
+
+    public Integer getTotalPersonas() {
+        return totalPersonas;
+    }
+
+    public void setTotalPersonas(Integer totalPersonas) {
+        this.totalPersonas = totalPersonas;
+    }
+}
@@ -0,0 +1,87 @@
+package com.uptc.bases2.demo.models.entities;
+
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Llave compuesta de ReservaDiaria (fecha + sendero + estado + hora de inicio)
+ */
+@Embeddable
+public class ReservaDiariaId implements Serializable {
+
+    @Column(name = "FECHA", nullable = false)
+    private LocalDate fecha;
+
+    @Column(name = "ID_SENDERO", nullable = false)
+    private Long idSendero;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ESTADO", nullable = false, length = 20)
+    private EstadoReserva estado;
+
+    @Column(name = "HORA", nullable = false)
+    private Integer hora;
+
+    // Constructores
+    public ReservaDiariaId() {}
+
+    public ReservaDiariaId(LocalDate fecha, Long idSendero, EstadoReserva estado, Integer hora) {
+        this.fecha = fecha;
+        this.idSendero = idSendero;
+        this.estado = estado;
+        this.hora = hora;
+    }
+
+    // Getters y Setters
+    public LocalDate getFecha() {
+        return fecha;
+    }
+
+    public void setFecha(LocalDate fecha) {
+        this.fecha = fecha;
+    }
+
+    public Long getIdSendero() {
+        return idSendero;
+    }
+
+    public void setIdSendero(Long idSendero) {
+        this.idSendero = idSendero;
+    }
+
+    public EstadoReserva getEstado() {
+        return estado;
+    }
+
+    public void setEstado(EstadoReserva estado) {
+        this.estado = estado;
+    }
+
+    public Integer getHora() {
+        return hora;
+    }
+
+    public void setHora(Integer hora) {
+        this.hora = hora;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ReservaDiariaId)) return false;
+        ReservaDiariaId that = (ReservaDiariaId) o;
+        return Objects.equals(fecha, that.fecha) && Objects.equals(idSendero, that.idSendero)
+            && estado == that.estado && Objects.equals(hora, that.hora);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fecha, idSendero, estado, hora);
+    }
+}
@@ -19,7 +19,8 @@ public class Sendero {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sendero_seq")
-    @SequenceGenerator(name = "sendero_seq", sequenceName = "SEQ_SENDERO", allocationSize = 1)
+    // allocationSize debe coincidir con INCREMENT BY de SEQ_SENDERO (IDs en bloque para la importación masiva)
+    @SequenceGenerator(name = "sendero_seq", sequenceName = "SEQ_SENDERO", allocationSize = 50)
     @Column(name = "ID_SENDERO")
     private Long idSendero;
 
@@ -0,0 +1,51 @@
+package com.uptc.bases2.demo.models.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Entidad SenderoOcupacion - contador de personas reservadas por sendero y fecha
+ * Tabla: SENDERO_OCUPACION
+ *
+ * Se actualiza con UPDATEs condicionales desde el servicio de reservas, de modo
+ * que la validación de cupo no necesita sumar las filas de RESERVA.
+ */
+@Entity
+@Table(name = "SENDERO_OCUPACION")
+public class SenderoOcupacion {
+
+    @EmbeddedId
+    private SenderoOcupacionId id;
+
+    @NotNull
+    @Min(value = 0, message = "Las personas reservadas no pueden ser negativas")
+    @Column(name = "PERSONAS_RESERVADAS", nullable = false)
+    private Integer personasReservadas;
+
+    // Constructores
+    public SenderoOcupacion() {
+        this.personasReservadas = 0;
+    }
+
+    public SenderoOcupacion(SenderoOcupacionId id, Integer personasReservadas) {
+        this.id = id;
+        this.personasReservadas = personasReservadas;
+    }
+
+    // Getters y Setters
+    public SenderoOcupacionId getId() {
+        return id;
+    }
+
+    public void setId(SenderoOcupacionId id) {
+        this.id = id;
+    }
+
+    public Integer getPersonasReservadas() {
+        return personasReservadas;
+    }
+
+    public void setPersonasReservadas(Integer personasReservadas) {
+        this.personasReservadas = personasReservadas;
+    }
+}
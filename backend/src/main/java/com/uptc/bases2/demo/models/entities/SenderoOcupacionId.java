@@ -0,0 +1,58 @@
+package com.uptc.bases2.demo.models.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Llave compuesta de SenderoOcupacion (sendero + fecha)
+ */
+@Embeddable
+public class SenderoOcupacionId implements Serializable {
+
+    @Column(name = "ID_SENDERO", nullable = false)
+    private Long idSendero;
+
+    @Column(name = "FECHA", nullable = false)
+    private LocalDate fecha;
+
+    // Constructores
+    public SenderoOcupacionId() {}
+
+    public SenderoOcupacionId(Long idSendero, LocalDate fecha) {
+        this.idSendero = idSendero;
+        this.fecha = fecha;
+    }
+
+    // Getters y Setters
+    public Long getIdSendero() {
+        return idSendero;
+    }
+
+    public void setIdSendero(Long idSendero) {
+        this.idSendero = idSendero;
+    }
+
+    public LocalDate getFecha() {
+        return fecha;
+    }
+
+    public void setFecha(LocalDate fecha) {
+        this.fecha = fecha;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SenderoOcupacionId)) return false;
+        SenderoOcupacionId that = (SenderoOcupacionId) o;
+        return Objects.equals(idSendero, that.idSendero) && Objects.equals(fecha, that.fecha);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idSendero, fecha);
+    }
+}
@@ -17,7 +17,8 @@ public class Usuario {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuario_seq")
-    @SequenceGenerator(name = "usuario_seq", sequenceName = "SEQ_USUARIO", allocationSize = 1)
+    // allocationSize debe coincidir con INCREMENT BY de SEQ_USUARIO (IDs en bloque para la importación masiva)
+    @SequenceGenerator(name = "usuario_seq", sequenceName = "SEQ_USUARIO", allocationSize = 50)
     @Column(name = "ID_USUARIO")
     private Long id;
 
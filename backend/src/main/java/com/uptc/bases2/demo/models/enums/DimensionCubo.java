@@ -0,0 +1,66 @@
+package com.uptc.bases2.demo.models.enums;
+
+/**
+ * Dimensiones por las que se puede agrupar el cubo de reservas en memoria.
+ * bits es el ancho que ocupa el valor de la dimensión dentro de la llave de grupo.
+ */
+public enum DimensionCubo {
+    SENDERO("Sendero", "Sendero de la reserva", "sendero", 16),
+    DIFICULTAD("Dificultad", "Dificultad del sendero", "dificultad", 3),
+    ANIO("Año", "Año de la fecha de visita", "anio", 15),
+    MES("Mes", "Año y mes de la fecha de visita", "mes", 18),
+    DIA_SEMANA("Día de la semana", "Día de la semana de la fecha de visita", "diaSemana", 3),
+    HORA("Hora", "Hora de inicio de la visita", "hora", 5),
+    ESTADO("Estado", "Estado de la reserva", "estado", 4),
+    PERSONAS("Personas", "Número de personas de la reserva", "personas", 10);
+
+    private final String displayName;
+    private final String descripcion;
+    private final String clave;
+    private final int bits;
+
+    DimensionCubo(String displayName, String descripcion, String clave, int bits) {
+        this.displayName = displayName;
+        this.descripcion = descripcion;
+        this.clave = clave;
+        this.bits = bits;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    /**
+     * Nombre de la dimensión en las respuestas (p. ej. "diaSemana")
+     */
+    public String getClave() {
+        return clave;
+    }
+
+    public int getBits() {
+        return bits;
+    }
+
+    /**
+     * Convierte un String a DimensionCubo (acepta el nombre, el displayName o la clave, p. ej. "dia_semana" o "diaSemana").
+     * Retorna null si no corresponde a ninguna dimensión.
+     */
+    public static DimensionCubo fromString(String dimension) {
+        if (dimension == null) {
+            return null;
+        }
+
+        for (DimensionCubo d : DimensionCubo.values()) {
+            if (d.name().equalsIgnoreCase(dimension) ||
+                d.displayName.equalsIgnoreCase(dimension) ||
+                d.clave.equalsIgnoreCase(dimension)) {
+                return d;
+            }
+        }
+        return null;
+    }
+}
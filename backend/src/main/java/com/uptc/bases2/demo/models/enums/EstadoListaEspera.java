@@ -0,0 +1,26 @@
+package com.uptc.bases2.demo.models.enums;
+
+/**
+ * Estados de una solicitud en lista de espera
+ */
+public enum EstadoListaEspera {
+    EN_ESPERA("En Espera", "Esperando que se libere cupo en el sendero"),
+    PROMOVIDA("Promovida", "Convertida en reserva al liberarse cupo"),
+    CANCELADA("Cancelada", "Retirada de la lista por el visitante o administrador");
+
+    private final String displayName;
+    private final String descripcion;
+
+    EstadoListaEspera(String displayName, String descripcion) {
+        this.displayName = displayName;
+        this.descripcion = descripcion;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+}
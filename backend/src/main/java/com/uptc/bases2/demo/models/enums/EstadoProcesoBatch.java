@@ -0,0 +1,26 @@
+package com.uptc.bases2.demo.models.enums;
+
+/**
+ * Estados de ejecución de un proceso por lotes
+ */
+public enum EstadoProcesoBatch {
+    EN_CURSO("En Curso", "El proceso está en ejecución o se interrumpió y se reanudará desde su punto de control"),
+    COMPLETADO("Completado", "La última ejecución terminó correctamente"),
+    FALLIDO("Fallido", "La última ejecución terminó con error");
+
+    private final String displayName;
+    private final String descripcion;
+
+    EstadoProcesoBatch(String displayName, String descripcion) {
+        this.displayName = displayName;
+        this.descripcion = descripcion;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+}
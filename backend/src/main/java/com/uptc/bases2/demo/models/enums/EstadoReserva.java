@@ -4,11 +4,13 @@ package com.uptc.bases2.demo.models.enums;
  * Estados posibles de una reserva en el sistema
  */
 public enum EstadoReserva {
+    RETENIDA("Retenida", "Cupo retenido temporalmente mientras el visitante completa la reserva"),
     PENDIENTE("Pendiente", "Reserva creada, esperando confirmación"),
     CONFIRMADA("Confirmada", "Reserva confirmada por el sistema"),
     CANCELADA("Cancelada", "Reserva cancelada por el visitante o administrador"),
     COMPLETADA("Completada", "Visita realizada exitosamente"),
-    NO_ASISTIO("No Asistió", "El visitante no se presentó a la visita");
+    NO_ASISTIO("No Asistió", "El visitante no se presentó a la visita"),
+    EXPIRADA("Expirada", "La retención venció o la fecha de visita pasó sin que la reserva fuera confirmada");
 
     private final String displayName;
     private final String descripcion;
@@ -55,13 +57,20 @@ public enum EstadoReserva {
      * Verifica si la reserva puede ser cancelada
      */
     public boolean puedeCancelarse() {
-        return this == PENDIENTE || this == CONFIRMADA;
+        return this == RETENIDA || this == PENDIENTE || this == CONFIRMADA;
     }
 
     /**
-     * Verifica si la reserva está activa
+     * Verifica si la reserva está activa (ocupa cupo)
      */
     public boolean estaActiva() {
-        return this == PENDIENTE || this == CONFIRMADA;
+        return this == RETENIDA || this == PENDIENTE || this == CONFIRMADA;
+    }
+
+    /**
+     * Verifica si la reserva cuenta como demanda del sendero (no fue cancelada ni expiró)
+     */
+    public boolean cuentaComoDemanda() {
+        return this != CANCELADA && this != EXPIRADA;
     }
 }
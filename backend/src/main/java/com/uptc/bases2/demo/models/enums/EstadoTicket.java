@@ -0,0 +1,30 @@
+package com.uptc.bases2.demo.models.enums;
+
+/**
+ * Estados de un ticket de la cola asíncrona de reservas
+ */
+public enum EstadoTicket {
+    EN_COLA("En Cola", "Solicitud recibida, pendiente de procesar"),
+    CREADA("Creada", "La reserva fue creada"),
+    RECHAZADA("Rechazada", "La solicitud no cumplió las reglas de negocio o no hubo cupo");
+
+    private final String displayName;
+    private final String descripcion;
+
+    EstadoTicket(String displayName, String descripcion) {
+        this.displayName = displayName;
+        this.descripcion = descripcion;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public boolean estaFinalizado() {
+        return this != EN_COLA;
+    }
+}
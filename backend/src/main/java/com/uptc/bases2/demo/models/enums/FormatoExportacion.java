@@ -0,0 +1,37 @@
+package com.uptc.bases2.demo.models.enums;
+
+/**
+ * Formatos de exportación de reservas por streaming
+ */
+public enum FormatoExportacion {
+    NDJSON("NDJSON", "Un objeto JSON por línea", "application/x-ndjson", "ndjson"),
+    CSV("CSV", "Valores separados por comas con encabezado", "text/csv", "csv");
+
+    private final String displayName;
+    private final String descripcion;
+    private final String tipoContenido;
+    private final String extension;
+
+    FormatoExportacion(String displayName, String descripcion, String tipoContenido, String extension) {
+        this.displayName = displayName;
+        this.descripcion = descripcion;
+        this.tipoContenido = tipoContenido;
+        this.extension = extension;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public String getTipoContenido() {
+        return tipoContenido;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,41 @@
+package com.uptc.bases2.demo.models.enums;
+
+/**
+ * Formatos aceptados por la importación masiva por streaming
+ */
+public enum FormatoImportacion {
+    CSV("CSV", "Valores separados por comas con encabezado (nombres de campo del DTO)", "text/csv"),
+    JSON("JSON", "Arreglo JSON o un objeto JSON por línea (NDJSON)", "application/json");
+
+    private final String displayName;
+    private final String descripcion;
+    private final String tipoContenido;
+
+    FormatoImportacion(String displayName, String descripcion, String tipoContenido) {
+        this.displayName = displayName;
+        this.descripcion = descripcion;
+        this.tipoContenido = tipoContenido;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public String getTipoContenido() {
+        return tipoContenido;
+    }
+
+    /**
+     * Determina el formato a partir del Content-Type de la petición
+     */
+    public static FormatoImportacion desdeTipoContenido(String tipoContenido) {
+        if (tipoContenido != null && tipoContenido.toLowerCase().startsWith(CSV.tipoContenido)) {
+            return CSV;
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,25 @@
+package com.uptc.bases2.demo.models.enums;
+
+/**
+ * Modos de procesamiento de una reserva en lote (grupos)
+ */
+public enum ModoLote {
+    TODO_O_NADA("Todo o nada", "Si una reserva del lote es rechazada no se crea ninguna"),
+    MEJOR_ESFUERZO("Mejor esfuerzo", "Se crean las reservas válidas y se reportan las rechazadas");
+
+    private final String displayName;
+    private final String descripcion;
+
+    ModoLote(String displayName, String descripcion) {
+        this.displayName = displayName;
+        this.descripcion = descripcion;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+}
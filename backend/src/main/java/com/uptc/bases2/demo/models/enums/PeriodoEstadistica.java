@@ -0,0 +1,51 @@
+package com.uptc.bases2.demo.models.enums;
+
+/**
+ * Periodos de análisis de las estadísticas mensuales (los últimos N meses, incluido el actual)
+ */
+public enum PeriodoEstadistica {
+    MES("Mes", "Mes actual", 1),
+    TRIMESTRE("Trimestre", "Últimos 3 meses", 3),
+    SEMESTRE("Semestre", "Últimos 6 meses", 6),
+    ANIO("Año", "Últimos 12 meses", 12);
+
+    private final String displayName;
+    private final String descripcion;
+    private final int meses;
+
+    PeriodoEstadistica(String displayName, String descripcion, int meses) {
+        this.displayName = displayName;
+        this.descripcion = descripcion;
+        this.meses = meses;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public int getMeses() {
+        return meses;
+    }
+
+    /**
+     * Convierte un String a PeriodoEstadistica (acepta el nombre o el displayName, p. ej. "mes" o "año").
+     * Retorna null si no corresponde a ningún periodo.
+     */
+    public static PeriodoEstadistica fromString(String periodo) {
+        if (periodo == null) {
+            return MES;
+        }
+
+        for (PeriodoEstadistica p : PeriodoEstadistica.values()) {
+            if (p.name().equalsIgnoreCase(periodo) ||
+                p.displayName.equalsIgnoreCase(periodo)) {
+                return p;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.uptc.bases2.demo.models.enums;
+
+/**
+ * Transiciones de estado aplicables a varias reservas a la vez
+ * (EXPIRAR solo la aplica el cierre diario)
+ */
+public enum TransicionReserva {
+    CONFIRMAR(EstadoReserva.PENDIENTE, EstadoReserva.CONFIRMADA),
+    COMPLETAR(EstadoReserva.CONFIRMADA, EstadoReserva.COMPLETADA),
+    NO_ASISTIO(EstadoReserva.CONFIRMADA, EstadoReserva.NO_ASISTIO),
+    EXPIRAR(EstadoReserva.PENDIENTE, EstadoReserva.EXPIRADA);
+
+    private final EstadoReserva origen;
+    private final EstadoReserva destino;
+
+    TransicionReserva(EstadoReserva origen, EstadoReserva destino) {
+        this.origen = origen;
+        this.destino = destino;
+    }
+
+    public EstadoReserva getOrigen() {
+        return origen;
+    }
+
+    public EstadoReserva getDestino() {
+        return destino;
+    }
+
+    /**
+     * Verifica si la reserva deja de ocupar cupo al aplicar la transición
+     */
+    public boolean liberaCupo() {
+        return origen.estaActiva() && !destino.estaActiva();
+    }
+}
@@ -1,6 +1,7 @@
 package com.uptc.bases2.demo.repositories;
 
 import com.uptc.bases2.demo.models.entities.AsignacionGuia;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,30 +25,34 @@ public interface AsignacionGuiaRepository extends JpaRepository<AsignacionGuia,
     /**
      * Buscar asignaciones por guía
      */
+    @EntityGraph(AsignacionGuia.GRAFO_DETALLE)
     List<AsignacionGuia> findByGuiaId(Long guiaId);
 
     /**
      * Buscar asignaciones de un guía en una fecha específica
      */
-    @Query("SELECT a FROM AsignacionGuia a WHERE a.guia.id = :guiaId " +
-           "AND a.reserva.fechaVisita = :fecha " +
-           "ORDER BY a.reserva.horaInicio ASC")
+    @Query("SELECT a FROM AsignacionGuia a JOIN FETCH a.guia g JOIN FETCH a.reserva r " +
+           "JOIN FETCH r.visitante JOIN FETCH r.sendero " +
+           "WHERE g.id = :guiaId AND r.fechaVisita = :fecha " +
+           "ORDER BY r.horaInicio ASC")
     List<AsignacionGuia> findByGuiaIdAndFecha(@Param("guiaId") Long guiaId, 
                                                @Param("fecha") LocalDate fecha);
 
     /**
      * Buscar asignaciones activas (reserva confirmada y no finalizada)
      */
-    @Query("SELECT a FROM AsignacionGuia a " +
-           "WHERE a.reserva.estado = 'CONFIRMADA' " +
+    @Query("SELECT a FROM AsignacionGuia a JOIN FETCH a.guia g JOIN FETCH a.reserva r " +
+           "JOIN FETCH r.visitante JOIN FETCH r.sendero " +
+           "WHERE r.estado = 'CONFIRMADA' " +
            "AND a.horaFinReal IS NULL " +
-           "ORDER BY a.reserva.fechaVisita ASC, a.reserva.horaInicio ASC")
+           "ORDER BY r.fechaVisita ASC, r.horaInicio ASC")
     List<AsignacionGuia> findAsignacionesActivas();
 
     /**
      * Buscar asignaciones en curso (iniciadas pero no finalizadas)
      */
-    @Query("SELECT a FROM AsignacionGuia a " +
+    @Query("SELECT a FROM AsignacionGuia a JOIN FETCH a.guia g JOIN FETCH a.reserva r " +
+           "JOIN FETCH r.visitante JOIN FETCH r.sendero " +
            "WHERE a.horaInicioReal IS NOT NULL " +
            "AND a.horaFinReal IS NULL")
     List<AsignacionGuia> findAsignacionesEnCurso();
@@ -60,10 +65,11 @@ public interface AsignacionGuiaRepository extends JpaRepository<AsignacionGuia,
     /**
      * Obtener agenda completa de un guía por rango de fechas
      */
-    @Query("SELECT a FROM AsignacionGuia a " +
-           "WHERE a.guia.id = :guiaId " +
-           "AND a.reserva.fechaVisita BETWEEN :fechaInicio AND :fechaFin " +
-           "ORDER BY a.reserva.fechaVisita ASC, a.reserva.horaInicio ASC")
+    @Query("SELECT a FROM AsignacionGuia a JOIN FETCH a.guia g JOIN FETCH a.reserva r " +
+           "JOIN FETCH r.visitante JOIN FETCH r.sendero " +
+           "WHERE g.id = :guiaId " +
+           "AND r.fechaVisita BETWEEN :fechaInicio AND :fechaFin " +
+           "ORDER BY r.fechaVisita ASC, r.horaInicio ASC")
     List<AsignacionGuia> findAgendaGuia(@Param("guiaId") Long guiaId, 
                                          @Param("fechaInicio") LocalDate fechaInicio, 
                                          @Param("fechaFin") LocalDate fechaFin);
@@ -2,6 +2,7 @@ package com.uptc.bases2.demo.repositories;
 
 import com.uptc.bases2.demo.models.entities.Guia;
 import com.uptc.bases2.demo.models.enums.EstadoGeneral;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -72,11 +73,11 @@ public interface GuiaRepository extends JpaRepository<Guia, Long> {
     List<Guia> findByCapacidadMinima(@Param("numeroPersonas") Integer numeroPersonas);
 
     /**
-     * Obtener guías ordenados por calificación
+     * Obtener guías ordenados por calificación (a igual calificación, más recorridos primero)
      */
     @Query("SELECT g FROM Guia g WHERE g.estado = 'ACTIVO' " +
-           "ORDER BY g.calificacionPromedio DESC")
-    List<Guia> findTopGuiasByCalificacion();
+           "ORDER BY g.calificacionPromedio DESC, g.numeroRecorridos DESC, g.id")
+    List<Guia> findTopGuiasByCalificacion(Pageable pageable);
 
     /**
      * Buscar guías por especialidad
@@ -84,4 +85,13 @@ public interface GuiaRepository extends JpaRepository<Guia, Long> {
     @Query("SELECT g FROM Guia g WHERE g.estado = 'ACTIVO' " +
            "AND LOWER(g.especialidades) LIKE LOWER(CONCAT('%', :especialidad, '%'))")
     List<Guia> findByEspecialidad(@Param("especialidad") String especialidad);
+
+    /**
+     * Listado paginado por cursor sobre la clave primaria
+     */
+    @Query("SELECT g FROM Guia g WHERE g.id > :ultimoId " +
+           "AND (:estado IS NULL OR g.estado = :estado) ORDER BY g.id")
+    List<Guia> findPagina(@Param("ultimoId") Long ultimoId,
+                          @Param("estado") EstadoGeneral estado,
+                          Pageable pageable);
 }
@@ -1,13 +1,18 @@
 package com.uptc.bases2.demo.repositories;
 
+import com.uptc.bases2.demo.models.dto.response.HorarioDisponibilidadDTO;
 import com.uptc.bases2.demo.models.entities.HorarioDisponible;
+import com.uptc.bases2.demo.repositories.projections.OcupacionHorarioProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository para la entidad HorarioDisponible
@@ -20,6 +25,11 @@ public interface HorarioDisponibleRepository extends JpaRepository<HorarioDispon
      */
     List<HorarioDisponible> findBySenderoIdSendero(Long senderoId);
 
+    /**
+     * Buscar horarios activos de varios senderos
+     */
+    List<HorarioDisponible> findBySenderoIdSenderoInAndActivoTrue(Collection<Long> senderoIds);
+
     /**
      * Buscar horarios activos por sendero
      */
@@ -59,4 +69,58 @@ public interface HorarioDisponibleRepository extends JpaRepository<HorarioDispon
     @Query("SELECT h FROM HorarioDisponible h WHERE h.activo = true " +
            "ORDER BY h.sendero.nombre, h.horaInicio ASC")
     List<HorarioDisponible> findAllActivos();
+
+    /**
+     * Buscar el horario activo de un sendero que inicia a una hora y aplica a un día.
+     * El día se compara como elemento completo de la lista ("M" no coincide con "MI").
+     * Si dos horarios activos coinciden se toma el de menor ID, igual que validarNuevaReserva.
+     */
+    @Query("SELECT MIN(h.idHorario) FROM HorarioDisponible h " +
+           "WHERE h.sendero.idSendero = :senderoId " +
+           "AND h.activo = true " +
+           "AND h.horaInicio = :horaInicio " +
+           "AND LOCATE(CONCAT(',', :dia, ','), CONCAT(',', h.diasSemana, ',')) > 0")
+    Optional<Long> findIdHorarioActivo(@Param("senderoId") Long senderoId,
+                                       @Param("horaInicio") LocalTime horaInicio,
+                                       @Param("dia") String dia);
+
+    /**
+     * Verificar si el sendero tiene horarios activos configurados
+     */
+    boolean existsBySenderoIdSenderoAndActivoTrue(Long senderoId);
+
+    /**
+     * Verificar si otro horario activo del sendero inicia a la misma hora (UK_HORARIO_ACTIVO_INICIO)
+     */
+    boolean existsBySenderoIdSenderoAndHoraInicioAndActivoTrueAndIdHorarioNot(Long senderoId,
+                                                                              LocalTime horaInicio,
+                                                                              Long idHorario);
+
+    /**
+     * Cupo restante de cada horario activo de un sendero en una fecha (una sola consulta)
+     */
+    @Query("SELECT new com.uptc.bases2.demo.models.dto.response.HorarioDisponibilidadDTO(" +
+           "h.idHorario, h.horaInicio, h.horaFin, h.cupoHorario, o.personasReservadas) " +
+           "FROM HorarioDisponible h " +
+           "LEFT JOIN HorarioOcupacion o ON o.id.idHorario = h.idHorario AND o.id.fecha = :fecha " +
+           "WHERE h.sendero.idSendero = :senderoId " +
+           "AND h.activo = true " +
+           "AND LOCATE(CONCAT(',', :dia, ','), CONCAT(',', h.diasSemana, ',')) > 0 " +
+           "ORDER BY h.horaInicio ASC")
+    List<HorarioDisponibilidadDTO> findDisponibilidad(@Param("senderoId") Long senderoId,
+                                                      @Param("fecha") LocalDate fecha,
+                                                      @Param("dia") String dia);
+
+    /**
+     * Ocupación de los horarios activos de todos los senderos activos en una fecha (una sola consulta)
+     */
+    @Query("SELECT s.idSendero AS idSendero, h.idHorario AS idHorario, h.horaInicio AS horaInicio, " +
+           "h.horaFin AS horaFin, h.cupoHorario AS cupoHorario, o.personasReservadas AS personasReservadas " +
+           "FROM HorarioDisponible h JOIN h.sendero s " +
+           "LEFT JOIN HorarioOcupacion o ON o.id.idHorario = h.idHorario AND o.id.fecha = :fecha " +
+           "WHERE s.estado = 'ACTIVO' AND h.activo = true " +
+           "AND LOCATE(CONCAT(',', :dia, ','), CONCAT(',', h.diasSemana, ',')) > 0 " +
+           "ORDER BY s.idSendero, h.horaInicio")
+    List<OcupacionHorarioProjection> findOcupacionHorariosActivos(@Param("fecha") LocalDate fecha,
+                                                                  @Param("dia") String dia);
 }
@@ -0,0 +1,89 @@
+package com.uptc.bases2.demo.repositories;
+
+import com.uptc.bases2.demo.models.entities.HorarioOcupacion;
+import com.uptc.bases2.demo.models.entities.HorarioOcupacionId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * Repository para la entidad HorarioOcupacion (ledger de cupo por horario y fecha)
+ */
+@Repository
+public interface HorarioOcupacionRepository extends JpaRepository<HorarioOcupacion, HorarioOcupacionId> {
+
+    /**
+     * Crear la fila del ledger si no existe, inicializada con las reservas activas del horario
+     */
+    @Modifying
+    @Query(value = "MERGE INTO HORARIO_OCUPACION o " +
+                   "USING (SELECT h.ID_HORARIO, CAST(:fecha AS DATE) AS FECHA " +
+                   "FROM HORARIO_DISPONIBLE h WHERE h.ID_HORARIO = :horarioId) src " +
+                   "ON (o.ID_HORARIO = src.ID_HORARIO AND o.FECHA = src.FECHA) " +
+                   "WHEN NOT MATCHED THEN INSERT (ID_HORARIO, FECHA, PERSONAS_RESERVADAS) " +
+                   "VALUES (src.ID_HORARIO, src.FECHA, " +
+                   "(SELECT NVL(SUM(r.NUMERO_PERSONAS), 0) FROM RESERVA r " +
+                   "WHERE r.ID_HORARIO = src.ID_HORARIO AND r.FECHA_VISITA = src.FECHA " +
+                   "AND r.ESTADO IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA')))",
+           nativeQuery = true)
+    int asegurarFila(@Param("horarioId") Long horarioId, @Param("fecha") LocalDate fecha);
+
+    /**
+     * Sumar personas solo si no se supera el cupo del horario.
+     * Retorna 0 si no hay cupo suficiente.
+     */
+    @Modifying
+    @Query("UPDATE HorarioOcupacion o " +
+           "SET o.personasReservadas = o.personasReservadas + :personas " +
+           "WHERE o.id.idHorario = :horarioId AND o.id.fecha = :fecha " +
+           "AND o.personasReservadas + :personas <= " +
+           "(SELECT h.cupoHorario FROM HorarioDisponible h WHERE h.idHorario = :horarioId)")
+    int reservarCupo(@Param("horarioId") Long horarioId,
+                     @Param("fecha") LocalDate fecha,
+                     @Param("personas") Integer personas);
+
+    /**
+     * Restar personas del ledger (nunca por debajo de cero)
+     */
+    @Modifying
+    @Query("UPDATE HorarioOcupacion o " +
+           "SET o.personasReservadas = CASE WHEN o.personasReservadas > :personas " +
+           "THEN o.personasReservadas - :personas ELSE 0 END " +
+           "WHERE o.id.idHorario = :horarioId AND o.id.fecha = :fecha")
+    int liberarCupo(@Param("horarioId") Long horarioId,
+                    @Param("fecha") LocalDate fecha,
+                    @Param("personas") Integer personas);
+
+    /**
+     * Reconciliación: igualar el ledger a la suma real de reservas activas desde una fecha
+     */
+    @Modifying
+    @Query(value = "MERGE INTO HORARIO_OCUPACION o " +
+                   "USING (SELECT ID_HORARIO, FECHA_VISITA AS FECHA, SUM(NUMERO_PERSONAS) AS PERSONAS " +
+                   "FROM RESERVA WHERE ID_HORARIO IS NOT NULL " +
+                   "AND ESTADO IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA') AND FECHA_VISITA >= :desde " +
+                   "GROUP BY ID_HORARIO, FECHA_VISITA) r " +
+                   "ON (o.ID_HORARIO = r.ID_HORARIO AND o.FECHA = r.FECHA) " +
+                   "WHEN MATCHED THEN UPDATE SET o.PERSONAS_RESERVADAS = r.PERSONAS " +
+                   "WHERE o.PERSONAS_RESERVADAS <> r.PERSONAS " +
+                   "WHEN NOT MATCHED THEN INSERT (ID_HORARIO, FECHA, PERSONAS_RESERVADAS) " +
+                   "VALUES (r.ID_HORARIO, r.FECHA, r.PERSONAS)",
+           nativeQuery = true)
+    int reconciliarDesde(@Param("desde") LocalDate desde);
+
+    /**
+     * Reconciliación: poner en cero las filas sin reservas activas desde una fecha
+     */
+    @Modifying
+    @Query(value = "UPDATE HORARIO_OCUPACION o SET o.PERSONAS_RESERVADAS = 0 " +
+                   "WHERE o.FECHA >= :desde AND o.PERSONAS_RESERVADAS <> 0 " +
+                   "AND NOT EXISTS (SELECT 1 FROM RESERVA r " +
+                   "WHERE r.ID_HORARIO = o.ID_HORARIO AND r.FECHA_VISITA = o.FECHA " +
+                   "AND r.ESTADO IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA'))",
+           nativeQuery = true)
+    int limpiarSinReservasDesde(@Param("desde") LocalDate desde);
+}
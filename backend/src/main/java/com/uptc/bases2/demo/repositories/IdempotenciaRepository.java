@@ -0,0 +1,31 @@
+package com.uptc.bases2.demo.repositories;
+
+import com.uptc.bases2.demo.models.entities.Idempotencia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository para la entidad Idempotencia
+ */
+@Repository
+public interface IdempotenciaRepository extends JpaRepository<Idempotencia, String> {
+
+    /**
+     * Respuesta guardada para una clave, solo si no ha expirado
+     */
+    @Query("SELECT i FROM Idempotencia i WHERE i.clave = :clave AND i.fechaExpiracion > :ahora")
+    Optional<Idempotencia> findVigente(@Param("clave") String clave, @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Borrar en bloque las respuestas expiradas (usa IDX_IDEMPOTENCIA_EXPIRACION)
+     */
+    @Modifying
+    @Query("DELETE FROM Idempotencia i WHERE i.fechaExpiracion <= :ahora")
+    int eliminarExpiradas(@Param("ahora") LocalDateTime ahora);
+}
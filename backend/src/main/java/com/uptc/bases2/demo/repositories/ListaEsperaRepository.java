@@ -0,0 +1,64 @@
+package com.uptc.bases2.demo.repositories;
+
+import com.uptc.bases2.demo.models.entities.ListaEspera;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository para la entidad ListaEspera
+ */
+@Repository
+public interface ListaEsperaRepository extends JpaRepository<ListaEspera, Long> {
+
+    /**
+     * Solicitudes de un visitante (más recientes primero)
+     */
+    @Query("SELECT le FROM ListaEspera le JOIN FETCH le.sendero " +
+           "WHERE le.visitante.id = :visitanteId ORDER BY le.idListaEspera DESC")
+    List<ListaEspera> findByVisitante(@Param("visitanteId") Long visitanteId);
+
+    /**
+     * Cola de espera de un sendero en una fecha, en orden de llegada
+     */
+    @Query("SELECT le FROM ListaEspera le JOIN FETCH le.sendero " +
+           "WHERE le.sendero.idSendero = :senderoId AND le.fechaVisita = :fecha " +
+           "AND le.estado = 'EN_ESPERA' ORDER BY le.idListaEspera ASC")
+    List<ListaEspera> findCola(@Param("senderoId") Long senderoId, @Param("fecha") LocalDate fecha);
+
+    /**
+     * Cola de espera bloqueada para promoverla (evita que dos cancelaciones
+     * simultáneas promuevan la misma solicitud)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT le FROM ListaEspera le " +
+           "WHERE le.sendero.idSendero = :senderoId AND le.fechaVisita = :fecha " +
+           "AND le.estado = 'EN_ESPERA' ORDER BY le.idListaEspera ASC")
+    List<ListaEspera> findColaParaPromover(@Param("senderoId") Long senderoId, @Param("fecha") LocalDate fecha);
+
+    /**
+     * Verificar si el visitante ya está en espera para el sendero y la fecha
+     */
+    @Query("SELECT CASE WHEN COUNT(le) > 0 THEN true ELSE false END FROM ListaEspera le " +
+           "WHERE le.visitante.id = :visitanteId AND le.sendero.idSendero = :senderoId " +
+           "AND le.fechaVisita = :fecha AND le.estado = 'EN_ESPERA'")
+    boolean existeEnEspera(@Param("visitanteId") Long visitanteId,
+                           @Param("senderoId") Long senderoId,
+                           @Param("fecha") LocalDate fecha);
+
+    /**
+     * Posición de una solicitud en su cola (1 = siguiente en ser promovida)
+     */
+    @Query("SELECT COUNT(le) FROM ListaEspera le " +
+           "WHERE le.sendero.idSendero = :senderoId AND le.fechaVisita = :fecha " +
+           "AND le.estado = 'EN_ESPERA' AND le.idListaEspera <= :idListaEspera")
+    long calcularPosicion(@Param("senderoId") Long senderoId,
+                          @Param("fecha") LocalDate fecha,
+                          @Param("idListaEspera") Long idListaEspera);
+}
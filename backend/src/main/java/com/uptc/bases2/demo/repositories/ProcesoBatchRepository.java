@@ -0,0 +1,12 @@
+package com.uptc.bases2.demo.repositories;
+
+import com.uptc.bases2.demo.models.entities.ProcesoBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository para la entidad ProcesoBatch
+ */
+@Repository
+public interface ProcesoBatchRepository extends JpaRepository<ProcesoBatch, String> {
+}
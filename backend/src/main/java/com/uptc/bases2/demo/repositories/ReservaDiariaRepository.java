@@ -0,0 +1,143 @@
+package com.uptc.bases2.demo.repositories;
+
+import com.uptc.bases2.demo.models.entities.ReservaDiaria;
+import com.uptc.bases2.demo.models.entities.ReservaDiariaId;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.repositories.projections.DemandaHoraProjection;
+import com.uptc.bases2.demo.repositories.projections.TotalesDiaProjection;
+import com.uptc.bases2.demo.repositories.projections.TotalesEstadoProjection;
+import com.uptc.bases2.demo.repositories.projections.TotalesMesProjection;
+import com.uptc.bases2.demo.repositories.projections.TotalesSenderoProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository para la entidad ReservaDiaria (resumen de reservas por fecha, sendero, estado y hora)
+ */
+@Repository
+public interface ReservaDiariaRepository extends JpaRepository<ReservaDiaria, ReservaDiariaId> {
+
+    /**
+     * Crear la fila del resumen en cero si no existe
+     */
+    @Modifying
+    @Query(value = "MERGE INTO RESERVA_DIARIA d " +
+                   "USING (SELECT CAST(:fecha AS DATE) AS FECHA, s.ID_SENDERO, " +
+                   "CAST(:estado AS VARCHAR2(20)) AS ESTADO, CAST(:hora AS NUMBER(2)) AS HORA " +
+                   "FROM SENDERO s WHERE s.ID_SENDERO = :senderoId) src " +
+                   "ON (d.FECHA = src.FECHA AND d.ID_SENDERO = src.ID_SENDERO " +
+                   "AND d.ESTADO = src.ESTADO AND d.HORA = src.HORA) " +
+                   "WHEN NOT MATCHED THEN INSERT (FECHA, ID_SENDERO, ESTADO, HORA, TOTAL_RESERVAS, TOTAL_PERSONAS) " +
+                   "VALUES (src.FECHA, src.ID_SENDERO, src.ESTADO, src.HORA, 0, 0)",
+           nativeQuery = true)
+    int asegurarFila(@Param("fecha") LocalDate fecha,
+                     @Param("senderoId") Long senderoId,
+                     @Param("estado") String estado,
+                     @Param("hora") Integer hora);
+
+    /**
+     * Sumar (o restar, con valores negativos) reservas y personas a una fila del resumen,
+     * sin bajar de cero. Retorna 0 si la fila no existe.
+     */
+    @Modifying
+    @Query("UPDATE ReservaDiaria d " +
+           "SET d.totalReservas = CASE WHEN d.totalReservas + :reservas > 0 " +
+           "THEN d.totalReservas + :reservas ELSE 0 END, " +
+           "d.totalPersonas = CASE WHEN d.totalPersonas + :personas > 0 " +
+           "THEN d.totalPersonas + :personas ELSE 0 END " +
+           "WHERE d.id.fecha = :fecha AND d.id.idSendero = :senderoId " +
+           "AND d.id.estado = :estado AND d.id.hora = :hora")
+    int sumar(@Param("fecha") LocalDate fecha,
+              @Param("senderoId") Long senderoId,
+              @Param("estado") EstadoReserva estado,
+              @Param("hora") Integer hora,
+              @Param("reservas") Integer reservas,
+              @Param("personas") Integer personas);
+
+    /**
+     * Totales por estado de todas las reservas registradas
+     */
+    @Query("SELECT d.id.estado AS estado, SUM(d.totalReservas) AS totalReservas, " +
+           "SUM(d.totalPersonas) AS totalPersonas " +
+           "FROM ReservaDiaria d GROUP BY d.id.estado")
+    List<TotalesEstadoProjection> totalizarPorEstado();
+
+    /**
+     * Totales por estado de las reservas con fecha de visita en un rango
+     */
+    @Query("SELECT d.id.estado AS estado, SUM(d.totalReservas) AS totalReservas, " +
+           "SUM(d.totalPersonas) AS totalPersonas " +
+           "FROM ReservaDiaria d WHERE d.id.fecha BETWEEN :desde AND :hasta " +
+           "GROUP BY d.id.estado")
+    List<TotalesEstadoProjection> totalizarPorEstadoEntre(@Param("desde") LocalDate desde,
+                                                          @Param("hasta") LocalDate hasta);
+
+    /**
+     * Totales por mes y estado de las reservas con fecha de visita en un rango (recorre la PK por FECHA)
+     */
+    @Query("SELECT MONTH(d.id.fecha) AS mes, d.id.estado AS estado, " +
+           "SUM(d.totalReservas) AS totalReservas, SUM(d.totalPersonas) AS totalPersonas " +
+           "FROM ReservaDiaria d WHERE d.id.fecha BETWEEN :desde AND :hasta " +
+           "GROUP BY MONTH(d.id.fecha), d.id.estado")
+    List<TotalesMesProjection> totalizarPorMesEntre(@Param("desde") LocalDate desde,
+                                                    @Param("hasta") LocalDate hasta);
+
+    /**
+     * Totales por sendero de las reservas con fecha de visita en un rango, los más reservados primero
+     */
+    @Query("SELECT s.idSendero AS idSendero, s.nombre AS nombre, " +
+           "SUM(d.totalReservas) AS totalReservas, SUM(d.totalPersonas) AS totalPersonas " +
+           "FROM ReservaDiaria d, Sendero s " +
+           "WHERE s.idSendero = d.id.idSendero AND d.id.fecha BETWEEN :desde AND :hasta " +
+           "GROUP BY s.idSendero, s.nombre " +
+           "ORDER BY SUM(d.totalReservas) DESC, s.idSendero")
+    List<TotalesSenderoProjection> totalizarPorSenderoEntre(@Param("desde") LocalDate desde,
+                                                            @Param("hasta") LocalDate hasta);
+
+    /**
+     * Reservas y personas por fecha, sendero y hora sin los estados excluidos
+     * (carga del histograma de horas pico)
+     */
+    @Query("SELECT d.id.fecha AS fecha, d.id.idSendero AS idSendero, d.id.hora AS hora, " +
+           "SUM(d.totalReservas) AS totalReservas, SUM(d.totalPersonas) AS totalPersonas " +
+           "FROM ReservaDiaria d WHERE d.id.estado NOT IN :excluidos " +
+           "GROUP BY d.id.fecha, d.id.idSendero, d.id.hora")
+    List<DemandaHoraProjection> totalizarDemandaPorHora(@Param("excluidos") Collection<EstadoReserva> excluidos);
+
+    /**
+     * Reservas y personas por fecha, sendero y estado desde una fecha (recorre la PK por FECHA;
+     * carga de las series mensuales)
+     */
+    @Query("SELECT d.id.fecha AS fecha, d.id.idSendero AS idSendero, d.id.estado AS estado, " +
+           "SUM(d.totalReservas) AS totalReservas, SUM(d.totalPersonas) AS totalPersonas " +
+           "FROM ReservaDiaria d WHERE d.id.fecha >= :desde " +
+           "GROUP BY d.id.fecha, d.id.idSendero, d.id.estado")
+    List<TotalesDiaProjection> totalizarPorDiaDesde(@Param("desde") LocalDate desde);
+
+    /**
+     * Reconstrucción: borrar el resumen de un rango de fechas
+     */
+    @Modifying
+    @Query(value = "DELETE FROM RESERVA_DIARIA WHERE FECHA BETWEEN :desde AND :hasta",
+           nativeQuery = true)
+    int eliminarEntre(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta);
+
+    /**
+     * Reconstrucción: recalcular el resumen de un rango de fechas agregando RESERVA
+     */
+    @Modifying
+    @Query(value = "INSERT INTO RESERVA_DIARIA (FECHA, ID_SENDERO, ESTADO, HORA, TOTAL_RESERVAS, TOTAL_PERSONAS) " +
+                   "SELECT FECHA_VISITA, ID_SENDERO, ESTADO, EXTRACT(HOUR FROM HORA_INICIO), " +
+                   "COUNT(*), SUM(NUMERO_PERSONAS) " +
+                   "FROM RESERVA WHERE FECHA_VISITA BETWEEN :desde AND :hasta " +
+                   "GROUP BY FECHA_VISITA, ID_SENDERO, ESTADO, EXTRACT(HOUR FROM HORA_INICIO)",
+           nativeQuery = true)
+    int reconstruirEntre(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta);
+}
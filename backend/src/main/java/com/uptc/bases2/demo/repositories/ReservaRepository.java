@@ -2,14 +2,26 @@ package com.uptc.bases2.demo.repositories;
 
 import com.uptc.bases2.demo.models.entities.Reserva;
 import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.repositories.projections.ReservaEstadoProjection;
+import com.uptc.bases2.demo.repositories.projections.ReservaHorarioProjection;
+import com.uptc.bases2.demo.repositories.projections.ReservaListadoProjection;
+import com.uptc.bases2.demo.repositories.projections.ReservaResumenProjection;
+import com.uptc.bases2.demo.repositories.projections.ValidacionReservaProjection;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository para la entidad Reserva
@@ -18,34 +30,80 @@ import java.util.List;
 public interface ReservaRepository extends JpaRepository<Reserva, Long> {
 
     /**
-     * Buscar reservas por visitante
+     * Columnas de ReservaListadoProjection: reserva, visitante, sendero (sin la descripción CLOB)
+     * y guía asignado, en un solo SELECT sin cargar entidades
      */
-    List<Reserva> findByVisitanteId(Long visitanteId);
+    String SELECT_LISTADO = "SELECT r.idReserva AS idReserva, r.fechaReserva AS fechaReserva, " +
+           "r.fechaVisita AS fechaVisita, r.numeroPersonas AS numeroPersonas, " +
+           "r.horaInicio AS horaInicio, r.estado AS estado, r.observaciones AS observaciones, " +
+           "r.fechaCreacion AS fechaCreacion, r.fechaModificacion AS fechaModificacion, " +
+           "r.fechaCancelacion AS fechaCancelacion, r.motivoCancelacion AS motivoCancelacion, " +
+           "r.fechaExpiracionRetencion AS fechaExpiracionRetencion, " +
+           "v.id AS visitanteId, v.cedula AS visitanteCedula, v.nombre AS visitanteNombre, " +
+           "v.apellido AS visitanteApellido, v.telefono AS visitanteTelefono, " +
+           "v.email AS visitanteEmail, v.estado AS visitanteEstado, " +
+           "v.numeroVisitas AS visitanteNumeroVisitas, v.puntuacionPromedio AS visitantePuntuacion, " +
+           "v.fechaRegistro AS visitanteFechaRegistro, " +
+           "s.idSendero AS senderoId, s.nombre AS senderoNombre, s.dificultad AS senderoDificultad, " +
+           "s.duracionHoras AS senderoDuracionHoras, s.cupoMaximoDia AS senderoCupoMaximoDia, " +
+           "s.distanciaKm AS senderoDistanciaKm, s.estado AS senderoEstado, " +
+           "s.imagenUrl AS senderoImagenUrl, s.fechaCreacion AS senderoFechaCreacion, " +
+           "s.fechaModificacion AS senderoFechaModificacion, " +
+           "g.id AS guiaId, g.cedula AS guiaCedula, g.nombre AS guiaNombre, " +
+           "g.apellido AS guiaApellido, g.telefono AS guiaTelefono, g.email AS guiaEmail, " +
+           "g.especialidades AS guiaEspecialidades, g.maxPersonasGrupo AS guiaMaxPersonasGrupo, " +
+           "g.calificacionPromedio AS guiaCalificacion, g.numeroRecorridos AS guiaNumeroRecorridos, " +
+           "g.estado AS guiaEstado, g.fechaRegistro AS guiaFechaRegistro " +
+           "FROM Reserva r JOIN r.visitante v JOIN r.sendero s " +
+           "LEFT JOIN r.asignacionGuia a LEFT JOIN a.guia g ";
 
     /**
-     * Buscar reservas activas de un visitante
+     * Columnas de ReservaResumenProjection: reserva con el nombre del sendero y del visitante
      */
-    @Query("SELECT r FROM Reserva r WHERE r.visitante.id = :visitanteId " +
-           "AND r.estado IN ('PENDIENTE', 'CONFIRMADA') " +
-           "ORDER BY r.fechaVisita ASC")
-    List<Reserva> findReservasActivasByVisitante(@Param("visitanteId") Long visitanteId);
+    String SELECT_RESUMEN = "SELECT r.idReserva AS idReserva, r.fechaVisita AS fechaVisita, " +
+           "r.horaInicio AS horaInicio, r.numeroPersonas AS numeroPersonas, r.estado AS estado, " +
+           "s.idSendero AS idSendero, s.nombre AS nombreSendero, " +
+           "v.id AS idVisitante, v.nombre AS nombreVisitante, v.apellido AS apellidoVisitante " +
+           "FROM Reserva r JOIN r.visitante v JOIN r.sendero s ";
 
     /**
-     * Buscar reservas por sendero
+     * Listado de todas las reservas
      */
-    List<Reserva> findBySenderoIdSendero(Long senderoId);
+    @Query(SELECT_LISTADO + "ORDER BY r.fechaVisita, r.idReserva")
+    List<ReservaListadoProjection> findListado();
 
     /**
-     * Buscar reservas por fecha de visita
+     * Listado de reservas de un visitante
      */
-    List<Reserva> findByFechaVisita(LocalDate fechaVisita);
+    @Query(SELECT_LISTADO + "WHERE v.id = :visitanteId ORDER BY r.fechaVisita, r.idReserva")
+    List<ReservaListadoProjection> findListadoByVisitante(@Param("visitanteId") Long visitanteId);
+
+    /**
+     * Listado de reservas activas de un visitante
+     */
+    @Query(SELECT_LISTADO + "WHERE v.id = :visitanteId " +
+           "AND r.estado IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA') " +
+           "ORDER BY r.fechaVisita, r.idReserva")
+    List<ReservaListadoProjection> findListadoActivasByVisitante(@Param("visitanteId") Long visitanteId);
+
+    /**
+     * Listado de reservas de un sendero
+     */
+    @Query(SELECT_LISTADO + "WHERE s.idSendero = :senderoId ORDER BY r.fechaVisita, r.idReserva")
+    List<ReservaListadoProjection> findListadoBySendero(@Param("senderoId") Long senderoId);
+
+    /**
+     * Listado de reservas de una fecha de visita
+     */
+    @Query(SELECT_LISTADO + "WHERE r.fechaVisita = :fecha ORDER BY r.idReserva")
+    List<ReservaListadoProjection> findListadoByFecha(@Param("fecha") LocalDate fecha);
 
     /**
      * Buscar reservas por sendero y fecha
      */
     @Query("SELECT r FROM Reserva r WHERE r.sendero.idSendero = :senderoId " +
            "AND r.fechaVisita = :fecha " +
-           "AND r.estado IN ('PENDIENTE', 'CONFIRMADA')")
+           "AND r.estado IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA')")
     List<Reserva> findReservasActivasBySenderoYFecha(@Param("senderoId") Long senderoId, 
                                                       @Param("fecha") LocalDate fecha);
 
@@ -60,7 +118,7 @@ public interface ReservaRepository extends JpaRepository<Reserva, Long> {
     @Query("SELECT COALESCE(SUM(r.numeroPersonas), 0) FROM Reserva r " +
            "WHERE r.sendero.idSendero = :senderoId " +
            "AND r.fechaVisita = :fecha " +
-           "AND r.estado IN ('PENDIENTE', 'CONFIRMADA')")
+           "AND r.estado IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA')")
     Integer contarPersonasReservadas(@Param("senderoId") Long senderoId, 
                                       @Param("fecha") LocalDate fecha);
 
@@ -71,7 +129,7 @@ public interface ReservaRepository extends JpaRepository<Reserva, Long> {
            "(s.cupoMaximoDia - COALESCE(SUM(r.numeroPersonas), 0)) >= :numeroPersonas " +
            "THEN true ELSE false END " +
            "FROM Sendero s LEFT JOIN s.reservas r " +
-           "ON r.fechaVisita = :fecha AND r.estado IN ('PENDIENTE', 'CONFIRMADA') " +
+           "ON r.fechaVisita = :fecha AND r.estado IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA') " +
            "WHERE s.idSendero = :senderoId " +
            "GROUP BY s.cupoMaximoDia")
     boolean verificarDisponibilidad(@Param("senderoId") Long senderoId, 
@@ -81,10 +139,24 @@ public interface ReservaRepository extends JpaRepository<Reserva, Long> {
     /**
      * Buscar reservas pendientes de asignación de guía
      */
-    @Query("SELECT r FROM Reserva r WHERE r.estado = 'CONFIRMADA' " +
-           "AND r.asignacionGuia IS NULL " +
-           "ORDER BY r.fechaVisita ASC")
-    List<Reserva> findReservasPendientesAsignacion();
+    @Query(SELECT_RESUMEN + "LEFT JOIN r.asignacionGuia a " +
+           "WHERE r.estado = 'CONFIRMADA' AND a.idAsignacion IS NULL " +
+           "ORDER BY r.fechaVisita ASC, r.horaInicio ASC, r.idReserva ASC")
+    List<ReservaResumenProjection> findReservasPendientesAsignacion(Pageable pageable);
+
+    /**
+     * Contar reservas pendientes de asignación de guía
+     */
+    @Query("SELECT COUNT(r) FROM Reserva r LEFT JOIN r.asignacionGuia a " +
+           "WHERE r.estado = 'CONFIRMADA' AND a.idAsignacion IS NULL")
+    long countReservasPendientesAsignacion();
+
+    /**
+     * Reservas pendientes de confirmación, las de visita más próxima primero
+     */
+    @Query(SELECT_RESUMEN + "WHERE r.estado = 'PENDIENTE' " +
+           "ORDER BY r.fechaVisita ASC, r.horaInicio ASC, r.idReserva ASC")
+    List<ReservaResumenProjection> findPendientesConfirmacion(Pageable pageable);
 
     /**
      * Buscar reservas por rango de fechas
@@ -101,7 +173,7 @@ public interface ReservaRepository extends JpaRepository<Reserva, Long> {
            "WHERE r.visitante.id = :visitanteId " +
            "AND r.fechaVisita = :fecha " +
            "AND r.horaInicio = :hora " +
-           "AND r.estado IN ('PENDIENTE', 'CONFIRMADA')")
+           "AND r.estado IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA')")
     boolean existeConflictoHorario(@Param("visitanteId") Long visitanteId, 
                                     @Param("fecha") LocalDate fecha, 
                                     @Param("hora") LocalTime hora);
@@ -113,4 +185,204 @@ public interface ReservaRepository extends JpaRepository<Reserva, Long> {
            "FROM Reserva r WHERE YEAR(r.fechaVisita) = :anio " +
            "GROUP BY MONTH(r.fechaVisita) ORDER BY mes")
     List<Object[]> obtenerEstadisticasPorMes(@Param("anio") int anio);
+
+    /**
+     * Primera y última fecha de visita registradas (rango para reconstruir RESERVA_DIARIA)
+     */
+    @Query("SELECT MIN(r.fechaVisita) FROM Reserva r")
+    LocalDate findPrimeraFechaVisita();
+
+    @Query("SELECT MAX(r.fechaVisita) FROM Reserva r")
+    LocalDate findUltimaFechaVisita();
+
+    /**
+     * Validar en una sola consulta todas las reglas para crear una reserva:
+     * estado del visitante y del sendero, reservas activas, conflicto de horario,
+     * cupo diario restante y horario que corresponde a la hora solicitada.
+     * Retorna vacío si el visitante no existe.
+     */
+    @Query("SELECT v.estado AS estadoVisitante, " +
+           "s.estado AS estadoSendero, " +
+           "(SELECT COUNT(r) FROM Reserva r WHERE r.visitante.id = v.id " +
+           "AND r.estado IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA')) AS reservasActivas, " +
+           "(SELECT COUNT(r2) FROM Reserva r2 WHERE r2.visitante.id = v.id " +
+           "AND r2.fechaVisita = :fecha AND r2.horaInicio = :hora " +
+           "AND r2.estado IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA')) AS conflictosHorario, " +
+           "s.cupoMaximoDia - COALESCE((SELECT o.personasReservadas FROM SenderoOcupacion o " +
+           "WHERE o.id.idSendero = s.idSendero AND o.id.fecha = :fecha), 0) AS cupoDisponible, " +
+           "(SELECT MIN(h.idHorario) FROM HorarioDisponible h " +
+           "WHERE h.sendero.idSendero = s.idSendero AND h.activo = true AND h.horaInicio = :hora " +
+           "AND LOCATE(CONCAT(',', :dia, ','), CONCAT(',', h.diasSemana, ',')) > 0) AS idHorario, " +
+           "(SELECT COUNT(h2) FROM HorarioDisponible h2 " +
+           "WHERE h2.sendero.idSendero = s.idSendero AND h2.activo = true) AS horariosActivos " +
+           "FROM Visitante v LEFT JOIN Sendero s ON s.idSendero = :senderoId " +
+           "WHERE v.id = :visitanteId")
+    Optional<ValidacionReservaProjection> validarNuevaReserva(@Param("visitanteId") Long visitanteId,
+                                                              @Param("senderoId") Long senderoId,
+                                                              @Param("fecha") LocalDate fecha,
+                                                              @Param("hora") LocalTime hora,
+                                                              @Param("dia") String dia);
+
+    /**
+     * Fechas y horas de las reservas activas de varios visitantes en un conjunto de fechas
+     */
+    @Query("SELECT r.visitante.id AS idVisitante, r.fechaVisita AS fechaVisita, " +
+           "r.horaInicio AS horaInicio FROM Reserva r " +
+           "WHERE r.visitante.id IN :visitanteIds " +
+           "AND r.fechaVisita IN :fechas " +
+           "AND r.estado IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA')")
+    List<ReservaHorarioProjection> findHorariosActivosByVisitantes(@Param("visitanteIds") Collection<Long> visitanteIds,
+                                                                   @Param("fechas") Collection<LocalDate> fechas);
+
+    /**
+     * Confirmar una retención vigente (RETENIDA -> PENDIENTE) de forma atómica.
+     * Retorna 0 si la reserva no está retenida o la retención ya venció.
+     */
+    @Modifying
+    @Query("UPDATE Reserva r SET r.estado = 'PENDIENTE', r.fechaExpiracionRetencion = NULL, " +
+           "r.fechaModificacion = :ahora " +
+           "WHERE r.idReserva = :reservaId AND r.estado = 'RETENIDA' " +
+           "AND r.fechaExpiracionRetencion > :ahora")
+    int confirmarRetencion(@Param("reservaId") Long reservaId, @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * IDs de retenciones vencidas, las más antiguas primero (recorre IDX_RESERVA_RETENCION)
+     */
+    @Query("SELECT r.idReserva FROM Reserva r " +
+           "WHERE r.fechaExpiracionRetencion <= :ahora AND r.estado = 'RETENIDA' " +
+           "ORDER BY r.fechaExpiracionRetencion ASC")
+    List<Long> findIdsRetencionesVencidas(@Param("ahora") LocalDateTime ahora, Pageable pageable);
+
+    /**
+     * Bloquear un lote de retenciones vencidas, revalidando el estado bajo el bloqueo
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reserva r WHERE r.idReserva IN :ids " +
+           "AND r.estado = 'RETENIDA' AND r.fechaExpiracionRetencion <= :ahora")
+    List<Reserva> findRetencionesVencidasParaLiberar(@Param("ids") Collection<Long> ids,
+                                                     @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Pasar a EXPIRADA en bloque las retenciones vencidas de un lote (no cuentan como cancelaciones)
+     */
+    @Modifying
+    @Query("UPDATE Reserva r SET r.estado = 'EXPIRADA', r.fechaExpiracionRetencion = NULL, " +
+           "r.fechaModificacion = :ahora " +
+           "WHERE r.idReserva IN :ids AND r.estado = 'RETENIDA'")
+    int expirarRetenciones(@Param("ids") Collection<Long> ids, @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Enlazar con su franja horaria las reservas activas desde una fecha que no tienen ID_HORARIO
+     * (creadas antes de los horarios o cargadas por script). Misma regla que validarNuevaReserva:
+     * horario activo del sendero con la misma hora de inicio que aplica al día, el de menor ID.
+     * El día se calcula con la semana ISO (TRUNC 'IW'), sin depender de NLS_TERRITORY.
+     */
+    @Modifying
+    @Query(value = "MERGE INTO RESERVA r " +
+                   "USING (SELECT r2.ID_RESERVA, MIN(h.ID_HORARIO) AS ID_HORARIO " +
+                   "FROM RESERVA r2 JOIN HORARIO_DISPONIBLE h ON h.ID_SENDERO = r2.ID_SENDERO " +
+                   "WHERE r2.ID_HORARIO IS NULL AND r2.FECHA_VISITA >= :desde " +
+                   "AND r2.ESTADO IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA') " +
+                   "AND h.ACTIVO = 1 " +
+                   "AND TO_CHAR(h.HORA_INICIO, 'HH24:MI') = TO_CHAR(r2.HORA_INICIO, 'HH24:MI') " +
+                   "AND INSTR(',' || h.DIAS_SEMANA || ',', ',' || " +
+                   "DECODE(TRUNC(r2.FECHA_VISITA) - TRUNC(r2.FECHA_VISITA, 'IW'), " +
+                   "0, 'L', 1, 'M', 2, 'MI', 3, 'J', 4, 'V', 5, 'S', 'D') || ',') > 0 " +
+                   "GROUP BY r2.ID_RESERVA) m " +
+                   "ON (r.ID_RESERVA = m.ID_RESERVA) " +
+                   "WHEN MATCHED THEN UPDATE SET r.ID_HORARIO = m.ID_HORARIO",
+           nativeQuery = true)
+    int asignarHorarioFaltanteDesde(@Param("desde") LocalDate desde);
+
+    /**
+     * Bloquear las reservas de la lista que siguen en el estado de origen de una transición
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reserva r WHERE r.idReserva IN :ids AND r.estado = :estado")
+    List<Reserva> findParaTransicion(@Param("ids") Collection<Long> ids,
+                                     @Param("estado") EstadoReserva estado);
+
+    /**
+     * Bloquear las reservas de un sendero y fecha que están en el estado de origen de una transición
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reserva r WHERE r.sendero.idSendero = :senderoId " +
+           "AND r.fechaVisita = :fecha AND r.estado = :estado")
+    List<Reserva> findParaTransicionPorSenderoYFecha(@Param("senderoId") Long senderoId,
+                                                     @Param("fecha") LocalDate fecha,
+                                                     @Param("estado") EstadoReserva estado);
+
+    /**
+     * Estado actual de varias reservas
+     */
+    @Query("SELECT r.idReserva AS idReserva, r.estado AS estado FROM Reserva r WHERE r.idReserva IN :ids")
+    List<ReservaEstadoProjection> findEstadosByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Cambiar de estado en bloque, solo las reservas que siguen en el estado de origen
+     */
+    @Modifying
+    @Query("UPDATE Reserva r SET r.estado = :destino, r.fechaModificacion = :ahora " +
+           "WHERE r.idReserva IN :ids AND r.estado = :origen")
+    int aplicarTransicion(@Param("ids") Collection<Long> ids,
+                          @Param("origen") EstadoReserva origen,
+                          @Param("destino") EstadoReserva destino,
+                          @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Cierre diario: IDs en un estado con fecha de visita anterior al corte, a partir de un ID
+     * (paginación por clave sobre IDX_RESERVA_ESTADO)
+     */
+    @Query("SELECT r.idReserva FROM Reserva r WHERE r.estado = :estado " +
+           "AND r.fechaVisita < :fechaCorte AND r.idReserva > :ultimoId " +
+           "ORDER BY r.idReserva")
+    List<Long> findIdsVencidasDesde(@Param("estado") EstadoReserva estado,
+                                    @Param("fechaCorte") LocalDate fechaCorte,
+                                    @Param("ultimoId") Long ultimoId,
+                                    Pageable pageable);
+
+    /**
+     * Cierre diario: IDs de reservas CONFIRMADAS con fecha pasada cuyo recorrido nunca se inició
+     */
+    @Query("SELECT r.idReserva FROM Reserva r WHERE r.estado = 'CONFIRMADA' " +
+           "AND r.fechaVisita < :fechaCorte AND r.idReserva > :ultimoId " +
+           "AND NOT EXISTS (SELECT 1 FROM AsignacionGuia a " +
+           "WHERE a.reserva = r AND a.horaInicioReal IS NOT NULL) " +
+           "ORDER BY r.idReserva")
+    List<Long> findIdsConfirmadasSinRecorridoDesde(@Param("fechaCorte") LocalDate fechaCorte,
+                                                   @Param("ultimoId") Long ultimoId,
+                                                   Pageable pageable);
+
+    /**
+     * Listado paginado por cursor, primera página: orden (fechaVisita, idReserva) sobre IDX_RESERVA_FECHA.
+     * desde y hasta son obligatorios (PaginacionUtils completa los que no se envían) para que el
+     * rango sobre FECHA_VISITA permita un range scan del índice.
+     */
+    @Query(SELECT_LISTADO +
+           "WHERE r.fechaVisita >= :desde AND r.fechaVisita <= :hasta " +
+           "AND (:estado IS NULL OR r.estado = :estado) " +
+           "AND (:senderoId IS NULL OR s.idSendero = :senderoId) " +
+           "ORDER BY r.fechaVisita, r.idReserva")
+    List<ReservaListadoProjection> findPrimeraPagina(@Param("desde") LocalDate desde,
+                                                     @Param("hasta") LocalDate hasta,
+                                                     @Param("estado") EstadoReserva estado,
+                                                     @Param("senderoId") Long senderoId,
+                                                     Pageable pageable);
+
+    /**
+     * Listado paginado por cursor, páginas siguientes: filas posteriores a (fecha, ultimoId).
+     * El 'fechaVisita >= :fecha' redundante acota el inicio del range scan sobre IDX_RESERVA_FECHA.
+     */
+    @Query(SELECT_LISTADO +
+           "WHERE r.fechaVisita >= :fecha AND r.fechaVisita <= :hasta " +
+           "AND (r.fechaVisita > :fecha OR r.idReserva > :ultimoId) " +
+           "AND (:estado IS NULL OR r.estado = :estado) " +
+           "AND (:senderoId IS NULL OR s.idSendero = :senderoId) " +
+           "ORDER BY r.fechaVisita, r.idReserva")
+    List<ReservaListadoProjection> findPaginaDespuesDe(@Param("fecha") LocalDate fecha,
+                                                       @Param("ultimoId") Long ultimoId,
+                                                       @Param("hasta") LocalDate hasta,
+                                                       @Param("estado") EstadoReserva estado,
+                                                       @Param("senderoId") Long senderoId,
+                                                       Pageable pageable);
 }
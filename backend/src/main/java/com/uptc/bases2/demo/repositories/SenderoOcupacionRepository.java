@@ -0,0 +1,148 @@
+package com.uptc.bases2.demo.repositories;
+
+import com.uptc.bases2.demo.models.entities.SenderoOcupacion;
+import com.uptc.bases2.demo.models.entities.SenderoOcupacionId;
+import com.uptc.bases2.demo.models.enums.Dificultad;
+import com.uptc.bases2.demo.repositories.projections.DisponibilidadSenderoProjection;
+import com.uptc.bases2.demo.repositories.projections.OcupacionDiaProjection;
+import com.uptc.bases2.demo.repositories.projections.OcupacionSenderoProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository para la entidad SenderoOcupacion (ledger de cupo por sendero y fecha)
+ */
+@Repository
+public interface SenderoOcupacionRepository extends JpaRepository<SenderoOcupacion, SenderoOcupacionId> {
+
+    /**
+     * Crear la fila del ledger si no existe, inicializada con las reservas activas actuales
+     */
+    @Modifying
+    @Query(value = "MERGE INTO SENDERO_OCUPACION o " +
+                   "USING (SELECT s.ID_SENDERO, CAST(:fecha AS DATE) AS FECHA " +
+                   "FROM SENDERO s WHERE s.ID_SENDERO = :senderoId) src " +
+                   "ON (o.ID_SENDERO = src.ID_SENDERO AND o.FECHA = src.FECHA) " +
+                   "WHEN NOT MATCHED THEN INSERT (ID_SENDERO, FECHA, PERSONAS_RESERVADAS) " +
+                   "VALUES (src.ID_SENDERO, src.FECHA, " +
+                   "(SELECT NVL(SUM(r.NUMERO_PERSONAS), 0) FROM RESERVA r " +
+                   "WHERE r.ID_SENDERO = src.ID_SENDERO AND r.FECHA_VISITA = src.FECHA " +
+                   "AND r.ESTADO IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA')))",
+           nativeQuery = true)
+    int asegurarFila(@Param("senderoId") Long senderoId, @Param("fecha") LocalDate fecha);
+
+    /**
+     * Sumar personas solo si no se supera el cupo máximo del sendero.
+     * Retorna 0 si no hay cupo suficiente.
+     */
+    @Modifying
+    @Query("UPDATE SenderoOcupacion o " +
+           "SET o.personasReservadas = o.personasReservadas + :personas " +
+           "WHERE o.id.idSendero = :senderoId AND o.id.fecha = :fecha " +
+           "AND o.personasReservadas + :personas <= " +
+           "(SELECT s.cupoMaximoDia FROM Sendero s WHERE s.idSendero = :senderoId)")
+    int reservarCupo(@Param("senderoId") Long senderoId,
+                     @Param("fecha") LocalDate fecha,
+                     @Param("personas") Integer personas);
+
+    /**
+     * Restar personas del ledger (nunca por debajo de cero)
+     */
+    @Modifying
+    @Query("UPDATE SenderoOcupacion o " +
+           "SET o.personasReservadas = CASE WHEN o.personasReservadas > :personas " +
+           "THEN o.personasReservadas - :personas ELSE 0 END " +
+           "WHERE o.id.idSendero = :senderoId AND o.id.fecha = :fecha")
+    int liberarCupo(@Param("senderoId") Long senderoId,
+                    @Param("fecha") LocalDate fecha,
+                    @Param("personas") Integer personas);
+
+    /**
+     * Calcular cupo disponible leyendo el ledger (sin agregar RESERVA)
+     */
+    @Query("SELECT s.cupoMaximoDia - COALESCE(" +
+           "(SELECT o.personasReservadas FROM SenderoOcupacion o " +
+           "WHERE o.id.idSendero = s.idSendero AND o.id.fecha = :fecha), 0) " +
+           "FROM Sendero s WHERE s.idSendero = :senderoId")
+    Integer calcularCupoDisponible(@Param("senderoId") Long senderoId,
+                                   @Param("fecha") LocalDate fecha);
+
+    /**
+     * Ocupación de un sendero para cada día con reservas en un rango (una fila por día).
+     * Retorna una única fila con fecha null si no hay ocupación, y ninguna si el sendero no existe.
+     */
+    @Query("SELECT s.idSendero AS idSendero, s.cupoMaximoDia AS cupoMaximoDia, " +
+           "o.id.fecha AS fecha, o.personasReservadas AS personasReservadas " +
+           "FROM Sendero s LEFT JOIN SenderoOcupacion o " +
+           "ON o.id.idSendero = s.idSendero AND o.id.fecha BETWEEN :desde AND :hasta " +
+           "WHERE s.idSendero = :senderoId")
+    List<OcupacionDiaProjection> findOcupacionRango(@Param("senderoId") Long senderoId,
+                                                    @Param("desde") LocalDate desde,
+                                                    @Param("hasta") LocalDate hasta);
+
+    /**
+     * Ocupación de todos los senderos activos en una fecha (una fila por sendero, leída del ledger)
+     */
+    @Query("SELECT s.idSendero AS idSendero, s.nombre AS nombre, s.cupoMaximoDia AS cupoMaximoDia, " +
+           "o.personasReservadas AS personasReservadas " +
+           "FROM Sendero s LEFT JOIN SenderoOcupacion o " +
+           "ON o.id.idSendero = s.idSendero AND o.id.fecha = :fecha " +
+           "WHERE s.estado = 'ACTIVO' " +
+           "ORDER BY s.nombre")
+    List<OcupacionSenderoProjection> findOcupacionActivos(@Param("fecha") LocalDate fecha);
+
+    /**
+     * Ocupación de todos los senderos activos que cumplen los filtros en un rango de fechas.
+     * Una fila por (sendero, día con ocupación) y una fila con fecha null para los senderos
+     * sin ocupación; los filtros null no se aplican.
+     */
+    @Query("SELECT s.idSendero AS idSendero, s.nombre AS nombre, s.dificultad AS dificultad, " +
+           "s.duracionHoras AS duracionHoras, s.cupoMaximoDia AS cupoMaximoDia, " +
+           "o.id.fecha AS fecha, o.personasReservadas AS personasReservadas " +
+           "FROM Sendero s LEFT JOIN SenderoOcupacion o " +
+           "ON o.id.idSendero = s.idSendero AND o.id.fecha BETWEEN :desde AND :hasta " +
+           "WHERE s.estado = 'ACTIVO' AND s.cupoMaximoDia >= :personas " +
+           "AND (:dificultad IS NULL OR s.dificultad = :dificultad) " +
+           "AND (:duracionMaxima IS NULL OR s.duracionHoras <= :duracionMaxima) " +
+           "ORDER BY s.idSendero, o.id.fecha")
+    List<DisponibilidadSenderoProjection> findDisponibilidadRango(@Param("desde") LocalDate desde,
+                                                                  @Param("hasta") LocalDate hasta,
+                                                                  @Param("personas") Integer personas,
+                                                                  @Param("dificultad") Dificultad dificultad,
+                                                                  @Param("duracionMaxima") BigDecimal duracionMaxima);
+
+    /**
+     * Reconciliación: igualar el ledger a la suma real de reservas activas desde una fecha
+     */
+    @Modifying
+    @Query(value = "MERGE INTO SENDERO_OCUPACION o " +
+                   "USING (SELECT ID_SENDERO, FECHA_VISITA AS FECHA, SUM(NUMERO_PERSONAS) AS PERSONAS " +
+                   "FROM RESERVA WHERE ESTADO IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA') AND FECHA_VISITA >= :desde " +
+                   "GROUP BY ID_SENDERO, FECHA_VISITA) r " +
+                   "ON (o.ID_SENDERO = r.ID_SENDERO AND o.FECHA = r.FECHA) " +
+                   "WHEN MATCHED THEN UPDATE SET o.PERSONAS_RESERVADAS = r.PERSONAS " +
+                   "WHERE o.PERSONAS_RESERVADAS <> r.PERSONAS " +
+                   "WHEN NOT MATCHED THEN INSERT (ID_SENDERO, FECHA, PERSONAS_RESERVADAS) " +
+                   "VALUES (r.ID_SENDERO, r.FECHA, r.PERSONAS)",
+           nativeQuery = true)
+    int reconciliarDesde(@Param("desde") LocalDate desde);
+
+    /**
+     * Reconciliación: poner en cero las filas sin reservas activas desde una fecha
+     */
+    @Modifying
+    @Query(value = "UPDATE SENDERO_OCUPACION o SET o.PERSONAS_RESERVADAS = 0 " +
+                   "WHERE o.FECHA >= :desde AND o.PERSONAS_RESERVADAS <> 0 " +
+                   "AND NOT EXISTS (SELECT 1 FROM RESERVA r " +
+                   "WHERE r.ID_SENDERO = o.ID_SENDERO AND r.FECHA_VISITA = o.FECHA " +
+                   "AND r.ESTADO IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA'))",
+           nativeQuery = true)
+    int limpiarSinReservasDesde(@Param("desde") LocalDate desde);
+}
@@ -3,6 +3,8 @@ package com.uptc.bases2.demo.repositories;
 import com.uptc.bases2.demo.models.entities.Sendero;
 import com.uptc.bases2.demo.models.enums.Dificultad;
 import com.uptc.bases2.demo.models.enums.EstadoGeneral;
+import com.uptc.bases2.demo.repositories.projections.TotalesSenderoProjection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -28,6 +30,11 @@ public interface SenderoRepository extends JpaRepository<Sendero, Long> {
      */
     List<Sendero> findByEstado(EstadoGeneral estado);
 
+    /**
+     * Contar senderos por estado
+     */
+    long countByEstado(EstadoGeneral estado);
+
     /**
      * Buscar senderos activos
      */
@@ -56,25 +63,40 @@ public interface SenderoRepository extends JpaRepository<Sendero, Long> {
      */
     @Query("SELECT s.cupoMaximoDia - COALESCE(SUM(r.numeroPersonas), 0) " +
            "FROM Sendero s LEFT JOIN s.reservas r " +
-           "ON r.fechaVisita = :fecha AND r.estado IN ('PENDIENTE', 'CONFIRMADA') " +
+           "ON r.fechaVisita = :fecha AND r.estado IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA') " +
            "WHERE s.idSendero = :senderoId " +
            "GROUP BY s.cupoMaximoDia")
     Integer calcularCupoDisponible(@Param("senderoId") Long senderoId, 
                                     @Param("fecha") LocalDate fecha);
 
     /**
-     * Obtener senderos con disponibilidad en una fecha específica
+     * Obtener senderos con disponibilidad en una fecha específica (según el ledger de ocupación)
      */
-    @Query("SELECT s FROM Sendero s WHERE s.estado = 'ACTIVO' " +
-           "AND s.cupoMaximoDia > (SELECT COALESCE(SUM(r.numeroPersonas), 0) " +
-           "FROM Reserva r WHERE r.sendero.idSendero = s.idSendero " +
-           "AND r.fechaVisita = :fecha AND r.estado IN ('PENDIENTE', 'CONFIRMADA'))")
+    @Query("SELECT s FROM Sendero s LEFT JOIN SenderoOcupacion o " +
+           "ON o.id.idSendero = s.idSendero AND o.id.fecha = :fecha " +
+           "WHERE s.estado = 'ACTIVO' " +
+           "AND s.cupoMaximoDia > COALESCE(o.personasReservadas, 0)")
     List<Sendero> findSenderosDisponibles(@Param("fecha") LocalDate fecha);
 
     /**
-     * Buscar senderos ordenados por popularidad (más reservas)
+     * Senderos activos ordenados por popularidad (más reservas), leídos del resumen RESERVA_DIARIA
+     */
+    @Query("SELECT s.idSendero AS idSendero, s.nombre AS nombre, " +
+           "SUM(d.totalReservas) AS totalReservas, SUM(d.totalPersonas) AS totalPersonas " +
+           "FROM ReservaDiaria d, Sendero s " +
+           "WHERE s.idSendero = d.id.idSendero AND s.estado = 'ACTIVO' " +
+           "GROUP BY s.idSendero, s.nombre HAVING SUM(d.totalReservas) > 0 " +
+           "ORDER BY SUM(d.totalReservas) DESC, SUM(d.totalPersonas) DESC, s.idSendero")
+    List<TotalesSenderoProjection> findSenderosPopulares(Pageable pageable);
+
+    /**
+     * Listado paginado por cursor sobre la clave primaria
      */
-    @Query("SELECT s FROM Sendero s WHERE s.estado = 'ACTIVO' " +
-           "ORDER BY (SELECT COUNT(r) FROM Reserva r WHERE r.sendero.idSendero = s.idSendero) DESC")
-    List<Sendero> findSenderosPopulares();
+    @Query("SELECT s FROM Sendero s WHERE s.idSendero > :ultimoId " +
+           "AND (:estado IS NULL OR s.estado = :estado) " +
+           "AND (:dificultad IS NULL OR s.dificultad = :dificultad) ORDER BY s.idSendero")
+    List<Sendero> findPagina(@Param("ultimoId") Long ultimoId,
+                             @Param("estado") EstadoGeneral estado,
+                             @Param("dificultad") Dificultad dificultad,
+                             Pageable pageable);
 }
@@ -2,11 +2,15 @@ package com.uptc.bases2.demo.repositories;
 
 import com.uptc.bases2.demo.models.entities.Visitante;
 import com.uptc.bases2.demo.models.enums.EstadoGeneral;
+import com.uptc.bases2.demo.repositories.projections.VisitanteLoteProjection;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +35,11 @@ public interface VisitanteRepository extends JpaRepository<Visitante, Long> {
      */
     List<Visitante> findByEstado(EstadoGeneral estado);
 
+    /**
+     * Contar visitantes por estado
+     */
+    long countByEstado(EstadoGeneral estado);
+
     /**
      * Buscar visitantes activos
      */
@@ -41,7 +50,7 @@ public interface VisitanteRepository extends JpaRepository<Visitante, Long> {
      * Contar reservas activas de un visitante
      */
     @Query("SELECT COUNT(r) FROM Reserva r WHERE r.visitante.id = :visitanteId " +
-           "AND r.estado IN ('PENDIENTE', 'CONFIRMADA')")
+           "AND r.estado IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA')")
     long contarReservasActivas(@Param("visitanteId") Long visitanteId);
 
     /**
@@ -49,13 +58,42 @@ public interface VisitanteRepository extends JpaRepository<Visitante, Long> {
      */
     @Query("SELECT CASE WHEN COUNT(r) < 2 THEN true ELSE false END FROM Reserva r " +
            "WHERE r.visitante.id = :visitanteId " +
-           "AND r.estado IN ('PENDIENTE', 'CONFIRMADA')")
+           "AND r.estado IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA')")
     boolean puedeHacerReserva(@Param("visitanteId") Long visitanteId);
 
     /**
      * Obtener top visitantes por número de visitas
      */
     @Query("SELECT v FROM Visitante v WHERE v.estado = 'ACTIVO' " +
-           "ORDER BY v.numeroVisitas DESC")
-    List<Visitante> findTopVisitantes();
+           "ORDER BY v.numeroVisitas DESC, v.id")
+    List<Visitante> findTopVisitantes(Pageable pageable);
+
+    /**
+     * Estado y número de reservas activas de varios visitantes en una sola consulta
+     */
+    @Query("SELECT v.id AS idVisitante, v.estado AS estado, " +
+           "(SELECT COUNT(r) FROM Reserva r WHERE r.visitante.id = v.id " +
+           "AND r.estado IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA')) AS reservasActivas " +
+           "FROM Visitante v WHERE v.id IN :visitanteIds")
+    List<VisitanteLoteProjection> findEstadoReservasByIds(@Param("visitanteIds") Collection<Long> visitanteIds);
+
+    /**
+     * Sumar visitas a varios visitantes en un solo UPDATE.
+     * Nativo: VISITANTE es subclase JOINED y el UPDATE JPQL requeriría tablas temporales.
+     */
+    @Modifying
+    @Query(value = "UPDATE VISITANTE SET NUMERO_VISITAS = NVL(NUMERO_VISITAS, 0) + :visitas " +
+                   "WHERE ID_USUARIO IN (:visitanteIds)",
+           nativeQuery = true)
+    int incrementarVisitas(@Param("visitanteIds") Collection<Long> visitanteIds,
+                           @Param("visitas") int visitas);
+
+    /**
+     * Listado paginado por cursor sobre la clave primaria
+     */
+    @Query("SELECT v FROM Visitante v WHERE v.id > :ultimoId " +
+           "AND (:estado IS NULL OR v.estado = :estado) ORDER BY v.id")
+    List<Visitante> findPagina(@Param("ultimoId") Long ultimoId,
+                               @Param("estado") EstadoGeneral estado,
+                               Pageable pageable);
 }
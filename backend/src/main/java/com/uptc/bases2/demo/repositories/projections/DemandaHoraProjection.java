@@ -0,0 +1,19 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+import java.time.LocalDate;
+
+/**
+ * Reservas y personas de un sendero en una fecha y hora de inicio, leídas del resumen RESERVA_DIARIA
+ */
+public interface DemandaHoraProjection {
+
+    LocalDate getFecha();
+
+    Long getIdSendero();
+
+    Integer getHora();
+
+    Long getTotalReservas();
+
+    Long getTotalPersonas();
+}
@@ -0,0 +1,18 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+import com.uptc.bases2.demo.models.enums.Dificultad;
+
+import java.math.BigDecimal;
+
+/**
+ * Ocupación de un sendero en una fecha junto con los datos usados en la búsqueda de disponibilidad.
+ * fecha y personasReservadas son null cuando el sendero no tiene ocupación en el rango.
+ */
+public interface DisponibilidadSenderoProjection extends OcupacionDiaProjection {
+
+    String getNombre();
+
+    Dificultad getDificultad();
+
+    BigDecimal getDuracionHoras();
+}
@@ -0,0 +1,18 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+import java.time.LocalDate;
+
+/**
+ * Personas reservadas de un sendero en una fecha junto con su cupo máximo.
+ * fecha y personasReservadas son null cuando el sendero no tiene ocupación en el rango.
+ */
+public interface OcupacionDiaProjection {
+
+    Long getIdSendero();
+
+    Integer getCupoMaximoDia();
+
+    LocalDate getFecha();
+
+    Integer getPersonasReservadas();
+}
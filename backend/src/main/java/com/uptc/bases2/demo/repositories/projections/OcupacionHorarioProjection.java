@@ -0,0 +1,22 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+import java.time.LocalTime;
+
+/**
+ * Personas reservadas de un horario en una fecha junto con su cupo.
+ * personasReservadas es null cuando el horario no tiene fila en el ledger para esa fecha.
+ */
+public interface OcupacionHorarioProjection {
+
+    Long getIdSendero();
+
+    Long getIdHorario();
+
+    LocalTime getHoraInicio();
+
+    LocalTime getHoraFin();
+
+    Integer getCupoHorario();
+
+    Integer getPersonasReservadas();
+}
@@ -0,0 +1,16 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+/**
+ * Personas reservadas de un sendero activo en una fecha junto con su cupo máximo.
+ * personasReservadas es null cuando el sendero no tiene fila en el ledger para esa fecha.
+ */
+public interface OcupacionSenderoProjection {
+
+    Long getIdSendero();
+
+    String getNombre();
+
+    Integer getCupoMaximoDia();
+
+    Integer getPersonasReservadas();
+}
@@ -0,0 +1,13 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+
+/**
+ * ID y estado actual de una reserva (para reportar las omitidas en transiciones masivas)
+ */
+public interface ReservaEstadoProjection {
+
+    Long getIdReserva();
+
+    EstadoReserva getEstado();
+}
@@ -0,0 +1,16 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Fecha y hora de una reserva activa de un visitante (para detectar conflictos de horario)
+ */
+public interface ReservaHorarioProjection {
+
+    Long getIdVisitante();
+
+    LocalDate getFechaVisita();
+
+    LocalTime getHoraInicio();
+}
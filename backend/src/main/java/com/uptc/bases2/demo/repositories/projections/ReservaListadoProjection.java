@@ -0,0 +1,108 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+import com.uptc.bases2.demo.models.enums.Dificultad;
+import com.uptc.bases2.demo.models.enums.EstadoGeneral;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Fila plana de una reserva con su visitante, sendero y guía asignado, obtenida en un solo SELECT.
+ * No incluye la descripción del sendero (CLOB). Los campos del guía son null si no hay asignación.
+ */
+public interface ReservaListadoProjection {
+
+    Long getIdReserva();
+
+    LocalDateTime getFechaReserva();
+
+    LocalDate getFechaVisita();
+
+    Integer getNumeroPersonas();
+
+    LocalTime getHoraInicio();
+
+    EstadoReserva getEstado();
+
+    String getObservaciones();
+
+    LocalDateTime getFechaCreacion();
+
+    LocalDateTime getFechaModificacion();
+
+    LocalDateTime getFechaCancelacion();
+
+    String getMotivoCancelacion();
+
+    LocalDateTime getFechaExpiracionRetencion();
+
+    // Visitante
+    Long getVisitanteId();
+
+    String getVisitanteCedula();
+
+    String getVisitanteNombre();
+
+    String getVisitanteApellido();
+
+    String getVisitanteTelefono();
+
+    String getVisitanteEmail();
+
+    EstadoGeneral getVisitanteEstado();
+
+    Integer getVisitanteNumeroVisitas();
+
+    Double getVisitantePuntuacion();
+
+    LocalDateTime getVisitanteFechaRegistro();
+
+    // Sendero
+    Long getSenderoId();
+
+    String getSenderoNombre();
+
+    Dificultad getSenderoDificultad();
+
+    BigDecimal getSenderoDuracionHoras();
+
+    Integer getSenderoCupoMaximoDia();
+
+    BigDecimal getSenderoDistanciaKm();
+
+    EstadoGeneral getSenderoEstado();
+
+    String getSenderoImagenUrl();
+
+    LocalDateTime getSenderoFechaCreacion();
+
+    LocalDateTime getSenderoFechaModificacion();
+
+    // Guía asignado
+    Long getGuiaId();
+
+    String getGuiaCedula();
+
+    String getGuiaNombre();
+
+    String getGuiaApellido();
+
+    String getGuiaTelefono();
+
+    String getGuiaEmail();
+
+    String getGuiaEspecialidades();
+
+    Integer getGuiaMaxPersonasGrupo();
+
+    Double getGuiaCalificacion();
+
+    Integer getGuiaNumeroRecorridos();
+
+    EstadoGeneral getGuiaEstado();
+
+    LocalDateTime getGuiaFechaRegistro();
+}
@@ -0,0 +1,32 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Datos mínimos de una reserva para los listados del tablero (sin cargar entidades)
+ */
+public interface ReservaResumenProjection {
+
+    Long getIdReserva();
+
+    LocalDate getFechaVisita();
+
+    LocalTime getHoraInicio();
+
+    Integer getNumeroPersonas();
+
+    EstadoReserva getEstado();
+
+    Long getIdSendero();
+
+    String getNombreSendero();
+
+    Long getIdVisitante();
+
+    String getNombreVisitante();
+
+    String getApellidoVisitante();
+}
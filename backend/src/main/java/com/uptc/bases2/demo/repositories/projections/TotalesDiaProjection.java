@@ -0,0 +1,21 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+
+import java.time.LocalDate;
+
+/**
+ * Reservas y personas de un sendero en una fecha y estado, leídas del resumen RESERVA_DIARIA
+ */
+public interface TotalesDiaProjection {
+
+    LocalDate getFecha();
+
+    Long getIdSendero();
+
+    EstadoReserva getEstado();
+
+    Long getTotalReservas();
+
+    Long getTotalPersonas();
+}
@@ -0,0 +1,15 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+
+/**
+ * Total de reservas y personas por estado, leído del resumen RESERVA_DIARIA
+ */
+public interface TotalesEstadoProjection {
+
+    EstadoReserva getEstado();
+
+    Long getTotalReservas();
+
+    Long getTotalPersonas();
+}
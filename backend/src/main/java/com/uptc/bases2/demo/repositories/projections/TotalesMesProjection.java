@@ -0,0 +1,17 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+
+/**
+ * Total de reservas y personas por mes de visita y estado, leído del resumen RESERVA_DIARIA
+ */
+public interface TotalesMesProjection {
+
+    Integer getMes();
+
+    EstadoReserva getEstado();
+
+    Long getTotalReservas();
+
+    Long getTotalPersonas();
+}
@@ -0,0 +1,15 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+/**
+ * Total de reservas y personas por sendero, leído del resumen RESERVA_DIARIA
+ */
+public interface TotalesSenderoProjection {
+
+    Long getIdSendero();
+
+    String getNombre();
+
+    Long getTotalReservas();
+
+    Long getTotalPersonas();
+}
@@ -0,0 +1,27 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+import com.uptc.bases2.demo.models.enums.EstadoGeneral;
+
+/**
+ * Resultado de la validación de una nueva reserva obtenido en una sola consulta.
+ * Los campos del sendero son null cuando el sendero no existe.
+ */
+public interface ValidacionReservaProjection {
+
+    EstadoGeneral getEstadoVisitante();
+
+    EstadoGeneral getEstadoSendero();
+
+    Long getReservasActivas();
+
+    Long getConflictosHorario();
+
+    Integer getCupoDisponible();
+
+    /**
+     * Horario activo del sendero que coincide con la hora y el día (null si no hay)
+     */
+    Long getIdHorario();
+
+    Long getHorariosActivos();
+}
@@ -0,0 +1,15 @@
+package com.uptc.bases2.demo.repositories.projections;
+
+import com.uptc.bases2.demo.models.enums.EstadoGeneral;
+
+/**
+ * Estado y reservas activas de un visitante, consultados en bloque para reservas en lote
+ */
+public interface VisitanteLoteProjection {
+
+    Long getIdVisitante();
+
+    EstadoGeneral getEstado();
+
+    Long getReservasActivas();
+}
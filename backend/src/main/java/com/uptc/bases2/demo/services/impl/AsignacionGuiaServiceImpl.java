@@ -1,21 +1,20 @@
 package com.uptc.bases2.demo.services.impl;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.uptc.bases2.demo.exceptions.BusinessRuleException;
 import com.uptc.bases2.demo.exceptions.ResourceNotFoundException;
+import com.uptc.bases2.demo.mappers.AsignacionMapper;
 import com.uptc.bases2.demo.models.dto.request.AsignacionGuiaRequestDTO;
 import com.uptc.bases2.demo.models.dto.request.FinalizarRecorridoDTO;
 import com.uptc.bases2.demo.models.dto.request.IniciarRecorridoDTO;
 import com.uptc.bases2.demo.models.dto.response.AsignacionResponseDTO;
-import com.uptc.bases2.demo.models.dto.response.GuiaResponseDTO;
-import com.uptc.bases2.demo.models.dto.response.ReservaResponseDTO;
 import com.uptc.bases2.demo.models.entities.AsignacionGuia;
 import com.uptc.bases2.demo.models.entities.Guia;
 import com.uptc.bases2.demo.models.entities.Reserva;
@@ -24,6 +23,9 @@ import com.uptc.bases2.demo.repositories.AsignacionGuiaRepository;
 import com.uptc.bases2.demo.repositories.GuiaRepository;
 import com.uptc.bases2.demo.repositories.ReservaRepository;
 import com.uptc.bases2.demo.services.interfaces.AsignacionGuiaService;
+import com.uptc.bases2.demo.services.interfaces.ClasificacionService;
+import com.uptc.bases2.demo.services.interfaces.OcupacionService;
+import com.uptc.bases2.demo.services.interfaces.ResumenDiarioService;
 
 /**
  * Implementación del servicio de asignación de guías
@@ -42,7 +44,16 @@ public class AsignacionGuiaServiceImpl implements AsignacionGuiaService {
     private GuiaRepository guiaRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private OcupacionService ocupacionService;
+
+    @Autowired
+    private ResumenDiarioService resumenDiarioService;
+
+    @Autowired
+    private ClasificacionService clasificacionService;
+
+    @Autowired
+    private AsignacionMapper asignacionMapper;
 
     @Override
     public AsignacionResponseDTO asignarGuia(AsignacionGuiaRequestDTO request) {
@@ -91,7 +102,7 @@ public class AsignacionGuiaServiceImpl implements AsignacionGuiaService {
 
         asignacion = asignacionRepository.save(asignacion);
 
-        return convertirAResponseDTO(asignacion);
+        return asignacionMapper.toResponseDTO(asignacion);
     }
 
     @Override
@@ -100,7 +111,7 @@ public class AsignacionGuiaServiceImpl implements AsignacionGuiaService {
         AsignacionGuia asignacion = asignacionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Asignación", "id", id));
 
-        return convertirAResponseDTO(asignacion);
+        return asignacionMapper.toResponseDTO(asignacion);
     }
 
     @Override
@@ -109,14 +120,22 @@ public class AsignacionGuiaServiceImpl implements AsignacionGuiaService {
         AsignacionGuia asignacion = asignacionRepository.findByReservaIdReserva(reservaId)
                 .orElseThrow(() -> new ResourceNotFoundException("Asignación", "reservaId", reservaId));
 
-        return convertirAResponseDTO(asignacion);
+        return asignacionMapper.toResponseDTO(asignacion);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<AsignacionResponseDTO> obtenerPorGuia(Long guiaId) {
         return asignacionRepository.findByGuiaId(guiaId).stream()
-                .map(this::convertirAResponseDTO)
+                .map(asignacionMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AsignacionResponseDTO> obtenerPorGuiaYFecha(Long guiaId, LocalDate fecha) {
+        return asignacionRepository.findByGuiaIdAndFecha(guiaId, fecha).stream()
+                .map(asignacionMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
@@ -162,13 +181,17 @@ public class AsignacionGuiaServiceImpl implements AsignacionGuiaService {
 
         // Marcar reserva como completada
         Reserva reserva = asignacion.getReserva();
+        EstadoReserva anterior = reserva.getEstado();
         reserva.completar();
         reservaRepository.save(reserva);
+        ocupacionService.liberarReserva(reserva);
+        resumenDiarioService.cambiarEstado(reserva, anterior, EstadoReserva.COMPLETADA);
 
         // Incrementar contador de recorridos del guía
         Guia guia = asignacion.getGuia();
         guia.incrementarRecorridos();
         guiaRepository.save(guia);
+        clasificacionService.registrarRecorrido(guia);
     }
 
     @Override
@@ -200,27 +223,7 @@ public class AsignacionGuiaServiceImpl implements AsignacionGuiaService {
     @Transactional(readOnly = true)
     public List<AsignacionResponseDTO> obtenerAsignacionesActivas() {
         return asignacionRepository.findAsignacionesActivas().stream()
-                .map(this::convertirAResponseDTO)
+                .map(asignacionMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
-
-    private AsignacionResponseDTO convertirAResponseDTO(AsignacionGuia asignacion) {
-        AsignacionResponseDTO dto = new AsignacionResponseDTO();
-
-        dto.setIdAsignacion(asignacion.getIdAsignacion());
-        dto.setIdReserva(asignacion.getReserva().getIdReserva());
-        dto.setGuia(modelMapper.map(asignacion.getGuia(), GuiaResponseDTO.class));
-        dto.setReserva(modelMapper.map(asignacion.getReserva(), ReservaResponseDTO.class)); // AGREGADO
-        dto.setFechaAsignacion(asignacion.getFechaAsignacion());
-        dto.setHoraInicioReal(asignacion.getHoraInicioReal());
-        dto.setHoraFinReal(asignacion.getHoraFinReal());
-        dto.setObservacionesGuia(asignacion.getObservacionesGuia());
-        dto.setCalificacionVisitante(asignacion.getCalificacionVisitante());
-        dto.setComentarioVisitante(asignacion.getComentarioVisitante());
-        dto.setIncidencias(asignacion.getIncidencias());
-        dto.setDescripcionIncidencias(asignacion.getDescripcionIncidencias());
-        dto.setDuracionMinutos(asignacion.getDuracionMinutos());
-
-        return dto;
-    }
 }
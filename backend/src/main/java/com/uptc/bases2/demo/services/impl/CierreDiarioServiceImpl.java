@@ -0,0 +1,208 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.exceptions.ConflictException;
+import com.uptc.bases2.demo.models.dto.response.ProcesoBatchResponseDTO;
+import com.uptc.bases2.demo.models.entities.ProcesoBatch;
+import com.uptc.bases2.demo.models.entities.Reserva;
+import com.uptc.bases2.demo.models.enums.EstadoProcesoBatch;
+import com.uptc.bases2.demo.models.enums.TransicionReserva;
+import com.uptc.bases2.demo.repositories.ProcesoBatchRepository;
+import com.uptc.bases2.demo.repositories.ReservaRepository;
+import com.uptc.bases2.demo.services.interfaces.CierreDiarioService;
+import com.uptc.bases2.demo.services.interfaces.OcupacionService;
+import com.uptc.bases2.demo.services.interfaces.ResumenDiarioService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del cierre diario de reservas.
+ *
+ * Cada fase recorre las reservas por ID (paginación por clave) y procesa cada lote en su
+ * propia transacción: bloqueo con revalidación del estado, UPDATE en bloque, liberación del
+ * ledger y avance del punto de control en PROCESO_BATCH. Si el proceso se interrumpe, la
+ * siguiente ejecución con la misma fecha de corte continúa desde el último ID confirmado.
+ */
+@Service
+public class CierreDiarioServiceImpl implements CierreDiarioService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CierreDiarioServiceImpl.class);
+
+    private static final String PROCESO_NO_ASISTIO = "CIERRE_NO_ASISTIO";
+    private static final String PROCESO_EXPIRADAS = "CIERRE_PENDIENTES_EXPIRADAS";
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @Autowired
+    private ProcesoBatchRepository procesoRepository;
+
+    @Autowired
+    private OcupacionService ocupacionService;
+
+    @Autowired
+    private ResumenDiarioService resumenDiarioService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.cierre.tamano-lote:500}")
+    private int tamanoLote;
+
+    private final AtomicBoolean enEjecucion = new AtomicBoolean(false);
+
+    @Override
+    public List<ProcesoBatchResponseDTO> ejecutarCierre() {
+        if (!enEjecucion.compareAndSet(false, true)) {
+            throw new ConflictException("El cierre diario ya está en ejecución");
+        }
+        return ejecutarFases();
+    }
+
+    /**
+     * Ejecución programada: si una ejecución manual sigue en curso, se omite esta vez
+     * (la siguiente retoma desde el punto de control)
+     */
+    @Scheduled(cron = "${app.cierre.cron:0 30 0 * * *}")
+    public void ejecutarCierreProgramado() {
+        if (!enEjecucion.compareAndSet(false, true)) {
+            logger.info("Cierre diario programado omitido: ya hay una ejecución en curso");
+            return;
+        }
+        ejecutarFases();
+    }
+
+    /**
+     * Fases del cierre; quien llama ya tomó enEjecucion y aquí se libera
+     */
+    private List<ProcesoBatchResponseDTO> ejecutarFases() {
+        try {
+            // Se cierran las reservas con fecha de visita anterior a hoy
+            LocalDate fechaCorte = LocalDate.now();
+            List<ProcesoBatchResponseDTO> resultado = new ArrayList<>();
+            resultado.add(ejecutarFase(PROCESO_NO_ASISTIO, TransicionReserva.NO_ASISTIO, fechaCorte));
+            resultado.add(ejecutarFase(PROCESO_EXPIRADAS, TransicionReserva.EXPIRAR, fechaCorte));
+            return resultado;
+        } finally {
+            enEjecucion.set(false);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProcesoBatchResponseDTO> obtenerEstado() {
+        return procesoRepository.findAllById(List.of(PROCESO_NO_ASISTIO, PROCESO_EXPIRADAS)).stream()
+            .map(this::convertirAResponseDTO)
+            .collect(Collectors.toList());
+    }
+
+    private ProcesoBatchResponseDTO ejecutarFase(String nombre, TransicionReserva transicion, LocalDate fechaCorte) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long inicio = System.currentTimeMillis();
+
+        ProcesoBatch proceso = tx.execute(status -> prepararProceso(nombre, fechaCorte));
+        long ultimoId = proceso.getUltimoId();
+        try {
+            while (true) {
+                List<Long> ids = buscarIds(transicion, proceso.getFechaCorte(), ultimoId);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                tx.executeWithoutResult(status -> procesarLote(nombre, transicion, ids));
+                ultimoId = ids.get(ids.size() - 1);
+            }
+            proceso = tx.execute(status -> cerrarProceso(nombre, EstadoProcesoBatch.COMPLETADO, null, inicio));
+            logger.info("Cierre diario {}: {} reservas en {} lotes, {} ms ({} reservas/s)",
+                nombre, proceso.getProcesadas(), proceso.getLotes(),
+                proceso.getDuracionMs(), proceso.getFilasPorSegundo());
+        } catch (RuntimeException ex) {
+            logger.error("Cierre diario {} interrumpido después del ID {}: {}", nombre, ultimoId, ex.getMessage());
+            String mensaje = ex.getMessage() != null && ex.getMessage().length() > 500
+                ? ex.getMessage().substring(0, 500)
+                : ex.getMessage();
+            proceso = tx.execute(status -> cerrarProceso(nombre, EstadoProcesoBatch.FALLIDO, mensaje, inicio));
+        }
+        return convertirAResponseDTO(proceso);
+    }
+
+    /**
+     * Reanudar desde el punto de control si la ejecución anterior con la misma fecha de corte
+     * no terminó; de lo contrario iniciar desde el primer ID
+     */
+    private ProcesoBatch prepararProceso(String nombre, LocalDate fechaCorte) {
+        ProcesoBatch proceso = procesoRepository.findById(nombre).orElseGet(() -> new ProcesoBatch(nombre));
+
+        boolean reanudar = proceso.getEstado() != null
+            && proceso.getEstado() != EstadoProcesoBatch.COMPLETADO
+            && fechaCorte.equals(proceso.getFechaCorte());
+        if (reanudar) {
+            logger.info("Cierre diario {}: reanudando desde el ID {}", nombre, proceso.getUltimoId());
+            proceso.setEstado(EstadoProcesoBatch.EN_CURSO);
+            proceso.setMensajeError(null);
+        } else {
+            proceso.iniciar(fechaCorte);
+        }
+        return procesoRepository.save(proceso);
+    }
+
+    private List<Long> buscarIds(TransicionReserva transicion, LocalDate fechaCorte, long ultimoId) {
+        PageRequest lote = PageRequest.of(0, tamanoLote);
+        if (transicion == TransicionReserva.NO_ASISTIO) {
+            return reservaRepository.findIdsConfirmadasSinRecorridoDesde(fechaCorte, ultimoId, lote);
+        }
+        return reservaRepository.findIdsVencidasDesde(transicion.getOrigen(), fechaCorte, ultimoId, lote);
+    }
+
+    /**
+     * Procesar un lote y mover el punto de control en la misma transacción
+     */
+    private void procesarLote(String nombre, TransicionReserva transicion, List<Long> ids) {
+        List<Reserva> reservas = reservaRepository.findParaTransicion(ids, transicion.getOrigen());
+        if (!reservas.isEmpty()) {
+            reservaRepository.aplicarTransicion(
+                reservas.stream().map(Reserva::getIdReserva).collect(Collectors.toList()),
+                transicion.getOrigen(), transicion.getDestino(), LocalDateTime.now());
+            ocupacionService.liberarReservas(reservas);
+            resumenDiarioService.cambiarEstado(reservas, transicion.getOrigen(), transicion.getDestino());
+        }
+
+        ProcesoBatch proceso = procesoRepository.findById(nombre).orElseThrow();
+        proceso.avanzar(ids.get(ids.size() - 1), reservas.size());
+    }
+
+    private ProcesoBatch cerrarProceso(String nombre, EstadoProcesoBatch estado, String mensajeError, long inicio) {
+        ProcesoBatch proceso = procesoRepository.findById(nombre).orElseThrow();
+        proceso.finalizar(estado, mensajeError, System.currentTimeMillis() - inicio);
+        return proceso;
+    }
+
+    private ProcesoBatchResponseDTO convertirAResponseDTO(ProcesoBatch proceso) {
+        ProcesoBatchResponseDTO dto = new ProcesoBatchResponseDTO();
+        dto.setNombre(proceso.getNombre());
+        dto.setEstado(proceso.getEstado());
+        dto.setFechaCorte(proceso.getFechaCorte());
+        dto.setUltimoId(proceso.getUltimoId());
+        dto.setProcesadas(proceso.getProcesadas());
+        dto.setLotes(proceso.getLotes());
+        dto.setFechaInicio(proceso.getFechaInicio());
+        dto.setFechaFin(proceso.getFechaFin());
+        dto.setDuracionMs(proceso.getDuracionMs());
+        dto.setFilasPorSegundo(proceso.getFilasPorSegundo());
+        dto.setMensajeError(proceso.getMensajeError());
+        return dto;
+    }
+}
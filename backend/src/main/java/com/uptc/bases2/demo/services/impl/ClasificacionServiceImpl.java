@@ -0,0 +1,221 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.exceptions.BadRequestException;
+import com.uptc.bases2.demo.models.dto.response.GuiaRankingDTO;
+import com.uptc.bases2.demo.models.dto.response.SenderoPopularDTO;
+import com.uptc.bases2.demo.models.dto.response.VisitanteFrecuenteDTO;
+import com.uptc.bases2.demo.models.entities.Guia;
+import com.uptc.bases2.demo.models.entities.Visitante;
+import com.uptc.bases2.demo.repositories.GuiaRepository;
+import com.uptc.bases2.demo.repositories.SenderoRepository;
+import com.uptc.bases2.demo.repositories.VisitanteRepository;
+import com.uptc.bases2.demo.services.interfaces.ClasificacionService;
+import com.uptc.bases2.demo.utils.ClasificacionTopK;
+import com.uptc.bases2.demo.utils.ClasificacionTopK.Entrada;
+import com.uptc.bases2.demo.utils.Constants;
+import com.uptc.bases2.demo.utils.DeltasPostCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación de las clasificaciones de guías, visitantes y senderos.
+ *
+ * Cada clasificación guarda las primeras MAX_POSICIONES_CLASIFICACION posiciones en un
+ * ClasificacionTopK. Los cambios se aplican tras el commit; cuando uno no se puede resolver
+ * en memoria, la siguiente consulta recarga esa clasificación con una consulta acotada a K + 1 filas.
+ * Una recarga periódica recoge lo que no pasa por estos eventos (cambios de estado, nombres).
+ */
+@Service
+@Transactional
+public class ClasificacionServiceImpl implements ClasificacionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClasificacionServiceImpl.class);
+
+    private static final int CAPACIDAD = Constants.MAX_POSICIONES_CLASIFICACION;
+
+    @Autowired
+    private GuiaRepository guiaRepository;
+
+    @Autowired
+    private VisitanteRepository visitanteRepository;
+
+    @Autowired
+    private SenderoRepository senderoRepository;
+
+    private final ClasificacionTopK guias = new ClasificacionTopK(CAPACIDAD);
+    private final ClasificacionTopK visitantes = new ClasificacionTopK(CAPACIDAD);
+    private final ClasificacionTopK senderos = new ClasificacionTopK(CAPACIDAD);
+
+    // Acumuladores de deltas por transacción (uno por clasificación)
+    private final Object deltasVisitas = new Object();
+    private final Object deltasReservas = new Object();
+
+    @Override
+    public void registrarRecorrido(Guia guia) {
+        Long id = guia.getId();
+        if (!guia.estaActivo()) {
+            despuesDelCommit(() -> guias.quitar(id));
+            return;
+        }
+        Entrada entrada = new Entrada(id, guia.getNombreCompleto(),
+            guia.getCalificacionPromedio() != null ? guia.getCalificacionPromedio() : 0.0,
+            guia.getNumeroRecorridos() != null ? guia.getNumeroRecorridos() : 0);
+        despuesDelCommit(() -> guias.actualizar(entrada));
+    }
+
+    @Override
+    public void registrarVisita(Visitante visitante) {
+        Long id = visitante.getId();
+        if (!visitante.estaActivo()) {
+            despuesDelCommit(() -> visitantes.quitar(id));
+            return;
+        }
+        Entrada entrada = new Entrada(id, visitante.getNombreCompleto(),
+            visitante.getNumeroVisitas() != null ? visitante.getNumeroVisitas() : 0, 0);
+        despuesDelCommit(() -> visitantes.actualizar(entrada));
+    }
+
+    @Override
+    public void registrarVisitas(Map<Long, Long> visitasPorVisitante) {
+        visitasPorVisitante.forEach((id, visitas) -> DeltasPostCommit.sumar(deltasVisitas, id,
+            visitas.intValue(), 0, (clave, delta, personas) -> visitantes.sumar(clave, delta, 0)));
+    }
+
+    @Override
+    public void registrarReservas(Long senderoId, int reservas, int personas) {
+        if (reservas == 0 && personas == 0) {
+            return;
+        }
+        DeltasPostCommit.sumar(deltasReservas, senderoId, reservas, personas, (clave, delta, deltaPersonas) -> {
+            // Un cambio de estado suma y resta lo mismo dentro de la transacción
+            if (delta != 0 || deltaPersonas != 0) {
+                senderos.sumar(clave, delta, deltaPersonas);
+            }
+        });
+    }
+
+    @Override
+    public void invalidar() {
+        guias.invalidar();
+        visitantes.invalidar();
+        senderos.invalidar();
+    }
+
+    /**
+     * Red de seguridad para cambios que no notifican a las clasificaciones
+     */
+    @Scheduled(fixedDelayString = "${app.estadisticas.clasificaciones-recarga-ms:600000}")
+    public void recargarPeriodicamente() {
+        invalidar();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GuiaRankingDTO> obtenerTopGuias(int limite) {
+        validarLimite(limite);
+        recargarSiEsNecesario(guias, "guías", () -> guiaRepository.findTopGuiasByCalificacion(primeraPagina())
+            .stream()
+            .map(g -> new Entrada(g.getId(), g.getNombreCompleto(),
+                g.getCalificacionPromedio() != null ? g.getCalificacionPromedio() : 0.0,
+                g.getNumeroRecorridos() != null ? g.getNumeroRecorridos() : 0))
+            .collect(Collectors.toList()));
+
+        List<GuiaRankingDTO> resultado = new ArrayList<>();
+        for (Entrada e : guias.primeros(limite)) {
+            resultado.add(new GuiaRankingDTO(resultado.size() + 1, e.getId(), e.getNombre(),
+                e.getPuntaje(), (int) e.getDesempate()));
+        }
+        return resultado;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VisitanteFrecuenteDTO> obtenerVisitantesFrecuentes(int limite) {
+        validarLimite(limite);
+        recargarSiEsNecesario(visitantes, "visitantes", () -> visitanteRepository.findTopVisitantes(primeraPagina())
+            .stream()
+            .map(v -> new Entrada(v.getId(), v.getNombreCompleto(),
+                v.getNumeroVisitas() != null ? v.getNumeroVisitas() : 0, 0))
+            .collect(Collectors.toList()));
+
+        List<VisitanteFrecuenteDTO> resultado = new ArrayList<>();
+        for (Entrada e : visitantes.primeros(limite)) {
+            resultado.add(new VisitanteFrecuenteDTO(resultado.size() + 1, e.getId(), e.getNombre(),
+                (int) e.getPuntaje()));
+        }
+        return resultado;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SenderoPopularDTO> obtenerSenderosPopulares(int limite) {
+        validarLimite(limite);
+        recargarSiEsNecesario(senderos, "senderos", () -> senderoRepository.findSenderosPopulares(primeraPagina())
+            .stream()
+            .map(s -> new Entrada(s.getIdSendero(), s.getNombre(), s.getTotalReservas(), s.getTotalPersonas()))
+            .collect(Collectors.toList()));
+
+        List<SenderoPopularDTO> resultado = new ArrayList<>();
+        for (Entrada e : senderos.primeros(limite)) {
+            resultado.add(new SenderoPopularDTO(resultado.size() + 1, e.getId(), e.getNombre(),
+                (long) e.getPuntaje(), e.getDesempate()));
+        }
+        return resultado;
+    }
+
+    private void validarLimite(int limite) {
+        if (limite < 1 || limite > CAPACIDAD) {
+            throw new BadRequestException("El límite debe estar entre 1 y " + CAPACIDAD);
+        }
+    }
+
+    /**
+     * K + 1 filas: la última solo indica si hay elementos fuera del top
+     */
+    private Pageable primeraPagina() {
+        return PageRequest.of(0, CAPACIDAD + 1);
+    }
+
+    private void recargarSiEsNecesario(ClasificacionTopK clasificacion, String nombre,
+                                       Supplier<List<Entrada>> consulta) {
+        if (!clasificacion.necesitaRecarga()) {
+            return;
+        }
+        long inicio = System.currentTimeMillis();
+        long version = clasificacion.version();
+        List<Entrada> filas = consulta.get();
+        clasificacion.cargar(filas, version);
+        logger.debug("Clasificación de {} recargada: {} filas en {} ms",
+            nombre, filas.size(), System.currentTimeMillis() - inicio);
+    }
+
+    /**
+     * Aplica el cambio solo si la transacción actual se confirma; sin transacción, de inmediato
+     */
+    private void despuesDelCommit(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accion.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accion.run();
+            }
+        });
+    }
+}
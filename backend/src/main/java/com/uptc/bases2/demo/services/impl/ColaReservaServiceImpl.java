@@ -0,0 +1,233 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.exceptions.ResourceNotFoundException;
+import com.uptc.bases2.demo.exceptions.ServiceUnavailableException;
+import com.uptc.bases2.demo.models.dto.request.ReservaLoteItemDTO;
+import com.uptc.bases2.demo.models.dto.request.ReservaLoteRequestDTO;
+import com.uptc.bases2.demo.models.dto.request.ReservaRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservaLoteResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservaLoteResponseDTO.ResultadoItemDTO;
+import com.uptc.bases2.demo.models.dto.response.TicketReservaDTO;
+import com.uptc.bases2.demo.models.enums.EstadoTicket;
+import com.uptc.bases2.demo.models.enums.ModoLote;
+import com.uptc.bases2.demo.services.interfaces.ColaReservaService;
+import com.uptc.bases2.demo.services.interfaces.ReservaService;
+import com.uptc.bases2.demo.utils.Constants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementación de la cola asíncrona de reservas.
+ *
+ * Las solicitudes se aceptan sin tocar la base de datos y se guardan en una cola acotada.
+ * Cada worker toma un micro-lote, lo agrupa por (sendero, fecha) y crea cada grupo con
+ * crearLote en modo MEJOR_ESFUERZO: una transacción y una conexión por grupo en lugar de
+ * una por reserva. Los tickets viven en memoria; se pierden si la aplicación se reinicia.
+ */
+@Service
+public class ColaReservaServiceImpl implements ColaReservaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColaReservaServiceImpl.class);
+
+    @Autowired
+    private ReservaService reservaService;
+
+    @Value("${app.reserva.cola.capacidad:1000}")
+    private int capacidad;
+
+    @Value("${app.reserva.cola.workers:2}")
+    private int workers;
+
+    @Value("${app.reserva.cola.tamano-lote:50}")
+    private int tamanoLote;
+
+    @Value("${app.reserva.cola.ventana-ms:20}")
+    private long ventanaMs;
+
+    @Value("${app.reserva.cola.retencion-tickets-minutos:60}")
+    private long retencionTicketsMinutos;
+
+    private BlockingQueue<Solicitud> cola;
+
+    private ExecutorService ejecutor;
+
+    private final Map<String, TicketReservaDTO> tickets = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void iniciar() {
+        cola = new ArrayBlockingQueue<>(capacidad);
+        tamanoLote = Math.min(tamanoLote, Constants.MAX_RESERVAS_POR_LOTE);
+
+        AtomicInteger contador = new AtomicInteger();
+        ejecutor = Executors.newFixedThreadPool(workers, tarea -> {
+            Thread hilo = new Thread(tarea, "cola-reservas-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        for (int i = 0; i < workers; i++) {
+            ejecutor.submit(this::procesarCola);
+        }
+    }
+
+    @PreDestroy
+    void detener() {
+        ejecutor.shutdownNow();
+        if (!cola.isEmpty()) {
+            logger.warn("Cola de reservas detenida con {} solicitudes sin procesar", cola.size());
+        }
+    }
+
+    @Override
+    public TicketReservaDTO encolar(Long visitanteId, ReservaRequestDTO request) {
+        ReservaLoteItemDTO item = new ReservaLoteItemDTO();
+        item.setIdVisitante(visitanteId);
+        item.setIdSendero(request.getIdSendero());
+        item.setFechaVisita(request.getFechaVisita());
+        item.setHoraInicio(request.getHoraInicio());
+        item.setNumeroPersonas(request.getNumeroPersonas());
+        item.setObservaciones(request.getObservaciones());
+
+        Solicitud solicitud = new Solicitud(UUID.randomUUID().toString(), item, LocalDateTime.now());
+        TicketReservaDTO ticket = construirTicket(solicitud, EstadoTicket.EN_COLA);
+        tickets.put(solicitud.ticketId, ticket);
+
+        if (!cola.offer(solicitud)) {
+            tickets.remove(solicitud.ticketId);
+            throw new ServiceUnavailableException(
+                "La cola de reservas está llena. Intente nuevamente en unos segundos");
+        }
+        return ticket;
+    }
+
+    @Override
+    public TicketReservaDTO obtenerTicket(String ticketId) {
+        TicketReservaDTO ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new ResourceNotFoundException("Ticket", "id", ticketId);
+        }
+        return ticket;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.reserva.cola.limpieza-tickets-ms:60000}")
+    public int limpiarTicketsFinalizados() {
+        LocalDateTime limite = LocalDateTime.now().minusMinutes(retencionTicketsMinutos);
+        int antes = tickets.size();
+        tickets.values().removeIf(t -> t.getEstado().estaFinalizado()
+            && t.getFechaProcesamiento().isBefore(limite));
+        return antes - tickets.size();
+    }
+
+    /**
+     * Ciclo de cada worker: esperar la primera solicitud y acumular las que lleguen
+     * durante una ventana corta para procesarlas juntas
+     */
+    private void procesarCola() {
+        List<Solicitud> lote = new ArrayList<>(tamanoLote);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                lote.add(cola.take());
+                long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ventanaMs);
+                while (lote.size() < tamanoLote) {
+                    Solicitud siguiente = cola.poll(limite - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (siguiente == null) {
+                        break;
+                    }
+                    lote.add(siguiente);
+                }
+                procesarLote(lote);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void procesarLote(List<Solicitud> lote) {
+        Map<String, List<Solicitud>> grupos = new LinkedHashMap<>();
+        for (Solicitud solicitud : lote) {
+            String clave = solicitud.item.getIdSendero() + "|" + solicitud.item.getFechaVisita();
+            grupos.computeIfAbsent(clave, k -> new ArrayList<>()).add(solicitud);
+        }
+
+        for (List<Solicitud> grupo : grupos.values()) {
+            ReservaLoteRequestDTO request = new ReservaLoteRequestDTO();
+            request.setModo(ModoLote.MEJOR_ESFUERZO);
+            request.setReservas(grupo.stream().map(s -> s.item).toList());
+
+            try {
+                ReservaLoteResponseDTO respuesta = reservaService.crearLote(request);
+                for (ResultadoItemDTO resultado : respuesta.getResultados()) {
+                    Solicitud solicitud = grupo.get(resultado.getIndice());
+                    TicketReservaDTO ticket = construirTicket(solicitud,
+                        Boolean.TRUE.equals(resultado.getCreada()) ? EstadoTicket.CREADA : EstadoTicket.RECHAZADA);
+                    ticket.setIdReserva(resultado.getIdReserva());
+                    ticket.setCodigoRegla(resultado.getCodigoRegla());
+                    ticket.setMensaje(resultado.getMensaje());
+                    tickets.put(solicitud.ticketId, ticket);
+                }
+            } catch (RuntimeException ex) {
+                logger.error("Error procesando lote de {} reservas encoladas: {}", grupo.size(), ex.getMessage());
+                for (Solicitud solicitud : grupo) {
+                    TicketReservaDTO ticket = construirTicket(solicitud, EstadoTicket.RECHAZADA);
+                    ticket.setCodigoRegla("ERROR_INTERNO");
+                    ticket.setMensaje("No se pudo procesar la reserva. Intente nuevamente");
+                    tickets.put(solicitud.ticketId, ticket);
+                }
+            }
+        }
+    }
+
+    // Cada cambio de estado publica un ticket nuevo: las consultas nunca ven uno a medio actualizar
+    private TicketReservaDTO construirTicket(Solicitud solicitud, EstadoTicket estado) {
+        TicketReservaDTO ticket = new TicketReservaDTO();
+        ticket.setTicketId(solicitud.ticketId);
+        ticket.setEstado(estado);
+        ticket.setIdVisitante(solicitud.item.getIdVisitante());
+        ticket.setIdSendero(solicitud.item.getIdSendero());
+        ticket.setFechaVisita(solicitud.item.getFechaVisita());
+        ticket.setHoraInicio(solicitud.item.getHoraInicio());
+        ticket.setNumeroPersonas(solicitud.item.getNumeroPersonas());
+        ticket.setFechaRecepcion(solicitud.fechaRecepcion);
+        if (estado.estaFinalizado()) {
+            ticket.setFechaProcesamiento(LocalDateTime.now());
+        }
+        return ticket;
+    }
+
+    /**
+     * Solicitud encolada: el ticket y los datos de la reserva con su visitante
+     */
+    private static class Solicitud {
+        private final String ticketId;
+        private final ReservaLoteItemDTO item;
+        private final LocalDateTime fechaRecepcion;
+
+        Solicitud(String ticketId, ReservaLoteItemDTO item, LocalDateTime fechaRecepcion) {
+            this.ticketId = ticketId;
+            this.item = item;
+            this.fechaRecepcion = fechaRecepcion;
+        }
+    }
+}
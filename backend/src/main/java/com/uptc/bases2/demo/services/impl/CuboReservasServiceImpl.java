@@ -0,0 +1,443 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.exceptions.BadRequestException;
+import com.uptc.bases2.demo.models.dto.response.CuboReservasDTO;
+import com.uptc.bases2.demo.models.dto.response.CuboReservasDTO.GrupoDTO;
+import com.uptc.bases2.demo.models.entities.Reserva;
+import com.uptc.bases2.demo.models.entities.Sendero;
+import com.uptc.bases2.demo.models.enums.DiaSemana;
+import com.uptc.bases2.demo.models.enums.Dificultad;
+import com.uptc.bases2.demo.models.enums.DimensionCubo;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.services.interfaces.CuboReservasService;
+import com.uptc.bases2.demo.utils.ColumnasReservas;
+import com.uptc.bases2.demo.utils.ColumnasReservas.Vista;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Implementación del cubo de reservas en memoria.
+ *
+ * Se carga al iniciar leyendo RESERVA con un cursor de solo avance y luego recibe, tras el commit,
+ * las mismas altas, modificaciones y cambios de estado que el resumen diario. Una consulta divide
+ * las filas en bloques, agrega cada bloque en paralelo en un mapa llave de grupo -> totales y
+ * combina los resultados; la llave concatena el valor de cada dimensión en su ancho de bits.
+ *
+ * Una recarga lee RESERVA sin bloquear los cambios: mientras dura, cada cambio se aplica a las
+ * columnas vigentes y se guarda para repetirlo sobre las nuevas antes de publicarlas.
+ */
+@Service
+@Transactional
+public class CuboReservasServiceImpl implements CuboReservasService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CuboReservasServiceImpl.class);
+
+    private static final String SQL_SENDEROS =
+        "SELECT ID_SENDERO, NOMBRE, DIFICULTAD FROM SENDERO ORDER BY ID_SENDERO";
+
+    private static final String SQL_RESERVAS =
+        "SELECT ID_RESERVA, ID_SENDERO, FECHA_VISITA, HORA_INICIO, NUMERO_PERSONAS, ESTADO " +
+        "FROM RESERVA ORDER BY ID_RESERVA";
+
+    private static final int MAX_BITS_LLAVE = 63;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.estadisticas.cubo-fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${app.estadisticas.cubo-tamano-bloque:65536}")
+    private int tamanoBloque;
+
+    private volatile ColumnasReservas columnas = new ColumnasReservas();
+
+    // Protege el reemplazo de las columnas y la lista de pendientes
+    private final Object cambios = new Object();
+
+    // Cambios confirmados durante la recarga en curso; null si no hay recarga
+    private List<Consumer<ColumnasReservas>> pendientes;
+
+    // Serializa las recargas entre sí, no contra los cambios
+    private final Object recarga = new Object();
+
+    @PostConstruct
+    void iniciar() {
+        recargar();
+    }
+
+    @Override
+    public void registrar(Reserva reserva) {
+        Hecho hecho = new Hecho(reserva);
+        despuesDelCommit(() -> aplicar(List.of(hecho)));
+    }
+
+    @Override
+    public void registrar(Collection<Reserva> reservas) {
+        List<Hecho> hechos = reservas.stream().map(Hecho::new).collect(Collectors.toList());
+        despuesDelCommit(() -> aplicar(hechos));
+    }
+
+    @Override
+    public void cambiarEstado(Collection<Reserva> reservas, EstadoReserva destino) {
+        long[] ids = reservas.stream().mapToLong(Reserva::getIdReserva).toArray();
+        despuesDelCommit(() -> aplicar(c -> {
+            for (long id : ids) {
+                c.cambiarEstado(id, destino);
+            }
+        }));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void recargar() {
+        synchronized (recarga) {
+            long inicio = System.currentTimeMillis();
+            ColumnasReservas nuevas = new ColumnasReservas();
+            synchronized (cambios) {
+                pendientes = new ArrayList<>();
+            }
+
+            try {
+                jdbcTemplate.query(SQL_SENDEROS, (RowCallbackHandler) rs -> nuevas.registrarSendero(
+                    rs.getLong("ID_SENDERO"), rs.getString("NOMBRE"), Dificultad.valueOf(rs.getString("DIFICULTAD"))));
+
+                jdbcTemplate.query(con -> {
+                    PreparedStatement ps = con.prepareStatement(SQL_RESERVAS,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(fetchSize);
+                    return ps;
+                }, (RowCallbackHandler) rs -> {
+                    Timestamp hora = rs.getTimestamp("HORA_INICIO");
+                    nuevas.registrar(rs.getLong("ID_RESERVA"), rs.getLong("ID_SENDERO"),
+                        rs.getDate("FECHA_VISITA").toLocalDate(), hora.toLocalDateTime().getHour(),
+                        rs.getInt("NUMERO_PERSONAS"), EstadoReserva.valueOf(rs.getString("ESTADO")));
+                });
+            } catch (RuntimeException e) {
+                synchronized (cambios) {
+                    pendientes = null;
+                }
+                throw e;
+            }
+
+            int repetidos;
+            synchronized (cambios) {
+                repetidos = pendientes.size();
+                pendientes.forEach(cambio -> cambio.accept(nuevas));
+                pendientes = null;
+                nuevas.publicar();
+                columnas = nuevas;
+            }
+            logger.info("Cubo de reservas cargado: {} filas en {} ms ({} cambios durante la carga)",
+                nuevas.getFilas(), System.currentTimeMillis() - inicio, repetidos);
+        }
+    }
+
+    /**
+     * Sin transacción propia: la consulta no toca la base de datos
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CuboReservasDTO consultar(String agrupar, Long senderoId, String dificultad, String estados,
+                                     LocalDate desde, LocalDate hasta) {
+        List<DimensionCubo> dimensiones = parsearDimensiones(agrupar);
+        if (desde != null && hasta != null && hasta.isBefore(desde)) {
+            throw new BadRequestException("La fecha final no puede ser anterior a la inicial");
+        }
+
+        Vista vista = columnas.vista();
+        Filtro filtro = new Filtro(vista, senderoId, parsearDificultad(dificultad), parsearEstados(estados),
+            desde, hasta);
+
+        int filas = vista.getFilas();
+        int bloques = (filas + tamanoBloque - 1) / tamanoBloque;
+        Map<Long, long[]> grupos = IntStream.range(0, bloques).parallel()
+            .mapToObj(b -> agregarBloque(vista, b * tamanoBloque, Math.min(filas, (b + 1) * tamanoBloque),
+                filtro, dimensiones))
+            .reduce(this::combinar)
+            .orElseGet(HashMap::new);
+
+        CuboReservasDTO dto = new CuboReservasDTO();
+        dto.setDimensiones(dimensiones.stream().map(DimensionCubo::getClave).collect(Collectors.toList()));
+        dto.setFilasCubo(filas);
+        long totalReservas = 0;
+        long totalPersonas = 0;
+        // La llave concatena los valores en el orden de las dimensiones: ordenarla ordena los grupos
+        for (Map.Entry<Long, long[]> grupo : new TreeMap<>(grupos).entrySet()) {
+            GrupoDTO g = new GrupoDTO(grupo.getValue()[0], grupo.getValue()[1]);
+            long llave = grupo.getKey();
+            Object[] valores = new Object[dimensiones.size()];
+            for (int i = dimensiones.size() - 1; i >= 0; i--) {
+                DimensionCubo d = dimensiones.get(i);
+                valores[i] = decodificar(vista, d, (int) (llave & ((1L << d.getBits()) - 1)));
+                llave >>>= d.getBits();
+            }
+            for (int i = 0; i < valores.length; i++) {
+                g.getClaves().put(dimensiones.get(i).getClave(), valores[i]);
+            }
+            dto.getGrupos().add(g);
+            totalReservas += g.getReservas();
+            totalPersonas += g.getPersonas();
+        }
+        dto.setTotalReservas(totalReservas);
+        dto.setTotalPersonas(totalPersonas);
+        return dto;
+    }
+
+    private Map<Long, long[]> agregarBloque(Vista vista, int desde, int hasta, Filtro filtro,
+                                            List<DimensionCubo> dimensiones) {
+        DimensionCubo[] dims = dimensiones.toArray(new DimensionCubo[0]);
+        Map<Long, long[]> grupos = new HashMap<>();
+        for (int fila = desde; fila < hasta; fila++) {
+            if (!filtro.acepta(vista, fila)) {
+                continue;
+            }
+            long llave = 0;
+            for (DimensionCubo d : dims) {
+                llave = (llave << d.getBits()) | valor(vista, d, fila);
+            }
+            long[] totales = grupos.computeIfAbsent(llave, k -> new long[2]);
+            totales[0]++;
+            totales[1] += vista.personas(fila);
+        }
+        return grupos;
+    }
+
+    private Map<Long, long[]> combinar(Map<Long, long[]> a, Map<Long, long[]> b) {
+        Map<Long, long[]> mayor = a.size() >= b.size() ? a : b;
+        Map<Long, long[]> menor = mayor == a ? b : a;
+        menor.forEach((llave, totales) -> mayor.merge(llave, totales, (x, y) -> {
+            x[0] += y[0];
+            x[1] += y[1];
+            return x;
+        }));
+        return mayor;
+    }
+
+    private long valor(Vista vista, DimensionCubo dimension, int fila) {
+        switch (dimension) {
+            case SENDERO:
+                return vista.sendero(fila);
+            case DIFICULTAD:
+                return vista.dificultad(vista.sendero(fila));
+            case ANIO:
+                return vista.mes(fila) / 12;
+            case MES:
+                return vista.mes(fila);
+            case DIA_SEMANA:
+                return vista.diaSemana(fila);
+            case HORA:
+                return vista.hora(fila);
+            case ESTADO:
+                return vista.estado(fila);
+            default:
+                return Math.min(vista.personas(fila), (1 << dimension.getBits()) - 1);
+        }
+    }
+
+    private Object decodificar(Vista vista, DimensionCubo dimension, int valor) {
+        switch (dimension) {
+            case SENDERO:
+                return vista.nombreSendero(valor);
+            case DIFICULTAD:
+                return Dificultad.values()[valor];
+            case MES:
+                return YearMonth.of(valor / 12, valor % 12 + 1).toString();
+            case DIA_SEMANA:
+                return DiaSemana.fromDayOfWeek(DayOfWeek.of(valor + 1));
+            case ESTADO:
+                return EstadoReserva.values()[valor];
+            default:
+                return valor;
+        }
+    }
+
+    private List<DimensionCubo> parsearDimensiones(String agrupar) {
+        Set<DimensionCubo> dimensiones = new LinkedHashSet<>();
+        if (agrupar != null) {
+            for (String nombre : agrupar.split(",")) {
+                if (nombre.isBlank()) {
+                    continue;
+                }
+                DimensionCubo d = DimensionCubo.fromString(nombre.trim());
+                if (d == null) {
+                    throw new BadRequestException("Dimensión no válida: " + nombre.trim() +
+                        ". Use sendero, dificultad, anio, mes, diaSemana, hora, estado o personas");
+                }
+                dimensiones.add(d);
+            }
+        }
+        int bits = dimensiones.stream().mapToInt(DimensionCubo::getBits).sum();
+        if (bits > MAX_BITS_LLAVE) {
+            throw new BadRequestException("Demasiadas dimensiones para agrupar en una sola consulta");
+        }
+        return new ArrayList<>(dimensiones);
+    }
+
+    private Dificultad parsearDificultad(String dificultad) {
+        if (dificultad == null || dificultad.isBlank()) {
+            return null;
+        }
+        try {
+            return Dificultad.fromString(dificultad.trim());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    private Set<EstadoReserva> parsearEstados(String estados) {
+        if (estados == null || estados.isBlank()) {
+            return null;
+        }
+        Set<EstadoReserva> resultado = new LinkedHashSet<>();
+        for (String estado : estados.split(",")) {
+            if (estado.isBlank()) {
+                continue;
+            }
+            try {
+                resultado.add(EstadoReserva.fromString(estado.trim()));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException(e.getMessage());
+            }
+        }
+        return resultado;
+    }
+
+    private void aplicar(List<Hecho> hechos) {
+        aplicar(c -> {
+            for (Hecho h : hechos) {
+                c.registrar(h.idReserva, h.idSendero, h.nombreSendero, h.dificultad, h.fecha,
+                    h.hora, h.personas, h.estado);
+            }
+        });
+    }
+
+    /**
+     * Aplica un lote de cambios a las columnas vigentes y lo publica; durante una recarga también
+     * lo guarda para repetirlo sobre las columnas nuevas (registrar reemplaza la fila completa,
+     * así que repetir un cambio que la lectura ya vio no altera el resultado)
+     */
+    private void aplicar(Consumer<ColumnasReservas> cambio) {
+        synchronized (cambios) {
+            if (pendientes != null) {
+                pendientes.add(cambio);
+            }
+            ColumnasReservas actual = columnas;
+            cambio.accept(actual);
+            actual.publicar();
+        }
+    }
+
+    /**
+     * Aplica el cambio solo si la transacción actual se confirma; sin transacción, de inmediato
+     */
+    private void despuesDelCommit(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accion.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accion.run();
+            }
+        });
+    }
+
+    /**
+     * Valores de una reserva tomados dentro de la transacción, para aplicarlos tras el commit
+     */
+    private static class Hecho {
+
+        private final long idReserva;
+        private final long idSendero;
+        private final String nombreSendero;
+        private final Dificultad dificultad;
+        private final LocalDate fecha;
+        private final int hora;
+        private final int personas;
+        private final EstadoReserva estado;
+
+        Hecho(Reserva reserva) {
+            Sendero sendero = reserva.getSendero();
+            this.idReserva = reserva.getIdReserva();
+            this.idSendero = sendero.getIdSendero();
+            this.nombreSendero = sendero.getNombre();
+            this.dificultad = sendero.getDificultad();
+            this.fecha = reserva.getFechaVisita();
+            this.hora = reserva.getHoraInicio().getHour();
+            this.personas = reserva.getNumeroPersonas();
+            this.estado = reserva.getEstado();
+        }
+    }
+
+    /**
+     * Predicados de una consulta resueltos a códigos y ordinales
+     */
+    private static class Filtro {
+
+        private final boolean vacio;
+        private final int sendero;
+        private final int dificultad;
+        private final boolean[] estados;
+        private final int diaDesde;
+        private final int diaHasta;
+
+        Filtro(Vista vista, Long senderoId, Dificultad dificultad, Set<EstadoReserva> estados,
+               LocalDate desde, LocalDate hasta) {
+            int codigo = senderoId != null ? vista.codigoSendero(senderoId) : -1;
+            // Un sendero fuera del diccionario no tiene reservas en el cubo
+            this.vacio = senderoId != null && codigo < 0;
+            this.sendero = codigo;
+            this.dificultad = dificultad != null ? dificultad.ordinal() : -1;
+            if (estados != null) {
+                this.estados = new boolean[EstadoReserva.values().length];
+                estados.forEach(e -> this.estados[e.ordinal()] = true);
+            } else {
+                this.estados = null;
+            }
+            this.diaDesde = desde != null ? (int) desde.toEpochDay() : Integer.MIN_VALUE;
+            this.diaHasta = hasta != null ? (int) hasta.toEpochDay() : Integer.MAX_VALUE;
+        }
+
+        boolean acepta(Vista vista, int fila) {
+            if (vacio) {
+                return false;
+            }
+            int codigo = vista.sendero(fila);
+            int dia = vista.dia(fila);
+            return (sendero < 0 || codigo == sendero)
+                && (dificultad < 0 || vista.dificultad(codigo) == dificultad)
+                && (estados == null || estados[vista.estado(fila)])
+                && dia >= diaDesde && dia <= diaHasta;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.models.dto.response.DashboardDTO;
+import com.uptc.bases2.demo.models.dto.response.OcupacionSenderoDTO;
+import com.uptc.bases2.demo.models.dto.response.RecorridoEnCursoDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservaResumenDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservasPorEstadoDTO;
+import com.uptc.bases2.demo.models.entities.AsignacionGuia;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.repositories.AsignacionGuiaRepository;
+import com.uptc.bases2.demo.repositories.ReservaDiariaRepository;
+import com.uptc.bases2.demo.repositories.ReservaRepository;
+import com.uptc.bases2.demo.repositories.projections.ReservaResumenProjection;
+import com.uptc.bases2.demo.repositories.projections.TotalesEstadoProjection;
+import com.uptc.bases2.demo.services.interfaces.DashboardService;
+import com.uptc.bases2.demo.services.interfaces.EstadisticasService;
+import com.uptc.bases2.demo.utils.Constants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del tablero de administración.
+ *
+ * Cada sección se calcula en su propia transacción de solo lectura sobre un pool acotado y
+ * tiene un plazo común: la que no termina a tiempo se omite sin bloquear al resto.
+ * La instantánea se guarda unos segundos y solo un hilo a la vez la recalcula; mientras tanto
+ * los demás reciben la anterior (o esperan al primero si todavía no hay ninguna).
+ * El método no abre transacción propia: no toma conexión mientras espera a las secciones.
+ */
+@Service
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardServiceImpl.class);
+
+    private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(Constants.CACHE_DASHBOARD_SEGUNDOS);
+    private static final int SECCIONES = 5;
+
+    @Autowired
+    private EstadisticasService estadisticasService;
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @Autowired
+    private ReservaDiariaRepository reservaDiariaRepository;
+
+    @Autowired
+    private AsignacionGuiaRepository asignacionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.estadisticas.dashboard-workers:4}")
+    private int workers;
+
+    @Value("${app.estadisticas.dashboard-timeout-ms:2000}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor ejecutor;
+
+    private TransactionTemplate lectura;
+
+    private volatile DashboardCacheado cache;
+
+    private final AtomicReference<CompletableFuture<DashboardDTO>> refresco = new AtomicReference<>();
+
+    @PostConstruct
+    void iniciar() {
+        AtomicInteger contador = new AtomicInteger();
+        // Cola acotada: si secciones lentas de una instantánea anterior ocupan el pool, las nuevas se omiten
+        ejecutor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(SECCIONES * 2), tarea -> {
+                Thread hilo = new Thread(tarea, "dashboard-" + contador.incrementAndGet());
+                hilo.setDaemon(true);
+                return hilo;
+            });
+
+        lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+    }
+
+    @PreDestroy
+    void detener() {
+        ejecutor.shutdownNow();
+    }
+
+    @Override
+    public DashboardDTO obtenerDashboard() {
+        DashboardCacheado actual = cache;
+        if (vigente(actual)) {
+            return actual.dashboard;
+        }
+
+        CompletableFuture<DashboardDTO> propio = new CompletableFuture<>();
+        CompletableFuture<DashboardDTO> enCurso = refresco.compareAndExchange(null, propio);
+        if (enCurso != null) {
+            return actual != null ? actual.dashboard : enCurso.join();
+        }
+
+        try {
+            // Otro hilo pudo terminar de recalcular entre la lectura de la caché y la reserva del refresco
+            actual = cache;
+            if (!vigente(actual)) {
+                actual = new DashboardCacheado(System.nanoTime(), armar());
+                cache = actual;
+            }
+            propio.complete(actual.dashboard);
+            return actual.dashboard;
+        } catch (RuntimeException e) {
+            propio.completeExceptionally(e);
+            throw e;
+        } finally {
+            refresco.set(null);
+        }
+    }
+
+    private DashboardDTO armar() {
+        long inicio = System.nanoTime();
+        LocalDate hoy = LocalDate.now();
+        YearMonth mes = YearMonth.from(hoy);
+        PageRequest primeras = PageRequest.of(0, Constants.MAX_RESERVAS_DASHBOARD);
+
+        // Cada tarea devuelve cómo aplicar su resultado; solo el hilo que arma el DTO lo modifica
+        Map<String, Future<Consumer<DashboardDTO>>> secciones = new LinkedHashMap<>();
+        secciones.put("ocupacion", enviar(() -> {
+            List<OcupacionSenderoDTO> ocupacion = estadisticasService.obtenerOcupacion(hoy);
+            return d -> d.setOcupacion(ocupacion);
+        }));
+        secciones.put("pendientesConfirmacion", enviar(() -> {
+            long total = reservaDiariaRepository.totalizarPorEstado().stream()
+                .filter(t -> t.getEstado() == EstadoReserva.PENDIENTE)
+                .mapToLong(TotalesEstadoProjection::getTotalReservas)
+                .sum();
+            List<ReservaResumenDTO> reservas = toResumen(reservaRepository.findPendientesConfirmacion(primeras));
+            return d -> {
+                d.setTotalPendientesConfirmacion(total);
+                d.setPendientesConfirmacion(reservas);
+            };
+        }));
+        secciones.put("pendientesAsignacion", enviar(() -> {
+            long total = reservaRepository.countReservasPendientesAsignacion();
+            List<ReservaResumenDTO> reservas = toResumen(reservaRepository.findReservasPendientesAsignacion(primeras));
+            return d -> {
+                d.setTotalPendientesAsignacion(total);
+                d.setPendientesAsignacion(reservas);
+            };
+        }));
+        secciones.put("recorridosEnCurso", enviar(() -> {
+            List<RecorridoEnCursoDTO> recorridos = asignacionRepository.findAsignacionesEnCurso().stream()
+                .map(this::toRecorrido)
+                .collect(Collectors.toList());
+            return d -> d.setRecorridosEnCurso(recorridos);
+        }));
+        secciones.put("totalesMes", enviar(() -> {
+            List<ReservasPorEstadoDTO> totales =
+                estadisticasService.obtenerReservasPorEstado(mes.atDay(1), mes.atEndOfMonth());
+            return d -> d.setTotalesMes(totales);
+        }));
+
+        DashboardDTO dashboard = new DashboardDTO();
+        dashboard.setFecha(hoy);
+        long plazo = inicio + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        for (Map.Entry<String, Future<Consumer<DashboardDTO>>> seccion : secciones.entrySet()) {
+            try {
+                seccion.getValue().get(Math.max(0, plazo - System.nanoTime()), TimeUnit.NANOSECONDS)
+                    .accept(dashboard);
+            } catch (TimeoutException e) {
+                seccion.getValue().cancel(true);
+                dashboard.getSeccionesNoDisponibles().add(seccion.getKey());
+                logger.warn("Sección {} del tablero omitida: superó {} ms", seccion.getKey(), timeoutMs);
+            } catch (ExecutionException e) {
+                dashboard.getSeccionesNoDisponibles().add(seccion.getKey());
+                logger.warn("Sección {} del tablero omitida: {}", seccion.getKey(), e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dashboard.getSeccionesNoDisponibles().add(seccion.getKey());
+            }
+        }
+        dashboard.setGeneradoEn(LocalDateTime.now());
+
+        logger.debug("Tablero armado en {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+        return dashboard;
+    }
+
+    private Future<Consumer<DashboardDTO>> enviar(Supplier<Consumer<DashboardDTO>> tarea) {
+        try {
+            return ejecutor.submit(() -> lectura.execute(status -> tarea.get()));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Pool del tablero saturado"));
+        }
+    }
+
+    private boolean vigente(DashboardCacheado cacheado) {
+        return cacheado != null && System.nanoTime() - cacheado.instante < TTL_NANOS;
+    }
+
+    private List<ReservaResumenDTO> toResumen(List<ReservaResumenProjection> filas) {
+        return filas.stream().map(fila -> {
+            ReservaResumenDTO dto = new ReservaResumenDTO();
+            dto.setIdReserva(fila.getIdReserva());
+            dto.setFechaVisita(fila.getFechaVisita());
+            dto.setHoraInicio(fila.getHoraInicio());
+            dto.setNumeroPersonas(fila.getNumeroPersonas());
+            dto.setEstado(fila.getEstado());
+            dto.setIdSendero(fila.getIdSendero());
+            dto.setNombreSendero(fila.getNombreSendero());
+            dto.setIdVisitante(fila.getIdVisitante());
+            dto.setNombreVisitante(fila.getNombreVisitante() + " " + fila.getApellidoVisitante());
+            return dto;
+        }).collect(Collectors.toList());
+    }
+
+    private RecorridoEnCursoDTO toRecorrido(AsignacionGuia asignacion) {
+        RecorridoEnCursoDTO dto = new RecorridoEnCursoDTO();
+        dto.setIdAsignacion(asignacion.getIdAsignacion());
+        dto.setIdReserva(asignacion.getReserva().getIdReserva());
+        dto.setIdGuia(asignacion.getGuia().getId());
+        dto.setNombreGuia(asignacion.getGuia().getNombreCompleto());
+        dto.setIdSendero(asignacion.getReserva().getSendero().getIdSendero());
+        dto.setNombreSendero(asignacion.getReserva().getSendero().getNombre());
+        dto.setNumeroPersonas(asignacion.getReserva().getNumeroPersonas());
+        dto.setHoraInicioReal(asignacion.getHoraInicioReal());
+        return dto;
+    }
+
+    /**
+     * Instantánea del tablero y el instante (System.nanoTime) en que se armó
+     */
+    private static class DashboardCacheado {
+
+        private final long instante;
+        private final DashboardDTO dashboard;
+
+        DashboardCacheado(long instante, DashboardDTO dashboard) {
+            this.instante = instante;
+            this.dashboard = dashboard;
+        }
+    }
+}
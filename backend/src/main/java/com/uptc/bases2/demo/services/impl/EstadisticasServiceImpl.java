@@ -0,0 +1,285 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.exceptions.BadRequestException;
+import com.uptc.bases2.demo.models.dto.response.EstadisticasGeneralesDTO;
+import com.uptc.bases2.demo.models.dto.response.EstadisticasRangoDTO;
+import com.uptc.bases2.demo.models.dto.response.EstadisticasRangoDTO.SenderoResumenDTO;
+import com.uptc.bases2.demo.models.dto.response.HorarioDisponibilidadDTO;
+import com.uptc.bases2.demo.models.dto.response.OcupacionSenderoDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservasPorEstadoDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservasPorMesDTO;
+import com.uptc.bases2.demo.models.enums.DiaSemana;
+import com.uptc.bases2.demo.models.enums.EstadoGeneral;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.repositories.HorarioDisponibleRepository;
+import com.uptc.bases2.demo.repositories.ReservaDiariaRepository;
+import com.uptc.bases2.demo.repositories.SenderoOcupacionRepository;
+import com.uptc.bases2.demo.repositories.SenderoRepository;
+import com.uptc.bases2.demo.repositories.VisitanteRepository;
+import com.uptc.bases2.demo.repositories.projections.OcupacionHorarioProjection;
+import com.uptc.bases2.demo.repositories.projections.OcupacionSenderoProjection;
+import com.uptc.bases2.demo.repositories.projections.TotalesEstadoProjection;
+import com.uptc.bases2.demo.repositories.projections.TotalesMesProjection;
+import com.uptc.bases2.demo.services.interfaces.ClasificacionService;
+import com.uptc.bases2.demo.services.interfaces.EstadisticasService;
+import com.uptc.bases2.demo.services.interfaces.HorasPicoService;
+import com.uptc.bases2.demo.services.interfaces.ResumenDiarioService;
+import com.uptc.bases2.demo.services.interfaces.SeriesReservasService;
+import com.uptc.bases2.demo.utils.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación de las estadísticas de reservas.
+ * Todas las consultas agregan RESERVA_DIARIA (una fila por fecha, sendero, estado y hora)
+ * y nunca recorren la tabla RESERVA.
+ */
+@Service
+@Transactional
+public class EstadisticasServiceImpl implements EstadisticasService {
+
+    private static final long TTL_OCUPACION_NANOS = TimeUnit.SECONDS.toNanos(Constants.CACHE_OCUPACION_SEGUNDOS);
+
+    @Autowired
+    private ReservaDiariaRepository reservaDiariaRepository;
+
+    @Autowired
+    private VisitanteRepository visitanteRepository;
+
+    @Autowired
+    private SenderoRepository senderoRepository;
+
+    @Autowired
+    private SenderoOcupacionRepository ocupacionRepository;
+
+    @Autowired
+    private HorarioDisponibleRepository horarioRepository;
+
+    @Autowired
+    private ResumenDiarioService resumenDiarioService;
+
+    @Autowired
+    private HorasPicoService horasPicoService;
+
+    @Autowired
+    private SeriesReservasService seriesReservasService;
+
+    @Autowired
+    private ClasificacionService clasificacionService;
+
+    // Ocupación calculada por fecha; las pantallas que refrescan cada pocos segundos comparten la misma lectura
+    private final Map<LocalDate, OcupacionCacheada> cacheOcupacion = new ConcurrentHashMap<>();
+
+    @Override
+    @Transactional(readOnly = true)
+    public EstadisticasGeneralesDTO obtenerGenerales() {
+        Map<EstadoReserva, TotalesEstadoProjection> totales = porEstado(reservaDiariaRepository.totalizarPorEstado());
+        LocalDate hoy = LocalDate.now();
+        Map<EstadoReserva, TotalesEstadoProjection> deHoy =
+            porEstado(reservaDiariaRepository.totalizarPorEstadoEntre(hoy, hoy));
+
+        EstadisticasGeneralesDTO dto = new EstadisticasGeneralesDTO();
+        dto.setReservasPorEstado(contarPorEstado(totales));
+        dto.setTotalReservas(sumar(totales, false, false));
+        dto.setTotalPersonas(sumar(totales, true, false));
+        // Las reservas canceladas o expiradas no cuentan como visitas del día
+        dto.setReservasHoy(sumar(deHoy, false, true));
+        dto.setPersonasHoy(sumar(deHoy, true, true));
+        dto.setVisitantesActivos(visitanteRepository.countByEstado(EstadoGeneral.ACTIVO));
+        dto.setSenderosActivos(senderoRepository.countByEstado(EstadoGeneral.ACTIVO));
+        return dto;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservasPorEstadoDTO> obtenerReservasPorEstado(LocalDate desde, LocalDate hasta) {
+        if ((desde == null) != (hasta == null)) {
+            throw new BadRequestException("Debe indicar ambas fechas o ninguna");
+        }
+        validarRango(desde, hasta);
+
+        Map<EstadoReserva, TotalesEstadoProjection> totales = porEstado(desde == null
+            ? reservaDiariaRepository.totalizarPorEstado()
+            : reservaDiariaRepository.totalizarPorEstadoEntre(desde, hasta));
+        long total = sumar(totales, false, false);
+
+        List<ReservasPorEstadoDTO> resultado = new ArrayList<>();
+        for (EstadoReserva estado : EstadoReserva.values()) {
+            TotalesEstadoProjection fila = totales.get(estado);
+            ReservasPorEstadoDTO dto = new ReservasPorEstadoDTO(estado,
+                fila != null ? fila.getTotalReservas() : 0L,
+                fila != null ? fila.getTotalPersonas() : 0L);
+            dto.setPorcentaje(total > 0 ? Math.round(dto.getTotalReservas() * 1000.0 / total) / 10.0 : 0.0);
+            resultado.add(dto);
+        }
+        return resultado;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReservasPorMesDTO> obtenerReservasPorMes(int anio) {
+        if (anio < 1 || anio > 9999) {
+            throw new BadRequestException("Año no válido: " + anio);
+        }
+
+        List<ReservasPorMesDTO> meses = new ArrayList<>();
+        for (int mes = 1; mes <= 12; mes++) {
+            ReservasPorMesDTO dto = new ReservasPorMesDTO(anio, mes);
+            for (EstadoReserva estado : EstadoReserva.values()) {
+                dto.getReservasPorEstado().put(estado, 0L);
+            }
+            meses.add(dto);
+        }
+
+        List<TotalesMesProjection> filas = reservaDiariaRepository.totalizarPorMesEntre(
+            LocalDate.of(anio, 1, 1), LocalDate.of(anio, 12, 31));
+        for (TotalesMesProjection fila : filas) {
+            ReservasPorMesDTO dto = meses.get(fila.getMes() - 1);
+            dto.setTotalReservas(dto.getTotalReservas() + fila.getTotalReservas());
+            dto.setTotalPersonas(dto.getTotalPersonas() + fila.getTotalPersonas());
+            dto.getReservasPorEstado().merge(fila.getEstado(), fila.getTotalReservas(), Long::sum);
+        }
+        return meses;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EstadisticasRangoDTO obtenerPorRango(LocalDate fechaInicio, LocalDate fechaFin) {
+        validarRango(fechaInicio, fechaFin);
+
+        Map<EstadoReserva, TotalesEstadoProjection> totales =
+            porEstado(reservaDiariaRepository.totalizarPorEstadoEntre(fechaInicio, fechaFin));
+
+        EstadisticasRangoDTO dto = new EstadisticasRangoDTO(fechaInicio, fechaFin);
+        dto.setReservasPorEstado(contarPorEstado(totales));
+        dto.setTotalReservas(sumar(totales, false, false));
+        dto.setTotalPersonas(sumar(totales, true, false));
+        dto.setSenderos(reservaDiariaRepository.totalizarPorSenderoEntre(fechaInicio, fechaFin).stream()
+            .map(s -> new SenderoResumenDTO(s.getIdSendero(), s.getNombre(),
+                s.getTotalReservas(), s.getTotalPersonas()))
+            .collect(Collectors.toList()));
+        return dto;
+    }
+
+    /**
+     * Sin transacción propia: una lectura desde la caché no toma conexión de la base de datos
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<OcupacionSenderoDTO> obtenerOcupacion(LocalDate fecha) {
+        long ahora = System.nanoTime();
+        OcupacionCacheada cacheada = cacheOcupacion.get(fecha);
+        if (cacheada != null && ahora - cacheada.instante < TTL_OCUPACION_NANOS) {
+            return cacheada.senderos;
+        }
+
+        List<OcupacionSenderoDTO> senderos = calcularOcupacion(fecha);
+        cacheOcupacion.values().removeIf(c -> ahora - c.instante >= TTL_OCUPACION_NANOS);
+        cacheOcupacion.put(fecha, new OcupacionCacheada(ahora, senderos));
+        return senderos;
+    }
+
+    @Override
+    public int reconstruirResumen(LocalDate desde, LocalDate hasta) {
+        int filas = resumenDiarioService.reconstruir(desde, hasta);
+        // El histograma, las series y los senderos populares se derivan del resumen:
+        // recargarlos cuando el nuevo resumen sea visible
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                horasPicoService.recargar();
+                seriesReservasService.recargar();
+                clasificacionService.invalidar();
+            }
+        });
+        return filas;
+    }
+
+    /**
+     * Dos consultas sobre los ledgers de cupo: una fila por sendero activo y una por horario del día
+     */
+    private List<OcupacionSenderoDTO> calcularOcupacion(LocalDate fecha) {
+        String dia = DiaSemana.fromDayOfWeek(fecha.getDayOfWeek()).getAbreviatura();
+        Map<Long, List<HorarioDisponibilidadDTO>> horariosPorSendero = new HashMap<>();
+        for (OcupacionHorarioProjection h : horarioRepository.findOcupacionHorariosActivos(fecha, dia)) {
+            horariosPorSendero.computeIfAbsent(h.getIdSendero(), k -> new ArrayList<>())
+                .add(new HorarioDisponibilidadDTO(h.getIdHorario(), h.getHoraInicio(), h.getHoraFin(),
+                    h.getCupoHorario(), h.getPersonasReservadas()));
+        }
+
+        List<OcupacionSenderoDTO> senderos = new ArrayList<>();
+        for (OcupacionSenderoProjection s : ocupacionRepository.findOcupacionActivos(fecha)) {
+            OcupacionSenderoDTO dto = new OcupacionSenderoDTO(s.getIdSendero(), s.getNombre(), fecha,
+                s.getCupoMaximoDia(), s.getPersonasReservadas());
+            dto.setHorarios(horariosPorSendero.getOrDefault(s.getIdSendero(), new ArrayList<>()));
+            senderos.add(dto);
+        }
+        return List.copyOf(senderos);
+    }
+
+    private void validarRango(LocalDate desde, LocalDate hasta) {
+        if (desde != null && hasta != null && hasta.isBefore(desde)) {
+            throw new BadRequestException("La fecha final no puede ser anterior a la inicial");
+        }
+    }
+
+    private Map<EstadoReserva, TotalesEstadoProjection> porEstado(List<TotalesEstadoProjection> filas) {
+        Map<EstadoReserva, TotalesEstadoProjection> mapa = new EnumMap<>(EstadoReserva.class);
+        for (TotalesEstadoProjection fila : filas) {
+            mapa.put(fila.getEstado(), fila);
+        }
+        return mapa;
+    }
+
+    /**
+     * Reservas por estado en el orden del enum, con cero para los estados sin reservas
+     */
+    private Map<EstadoReserva, Long> contarPorEstado(Map<EstadoReserva, TotalesEstadoProjection> totales) {
+        Map<EstadoReserva, Long> conteo = new LinkedHashMap<>();
+        for (EstadoReserva estado : EstadoReserva.values()) {
+            TotalesEstadoProjection fila = totales.get(estado);
+            conteo.put(estado, fila != null ? fila.getTotalReservas() : 0L);
+        }
+        return conteo;
+    }
+
+    private long sumar(Map<EstadoReserva, TotalesEstadoProjection> totales, boolean personas,
+                       boolean soloDemanda) {
+        long suma = 0;
+        for (TotalesEstadoProjection fila : totales.values()) {
+            if (!soloDemanda || fila.getEstado().cuentaComoDemanda()) {
+                suma += personas ? fila.getTotalPersonas() : fila.getTotalReservas();
+            }
+        }
+        return suma;
+    }
+
+    /**
+     * Resultado de ocupación de una fecha y el instante (System.nanoTime) en que se calculó
+     */
+    private static class OcupacionCacheada {
+
+        private final long instante;
+        private final List<OcupacionSenderoDTO> senderos;
+
+        OcupacionCacheada(long instante, List<OcupacionSenderoDTO> senderos) {
+            this.instante = instante;
+            this.senderos = senderos;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uptc.bases2.demo.exceptions.BadRequestException;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.models.enums.FormatoExportacion;
+import com.uptc.bases2.demo.services.interfaces.ExportacionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementación de la exportación de reservas por streaming.
+ *
+ * Las filas se leen con un cursor JDBC de solo avance (fetch size configurable) y se
+ * escriben en la salida a medida que llegan, sin construir entidades ni listas en memoria.
+ */
+@Service
+public class ExportacionServiceImpl implements ExportacionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportacionServiceImpl.class);
+
+    private static final String[] COLUMNAS = {
+        "idReserva", "fechaVisita", "horaInicio", "numeroPersonas", "estado",
+        "idSendero", "sendero", "idVisitante", "visitante", "emailVisitante", "fechaCreacion"
+    };
+
+    private static final String SQL_RESERVAS =
+        "SELECT r.ID_RESERVA, r.FECHA_VISITA, r.HORA_INICIO, r.NUMERO_PERSONAS, r.ESTADO, " +
+        "s.ID_SENDERO, s.NOMBRE AS NOMBRE_SENDERO, u.ID_USUARIO, " +
+        "u.NOMBRE AS NOMBRE_VISITANTE, u.APELLIDO, u.EMAIL, r.FECHA_CREACION " +
+        "FROM RESERVA r " +
+        "JOIN SENDERO s ON s.ID_SENDERO = r.ID_SENDERO " +
+        "JOIN USUARIO u ON u.ID_USUARIO = r.ID_VISITANTE " +
+        "WHERE 1 = 1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.exportacion.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportarReservas(FormatoExportacion formato, LocalDate desde, LocalDate hasta,
+                                 Long senderoId, EstadoReserva estado, OutputStream salida) throws IOException {
+        if (desde != null && hasta != null && hasta.isBefore(desde)) {
+            throw new BadRequestException("La fecha final no puede ser anterior a la inicial");
+        }
+
+        // Filtros dinámicos: solo se agregan los predicados enviados para aprovechar IDX_RESERVA_FECHA
+        StringBuilder sql = new StringBuilder(SQL_RESERVAS);
+        List<Object> parametros = new ArrayList<>();
+        if (desde != null) {
+            sql.append(" AND r.FECHA_VISITA >= ?");
+            parametros.add(Date.valueOf(desde));
+        }
+        if (hasta != null) {
+            sql.append(" AND r.FECHA_VISITA <= ?");
+            parametros.add(Date.valueOf(hasta));
+        }
+        if (senderoId != null) {
+            sql.append(" AND r.ID_SENDERO = ?");
+            parametros.add(senderoId);
+        }
+        if (estado != null) {
+            sql.append(" AND r.ESTADO = ?");
+            parametros.add(estado.name());
+        }
+        sql.append(" ORDER BY r.FECHA_VISITA, r.ID_RESERVA");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8));
+        EscritorFilas escritor = formato == FormatoExportacion.CSV
+            ? new EscritorCsv(writer)
+            : new EscritorNdjson(objectMapper, writer);
+
+        long inicio = System.currentTimeMillis();
+        long[] filas = {0};
+        try {
+            escritor.iniciar();
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                for (int i = 0; i < parametros.size(); i++) {
+                    ps.setObject(i + 1, parametros.get(i));
+                }
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    escritor.escribir(leerFila(rs));
+                    filas[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            escritor.finalizar();
+        } catch (UncheckedIOException e) {
+            // El cliente cerró la conexión: se corta la lectura del cursor
+            throw e.getCause();
+        }
+
+        logger.info("Exportación {} de reservas: {} filas en {} ms",
+            formato, filas[0], System.currentTimeMillis() - inicio);
+        return filas[0];
+    }
+
+    private Object[] leerFila(ResultSet rs) throws SQLException {
+        Date fechaVisita = rs.getDate("FECHA_VISITA");
+        Timestamp horaInicio = rs.getTimestamp("HORA_INICIO");
+        Timestamp fechaCreacion = rs.getTimestamp("FECHA_CREACION");
+
+        return new Object[] {
+            rs.getLong("ID_RESERVA"),
+            fechaVisita != null ? fechaVisita.toLocalDate().toString() : null,
+            horaInicio != null ? horaInicio.toLocalDateTime().toLocalTime().toString() : null,
+            rs.getInt("NUMERO_PERSONAS"),
+            rs.getString("ESTADO"),
+            rs.getLong("ID_SENDERO"),
+            rs.getString("NOMBRE_SENDERO"),
+            rs.getLong("ID_USUARIO"),
+            rs.getString("NOMBRE_VISITANTE") + " " + rs.getString("APELLIDO"),
+            rs.getString("EMAIL"),
+            fechaCreacion != null ? fechaCreacion.toLocalDateTime().toString() : null
+        };
+    }
+
+    /**
+     * Escritor de filas para un formato de exportación
+     */
+    private interface EscritorFilas {
+
+        void iniciar() throws IOException;
+
+        void escribir(Object[] valores) throws IOException;
+
+        void finalizar() throws IOException;
+    }
+
+    /**
+     * Un objeto JSON por línea; el generador de Jackson escribe directo sobre el writer
+     */
+    private static class EscritorNdjson implements EscritorFilas {
+
+        private final JsonGenerator generator;
+
+        EscritorNdjson(ObjectMapper objectMapper, Writer writer) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Sin separador entre valores raíz: cada objeto termina con su propio salto de línea
+            this.generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+        }
+
+        @Override
+        public void iniciar() {
+        }
+
+        @Override
+        public void escribir(Object[] valores) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < COLUMNAS.length; i++) {
+                generator.writeFieldName(COLUMNAS[i]);
+                generator.writeObject(valores[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finalizar() throws IOException {
+            generator.flush();
+        }
+    }
+
+    /**
+     * CSV (RFC 4180) con encabezado
+     */
+    private static class EscritorCsv implements EscritorFilas {
+
+        private final Writer writer;
+
+        EscritorCsv(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void iniciar() throws IOException {
+            writer.write(String.join(",", COLUMNAS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void escribir(Object[] valores) throws IOException {
+            for (int i = 0; i < valores.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (valores[i] != null) {
+                    writer.write(escapar(valores[i].toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finalizar() throws IOException {
+            writer.flush();
+        }
+
+        private static String escapar(String valor) {
+            if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0
+                    && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+                return valor;
+            }
+            return "\"" + valor.replace("\"", "\"\"") + "\"";
+        }
+    }
+}
@@ -4,7 +4,6 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -12,17 +11,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.uptc.bases2.demo.exceptions.ConflictException;
 import com.uptc.bases2.demo.exceptions.ResourceNotFoundException;
+import com.uptc.bases2.demo.mappers.GuiaMapper;
 import com.uptc.bases2.demo.models.dto.request.GuiaRequestDTO;
 import com.uptc.bases2.demo.models.dto.response.AgendaGuiaResponseDTO;
 import com.uptc.bases2.demo.models.dto.response.AsignacionResponseDTO;
 import com.uptc.bases2.demo.models.dto.response.GuiaResponseDTO;
-import com.uptc.bases2.demo.models.dto.response.ReservaResponseDTO;
-import com.uptc.bases2.demo.models.entities.AsignacionGuia;
+import com.uptc.bases2.demo.models.dto.response.PaginaDTO;
 import com.uptc.bases2.demo.models.entities.Guia;
 import com.uptc.bases2.demo.models.enums.EstadoGeneral;
-import com.uptc.bases2.demo.repositories.AsignacionGuiaRepository;
 import com.uptc.bases2.demo.repositories.GuiaRepository;
+import com.uptc.bases2.demo.services.interfaces.AsignacionGuiaService;
 import com.uptc.bases2.demo.services.interfaces.GuiaService;
+import com.uptc.bases2.demo.utils.PaginacionUtils;
 
 /**
  * Implementación del servicio de guías
@@ -35,10 +35,10 @@ public class GuiaServiceImpl implements GuiaService {
     private GuiaRepository guiaRepository;
 
     @Autowired
-    private AsignacionGuiaRepository asignacionRepository;
+    private AsignacionGuiaService asignacionGuiaService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private GuiaMapper guiaMapper;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -69,7 +69,7 @@ public class GuiaServiceImpl implements GuiaService {
         }
 
         guia = guiaRepository.save(guia);
-        return modelMapper.map(guia, GuiaResponseDTO.class);
+        return guiaMapper.toResponseDTO(guia);
     }
 
     @Override
@@ -78,7 +78,7 @@ public class GuiaServiceImpl implements GuiaService {
         Guia guia = guiaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Guía", "id", id));
 
-        return modelMapper.map(guia, GuiaResponseDTO.class);
+        return guiaMapper.toResponseDTO(guia);
     }
 
     @Override
@@ -87,22 +87,34 @@ public class GuiaServiceImpl implements GuiaService {
         Guia guia = guiaRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("Guía", "email", email));
 
-        return modelMapper.map(guia, GuiaResponseDTO.class);
+        return guiaMapper.toResponseDTO(guia);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<GuiaResponseDTO> obtenerTodos() {
         return guiaRepository.findAll().stream()
-                .map(guia -> modelMapper.map(guia, GuiaResponseDTO.class))
+                .map(guia -> guiaMapper.toResponseDTO(guia))
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaDTO<GuiaResponseDTO> obtenerPagina(String cursor, Integer tamano, EstadoGeneral estado) {
+        int tamanoPagina = PaginacionUtils.normalizarTamano(tamano);
+        List<Guia> filas = guiaRepository.findPagina(
+                PaginacionUtils.decodificarId(cursor), estado, PaginacionUtils.limite(tamanoPagina));
+
+        return PaginaDTO.desdeFilas(filas, tamanoPagina,
+                guia -> guiaMapper.toResponseDTO(guia),
+                guia -> PaginacionUtils.codificarCursor(guia.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<GuiaResponseDTO> obtenerActivos() {
         return guiaRepository.findAllActivos().stream()
-                .map(guia -> modelMapper.map(guia, GuiaResponseDTO.class))
+                .map(guia -> guiaMapper.toResponseDTO(guia))
                 .collect(Collectors.toList());
     }
 
@@ -110,7 +122,7 @@ public class GuiaServiceImpl implements GuiaService {
     @Transactional(readOnly = true)
     public List<GuiaResponseDTO> obtenerDisponiblesPorFecha(LocalDate fecha) {
         return guiaRepository.findGuiasDisponiblesPorFecha(fecha).stream()
-                .map(guia -> modelMapper.map(guia, GuiaResponseDTO.class))
+                .map(guia -> guiaMapper.toResponseDTO(guia))
                 .collect(Collectors.toList());
     }
 
@@ -142,7 +154,7 @@ public class GuiaServiceImpl implements GuiaService {
         }
 
         guia = guiaRepository.save(guia);
-        return modelMapper.map(guia, GuiaResponseDTO.class);
+        return guiaMapper.toResponseDTO(guia);
     }
 
     @Override
@@ -170,13 +182,8 @@ public class GuiaServiceImpl implements GuiaService {
         Guia guia = guiaRepository.findById(guiaId)
                 .orElseThrow(() -> new ResourceNotFoundException(" Guía", "id", guiaId));
 
-        // Obtener asignaciones para la fecha especificada
-        List<AsignacionGuia> asignaciones = asignacionRepository.findByGuiaIdAndFecha(guiaId, fecha);
-
-        // Convertir a DTOs usando el mismo converter que ya tiene toda la info
-        List<AsignacionResponseDTO> recorridosDTOs = asignaciones.stream()
-                .map(this::convertirAsignacionAResponseDTO)
-                .collect(Collectors.toList());
+        // Asignaciones de la fecha con guía, reserva, visitante y sendero en una sola consulta
+        List<AsignacionResponseDTO> recorridosDTOs = asignacionGuiaService.obtenerPorGuiaYFecha(guiaId, fecha);
 
         // Crear respuesta de agenda
         AgendaGuiaResponseDTO agenda = new AgendaGuiaResponseDTO();
@@ -184,40 +191,16 @@ public class GuiaServiceImpl implements GuiaService {
         agenda.setRecorridos(recorridosDTOs); // Ahora es List<AsignacionResponseDTO>
         agenda.setTotalRecorridos(recorridosDTOs.size());
 
-        long pendientes = asignaciones.stream()
-                .filter(a -> !a.estaFinalizado())
-                .count();
-        agenda.setRecorridosPendientes((int) pendientes);
-
-        long completados = asignaciones.stream()
-                .filter(AsignacionGuia::estaFinalizado)
+        // Finalizado: con hora de inicio y de fin real (AsignacionGuia.estaFinalizado)
+        long completados = recorridosDTOs.stream()
+                .filter(a -> a.getHoraInicioReal() != null && a.getHoraFinReal() != null)
                 .count();
         agenda.setRecorridosCompletados((int) completados);
+        agenda.setRecorridosPendientes(recorridosDTOs.size() - (int) completados);
 
         return agenda;
     }
 
-    // Método helper para convertir AsignacionGuia a AsignacionResponseDTO
-    private AsignacionResponseDTO convertirAsignacionAResponseDTO(AsignacionGuia asignacion) {
-        AsignacionResponseDTO dto = new AsignacionResponseDTO();
-
-        dto.setIdAsignacion(asignacion.getIdAsignacion());
-        dto.setIdReserva(asignacion.getReserva().getIdReserva());
-        dto.setGuia(modelMapper.map(asignacion.getGuia(), GuiaResponseDTO.class));
-        dto.setReserva(modelMapper.map(asignacion.getReserva(), ReservaResponseDTO.class));
-        dto.setFechaAsignacion(asignacion.getFechaAsignacion());
-        dto.setHoraInicioReal(asignacion.getHoraInicioReal());
-        dto.setHoraFinReal(asignacion.getHoraFinReal());
-        dto.setObservacionesGuia(asignacion.getObservacionesGuia());
-        dto.setCalificacionVisitante(asignacion.getCalificacionVisitante());
-        dto.setComentarioVisitante(asignacion.getComentarioVisitante());
-        dto.setIncidencias(asignacion.getIncidencias());
-        dto.setDescripcionIncidencias(asignacion.getDescripcionIncidencias());
-        dto.setDuracionMinutos(asignacion.getDuracionMinutos());
-
-        return dto;
-    }
-
     @Override
     @Transactional(readOnly = true)
     public boolean puedeTomarRecorrido(Long guiaId, LocalDate fecha) {
@@ -3,17 +3,19 @@ package com.uptc.bases2.demo.services.impl;
 import com.uptc.bases2.demo.exceptions.BusinessRuleException;
 import com.uptc.bases2.demo.exceptions.ResourceNotFoundException;
 import com.uptc.bases2.demo.models.dto.request.HorarioRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.HorarioDisponibilidadDTO;
 import com.uptc.bases2.demo.models.dto.response.HorarioResponseDTO;
 import com.uptc.bases2.demo.models.entities.HorarioDisponible;
 import com.uptc.bases2.demo.models.entities.Sendero;
+import com.uptc.bases2.demo.models.enums.DiaSemana;
 import com.uptc.bases2.demo.repositories.HorarioDisponibleRepository;
 import com.uptc.bases2.demo.repositories.SenderoRepository;
 import com.uptc.bases2.demo.services.interfaces.HorarioDisponibleService;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,9 +32,6 @@ public class HorarioDisponibleServiceImpl implements HorarioDisponibleService {
     @Autowired
     private SenderoRepository senderoRepository;
 
-    @Autowired
-    private ModelMapper modelMapper;
-
     @Override
     public HorarioResponseDTO crear(HorarioRequestDTO request) {
         // Validar que el sendero existe
@@ -96,6 +95,17 @@ public class HorarioDisponibleServiceImpl implements HorarioDisponibleService {
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<HorarioDisponibilidadDTO> obtenerDisponibilidad(Long senderoId, LocalDate fecha) {
+        if (!senderoRepository.existsById(senderoId)) {
+            throw new ResourceNotFoundException("Sendero", "id", senderoId);
+        }
+
+        String dia = DiaSemana.fromDayOfWeek(fecha.getDayOfWeek()).getAbreviatura();
+        return horarioRepository.findDisponibilidad(senderoId, fecha, dia);
+    }
+
     @Override
     public HorarioResponseDTO actualizar(Long id, HorarioRequestDTO request) {
         HorarioDisponible horario = horarioRepository.findById(id)
@@ -106,6 +116,15 @@ public class HorarioDisponibleServiceImpl implements HorarioDisponibleService {
             throw new BusinessRuleException("La hora de inicio debe ser anterior a la hora de fin");
         }
 
+        // Un solo horario activo por sendero y hora de inicio (las reservas se enlazan por esa hora)
+        if (horario.estaActivo() && horarioRepository.existsBySenderoIdSenderoAndHoraInicioAndActivoTrueAndIdHorarioNot(
+                horario.getSendero().getIdSendero(), request.getHoraInicio(), id)) {
+            throw new BusinessRuleException(
+                "Ya existe otro horario activo del sendero con la misma hora de inicio",
+                "HORARIO_SOLAPADO"
+            );
+        }
+
         // Actualizar datos
         horario.setHoraInicio(request.getHoraInicio());
         horario.setHoraFin(request.getHoraFin());
@@ -125,6 +144,14 @@ public class HorarioDisponibleServiceImpl implements HorarioDisponibleService {
         HorarioDisponible horario = horarioRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Horario", "id", id));
 
+        if (horarioRepository.existsBySenderoIdSenderoAndHoraInicioAndActivoTrueAndIdHorarioNot(
+                horario.getSendero().getIdSendero(), horario.getHoraInicio(), id)) {
+            throw new BusinessRuleException(
+                "Ya existe otro horario activo del sendero con la misma hora de inicio",
+                "HORARIO_SOLAPADO"
+            );
+        }
+
         horario.setActivo(true);
         horarioRepository.save(horario);
     }
@@ -0,0 +1,241 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.exceptions.ResourceNotFoundException;
+import com.uptc.bases2.demo.models.dto.response.HoraPicoDTO;
+import com.uptc.bases2.demo.models.dto.response.RecomendacionCupoDTO;
+import com.uptc.bases2.demo.models.entities.HorarioDisponible;
+import com.uptc.bases2.demo.models.entities.Sendero;
+import com.uptc.bases2.demo.models.enums.DiaSemana;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.repositories.HorarioDisponibleRepository;
+import com.uptc.bases2.demo.repositories.ReservaDiariaRepository;
+import com.uptc.bases2.demo.repositories.SenderoRepository;
+import com.uptc.bases2.demo.repositories.projections.DemandaHoraProjection;
+import com.uptc.bases2.demo.services.interfaces.HorasPicoService;
+import com.uptc.bases2.demo.utils.DeltasPostCommit;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del histograma de horas pico.
+ *
+ * Cada sendero tiene dos arreglos de 7 x 24 contadores (reservas y personas) indexados por
+ * día de la semana y hora de inicio. Se cargan una vez desde RESERVA_DIARIA y luego reciben
+ * los mismos deltas que el resumen diario, acumulados por transacción y aplicados tras el commit.
+ * Las lecturas copian los arreglos sin bloquear a quienes escriben.
+ */
+@Service
+@Transactional
+public class HorasPicoServiceImpl implements HorasPicoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HorasPicoServiceImpl.class);
+
+    private static final int HORAS = 24;
+    private static final int CELDAS = 7 * HORAS;
+
+    @Autowired
+    private ReservaDiariaRepository reservaDiariaRepository;
+
+    @Autowired
+    private SenderoRepository senderoRepository;
+
+    @Autowired
+    private HorarioDisponibleRepository horarioRepository;
+
+    private volatile Map<Long, Histograma> histogramas = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void iniciar() {
+        recargar();
+    }
+
+    @Override
+    public void registrar(Long senderoId, LocalDate fecha, int hora, int reservas, int personas) {
+        if (reservas == 0 && personas == 0) {
+            return;
+        }
+        long clave = ((long) senderoId << 8) | celda(fecha, hora);
+        DeltasPostCommit.sumar(this, clave, reservas, personas, this::aplicar);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void recargar() {
+        long inicio = System.currentTimeMillis();
+        List<DemandaHoraProjection> filas = reservaDiariaRepository.totalizarDemandaPorHora(
+            EnumSet.of(EstadoReserva.CANCELADA, EstadoReserva.EXPIRADA));
+
+        Map<Long, Histograma> nuevos = new ConcurrentHashMap<>();
+        for (DemandaHoraProjection fila : filas) {
+            nuevos.computeIfAbsent(fila.getIdSendero(), k -> new Histograma())
+                .sumar(celda(fila.getFecha(), fila.getHora()),
+                    fila.getTotalReservas().intValue(), fila.getTotalPersonas().intValue());
+        }
+        histogramas = nuevos;
+        logger.info("Histograma de horas pico cargado: {} senderos desde {} filas en {} ms",
+            nuevos.size(), filas.size(), System.currentTimeMillis() - inicio);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HoraPicoDTO> obtenerHorasPico(Long senderoId, Integer limite) {
+        if (senderoId != null && !senderoRepository.existsById(senderoId)) {
+            throw new ResourceNotFoundException("Sendero", "id", senderoId);
+        }
+
+        int[] reservas = new int[CELDAS];
+        int[] personas = new int[CELDAS];
+        if (senderoId != null) {
+            Histograma histograma = histogramas.get(senderoId);
+            if (histograma != null) {
+                histograma.copiarEn(reservas, personas);
+            }
+        } else {
+            histogramas.values().forEach(h -> h.copiarEn(reservas, personas));
+        }
+
+        long total = Arrays.stream(reservas).filter(r -> r > 0).asLongStream().sum();
+        List<HoraPicoDTO> celdas = new ArrayList<>();
+        for (int i = 0; i < CELDAS; i++) {
+            if (reservas[i] > 0) {
+                HoraPicoDTO dto = new HoraPicoDTO(DiaSemana.values()[i / HORAS], i % HORAS,
+                    reservas[i], Math.max(personas[i], 0));
+                dto.setPorcentaje(Math.round(reservas[i] * 1000.0 / total) / 10.0);
+                celdas.add(dto);
+            }
+        }
+        // Orden estable: a igual demanda, primero el día y la hora más tempranos
+        celdas.sort(Comparator.comparing(HoraPicoDTO::getReservas).reversed());
+        if (limite != null && limite > 0 && celdas.size() > limite) {
+            return new ArrayList<>(celdas.subList(0, limite));
+        }
+        return celdas;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecomendacionCupoDTO> recomendarCupos(Long senderoId) {
+        Sendero sendero = senderoRepository.findById(senderoId)
+            .orElseThrow(() -> new ResourceNotFoundException("Sendero", "id", senderoId));
+        List<HorarioDisponible> horarios = horarioRepository.findHorariosActivosBySendero(senderoId);
+
+        int[] reservas = new int[CELDAS];
+        int[] personas = new int[CELDAS];
+        Histograma histograma = histogramas.get(senderoId);
+        if (histograma != null) {
+            histograma.copiarEn(reservas, personas);
+        }
+
+        Map<Long, List<DiaSemana>> diasPorHorario = horarios.stream()
+            .collect(Collectors.toMap(HorarioDisponible::getIdHorario,
+                h -> DiaSemana.parseListaDias(h.getDiasSemana())));
+        Map<Long, Long> demandaPorHorario = new HashMap<>();
+        Map<Long, Double> participacionPorHorario = new HashMap<>();
+
+        // Para cada día, el cupo diario se reparte entre los horarios de ese día según su demanda
+        for (DiaSemana dia : DiaSemana.values()) {
+            List<HorarioDisponible> delDia = horarios.stream()
+                .filter(h -> diasPorHorario.get(h.getIdHorario()).contains(dia))
+                .collect(Collectors.toList());
+            Map<Long, Long> demandaDia = new HashMap<>();
+            long totalDia = 0;
+            for (HorarioDisponible horario : delDia) {
+                long demanda = demanda(personas, dia, horario.getHoraInicio(), horario.getHoraFin());
+                demandaDia.put(horario.getIdHorario(), demanda);
+                demandaPorHorario.merge(horario.getIdHorario(), demanda, Long::sum);
+                totalDia += demanda;
+            }
+            if (totalDia == 0) {
+                continue;
+            }
+            for (Map.Entry<Long, Long> entrada : demandaDia.entrySet()) {
+                participacionPorHorario.merge(entrada.getKey(), (double) entrada.getValue() / totalDia, Math::max);
+            }
+        }
+
+        List<RecomendacionCupoDTO> recomendaciones = new ArrayList<>();
+        for (HorarioDisponible horario : horarios) {
+            RecomendacionCupoDTO dto = new RecomendacionCupoDTO();
+            dto.setIdHorario(horario.getIdHorario());
+            dto.setHoraInicio(horario.getHoraInicio());
+            dto.setHoraFin(horario.getHoraFin());
+            dto.setDiasSemana(horario.getDiasSemana());
+            dto.setCupoActual(horario.getCupoHorario());
+            dto.setPersonasHistoricas(demandaPorHorario.getOrDefault(horario.getIdHorario(), 0L));
+
+            Double participacion = participacionPorHorario.get(horario.getIdHorario());
+            if (participacion == null || dto.getPersonasHistoricas() == 0) {
+                // Sin historial no hay base para cambiar el cupo
+                dto.setParticipacionDemanda(0.0);
+                dto.setCupoRecomendado(horario.getCupoHorario());
+            } else {
+                int recomendado = (int) Math.round(sendero.getCupoMaximoDia() * participacion);
+                dto.setParticipacionDemanda(Math.round(participacion * 1000.0) / 10.0);
+                dto.setCupoRecomendado(Math.min(Math.max(recomendado, 1), sendero.getCupoMaximoDia()));
+            }
+            recomendaciones.add(dto);
+        }
+        return recomendaciones;
+    }
+
+    private void aplicar(long clave, int reservas, int personas) {
+        histogramas.computeIfAbsent(clave >>> 8, k -> new Histograma())
+            .sumar((int) (clave & 0xFF), reservas, personas);
+    }
+
+    /**
+     * Personas con hora de inicio dentro de la franja [inicio, fin) de un día
+     */
+    private static long demanda(int[] personas, DiaSemana dia, LocalTime inicio, LocalTime fin) {
+        int desde = inicio.getHour();
+        int hasta = fin.getMinute() > 0 || fin.getSecond() > 0 ? fin.getHour() + 1 : fin.getHour();
+        hasta = Math.min(Math.max(hasta, desde + 1), HORAS);
+        long suma = 0;
+        for (int hora = desde; hora < hasta; hora++) {
+            suma += Math.max(personas[(dia.getOrden() - 1) * HORAS + hora], 0);
+        }
+        return suma;
+    }
+
+    private static int celda(LocalDate fecha, int hora) {
+        return (fecha.getDayOfWeek().getValue() - 1) * HORAS + hora;
+    }
+
+    /**
+     * Contadores de un sendero: reservas y personas por celda (día de la semana x hora)
+     */
+    private static class Histograma {
+
+        private final AtomicIntegerArray reservas = new AtomicIntegerArray(CELDAS);
+        private final AtomicIntegerArray personas = new AtomicIntegerArray(CELDAS);
+
+        void sumar(int celda, int totalReservas, int totalPersonas) {
+            reservas.addAndGet(celda, totalReservas);
+            personas.addAndGet(celda, totalPersonas);
+        }
+
+        void copiarEn(int[] destinoReservas, int[] destinoPersonas) {
+            for (int i = 0; i < CELDAS; i++) {
+                destinoReservas[i] += reservas.get(i);
+                destinoPersonas[i] += personas.get(i);
+            }
+        }
+    }
+}
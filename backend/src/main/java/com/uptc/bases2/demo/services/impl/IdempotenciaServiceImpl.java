@@ -0,0 +1,53 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.models.entities.Idempotencia;
+import com.uptc.bases2.demo.repositories.IdempotenciaRepository;
+import com.uptc.bases2.demo.services.interfaces.IdempotenciaService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Implementación del almacenamiento de respuestas idempotentes
+ */
+@Service
+@Transactional
+public class IdempotenciaServiceImpl implements IdempotenciaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotenciaServiceImpl.class);
+
+    @Autowired
+    private IdempotenciaRepository idempotenciaRepository;
+
+    @Value("${app.idempotencia.ttl-horas:24}")
+    private long ttlHoras;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Idempotencia> buscarVigente(String clave) {
+        return idempotenciaRepository.findVigente(clave, LocalDateTime.now());
+    }
+
+    @Override
+    public void guardar(Idempotencia registro) {
+        registro.setFechaExpiracion(registro.getFechaCreacion().plusHours(ttlHoras));
+        idempotenciaRepository.save(registro);
+    }
+
+    @Override
+    @Scheduled(cron = "${app.idempotencia.limpieza-cron:0 30 * * * *}")
+    public int eliminarExpiradas() {
+        int eliminadas = idempotenciaRepository.eliminarExpiradas(LocalDateTime.now());
+        if (eliminadas > 0) {
+            logger.info("Claves de idempotencia expiradas eliminadas: {}", eliminadas);
+        }
+        return eliminadas;
+    }
+}
@@ -0,0 +1,563 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.uptc.bases2.demo.exceptions.BadRequestException;
+import com.uptc.bases2.demo.exceptions.BusinessRuleException;
+import com.uptc.bases2.demo.models.dto.request.HorarioRequestDTO;
+import com.uptc.bases2.demo.models.dto.request.SenderoRequestDTO;
+import com.uptc.bases2.demo.models.dto.request.VisitanteRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.ImportacionResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.ImportacionResponseDTO.ErrorFilaDTO;
+import com.uptc.bases2.demo.models.enums.EstadoGeneral;
+import com.uptc.bases2.demo.models.enums.FormatoImportacion;
+import com.uptc.bases2.demo.models.enums.Rol;
+import com.uptc.bases2.demo.services.interfaces.ImportacionService;
+import com.uptc.bases2.demo.utils.Constants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación de la importación masiva por streaming.
+ *
+ * El archivo se lee fila a fila y se procesa en lotes: las validaciones por fila (Bean
+ * Validation y el hash BCrypt de las contraseñas) corren en paralelo, la unicidad y las
+ * referencias se verifican con una consulta IN por lote, y las filas válidas se insertan con
+ * JDBC batch en una transacción por lote. Los IDs se toman en bloques de la secuencia con el
+ * mismo esquema pooled de Hibernate, así no chocan con los que asigna JPA.
+ */
+@Service
+public class ImportacionServiceImpl implements ImportacionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportacionServiceImpl.class);
+
+    // Debe coincidir con INCREMENT BY de SEQ_USUARIO, SEQ_SENDERO y SEQ_HORARIO (allocationSize de las entidades)
+    private static final int INCREMENTO_SECUENCIA = 50;
+
+    private static final String SQL_INSERT_USUARIO =
+        "INSERT INTO USUARIO (ID_USUARIO, CEDULA, NOMBRE, APELLIDO, TELEFONO, EMAIL, PASSWORD, ROL, " +
+        "ESTADO, FECHA_REGISTRO, FECHA_ULTIMA_MODIFICACION) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERT_VISITANTE =
+        "INSERT INTO VISITANTE (ID_USUARIO, NUMERO_VISITAS, PUNTUACION_PROMEDIO) VALUES (?, 0, 0)";
+
+    private static final String SQL_INSERT_SENDERO =
+        "INSERT INTO SENDERO (ID_SENDERO, NOMBRE, DESCRIPCION, DIFICULTAD, DURACION_HORAS, CUPO_MAXIMO_DIA, " +
+        "DISTANCIA_KM, ESTADO, IMAGEN_URL, FECHA_CREACION, FECHA_MODIFICACION) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERT_HORARIO =
+        "INSERT INTO HORARIO_DISPONIBLE (ID_HORARIO, ID_SENDERO, HORA_INICIO, HORA_FIN, CUPO_HORARIO, " +
+        "DIAS_SEMANA, ACTIVO) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DIAS_SEMANA_DEFAULT = "L,M,MI,J,V,S,D";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.importacion.workers:4}")
+    private int workers;
+
+    @Value("${app.importacion.tamano-lote:500}")
+    private int tamanoLote;
+
+    private ExecutorService ejecutor;
+
+    private CsvMapper csvMapper;
+
+    @PostConstruct
+    void iniciar() {
+        tamanoLote = Math.min(tamanoLote, Constants.MAX_FILAS_LOTE_IMPORTACION);
+
+        AtomicInteger contador = new AtomicInteger();
+        ejecutor = Executors.newFixedThreadPool(workers, tarea -> {
+            Thread hilo = new Thread(tarea, "importacion-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+
+        csvMapper = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    }
+
+    @PreDestroy
+    void detener() {
+        ejecutor.shutdownNow();
+    }
+
+    @Override
+    public ImportacionResponseDTO importarVisitantes(FormatoImportacion formato, InputStream entrada) throws IOException {
+        return importar("VISITANTES", formato, entrada, VisitanteRequestDTO.class, new ImportadorVisitantes());
+    }
+
+    @Override
+    public ImportacionResponseDTO importarSenderos(FormatoImportacion formato, InputStream entrada) throws IOException {
+        return importar("SENDEROS", formato, entrada, SenderoRequestDTO.class, new ImportadorSenderos());
+    }
+
+    @Override
+    public ImportacionResponseDTO importarHorarios(FormatoImportacion formato, InputStream entrada) throws IOException {
+        return importar("HORARIOS", formato, entrada, HorarioRequestDTO.class, new ImportadorHorarios());
+    }
+
+    private <T> ImportacionResponseDTO importar(String tipo, FormatoImportacion formato, InputStream entrada,
+                                                Class<T> clase, ImportadorFilas<T> importador) throws IOException {
+        ImportacionResponseDTO resultado = new ImportacionResponseDTO(tipo, formato);
+        long inicio = System.currentTimeMillis();
+        long numero = 0;
+        long importadas = 0;
+        List<Fila<T>> lote = new ArrayList<>(tamanoLote);
+
+        try (MappingIterator<T> lector = abrirLector(formato, entrada, clase)) {
+            while (true) {
+                try {
+                    if (!lector.hasNextValue()) {
+                        break;
+                    }
+                    T dato = lector.nextValue();
+                    lote.add(new Fila<>(++numero, dato));
+                } catch (JsonMappingException e) {
+                    // Valor con tipo inválido: se descarta la fila y el lector continúa con la siguiente
+                    registrarError(resultado, ++numero, "Valor inválido: " + e.getOriginalMessage());
+                    continue;
+                } catch (JsonProcessingException e) {
+                    // Sintaxis rota: no es posible ubicar el inicio de la siguiente fila
+                    registrarError(resultado, ++numero,
+                        "Formato inválido, importación detenida: " + e.getOriginalMessage());
+                    break;
+                }
+
+                if (lote.size() >= tamanoLote) {
+                    importadas += procesarLote(lote, importador, resultado);
+                    lote.clear();
+                }
+            }
+            if (!lote.isEmpty()) {
+                importadas += procesarLote(lote, importador, resultado);
+            }
+        }
+
+        long duracion = System.currentTimeMillis() - inicio;
+        resultado.getErrores().sort(Comparator.comparing(ErrorFilaDTO::getFila));
+        resultado.setTotalFilas(numero);
+        resultado.setTotalImportadas(importadas);
+        resultado.setTotalRechazadas(numero - importadas);
+        resultado.setDuracionMs(duracion);
+        resultado.setFilasPorSegundo(duracion > 0 ? Math.round(numero * 10000.0 / duracion) / 10.0 : (double) numero);
+
+        logger.info("Importación {} ({}): {} filas, {} importadas, {} rechazadas en {} ms ({} filas/s)",
+            tipo, formato, numero, importadas, numero - importadas, duracion, resultado.getFilasPorSegundo());
+        return resultado;
+    }
+
+    private <T> MappingIterator<T> abrirLector(FormatoImportacion formato, InputStream entrada,
+                                               Class<T> clase) throws IOException {
+        if (formato == FormatoImportacion.CSV) {
+            return csvMapper.readerFor(clase)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(entrada);
+        }
+        // Acepta un arreglo JSON o valores sueltos (NDJSON)
+        return objectMapper.readerFor(clase).readValues(entrada);
+    }
+
+    /**
+     * Procesa un lote y retorna el número de filas insertadas
+     */
+    private <T> long procesarLote(List<Fila<T>> lote, ImportadorFilas<T> importador,
+                                  ImportacionResponseDTO resultado) {
+        // 1. Validación por fila en paralelo
+        CompletableFuture.allOf(lote.stream()
+            .map(fila -> CompletableFuture.runAsync(() -> validarFila(fila, importador), ejecutor))
+            .toArray(CompletableFuture[]::new))
+            .join();
+
+        // 2. Unicidad y referencias contra la base: una consulta IN por lote
+        List<Fila<T>> validas = filtrarValidas(lote);
+        if (!validas.isEmpty()) {
+            importador.validarConjunto(validas);
+            validas = filtrarValidas(validas);
+        }
+
+        // 3. Inserción por JDBC batch en una transacción por lote
+        long insertadas = 0;
+        if (!validas.isEmpty()) {
+            List<Fila<T>> aInsertar = validas;
+            try {
+                new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> importador.insertar(aInsertar));
+                insertadas = aInsertar.size();
+            } catch (DataAccessException e) {
+                // Típicamente un registro concurrente con el mismo email/cédula/nombre
+                logger.warn("Lote de importación revertido: {}", e.getMostSpecificCause().getMessage());
+                aInsertar.forEach(fila -> fila.error =
+                    "Lote revertido al insertar por un conflicto con datos registrados en paralelo; reintente la fila");
+            }
+        }
+
+        for (Fila<T> fila : lote) {
+            if (fila.error != null) {
+                registrarError(resultado, fila.numero, fila.error);
+            }
+        }
+        return insertadas;
+    }
+
+    private <T> void validarFila(Fila<T> fila, ImportadorFilas<T> importador) {
+        Set<ConstraintViolation<T>> violaciones = validator.validate(fila.dato);
+        if (!violaciones.isEmpty()) {
+            fila.error = violaciones.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+            return;
+        }
+        try {
+            importador.preparar(fila);
+        } catch (BadRequestException | BusinessRuleException e) {
+            fila.error = e.getMessage();
+        }
+    }
+
+    private <T> List<Fila<T>> filtrarValidas(List<Fila<T>> filas) {
+        return filas.stream().filter(f -> f.error == null).collect(Collectors.toList());
+    }
+
+    private void registrarError(ImportacionResponseDTO resultado, long fila, String mensaje) {
+        if (resultado.getErrores().size() < Constants.MAX_ERRORES_IMPORTACION) {
+            resultado.getErrores().add(new ErrorFilaDTO(fila, mensaje));
+        } else {
+            resultado.setErroresTruncados(true);
+        }
+    }
+
+    /**
+     * Valores de la columna que ya existen en la base (una sola consulta IN)
+     */
+    private <V> Set<V> consultarExistentes(String consulta, Collection<?> valores, Class<V> tipo) {
+        if (valores.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String marcadores = String.join(", ", Collections.nCopies(valores.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+            consulta + " IN (" + marcadores + ")", tipo, valores.toArray()));
+    }
+
+    /**
+     * Fila leída del archivo con su número (desde 1) y el resultado de la validación
+     */
+    private static class Fila<T> {
+
+        private final long numero;
+        private final T dato;
+        private String error;
+        private Object preparado;
+
+        Fila(long numero, T dato) {
+            this.numero = numero;
+            this.dato = dato;
+        }
+    }
+
+    /**
+     * Pasos de importación de un tipo de registro
+     */
+    private interface ImportadorFilas<T> {
+
+        /**
+         * Validaciones y cálculos por fila sin acceso a la base; se ejecuta en paralelo
+         */
+        void preparar(Fila<T> fila);
+
+        /**
+         * Validaciones contra la base y contra las filas ya aceptadas del mismo archivo
+         */
+        void validarConjunto(List<Fila<T>> filas);
+
+        void insertar(List<Fila<T>> filas);
+    }
+
+    /**
+     * Reparte IDs de una secuencia en bloques de INCREMENTO_SECUENCIA con un solo NEXTVAL.
+     * Igual que el optimizador pooled de Hibernate, el valor leído es el último ID del bloque.
+     */
+    private class BloqueSecuencia {
+
+        private final String secuencia;
+        private long siguiente = 1;
+        private long limite = 0;
+
+        BloqueSecuencia(String secuencia) {
+            this.secuencia = secuencia;
+        }
+
+        long siguienteId() {
+            if (siguiente > limite) {
+                Long ultimo = jdbcTemplate.queryForObject("SELECT " + secuencia + ".NEXTVAL FROM DUAL", Long.class);
+                limite = ultimo;
+                siguiente = Math.max(1, ultimo - INCREMENTO_SECUENCIA + 1);
+            }
+            return siguiente++;
+        }
+    }
+
+    private class ImportadorVisitantes implements ImportadorFilas<VisitanteRequestDTO> {
+
+        private final BloqueSecuencia ids = new BloqueSecuencia("SEQ_USUARIO");
+        private final Set<String> emails = new HashSet<>();
+        private final Set<String> cedulas = new HashSet<>();
+
+        @Override
+        public void preparar(Fila<VisitanteRequestDTO> fila) {
+            String password = fila.dato.getPassword();
+            if (password == null || password.isBlank()) {
+                throw new BadRequestException("password: La contraseña es obligatoria");
+            }
+            // BCrypt es el paso más costoso de la importación: por eso se hace en paralelo
+            fila.preparado = passwordEncoder.encode(password);
+        }
+
+        @Override
+        public void validarConjunto(List<Fila<VisitanteRequestDTO>> filas) {
+            Set<String> emailsRegistrados = consultarExistentes("SELECT EMAIL FROM USUARIO WHERE EMAIL",
+                filas.stream().map(f -> f.dato.getEmail()).collect(Collectors.toCollection(LinkedHashSet::new)),
+                String.class);
+            Set<String> cedulasRegistradas = consultarExistentes("SELECT CEDULA FROM USUARIO WHERE CEDULA",
+                filas.stream().map(f -> f.dato.getCedula()).collect(Collectors.toCollection(LinkedHashSet::new)),
+                String.class);
+
+            for (Fila<VisitanteRequestDTO> fila : filas) {
+                String email = fila.dato.getEmail();
+                String cedula = fila.dato.getCedula();
+                if (emailsRegistrados.contains(email)) {
+                    fila.error = "El email ya está registrado";
+                } else if (cedulasRegistradas.contains(cedula)) {
+                    fila.error = "La cédula ya está registrada";
+                } else if (emails.contains(email)) {
+                    fila.error = "El email está repetido en el archivo";
+                } else if (cedulas.contains(cedula)) {
+                    fila.error = "La cédula está repetida en el archivo";
+                } else {
+                    emails.add(email);
+                    cedulas.add(cedula);
+                }
+            }
+        }
+
+        @Override
+        public void insertar(List<Fila<VisitanteRequestDTO>> filas) {
+            Timestamp ahora = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> usuarios = new ArrayList<>(filas.size());
+            List<Object[]> visitantes = new ArrayList<>(filas.size());
+            for (Fila<VisitanteRequestDTO> fila : filas) {
+                VisitanteRequestDTO dato = fila.dato;
+                long id = ids.siguienteId();
+                usuarios.add(new Object[] {
+                    id, dato.getCedula(), dato.getNombre(), dato.getApellido(), dato.getTelefono(),
+                    dato.getEmail(), fila.preparado, Rol.VISITANTE.name(), EstadoGeneral.ACTIVO.name(), ahora, ahora
+                });
+                visitantes.add(new Object[] { id });
+            }
+            jdbcTemplate.batchUpdate(SQL_INSERT_USUARIO, usuarios, new int[] {
+                Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+                Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP
+            });
+            jdbcTemplate.batchUpdate(SQL_INSERT_VISITANTE, visitantes, new int[] { Types.BIGINT });
+        }
+    }
+
+    private class ImportadorSenderos implements ImportadorFilas<SenderoRequestDTO> {
+
+        private final BloqueSecuencia ids = new BloqueSecuencia("SEQ_SENDERO");
+        private final Set<String> nombres = new HashSet<>();
+
+        @Override
+        public void preparar(Fila<SenderoRequestDTO> fila) {
+        }
+
+        @Override
+        public void validarConjunto(List<Fila<SenderoRequestDTO>> filas) {
+            Set<String> registrados = consultarExistentes("SELECT NOMBRE FROM SENDERO WHERE NOMBRE",
+                filas.stream().map(f -> f.dato.getNombre()).collect(Collectors.toCollection(LinkedHashSet::new)),
+                String.class);
+
+            for (Fila<SenderoRequestDTO> fila : filas) {
+                String nombre = fila.dato.getNombre();
+                if (registrados.contains(nombre)) {
+                    fila.error = "Ya existe un sendero con ese nombre";
+                } else if (!nombres.add(nombre)) {
+                    fila.error = "El nombre del sendero está repetido en el archivo";
+                }
+            }
+        }
+
+        @Override
+        public void insertar(List<Fila<SenderoRequestDTO>> filas) {
+            Timestamp ahora = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> senderos = new ArrayList<>(filas.size());
+            for (Fila<SenderoRequestDTO> fila : filas) {
+                SenderoRequestDTO dato = fila.dato;
+                senderos.add(new Object[] {
+                    ids.siguienteId(), dato.getNombre(), dato.getDescripcion(), dato.getDificultad().name(),
+                    dato.getDuracionHoras(), dato.getCupoMaximoDia(), dato.getDistanciaKm(),
+                    EstadoGeneral.ACTIVO.name(), dato.getImagenUrl(), ahora, ahora
+                });
+            }
+            jdbcTemplate.batchUpdate(SQL_INSERT_SENDERO, senderos, new int[] {
+                Types.BIGINT, Types.VARCHAR, Types.CLOB, Types.VARCHAR, Types.NUMERIC, Types.INTEGER,
+                Types.NUMERIC, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP
+            });
+        }
+    }
+
+    private class ImportadorHorarios implements ImportadorFilas<HorarioRequestDTO> {
+
+        private final BloqueSecuencia ids = new BloqueSecuencia("SEQ_HORARIO");
+        // Horarios activos por sendero: los de la base más los aceptados del archivo
+        private final Map<Long, List<LocalTime[]>> horariosPorSendero = new HashMap<>();
+        private final Set<Long> senderosInexistentes = new HashSet<>();
+
+        @Override
+        public void preparar(Fila<HorarioRequestDTO> fila) {
+            if (!fila.dato.getHoraInicio().isBefore(fila.dato.getHoraFin())) {
+                throw new BusinessRuleException("La hora de inicio debe ser anterior a la hora de fin");
+            }
+        }
+
+        @Override
+        public void validarConjunto(List<Fila<HorarioRequestDTO>> filas) {
+            Set<Long> nuevos = filas.stream()
+                .map(f -> f.dato.getIdSendero())
+                .filter(id -> !horariosPorSendero.containsKey(id) && !senderosInexistentes.contains(id))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+            cargarSenderos(nuevos);
+
+            for (Fila<HorarioRequestDTO> fila : filas) {
+                HorarioRequestDTO dato = fila.dato;
+                List<LocalTime[]> horarios = horariosPorSendero.get(dato.getIdSendero());
+                if (horarios == null) {
+                    fila.error = "Sendero no encontrado con id: '" + dato.getIdSendero() + "'";
+                } else if (seSolapa(horarios, dato.getHoraInicio(), dato.getHoraFin())) {
+                    fila.error = "El horario se solapa con otro horario existente del sendero";
+                } else {
+                    horarios.add(new LocalTime[] { dato.getHoraInicio(), dato.getHoraFin() });
+                }
+            }
+        }
+
+        private void cargarSenderos(Set<Long> senderoIds) {
+            if (senderoIds.isEmpty()) {
+                return;
+            }
+            Set<Long> existentes = consultarExistentes("SELECT ID_SENDERO FROM SENDERO WHERE ID_SENDERO",
+                senderoIds, Long.class);
+            for (Long id : senderoIds) {
+                if (existentes.contains(id)) {
+                    horariosPorSendero.put(id, new ArrayList<>());
+                } else {
+                    senderosInexistentes.add(id);
+                }
+            }
+            if (existentes.isEmpty()) {
+                return;
+            }
+
+            List<Object> parametros = new ArrayList<>(existentes);
+            parametros.add(Boolean.TRUE);
+            String marcadores = String.join(", ", Collections.nCopies(existentes.size(), "?"));
+            jdbcTemplate.query(
+                "SELECT ID_SENDERO, HORA_INICIO, HORA_FIN FROM HORARIO_DISPONIBLE " +
+                "WHERE ID_SENDERO IN (" + marcadores + ") AND ACTIVO = ?",
+                rs -> {
+                    horariosPorSendero.get(rs.getLong("ID_SENDERO")).add(new LocalTime[] {
+                        rs.getTime("HORA_INICIO").toLocalTime(), rs.getTime("HORA_FIN").toLocalTime()
+                    });
+                },
+                parametros.toArray());
+        }
+
+        // Mismo criterio que HorarioDisponibleRepository.existeSolapamiento
+        private boolean seSolapa(List<LocalTime[]> horarios, LocalTime inicio, LocalTime fin) {
+            for (LocalTime[] horario : horarios) {
+                if (horario[0].isBefore(fin) && horario[1].isAfter(inicio)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void insertar(List<Fila<HorarioRequestDTO>> filas) {
+            List<Object[]> horarios = new ArrayList<>(filas.size());
+            for (Fila<HorarioRequestDTO> fila : filas) {
+                HorarioRequestDTO dato = fila.dato;
+                horarios.add(new Object[] {
+                    ids.siguienteId(), dato.getIdSendero(), Time.valueOf(dato.getHoraInicio()),
+                    Time.valueOf(dato.getHoraFin()), dato.getCupoHorario(),
+                    dato.getDiasSemana() != null ? dato.getDiasSemana() : DIAS_SEMANA_DEFAULT, Boolean.TRUE
+                });
+            }
+            jdbcTemplate.batchUpdate(SQL_INSERT_HORARIO, horarios, new int[] {
+                Types.BIGINT, Types.BIGINT, Types.TIME, Types.TIME, Types.INTEGER, Types.VARCHAR, Types.BOOLEAN
+            });
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.exceptions.BusinessRuleException;
+import com.uptc.bases2.demo.exceptions.ConflictException;
+import com.uptc.bases2.demo.exceptions.ResourceNotFoundException;
+import com.uptc.bases2.demo.models.dto.request.ReservaRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.HorarioDisponibilidadDTO;
+import com.uptc.bases2.demo.models.dto.response.ListaEsperaResponseDTO;
+import com.uptc.bases2.demo.models.entities.ListaEspera;
+import com.uptc.bases2.demo.models.enums.DiaSemana;
+import com.uptc.bases2.demo.models.enums.EstadoGeneral;
+import com.uptc.bases2.demo.models.enums.EstadoListaEspera;
+import com.uptc.bases2.demo.repositories.HorarioDisponibleRepository;
+import com.uptc.bases2.demo.repositories.ListaEsperaRepository;
+import com.uptc.bases2.demo.repositories.ReservaRepository;
+import com.uptc.bases2.demo.repositories.SenderoRepository;
+import com.uptc.bases2.demo.repositories.VisitanteRepository;
+import com.uptc.bases2.demo.repositories.projections.ValidacionReservaProjection;
+import com.uptc.bases2.demo.services.interfaces.ListaEsperaService;
+import com.uptc.bases2.demo.utils.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del servicio de lista de espera.
+ * La promoción de solicitudes la realiza ReservaServiceImpl al liberarse cupo.
+ */
+@Service
+@Transactional
+public class ListaEsperaServiceImpl implements ListaEsperaService {
+
+    @Autowired
+    private ListaEsperaRepository listaEsperaRepository;
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @Autowired
+    private VisitanteRepository visitanteRepository;
+
+    @Autowired
+    private SenderoRepository senderoRepository;
+
+    @Autowired
+    private HorarioDisponibleRepository horarioRepository;
+
+    @Override
+    public ListaEsperaResponseDTO inscribir(Long visitanteId, ReservaRequestDTO request) {
+        // 1. Las mismas reglas de una reserva nueva, evaluadas en una sola consulta
+        String dia = DiaSemana.fromDayOfWeek(request.getFechaVisita().getDayOfWeek()).getAbreviatura();
+        ValidacionReservaProjection validacion = reservaRepository.validarNuevaReserva(
+                visitanteId, 
+                request.getIdSendero(), 
+                request.getFechaVisita(), 
+                request.getHoraInicio(), 
+                dia)
+            .orElseThrow(() -> new ResourceNotFoundException("Visitante", "id", visitanteId));
+
+        if (validacion.getEstadoVisitante() != EstadoGeneral.ACTIVO) {
+            throw new BusinessRuleException("El visitante no está activo");
+        }
+
+        if (validacion.getEstadoSendero() == null) {
+            throw new ResourceNotFoundException("Sendero", "id", request.getIdSendero());
+        }
+
+        if (validacion.getEstadoSendero() != EstadoGeneral.ACTIVO) {
+            throw new BusinessRuleException("El sendero no está disponible");
+        }
+
+        long horasAnticipacion = ChronoUnit.HOURS.between(LocalDate.now().atStartOfDay(), 
+                                                           request.getFechaVisita().atStartOfDay());
+        if (horasAnticipacion < 24) {
+            throw new BusinessRuleException(
+                "La solicitud debe realizarse con al menos 24 horas de anticipación",
+                Constants.REGLA_MIN_24H
+            );
+        }
+
+        if (validacion.getReservasActivas() >= Constants.MAX_RESERVAS_ACTIVAS_POR_VISITANTE) {
+            throw new BusinessRuleException(
+                "Ya tiene el máximo de 2 reservas activas. Cancele o complete una antes de crear otra",
+                Constants.REGLA_MAX_RESERVAS
+            );
+        }
+
+        if (validacion.getConflictosHorario() > 0) {
+            throw new BusinessRuleException(
+                "Ya tiene una reserva en este horario para la misma fecha",
+                "CONFLICTO_HORARIO"
+            );
+        }
+
+        if (validacion.getIdHorario() == null && validacion.getHorariosActivos() > 0) {
+            throw new BusinessRuleException(
+                "La hora de inicio no corresponde a un horario disponible del sendero para ese día",
+                "HORARIO_NO_DISPONIBLE"
+            );
+        }
+
+        // 2. Una sola solicitud en espera por visitante, sendero y fecha
+        if (listaEsperaRepository.existeEnEspera(visitanteId, request.getIdSendero(), request.getFechaVisita())) {
+            throw new ConflictException("Ya está en lista de espera para este sendero y fecha");
+        }
+
+        // 3. Solo se admite en espera si no hay cupo (diario o de la franja) para el grupo
+        if (validacion.getCupoDisponible() >= request.getNumeroPersonas() &&
+            cupoHorario(validacion.getIdHorario(), request, dia) >= request.getNumeroPersonas()) {
+            throw new BusinessRuleException(
+                "Hay cupo disponible para esta fecha. Cree la reserva directamente",
+                "CUPO_DISPONIBLE"
+            );
+        }
+
+        ListaEspera solicitud = new ListaEspera();
+        solicitud.setVisitante(visitanteRepository.getReferenceById(visitanteId));
+        solicitud.setSendero(senderoRepository.getReferenceById(request.getIdSendero()));
+        solicitud.setFechaVisita(request.getFechaVisita());
+        solicitud.setHoraInicio(request.getHoraInicio());
+        solicitud.setNumeroPersonas(request.getNumeroPersonas());
+        solicitud.setObservaciones(request.getObservaciones());
+
+        solicitud = listaEsperaRepository.save(solicitud);
+
+        ListaEsperaResponseDTO dto = convertirAResponseDTO(solicitud);
+        dto.setPosicion(listaEsperaRepository.calcularPosicion(
+            request.getIdSendero(), request.getFechaVisita(), solicitud.getIdListaEspera()));
+        return dto;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ListaEsperaResponseDTO> obtenerPorVisitante(Long visitanteId) {
+        return listaEsperaRepository.findByVisitante(visitanteId).stream()
+            .map(this::convertirAResponseDTO)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ListaEsperaResponseDTO> obtenerCola(Long senderoId, LocalDate fecha) {
+        List<ListaEspera> cola = listaEsperaRepository.findCola(senderoId, fecha);
+        List<ListaEsperaResponseDTO> resultado = cola.stream()
+            .map(this::convertirAResponseDTO)
+            .collect(Collectors.toList());
+        for (int i = 0; i < resultado.size(); i++) {
+            resultado.get(i).setPosicion((long) i + 1);
+        }
+        return resultado;
+    }
+
+    @Override
+    public void cancelar(Long listaEsperaId) {
+        ListaEspera solicitud = listaEsperaRepository.findById(listaEsperaId)
+            .orElseThrow(() -> new ResourceNotFoundException("ListaEspera", "id", listaEsperaId));
+
+        if (!solicitud.estaEnEspera()) {
+            throw new BusinessRuleException(
+                "Solo se pueden cancelar solicitudes en espera",
+                "NO_CANCELABLE"
+            );
+        }
+
+        solicitud.setEstado(EstadoListaEspera.CANCELADA);
+        listaEsperaRepository.save(solicitud);
+    }
+
+    /**
+     * Cupo restante de la franja horaria solicitada (sin límite si el sendero no tiene horarios)
+     */
+    private int cupoHorario(Long horarioId, ReservaRequestDTO request, String dia) {
+        if (horarioId == null) {
+            return Integer.MAX_VALUE;
+        }
+        return horarioRepository.findDisponibilidad(request.getIdSendero(), request.getFechaVisita(), dia)
+            .stream()
+            .filter(h -> h.getIdHorario().equals(horarioId))
+            .mapToInt(HorarioDisponibilidadDTO::getCupoDisponible)
+            .findFirst()
+            .orElse(0);
+    }
+
+    /**
+     * Método auxiliar para convertir ListaEspera a ListaEsperaResponseDTO
+     */
+    private ListaEsperaResponseDTO convertirAResponseDTO(ListaEspera solicitud) {
+        ListaEsperaResponseDTO dto = new ListaEsperaResponseDTO();
+        
+        dto.setIdListaEspera(solicitud.getIdListaEspera());
+        dto.setIdVisitante(solicitud.getVisitante().getId());
+        dto.setIdSendero(solicitud.getSendero().getIdSendero());
+        dto.setNombreSendero(solicitud.getSendero().getNombre());
+        dto.setFechaVisita(solicitud.getFechaVisita());
+        dto.setHoraInicio(solicitud.getHoraInicio());
+        dto.setNumeroPersonas(solicitud.getNumeroPersonas());
+        dto.setEstado(solicitud.getEstado());
+        dto.setFechaRegistro(solicitud.getFechaRegistro());
+        dto.setFechaPromocion(solicitud.getFechaPromocion());
+        if (solicitud.getReserva() != null) {
+            dto.setIdReserva(solicitud.getReserva().getIdReserva());
+        }
+        
+        return dto;
+    }
+}
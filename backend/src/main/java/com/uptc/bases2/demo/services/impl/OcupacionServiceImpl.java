@@ -0,0 +1,182 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.models.entities.HorarioOcupacionId;
+import com.uptc.bases2.demo.models.entities.Reserva;
+import com.uptc.bases2.demo.models.entities.SenderoOcupacionId;
+import com.uptc.bases2.demo.repositories.HorarioOcupacionRepository;
+import com.uptc.bases2.demo.repositories.ReservaRepository;
+import com.uptc.bases2.demo.repositories.SenderoOcupacionRepository;
+import com.uptc.bases2.demo.services.interfaces.OcupacionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementación del control de cupo por sendero y fecha.
+ * El UPDATE condicional bloquea la fila (sendero, fecha) hasta el commit,
+ * por lo que dos reservas concurrentes no pueden sobrepasar el cupo.
+ */
+@Service
+@Transactional
+public class OcupacionServiceImpl implements OcupacionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OcupacionServiceImpl.class);
+
+    @Autowired
+    private SenderoOcupacionRepository ocupacionRepository;
+
+    @Autowired
+    private HorarioOcupacionRepository horarioOcupacionRepository;
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.ocupacion.reconciliar-al-iniciar:true}")
+    private boolean reconciliarAlIniciar;
+
+    @Override
+    public boolean reservarCupo(Long senderoId, LocalDate fecha, int personas) {
+        if (personas <= 0) {
+            return true;
+        }
+        if (ocupacionRepository.reservarCupo(senderoId, fecha, personas) == 1) {
+            return true;
+        }
+        // Sin actualización: o no hay cupo, o es la primera reserva del sendero en esa fecha
+        if (ocupacionRepository.existsById(new SenderoOcupacionId(senderoId, fecha))) {
+            return false;
+        }
+        crearFila(() -> ocupacionRepository.asegurarFila(senderoId, fecha));
+        return ocupacionRepository.reservarCupo(senderoId, fecha, personas) == 1;
+    }
+
+    @Override
+    public void liberarCupo(Long senderoId, LocalDate fecha, int personas) {
+        if (personas <= 0) {
+            return;
+        }
+        ocupacionRepository.liberarCupo(senderoId, fecha, personas);
+    }
+
+    @Override
+    public boolean reservarCupoHorario(Long horarioId, LocalDate fecha, int personas) {
+        if (personas <= 0) {
+            return true;
+        }
+        if (horarioOcupacionRepository.reservarCupo(horarioId, fecha, personas) == 1) {
+            return true;
+        }
+        if (horarioOcupacionRepository.existsById(new HorarioOcupacionId(horarioId, fecha))) {
+            return false;
+        }
+        crearFila(() -> horarioOcupacionRepository.asegurarFila(horarioId, fecha));
+        return horarioOcupacionRepository.reservarCupo(horarioId, fecha, personas) == 1;
+    }
+
+    @Override
+    public void liberarCupoHorario(Long horarioId, LocalDate fecha, int personas) {
+        if (personas <= 0) {
+            return;
+        }
+        horarioOcupacionRepository.liberarCupo(horarioId, fecha, personas);
+    }
+
+    @Override
+    public void liberarReserva(Reserva reserva) {
+        liberarCupo(reserva.getSendero().getIdSendero(), reserva.getFechaVisita(), reserva.getNumeroPersonas());
+        if (reserva.getHorario() != null) {
+            liberarCupoHorario(reserva.getHorario().getIdHorario(), reserva.getFechaVisita(),
+                reserva.getNumeroPersonas());
+        }
+    }
+
+    @Override
+    public void liberarReservas(Collection<Reserva> reservas) {
+        Map<SenderoOcupacionId, Integer> porSendero = new HashMap<>();
+        Map<HorarioOcupacionId, Integer> porHorario = new HashMap<>();
+        for (Reserva reserva : reservas) {
+            porSendero.merge(new SenderoOcupacionId(reserva.getSendero().getIdSendero(), reserva.getFechaVisita()),
+                reserva.getNumeroPersonas(), Integer::sum);
+            if (reserva.getHorario() != null) {
+                porHorario.merge(new HorarioOcupacionId(reserva.getHorario().getIdHorario(), reserva.getFechaVisita()),
+                    reserva.getNumeroPersonas(), Integer::sum);
+            }
+        }
+        porSendero.forEach((id, personas) -> liberarCupo(id.getIdSendero(), id.getFecha(), personas));
+        porHorario.forEach((id, personas) -> liberarCupoHorario(id.getIdHorario(), id.getFecha(), personas));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Integer calcularCupoDisponible(Long senderoId, LocalDate fecha) {
+        return ocupacionRepository.calcularCupoDisponible(senderoId, fecha);
+    }
+
+    @Override
+    @Scheduled(cron = "${app.ocupacion.reconciliacion-cron:0 15 3 * * *}")
+    public int reconciliar() {
+        LocalDate hoy = LocalDate.now();
+        // Las reservas sin franja no suman en HORARIO_OCUPACION: enlazarlas antes de recalcular
+        int enlazadas = reservaRepository.asignarHorarioFaltanteDesde(hoy);
+        if (enlazadas > 0) {
+            logger.warn("Reconciliación de ocupación: {} reservas enlazadas con su horario", enlazadas);
+        }
+        int actualizadas = ocupacionRepository.reconciliarDesde(hoy)
+            + horarioOcupacionRepository.reconciliarDesde(hoy);
+        int limpiadas = ocupacionRepository.limpiarSinReservasDesde(hoy)
+            + horarioOcupacionRepository.limpiarSinReservasDesde(hoy);
+
+        if (actualizadas + limpiadas > 0) {
+            logger.warn("Reconciliación de ocupación: {} filas corregidas, {} filas puestas en cero",
+                actualizadas, limpiadas);
+        } else {
+            logger.info("Reconciliación de ocupación: ledger consistente");
+        }
+        return actualizadas + limpiadas;
+    }
+
+    /**
+     * Las filas del ledger se crean con la primera reserva de cada fecha: sin esta pasada, las reservas
+     * existentes (o cargadas por script) no aparecen en calendario ni disponibilidad hasta la
+     * reconciliación nocturna
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconciliarAlIniciar() {
+        if (reconciliarAlIniciar) {
+            reconciliar();
+        }
+    }
+
+    /**
+     * Crea la fila del ledger en una transacción propia y la confirma de inmediato,
+     * de modo que la transacción de la reserva nunca retiene el bloqueo de la inserción.
+     * Si otra reserva concurrente la creó primero, la violación de llave se ignora.
+     */
+    private void crearFila(Runnable merge) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            tx.executeWithoutResult(status -> merge.run());
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Fila de ocupación creada por otra transacción: {}", e.getMessage());
+        }
+    }
+}
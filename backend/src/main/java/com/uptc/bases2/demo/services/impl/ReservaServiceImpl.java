@@ -3,27 +3,80 @@ package com.uptc.bases2.demo.services.impl;
 import com.uptc.bases2.demo.exceptions.BadRequestException;
 import com.uptc.bases2.demo.exceptions.BusinessRuleException;
 import com.uptc.bases2.demo.exceptions.ResourceNotFoundException;
+import com.uptc.bases2.demo.mappers.ReservaMapper;
+import com.uptc.bases2.demo.models.dto.request.ReservaLoteItemDTO;
+import com.uptc.bases2.demo.models.dto.request.ReservaLoteRequestDTO;
 import com.uptc.bases2.demo.models.dto.request.ReservaRequestDTO;
 import com.uptc.bases2.demo.models.dto.request.ReservaUpdateDTO;
+import com.uptc.bases2.demo.models.dto.request.TransicionMasivaRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.GuiaResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.PaginaDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservaLoteResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservaLoteResponseDTO.ResultadoItemDTO;
 import com.uptc.bases2.demo.models.dto.response.ReservaResponseDTO;
 import com.uptc.bases2.demo.models.dto.response.SenderoResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.TransicionMasivaResponseDTO;
 import com.uptc.bases2.demo.models.dto.response.VisitanteResponseDTO;
+import com.uptc.bases2.demo.models.entities.HorarioDisponible;
+import com.uptc.bases2.demo.models.entities.HorarioOcupacionId;
+import com.uptc.bases2.demo.models.entities.ListaEspera;
 import com.uptc.bases2.demo.models.entities.Reserva;
 import com.uptc.bases2.demo.models.entities.Sendero;
+import com.uptc.bases2.demo.models.entities.SenderoOcupacionId;
 import com.uptc.bases2.demo.models.entities.Visitante;
+import com.uptc.bases2.demo.models.enums.DiaSemana;
+import com.uptc.bases2.demo.models.enums.EstadoGeneral;
 import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.models.enums.ModoLote;
+import com.uptc.bases2.demo.models.enums.TransicionReserva;
+import com.uptc.bases2.demo.repositories.HorarioDisponibleRepository;
+import com.uptc.bases2.demo.repositories.ListaEsperaRepository;
 import com.uptc.bases2.demo.repositories.ReservaRepository;
 import com.uptc.bases2.demo.repositories.SenderoRepository;
 import com.uptc.bases2.demo.repositories.VisitanteRepository;
+import com.uptc.bases2.demo.repositories.projections.ReservaEstadoProjection;
+import com.uptc.bases2.demo.repositories.projections.ReservaHorarioProjection;
+import com.uptc.bases2.demo.repositories.projections.ReservaListadoProjection;
+import com.uptc.bases2.demo.repositories.projections.ValidacionReservaProjection;
+import com.uptc.bases2.demo.repositories.projections.VisitanteLoteProjection;
+import com.uptc.bases2.demo.services.interfaces.ClasificacionService;
+import com.uptc.bases2.demo.services.interfaces.CuboReservasService;
+import com.uptc.bases2.demo.services.interfaces.OcupacionService;
 import com.uptc.bases2.demo.services.interfaces.ReservaService;
-import org.modelmapper.ModelMapper;
+import com.uptc.bases2.demo.services.interfaces.ResumenDiarioService;
+import com.uptc.bases2.demo.utils.Constants;
+import com.uptc.bases2.demo.utils.EmailService;
+import com.uptc.bases2.demo.utils.PaginacionUtils;
+import com.uptc.bases2.demo.utils.PaginacionUtils.CursorFechaId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +87,8 @@ import java.util.stream.Collectors;
 @Transactional
 public class ReservaServiceImpl implements ReservaService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ReservaServiceImpl.class);
+
     @Autowired
     private ReservaRepository reservaRepository;
 
@@ -44,27 +99,128 @@ public class ReservaServiceImpl implements ReservaService {
     private SenderoRepository senderoRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private HorarioDisponibleRepository horarioRepository;
+
+    @Autowired
+    private OcupacionService ocupacionService;
+
+    @Autowired
+    private ResumenDiarioService resumenDiarioService;
+
+    @Autowired
+    private CuboReservasService cuboReservasService;
+
+    @Autowired
+    private ClasificacionService clasificacionService;
+
+    @Autowired
+    private ListaEsperaRepository listaEsperaRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private ReservaMapper reservaMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.reserva.retencion-minutos:10}")
+    private int retencionMinutos;
+
+    @Value("${app.reserva.retencion-lote:200}")
+    private int loteRetenciones;
 
     @Override
     public ReservaResponseDTO crear(Long visitanteId, ReservaRequestDTO request) {
-        // 1. Validar que el visitante existe y está activo
-        Visitante visitante = visitanteRepository.findById(visitanteId)
+        return crearReserva(visitanteId, request, EstadoReserva.PENDIENTE);
+    }
+
+    @Override
+    public ReservaResponseDTO retener(Long visitanteId, ReservaRequestDTO request) {
+        return crearReserva(visitanteId, request, EstadoReserva.RETENIDA);
+    }
+
+    @Override
+    public ReservaResponseDTO confirmarRetencion(Long reservaId) {
+        // UPDATE condicional: no puede competir con el barrido que libera la retención
+        int confirmadas = reservaRepository.confirmarRetencion(reservaId, LocalDateTime.now());
+
+        Reserva reserva = reservaRepository.findById(reservaId)
+            .orElseThrow(() -> new ResourceNotFoundException("Reserva", "id", reservaId));
+
+        if (confirmadas == 0) {
+            if (reserva.getEstado() != EstadoReserva.RETENIDA && reserva.getEstado() != EstadoReserva.EXPIRADA) {
+                throw new BusinessRuleException(
+                    "Solo se pueden confirmar reservas en estado RETENIDA",
+                    "NO_RETENIDA"
+                );
+            }
+            throw new BusinessRuleException(
+                "La retención expiró. Cree una nueva reserva",
+                "RETENCION_EXPIRADA"
+            );
+        }
+        resumenDiarioService.cambiarEstado(reserva, EstadoReserva.RETENIDA, EstadoReserva.PENDIENTE);
+
+        return reservaMapper.toResponseDTO(reserva);
+    }
+
+    /**
+     * Barrido de retenciones vencidas: cada lote se libera en su propia transacción
+     * con un UPDATE en bloque y un UPDATE del ledger por (sendero, fecha) y (horario, fecha).
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${app.reserva.retencion-barrido-ms:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int liberarRetencionesVencidas() {
+        LocalDateTime ahora = LocalDateTime.now();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        int total = 0;
+
+        while (true) {
+            List<Long> ids = reservaRepository.findIdsRetencionesVencidas(ahora, PageRequest.of(0, loteRetenciones));
+            if (ids.isEmpty()) {
+                break;
+            }
+            total += tx.execute(status -> liberarLoteRetenciones(ids, ahora));
+            if (ids.size() < loteRetenciones) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            logger.info("Retenciones vencidas liberadas: {}", total);
+        }
+        return total;
+    }
+
+    private ReservaResponseDTO crearReserva(Long visitanteId, ReservaRequestDTO request, EstadoReserva estado) {
+        // 1. Evaluar todas las reglas en una sola consulta
+        String dia = DiaSemana.fromDayOfWeek(request.getFechaVisita().getDayOfWeek()).getAbreviatura();
+        ValidacionReservaProjection validacion = reservaRepository.validarNuevaReserva(
+                visitanteId, 
+                request.getIdSendero(), 
+                request.getFechaVisita(), 
+                request.getHoraInicio(), 
+                dia)
             .orElseThrow(() -> new ResourceNotFoundException("Visitante", "id", visitanteId));
 
-        if (!visitante.estaActivo()) {
+        // 2. Validar que el visitante está activo
+        if (validacion.getEstadoVisitante() != EstadoGeneral.ACTIVO) {
             throw new BusinessRuleException("El visitante no está activo");
         }
 
-        // 2. Validar que el sendero existe y está activo
-        Sendero sendero = senderoRepository.findById(request.getIdSendero())
-            .orElseThrow(() -> new ResourceNotFoundException("Sendero", "id", request.getIdSendero()));
+        // 3. Validar que el sendero existe y está activo
+        if (validacion.getEstadoSendero() == null) {
+            throw new ResourceNotFoundException("Sendero", "id", request.getIdSendero());
+        }
 
-        if (!sendero.estaDisponible()) {
+        if (validacion.getEstadoSendero() != EstadoGeneral.ACTIVO) {
             throw new BusinessRuleException("El sendero no está disponible");
         }
 
-        // 3. REGLA: Reserva con mínimo 24 horas de anticipación
+        // 4. REGLA: Reserva con mínimo 24 horas de anticipación
         long horasAnticipacion = ChronoUnit.HOURS.between(LocalDate.now().atStartOfDay(), 
                                                            request.getFechaVisita().atStartOfDay());
         if (horasAnticipacion < 24) {
@@ -74,16 +230,34 @@ public class ReservaServiceImpl implements ReservaService {
             );
         }
 
-        // 4. REGLA: Máximo 2 reservas activas por visitante
-        if (!visitanteRepository.puedeHacerReserva(visitanteId)) {
+        // 5. REGLA: Máximo 2 reservas activas por visitante
+        if (validacion.getReservasActivas() >= Constants.MAX_RESERVAS_ACTIVAS_POR_VISITANTE) {
             throw new BusinessRuleException(
                 "Ya tiene el máximo de 2 reservas activas. Cancele o complete una antes de crear otra",
                 "MAX_2_RESERVAS_ACTIVAS"
             );
         }
 
-        // 5. REGLA: Verificar cupo disponible
-        if (!reservaRepository.verificarDisponibilidad(
+        // 6. Verificar conflicto de horario para el mismo visitante
+        if (validacion.getConflictosHorario() > 0) {
+            throw new BusinessRuleException(
+                "Ya tiene una reserva en este horario para la misma fecha",
+                "CONFLICTO_HORARIO"
+            );
+        }
+
+        // 7. REGLA: La hora debe corresponder a un horario activo del sendero (si tiene horarios)
+        if (validacion.getIdHorario() == null && validacion.getHorariosActivos() > 0) {
+            throw new BusinessRuleException(
+                "La hora de inicio no corresponde a un horario disponible del sendero para ese día",
+                "HORARIO_NO_DISPONIBLE"
+            );
+        }
+
+        // 8. REGLA: Descontar cupo diario y del horario (UPDATE condicional, sin sobreventa).
+        // El cupo leído en la validación permite fallar rápido sin tocar el ledger.
+        if (validacion.getCupoDisponible() < request.getNumeroPersonas() || 
+            !ocupacionService.reservarCupo(
                 request.getIdSendero(), 
                 request.getFechaVisita(), 
                 request.getNumeroPersonas())) {
@@ -93,30 +267,149 @@ public class ReservaServiceImpl implements ReservaService {
             );
         }
 
-        // 6. Verificar conflicto de horario para el mismo visitante
-        if (reservaRepository.existeConflictoHorario(
-                visitanteId, 
-                request.getFechaVisita(), 
-                request.getHoraInicio())) {
-            throw new BusinessRuleException(
-                "Ya tiene una reserva en este horario para la misma fecha",
-                "CONFLICTO_HORARIO"
-            );
+        HorarioDisponible horario = null;
+        if (validacion.getIdHorario() != null) {
+            if (!ocupacionService.reservarCupoHorario(
+                    validacion.getIdHorario(), 
+                    request.getFechaVisita(), 
+                    request.getNumeroPersonas())) {
+                throw new BusinessRuleException(
+                    "No hay cupo disponible en el horario seleccionado",
+                    "CUPO_HORARIO_INSUFICIENTE"
+                );
+            }
+            horario = horarioRepository.getReferenceById(validacion.getIdHorario());
         }
 
-        // 7. Crear la reserva
+        // 9. Crear la reserva (referencias sin consultar visitante ni sendero)
         Reserva reserva = new Reserva();
-        reserva.setVisitante(visitante);
-        reserva.setSendero(sendero);
+        reserva.setVisitante(visitanteRepository.getReferenceById(visitanteId));
+        reserva.setSendero(senderoRepository.getReferenceById(request.getIdSendero()));
+        reserva.setHorario(horario);
         reserva.setFechaVisita(request.getFechaVisita());
         reserva.setNumeroPersonas(request.getNumeroPersonas());
         reserva.setHoraInicio(request.getHoraInicio());
         reserva.setObservaciones(request.getObservaciones());
-        reserva.setEstado(EstadoReserva.PENDIENTE);
+        reserva.setEstado(estado);
+        if (estado == EstadoReserva.RETENIDA) {
+            reserva.setFechaExpiracionRetencion(LocalDateTime.now().plusMinutes(retencionMinutos));
+        }
 
         reserva = reservaRepository.save(reserva);
+        resumenDiarioService.registrar(reserva);
+
+        return reservaMapper.toResponseDTO(reserva);
+    }
+
+    @Override
+    public ReservaLoteResponseDTO crearLote(ReservaLoteRequestDTO request) {
+        List<ReservaLoteItemDTO> items = request.getReservas();
+        boolean todoONada = request.getModo() == ModoLote.TODO_O_NADA;
+
+        List<ResultadoItemDTO> resultados = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            resultados.add(new ResultadoItemDTO(i, items.get(i).getIdVisitante()));
+        }
+
+        // 1. Cargar en bloque los datos necesarios para validar (4 consultas para todo el lote)
+        Set<Long> visitanteIds = items.stream().map(ReservaLoteItemDTO::getIdVisitante).collect(Collectors.toSet());
+        Set<Long> senderoIds = items.stream().map(ReservaLoteItemDTO::getIdSendero).collect(Collectors.toSet());
+        Set<LocalDate> fechas = items.stream().map(ReservaLoteItemDTO::getFechaVisita).collect(Collectors.toSet());
+
+        Map<Long, VisitanteLoteProjection> visitantes = visitanteRepository.findEstadoReservasByIds(visitanteIds)
+            .stream()
+            .collect(Collectors.toMap(VisitanteLoteProjection::getIdVisitante, Function.identity()));
+        Map<Long, Sendero> senderos = senderoRepository.findAllById(senderoIds).stream()
+            .collect(Collectors.toMap(Sendero::getIdSendero, Function.identity()));
+        Map<Long, List<HorarioDisponible>> horariosPorSendero = horarioRepository
+            .findBySenderoIdSenderoInAndActivoTrue(senderoIds).stream()
+            .collect(Collectors.groupingBy(h -> h.getSendero().getIdSendero()));
+        Set<String> horariosOcupados = new HashSet<>();
+        for (ReservaHorarioProjection r : reservaRepository.findHorariosActivosByVisitantes(visitanteIds, fechas)) {
+            horariosOcupados.add(claveHorarioVisitante(r.getIdVisitante(), r.getFechaVisita(), r.getHoraInicio()));
+        }
 
-        return convertirAResponseDTO(reserva);
+        // 2. Validar cada reserva en memoria, acumulando las que ya fueron aceptadas en el lote
+        Map<Long, Long> reservasActivas = new HashMap<>();
+        visitantes.forEach((id, v) -> reservasActivas.put(id, v.getReservasActivas()));
+        HorarioDisponible[] horarios = new HorarioDisponible[items.size()];
+        List<Integer> aceptadas = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            ReservaLoteItemDTO item = items.get(i);
+            ResultadoItemDTO resultado = resultados.get(i);
+            VisitanteLoteProjection visitante = visitantes.get(item.getIdVisitante());
+            Sendero sendero = senderos.get(item.getIdSendero());
+
+            if (visitante == null) {
+                resultado.rechazar("VISITANTE_NO_ENCONTRADO", "Visitante no encontrado");
+            } else if (visitante.getEstado() != EstadoGeneral.ACTIVO) {
+                resultado.rechazar("VISITANTE_INACTIVO", "El visitante no está activo");
+            } else if (sendero == null) {
+                resultado.rechazar("SENDERO_NO_ENCONTRADO", "Sendero no encontrado");
+            } else if (!sendero.estaDisponible()) {
+                resultado.rechazar("SENDERO_NO_DISPONIBLE", "El sendero no está disponible");
+            } else if (ChronoUnit.HOURS.between(LocalDate.now().atStartOfDay(), 
+                                                item.getFechaVisita().atStartOfDay()) < 24) {
+                resultado.rechazar(Constants.REGLA_MIN_24H,
+                    "La reserva debe realizarse con al menos 24 horas de anticipación");
+            } else {
+                List<HorarioDisponible> horariosSendero = horariosPorSendero.getOrDefault(
+                    item.getIdSendero(), List.of());
+                horarios[i] = buscarHorario(horariosSendero, item.getFechaVisita(), item.getHoraInicio());
+                if (horarios[i] == null && !horariosSendero.isEmpty()) {
+                    resultado.rechazar("HORARIO_NO_DISPONIBLE",
+                        "La hora de inicio no corresponde a un horario disponible del sendero para ese día");
+                } else if (admitirEnVisitante(item, resultado, reservasActivas, horariosOcupados)) {
+                    aceptadas.add(i);
+                }
+            }
+        }
+
+        if (todoONada && resultados.stream().anyMatch(ResultadoItemDTO::estaRechazada)) {
+            return construirRespuestaLote(request.getModo(), resultados, true);
+        }
+
+        // 3. Descontar cupo agrupando por (sendero, fecha) y luego por (horario, fecha)
+        boolean cupoCompleto = reservarCuposLote(items, resultados, horarios, aceptadas, todoONada);
+        if (!cupoCompleto) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return construirRespuestaLote(request.getModo(), resultados, true);
+        }
+        if (!todoONada) {
+            readmitirSinCupo(items, resultados, horarios, aceptadas, reservasActivas, horariosOcupados);
+        }
+
+        // 4. Insertar las reservas aceptadas (IDs en bloque desde SEQ_RESERVA, inserts en batch JDBC)
+        List<Reserva> nuevas = new ArrayList<>();
+        List<ResultadoItemDTO> creadas = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (resultados.get(i).estaRechazada()) {
+                continue;
+            }
+            ReservaLoteItemDTO item = items.get(i);
+            Reserva reserva = new Reserva();
+            reserva.setVisitante(visitanteRepository.getReferenceById(item.getIdVisitante()));
+            reserva.setSendero(senderos.get(item.getIdSendero()));
+            reserva.setHorario(horarios[i]);
+            reserva.setFechaVisita(item.getFechaVisita());
+            reserva.setNumeroPersonas(item.getNumeroPersonas());
+            reserva.setHoraInicio(item.getHoraInicio());
+            reserva.setObservaciones(item.getObservaciones());
+            reserva.setEstado(EstadoReserva.PENDIENTE);
+            nuevas.add(reserva);
+            creadas.add(resultados.get(i));
+        }
+
+        nuevas = reservaRepository.saveAll(nuevas);
+        resumenDiarioService.registrar(nuevas);
+        for (int i = 0; i < nuevas.size(); i++) {
+            creadas.get(i).setCreada(true);
+            creadas.get(i).setIdReserva(nuevas.get(i).getIdReserva());
+            creadas.get(i).setMensaje("Reserva creada");
+        }
+
+        return construirRespuestaLote(request.getModo(), resultados, false);
     }
 
     @Override
@@ -125,49 +418,70 @@ public class ReservaServiceImpl implements ReservaService {
         Reserva reserva = reservaRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Reserva", "id", id));
         
-        return convertirAResponseDTO(reserva);
+        return reservaMapper.toResponseDTO(reserva);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ReservaResponseDTO> obtenerPorVisitante(Long visitanteId) {
-        return reservaRepository.findByVisitanteId(visitanteId).stream()
-            .map(this::convertirAResponseDTO)
+        return reservaRepository.findListadoByVisitante(visitanteId).stream()
+            .map(this::convertirListadoADTO)
             .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ReservaResponseDTO> obtenerReservasActivas(Long visitanteId) {
-        return reservaRepository.findReservasActivasByVisitante(visitanteId).stream()
-            .map(this::convertirAResponseDTO)
+        return reservaRepository.findListadoActivasByVisitante(visitanteId).stream()
+            .map(this::convertirListadoADTO)
             .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ReservaResponseDTO> obtenerPorSendero(Long senderoId) {
-        return reservaRepository.findBySenderoIdSendero(senderoId).stream()
-            .map(this::convertirAResponseDTO)
+        return reservaRepository.findListadoBySendero(senderoId).stream()
+            .map(this::convertirListadoADTO)
             .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ReservaResponseDTO> obtenerPorFecha(LocalDate fecha) {
-        return reservaRepository.findByFechaVisita(fecha).stream()
-            .map(this::convertirAResponseDTO)
+        return reservaRepository.findListadoByFecha(fecha).stream()
+            .map(this::convertirListadoADTO)
             .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ReservaResponseDTO> obtenerTodas() {
-        return reservaRepository.findAll().stream()
-            .map(this::convertirAResponseDTO)
+        return reservaRepository.findListado().stream()
+            .map(this::convertirListadoADTO)
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaDTO<ReservaResponseDTO> obtenerPagina(String cursor, Integer tamano, EstadoReserva estado,
+                                                       Long senderoId, LocalDate desde, LocalDate hasta) {
+        int tamanoPagina = PaginacionUtils.normalizarTamano(tamano);
+        if (desde != null && hasta != null && hasta.isBefore(desde)) {
+            throw new BadRequestException("La fecha final no puede ser anterior a la inicial");
+        }
+
+        // Con cursor, la posición (fechaVisita, idReserva) reemplaza al filtro 'desde'
+        CursorFechaId posicion = PaginacionUtils.decodificarFechaId(cursor);
+        List<ReservaListadoProjection> filas = posicion == null
+            ? reservaRepository.findPrimeraPagina(PaginacionUtils.fechaDesde(desde),
+                PaginacionUtils.fechaHasta(hasta), estado, senderoId, PaginacionUtils.limite(tamanoPagina))
+            : reservaRepository.findPaginaDespuesDe(posicion.getFecha(), posicion.getId(),
+                PaginacionUtils.fechaHasta(hasta), estado, senderoId, PaginacionUtils.limite(tamanoPagina));
+
+        return PaginaDTO.desdeFilas(filas, tamanoPagina, this::convertirListadoADTO,
+            reserva -> PaginacionUtils.codificarCursor(reserva.getFechaVisita(), reserva.getIdReserva()));
+    }
+
     @Override
     public ReservaResponseDTO modificar(Long reservaId, ReservaUpdateDTO request) {
         Reserva reserva = reservaRepository.findById(reservaId)
@@ -181,8 +495,14 @@ public class ReservaServiceImpl implements ReservaService {
             );
         }
 
+        Long senderoId = reserva.getSendero().getIdSendero();
+        LocalDate fechaAnterior = reserva.getFechaVisita();
+        int personasAnterior = reserva.getNumeroPersonas();
+
         // Si cambia la fecha, validar anticipación de 24h
-        if (request.getFechaVisita() != null && !request.getFechaVisita().equals(reserva.getFechaVisita())) {
+        boolean cambiaFecha = request.getFechaVisita() != null && 
+            !request.getFechaVisita().equals(fechaAnterior);
+        if (cambiaFecha) {
             long horasAnticipacion = ChronoUnit.HOURS.between(
                 LocalDate.now().atStartOfDay(), 
                 request.getFechaVisita().atStartOfDay()
@@ -193,38 +513,94 @@ public class ReservaServiceImpl implements ReservaService {
                     "MIN_24H_ANTICIPACION"
                 );
             }
-            reserva.setFechaVisita(request.getFechaVisita());
         }
 
-        // Si cambia el número de personas, validar cupo
-        if (request.getNumeroPersonas() != null && 
-            !request.getNumeroPersonas().equals(reserva.getNumeroPersonas())) {
-            
-            LocalDate fechaValidar = request.getFechaVisita() != null ? 
-                request.getFechaVisita() : reserva.getFechaVisita();
-            
-            if (!reservaRepository.verificarDisponibilidad(
-                    reserva.getSendero().getIdSendero(), 
-                    fechaValidar, 
-                    request.getNumeroPersonas())) {
+        LocalDate fechaNueva = cambiaFecha ? request.getFechaVisita() : fechaAnterior;
+        int personasNueva = request.getNumeroPersonas() != null ? 
+            request.getNumeroPersonas() : personasAnterior;
+
+        // Ajustar el cupo en el ledger si cambia la fecha o el número de personas
+        if (cambiaFecha) {
+            if (!ocupacionService.reservarCupo(senderoId, fechaNueva, personasNueva)) {
+                throw new BusinessRuleException(
+                    "No hay cupo disponible para la nueva fecha",
+                    "CUPO_INSUFICIENTE"
+                );
+            }
+            ocupacionService.liberarCupo(senderoId, fechaAnterior, personasAnterior);
+        } else if (personasNueva > personasAnterior) {
+            if (!ocupacionService.reservarCupo(senderoId, fechaNueva, personasNueva - personasAnterior)) {
                 throw new BusinessRuleException(
                     "No hay cupo disponible para el nuevo número de personas",
                     "CUPO_INSUFICIENTE"
                 );
             }
-            reserva.setNumeroPersonas(request.getNumeroPersonas());
+        } else if (personasNueva < personasAnterior) {
+            ocupacionService.liberarCupo(senderoId, fechaNueva, personasAnterior - personasNueva);
+        }
+
+        // Ajustar el cupo de la franja horaria (se resuelve de nuevo si cambia fecha u hora)
+        LocalTime horaNueva = request.getHoraInicio() != null ? 
+            request.getHoraInicio() : reserva.getHoraInicio();
+        HorarioDisponible horarioAnterior = reserva.getHorario();
+        HorarioDisponible horarioNuevo = horarioAnterior;
+        if (cambiaFecha || !horaNueva.equals(reserva.getHoraInicio())) {
+            horarioNuevo = resolverHorario(senderoId, fechaNueva, horaNueva);
+        } else if (horarioAnterior == null) {
+            // Reserva anterior a los horarios: se enlaza con su franja (y se cuenta en ella) si existe
+            horarioNuevo = buscarHorario(senderoId, fechaNueva, horaNueva);
         }
+        Long horarioAnteriorId = horarioAnterior != null ? horarioAnterior.getIdHorario() : null;
+        Long horarioNuevoId = horarioNuevo != null ? horarioNuevo.getIdHorario() : null;
 
-        if (request.getHoraInicio() != null) {
-            reserva.setHoraInicio(request.getHoraInicio());
+        if (horarioNuevoId != null && horarioNuevoId.equals(horarioAnteriorId) && !cambiaFecha) {
+            if (personasNueva > personasAnterior && !ocupacionService.reservarCupoHorario(
+                    horarioNuevoId, fechaNueva, personasNueva - personasAnterior)) {
+                throw new BusinessRuleException(
+                    "No hay cupo disponible en el horario para el nuevo número de personas",
+                    "CUPO_HORARIO_INSUFICIENTE"
+                );
+            }
+            if (personasNueva < personasAnterior) {
+                ocupacionService.liberarCupoHorario(horarioNuevoId, fechaNueva, personasAnterior - personasNueva);
+            }
+        } else {
+            if (horarioNuevoId != null && 
+                !ocupacionService.reservarCupoHorario(horarioNuevoId, fechaNueva, personasNueva)) {
+                throw new BusinessRuleException(
+                    "No hay cupo disponible en el horario seleccionado",
+                    "CUPO_HORARIO_INSUFICIENTE"
+                );
+            }
+            if (horarioAnteriorId != null) {
+                ocupacionService.liberarCupoHorario(horarioAnteriorId, fechaAnterior, personasAnterior);
+            }
         }
 
+        // Mover la reserva a su nueva fila del resumen diario (mismo estado)
+        resumenDiarioService.ajustar(senderoId, fechaAnterior, reserva.getEstado(), reserva.getHoraInicio(),
+            -1, -personasAnterior);
+        resumenDiarioService.ajustar(senderoId, fechaNueva, reserva.getEstado(), horaNueva, 1, personasNueva);
+
+        reserva.setFechaVisita(fechaNueva);
+        reserva.setNumeroPersonas(personasNueva);
+        reserva.setHoraInicio(horaNueva);
+        reserva.setHorario(horarioNuevo);
+
         if (request.getObservaciones() != null) {
             reserva.setObservaciones(request.getObservaciones());
         }
 
         reserva = reservaRepository.save(reserva);
-        return convertirAResponseDTO(reserva);
+        cuboReservasService.registrar(reserva);
+
+        // El cupo liberado en la fecha anterior se ofrece a la lista de espera
+        if (cambiaFecha || personasNueva < personasAnterior || 
+            !Objects.equals(horarioNuevoId, horarioAnteriorId)) {
+            promoverListaEspera(senderoId, fechaAnterior);
+        }
+
+        return reservaMapper.toResponseDTO(reserva);
     }
 
     @Override
@@ -239,8 +615,13 @@ public class ReservaServiceImpl implements ReservaService {
             );
         }
 
+        EstadoReserva anterior = reserva.getEstado();
         reserva.cancelar(motivo);
         reservaRepository.save(reserva);
+        resumenDiarioService.cambiarEstado(reserva, anterior, EstadoReserva.CANCELADA);
+
+        ocupacionService.liberarReserva(reserva);
+        promoverListaEspera(reserva.getSendero().getIdSendero(), reserva.getFechaVisita());
     }
 
     @Override
@@ -254,6 +635,7 @@ public class ReservaServiceImpl implements ReservaService {
 
         reserva.confirmar();
         reservaRepository.save(reserva);
+        resumenDiarioService.cambiarEstado(reserva, EstadoReserva.PENDIENTE, EstadoReserva.CONFIRMADA);
     }
 
     @Override
@@ -267,11 +649,15 @@ public class ReservaServiceImpl implements ReservaService {
 
         reserva.completar();
         reservaRepository.save(reserva);
+        resumenDiarioService.cambiarEstado(reserva, EstadoReserva.CONFIRMADA, EstadoReserva.COMPLETADA);
+
+        ocupacionService.liberarReserva(reserva);
 
         // Incrementar contador de visitas del visitante
         Visitante visitante = reserva.getVisitante();
         visitante.incrementarVisitas();
         visitanteRepository.save(visitante);
+        clasificacionService.registrarVisita(visitante);
     }
 
     @Override
@@ -285,41 +671,519 @@ public class ReservaServiceImpl implements ReservaService {
 
         reserva.marcarNoAsistio();
         reservaRepository.save(reserva);
+        resumenDiarioService.cambiarEstado(reserva, EstadoReserva.CONFIRMADA, EstadoReserva.NO_ASISTIO);
+
+        ocupacionService.liberarReserva(reserva);
+    }
+
+    @Override
+    public TransicionMasivaResponseDTO aplicarTransicionMasiva(TransicionReserva transicion,
+                                                               TransicionMasivaRequestDTO request) {
+        boolean porIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean porFiltro = request.getIdSendero() != null && request.getFechaVisita() != null;
+        if (porIds == porFiltro) {
+            throw new BadRequestException("Debe indicar la lista de IDs o el sendero y la fecha de visita");
+        }
+
+        // 1. Bloquear solo las reservas que siguen en el estado de origen
+        EstadoReserva origen = transicion.getOrigen();
+        List<Reserva> reservas = porIds
+            ? reservaRepository.findParaTransicion(new HashSet<>(request.getIds()), origen)
+            : reservaRepository.findParaTransicionPorSenderoYFecha(
+                request.getIdSendero(), request.getFechaVisita(), origen);
+        List<Long> ids = reservas.stream().map(Reserva::getIdReserva).sorted().collect(Collectors.toList());
+
+        // 2. UPDATE en bloque con guarda de estado y efectos agregados
+        if (!ids.isEmpty()) {
+            LocalDateTime ahora = LocalDateTime.now();
+            for (List<Long> bloque : particionar(ids)) {
+                reservaRepository.aplicarTransicion(bloque, origen, transicion.getDestino(), ahora);
+            }
+            resumenDiarioService.cambiarEstado(reservas, origen, transicion.getDestino());
+            if (transicion.liberaCupo()) {
+                ocupacionService.liberarReservas(reservas);
+            }
+            if (transicion == TransicionReserva.COMPLETAR) {
+                incrementarVisitas(reservas);
+            }
+        }
+
+        TransicionMasivaResponseDTO respuesta = new TransicionMasivaResponseDTO(transicion);
+        respuesta.setAplicadas(ids);
+
+        // 3. Reportar las reservas solicitadas que no cambiaron de estado
+        if (porIds) {
+            Set<Long> aplicadas = new HashSet<>(ids);
+            List<Long> omitidas = request.getIds().stream()
+                .distinct()
+                .filter(id -> !aplicadas.contains(id))
+                .collect(Collectors.toList());
+            if (!omitidas.isEmpty()) {
+                Map<Long, EstadoReserva> estados = reservaRepository.findEstadosByIds(omitidas).stream()
+                    .collect(Collectors.toMap(ReservaEstadoProjection::getIdReserva, ReservaEstadoProjection::getEstado));
+                for (Long id : omitidas) {
+                    EstadoReserva estado = estados.get(id);
+                    respuesta.getOmitidas().add(new TransicionMasivaResponseDTO.OmitidaDTO(id, estado,
+                        estado == null
+                            ? "Reserva no encontrada"
+                            : "La reserva está en estado " + estado + " y la transición requiere " + origen));
+                }
+            }
+        }
+
+        respuesta.setTotalAplicadas(respuesta.getAplicadas().size());
+        respuesta.setTotalOmitidas(respuesta.getOmitidas().size());
+        return respuesta;
+    }
+
+    /**
+     * Sumar una visita por reserva completada: un UPDATE por cada número distinto de visitas
+     * (normalmente uno solo, cuando cada visitante completa una reserva)
+     */
+    private void incrementarVisitas(List<Reserva> reservas) {
+        Map<Long, Long> visitasPorVisitante = reservas.stream()
+            .collect(Collectors.groupingBy(r -> r.getVisitante().getId(), Collectors.counting()));
+
+        Map<Long, List<Long>> visitantesPorCantidad = visitasPorVisitante.entrySet().stream()
+            .collect(Collectors.groupingBy(Map.Entry::getValue,
+                Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        visitantesPorCantidad.forEach((visitas, visitanteIds) -> {
+            for (List<Long> bloque : particionar(visitanteIds)) {
+                visitanteRepository.incrementarVisitas(bloque, visitas.intValue());
+            }
+        });
+        clasificacionService.registrarVisitas(visitasPorVisitante);
+    }
+
+    /**
+     * Dividir una lista de IDs en bloques aptos para una cláusula IN
+     */
+    private List<List<Long>> particionar(List<Long> ids) {
+        List<List<Long>> bloques = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += Constants.MAX_RESERVAS_POR_TRANSICION) {
+            bloques.add(ids.subList(i, Math.min(i + Constants.MAX_RESERVAS_POR_TRANSICION, ids.size())));
+        }
+        return bloques;
+    }
+
+    /**
+     * Aplicar las reglas por visitante (máximo de reservas activas y conflicto de horario) y,
+     * si la reserva las cumple, contarla para las siguientes reservas del mismo visitante en el lote
+     */
+    private boolean admitirEnVisitante(ReservaLoteItemDTO item, ResultadoItemDTO resultado,
+                                       Map<Long, Long> reservasActivas, Set<String> horariosOcupados) {
+        if (reservasActivas.get(item.getIdVisitante()) >= Constants.MAX_RESERVAS_ACTIVAS_POR_VISITANTE) {
+            resultado.rechazar(Constants.REGLA_MAX_RESERVAS,
+                "El visitante ya tiene el máximo de 2 reservas activas");
+            return false;
+        }
+        if (!horariosOcupados.add(claveHorarioVisitante(
+                item.getIdVisitante(), item.getFechaVisita(), item.getHoraInicio()))) {
+            resultado.rechazar("CONFLICTO_HORARIO",
+                "El visitante ya tiene una reserva en este horario para la misma fecha");
+            return false;
+        }
+        reservasActivas.merge(item.getIdVisitante(), 1L, Long::sum);
+        return true;
+    }
+
+    /**
+     * MEJOR_ESFUERZO: una reserva rechazada por cupo no cuenta para su visitante. Se descuenta y las
+     * reservas del mismo visitante rechazadas por las reglas de visitante se vuelven a evaluar en orden;
+     * las que ahora pasan intentan tomar cupo, hasta que no quede ninguna por reconsiderar.
+     */
+    private void readmitirSinCupo(List<ReservaLoteItemDTO> items, List<ResultadoItemDTO> resultados,
+                                  HorarioDisponible[] horarios, List<Integer> contadas,
+                                  Map<Long, Long> reservasActivas, Set<String> horariosOcupados) {
+        while (!contadas.isEmpty()) {
+            Set<Long> liberados = new HashSet<>();
+            for (Integer i : contadas) {
+                if (resultados.get(i).estaRechazada()) {
+                    ReservaLoteItemDTO item = items.get(i);
+                    reservasActivas.merge(item.getIdVisitante(), -1L, Long::sum);
+                    horariosOcupados.remove(claveHorarioVisitante(
+                        item.getIdVisitante(), item.getFechaVisita(), item.getHoraInicio()));
+                    liberados.add(item.getIdVisitante());
+                }
+            }
+
+            List<Integer> readmitidas = new ArrayList<>();
+            for (int i = 0; i < items.size(); i++) {
+                ReservaLoteItemDTO item = items.get(i);
+                ResultadoItemDTO resultado = resultados.get(i);
+                if (liberados.contains(item.getIdVisitante()) && esRechazoPorVisitante(resultado)) {
+                    resultado.readmitir();
+                    if (admitirEnVisitante(item, resultado, reservasActivas, horariosOcupados)) {
+                        readmitidas.add(i);
+                    }
+                }
+            }
+            // Cada reserva se readmite a lo sumo una vez: si vuelve a fallar es por cupo
+            reservarCuposLote(items, resultados, horarios, readmitidas, false);
+            contadas = readmitidas;
+        }
+    }
+
+    private boolean esRechazoPorVisitante(ResultadoItemDTO resultado) {
+        return Constants.REGLA_MAX_RESERVAS.equals(resultado.getCodigoRegla())
+            || "CONFLICTO_HORARIO".equals(resultado.getCodigoRegla());
+    }
+
+    /**
+     * Descontar el cupo de las reservas indicadas del lote con un UPDATE por grupo.
+     * En modo MEJOR_ESFUERZO, si el grupo no cabe completo se intenta reserva por reserva.
+     * Retorna false si en modo TODO_O_NADA algún grupo no tiene cupo.
+     */
+    private boolean reservarCuposLote(List<ReservaLoteItemDTO> items, List<ResultadoItemDTO> resultados,
+                                      HorarioDisponible[] horarios, List<Integer> indices, boolean todoONada) {
+        Map<SenderoOcupacionId, List<Integer>> porSendero = new LinkedHashMap<>();
+        for (Integer i : indices) {
+            ReservaLoteItemDTO item = items.get(i);
+            porSendero.computeIfAbsent(new SenderoOcupacionId(item.getIdSendero(), item.getFechaVisita()),
+                k -> new ArrayList<>()).add(i);
+        }
+
+        for (Map.Entry<SenderoOcupacionId, List<Integer>> grupo : porSendero.entrySet()) {
+            Long senderoId = grupo.getKey().getIdSendero();
+            LocalDate fecha = grupo.getKey().getFecha();
+            if (ocupacionService.reservarCupo(senderoId, fecha, sumarPersonas(items, grupo.getValue()))) {
+                continue;
+            }
+            for (Integer i : grupo.getValue()) {
+                if (todoONada || !ocupacionService.reservarCupo(senderoId, fecha, items.get(i).getNumeroPersonas())) {
+                    resultados.get(i).rechazar(Constants.REGLA_CUPO_INSUFICIENTE,
+                        "No hay cupo disponible para el número de personas solicitado en esta fecha");
+                }
+            }
+            if (todoONada) {
+                return false;
+            }
+        }
+
+        Map<HorarioOcupacionId, List<Integer>> porHorario = new LinkedHashMap<>();
+        for (Integer i : indices) {
+            if (!resultados.get(i).estaRechazada() && horarios[i] != null) {
+                porHorario.computeIfAbsent(new HorarioOcupacionId(horarios[i].getIdHorario(), items.get(i).getFechaVisita()),
+                    k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        for (Map.Entry<HorarioOcupacionId, List<Integer>> grupo : porHorario.entrySet()) {
+            Long horarioId = grupo.getKey().getIdHorario();
+            LocalDate fecha = grupo.getKey().getFecha();
+            if (ocupacionService.reservarCupoHorario(horarioId, fecha, sumarPersonas(items, grupo.getValue()))) {
+                continue;
+            }
+            for (Integer i : grupo.getValue()) {
+                ReservaLoteItemDTO item = items.get(i);
+                if (todoONada || !ocupacionService.reservarCupoHorario(horarioId, fecha, item.getNumeroPersonas())) {
+                    resultados.get(i).rechazar("CUPO_HORARIO_INSUFICIENTE",
+                        "No hay cupo disponible en el horario seleccionado");
+                    // Devolver el cupo diario que ya se había descontado para esta reserva
+                    ocupacionService.liberarCupo(item.getIdSendero(), fecha, item.getNumeroPersonas());
+                }
+            }
+            if (todoONada) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int sumarPersonas(List<ReservaLoteItemDTO> items, List<Integer> indices) {
+        return indices.stream().mapToInt(i -> items.get(i).getNumeroPersonas()).sum();
+    }
+
+    private String claveHorarioVisitante(Long visitanteId, LocalDate fecha, LocalTime hora) {
+        return visitanteId + "|" + fecha + "|" + hora;
+    }
+
+    /**
+     * Buscar entre los horarios activos del sendero el que inicia a la hora indicada ese día
+     */
+    private HorarioDisponible buscarHorario(List<HorarioDisponible> horarios, LocalDate fecha, LocalTime hora) {
+        String dia = DiaSemana.fromDayOfWeek(fecha.getDayOfWeek()).getAbreviatura();
+        return horarios.stream()
+            .filter(h -> h.getHoraInicio().equals(hora))
+            .filter(h -> h.getDiasSemana() != null && 
+                         Arrays.asList(h.getDiasSemana().split(",")).contains(dia))
+            .findFirst()
+            .orElse(null);
     }
 
     /**
-     * Método auxiliar para convertir Reserva a ReservaResponseDTO
+     * Construir la respuesta del lote. Si el lote se descarta (TODO_O_NADA),
+     * las reservas válidas se marcan como no creadas por rechazo del lote.
      */
-    private ReservaResponseDTO convertirAResponseDTO(Reserva reserva) {
+    private ReservaLoteResponseDTO construirRespuestaLote(ModoLote modo, List<ResultadoItemDTO> resultados,
+                                                          boolean loteDescartado) {
+        if (loteDescartado) {
+            resultados.stream()
+                .filter(r -> !r.estaRechazada())
+                .forEach(r -> r.rechazar("LOTE_RECHAZADO",
+                    "No se creó porque otra reserva del lote fue rechazada"));
+        }
+
+        int creadas = (int) resultados.stream().filter(ResultadoItemDTO::getCreada).count();
+
+        ReservaLoteResponseDTO respuesta = new ReservaLoteResponseDTO();
+        respuesta.setModo(modo);
+        respuesta.setTotalSolicitadas(resultados.size());
+        respuesta.setTotalCreadas(creadas);
+        respuesta.setTotalRechazadas(resultados.size() - creadas);
+        respuesta.setResultados(resultados);
+        return respuesta;
+    }
+
+    /**
+     * Bloquear y pasar a EXPIRADA un lote de retenciones vencidas, liberar su cupo
+     * y ofrecer el cupo liberado a la lista de espera
+     */
+    private int liberarLoteRetenciones(List<Long> ids, LocalDateTime ahora) {
+        // Revalidar bajo bloqueo: una confirmación concurrente ya no aparece aquí
+        List<Reserva> vencidas = reservaRepository.findRetencionesVencidasParaLiberar(ids, ahora);
+        if (vencidas.isEmpty()) {
+            return 0;
+        }
+
+        reservaRepository.expirarRetenciones(
+            vencidas.stream().map(Reserva::getIdReserva).collect(Collectors.toList()), ahora);
+        ocupacionService.liberarReservas(vencidas);
+        resumenDiarioService.cambiarEstado(vencidas, EstadoReserva.RETENIDA, EstadoReserva.EXPIRADA);
+
+        vencidas.stream()
+            .map(r -> new SenderoOcupacionId(r.getSendero().getIdSendero(), r.getFechaVisita()))
+            .distinct()
+            .forEach(id -> promoverListaEspera(id.getIdSendero(), id.getFecha()));
+        return vencidas.size();
+    }
+
+    /**
+     * Convertir en reservas las solicitudes en espera del sendero y fecha que caben en el cupo libre.
+     * La cola se recorre en orden de llegada; una solicitud que no cabe no bloquea a las siguientes.
+     * Se ejecuta en la transacción que liberó el cupo y los correos se envían tras el commit.
+     */
+    private void promoverListaEspera(Long senderoId, LocalDate fecha) {
+        List<ListaEspera> cola = listaEsperaRepository.findColaParaPromover(senderoId, fecha);
+        // Un sendero cerrado no recibe reservas nuevas: las solicitudes siguen en espera
+        if (cola.isEmpty() || !cola.get(0).getSendero().estaDisponible()) {
+            return;
+        }
+
+        Integer cupo = ocupacionService.calcularCupoDisponible(senderoId, fecha);
+        int cupoRestante = cupo != null ? cupo : 0;
+        if (cupoRestante <= 0) {
+            return;
+        }
+
+        // Cargar en bloque lo necesario para validar toda la cola
+        Set<Long> visitanteIds = cola.stream()
+            .map(solicitud -> solicitud.getVisitante().getId())
+            .collect(Collectors.toSet());
+        Map<Long, VisitanteLoteProjection> visitantes = visitanteRepository.findEstadoReservasByIds(visitanteIds)
+            .stream()
+            .collect(Collectors.toMap(VisitanteLoteProjection::getIdVisitante, Function.identity()));
+        List<HorarioDisponible> horariosSendero = horarioRepository
+            .findBySenderoIdSenderoInAndActivoTrue(Set.of(senderoId));
+        Set<String> horariosOcupados = new HashSet<>();
+        for (ReservaHorarioProjection r : reservaRepository.findHorariosActivosByVisitantes(visitanteIds, Set.of(fecha))) {
+            horariosOcupados.add(claveHorarioVisitante(r.getIdVisitante(), r.getFechaVisita(), r.getHoraInicio()));
+        }
+        Map<Long, Long> reservasActivas = new HashMap<>();
+        visitantes.forEach((id, v) -> reservasActivas.put(id, v.getReservasActivas()));
+
+        List<ListaEspera> promovidas = new ArrayList<>();
+        List<Reserva> nuevas = new ArrayList<>();
+        for (ListaEspera solicitud : cola) {
+            if (cupoRestante <= 0) {
+                break;
+            }
+            int personas = solicitud.getNumeroPersonas();
+            Long visitanteId = solicitud.getVisitante().getId();
+            VisitanteLoteProjection visitante = visitantes.get(visitanteId);
+            String clave = claveHorarioVisitante(visitanteId, fecha, solicitud.getHoraInicio());
+
+            if (personas > cupoRestante || visitante == null || 
+                !cumpleAnticipacion(fecha, solicitud.getHoraInicio()) ||
+                visitante.getEstado() != EstadoGeneral.ACTIVO ||
+                reservasActivas.get(visitanteId) >= Constants.MAX_RESERVAS_ACTIVAS_POR_VISITANTE ||
+                horariosOcupados.contains(clave)) {
+                continue;
+            }
+
+            HorarioDisponible horario = buscarHorario(horariosSendero, fecha, solicitud.getHoraInicio());
+            if (horario == null && !horariosSendero.isEmpty()) {
+                continue;
+            }
+            if (!ocupacionService.reservarCupo(senderoId, fecha, personas)) {
+                continue;
+            }
+            if (horario != null && !ocupacionService.reservarCupoHorario(horario.getIdHorario(), fecha, personas)) {
+                ocupacionService.liberarCupo(senderoId, fecha, personas);
+                continue;
+            }
+            cupoRestante -= personas;
+            horariosOcupados.add(clave);
+            reservasActivas.merge(visitanteId, 1L, Long::sum);
+
+            Reserva reserva = new Reserva();
+            reserva.setVisitante(solicitud.getVisitante());
+            reserva.setSendero(solicitud.getSendero());
+            reserva.setHorario(horario);
+            reserva.setFechaVisita(fecha);
+            reserva.setNumeroPersonas(personas);
+            reserva.setHoraInicio(solicitud.getHoraInicio());
+            reserva.setObservaciones(solicitud.getObservaciones());
+            reserva.setEstado(EstadoReserva.PENDIENTE);
+            nuevas.add(reserva);
+            promovidas.add(solicitud);
+        }
+
+        if (nuevas.isEmpty()) {
+            return;
+        }
+        // Insertar en bloque y enlazar cada solicitud con su reserva
+        nuevas = reservaRepository.saveAll(nuevas);
+        resumenDiarioService.registrar(nuevas);
+        for (int i = 0; i < nuevas.size(); i++) {
+            promovidas.get(i).promover(nuevas.get(i));
+        }
+        notificarPromociones(promovidas);
+    }
+
+    /**
+     * Regla de 24 horas de anticipación para una promoción: la de crearReserva (por fecha) y la del
+     * trigger TRG_VALIDAR_ANTICIPACION (fecha y hora). Si el trigger rechazara la inserción, se
+     * revertiría la transacción que liberó el cupo (p. ej. la cancelación del usuario).
+     */
+    private boolean cumpleAnticipacion(LocalDate fecha, LocalTime horaInicio) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return ChronoUnit.HOURS.between(ahora.toLocalDate().atStartOfDay(), fecha.atStartOfDay()) >= 24
+            && !fecha.atTime(horaInicio.getHour(), 0).isBefore(ahora.plusHours(24));
+    }
+
+    /**
+     * Enviar el correo de cada solicitud promovida solo si la transacción se confirma
+     */
+    private void notificarPromociones(List<ListaEspera> promovidas) {
+        // Una consulta para los datos de contacto de todos los visitantes promovidos
+        Map<Long, Visitante> visitantes = visitanteRepository.findAllById(
+                promovidas.stream().map(s -> s.getVisitante().getId()).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(Visitante::getId, Function.identity()));
+
+        List<Runnable> envios = new ArrayList<>();
+        for (ListaEspera solicitud : promovidas) {
+            Visitante visitante = visitantes.get(solicitud.getVisitante().getId());
+            String email = visitante.getEmail();
+            String nombre = visitante.getNombre();
+            String sendero = solicitud.getSendero().getNombre();
+            LocalDate fecha = solicitud.getFechaVisita();
+            LocalTime hora = solicitud.getHoraInicio();
+            Integer personas = solicitud.getNumeroPersonas();
+            envios.add(() -> emailService.notificarPromocionListaEspera(
+                email, nombre, sendero, fecha, hora, personas));
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                envios.forEach(Runnable::run);
+            }
+        });
+    }
+
+    /**
+     * Buscar el horario del sendero que corresponde a la fecha y hora solicitadas.
+     * Retorna null si el sendero no tiene horarios configurados (solo aplica el cupo diario).
+     */
+    private HorarioDisponible resolverHorario(Long senderoId, LocalDate fecha, LocalTime hora) {
+        HorarioDisponible horario = buscarHorario(senderoId, fecha, hora);
+        if (horario == null && horarioRepository.existsBySenderoIdSenderoAndActivoTrue(senderoId)) {
+            throw new BusinessRuleException(
+                "La hora de inicio no corresponde a un horario disponible del sendero para ese día",
+                "HORARIO_NO_DISPONIBLE"
+            );
+        }
+        return horario;
+    }
+
+    /**
+     * Horario activo del sendero para la fecha y hora, o null si no hay ninguno
+     */
+    private HorarioDisponible buscarHorario(Long senderoId, LocalDate fecha, LocalTime hora) {
+        String dia = DiaSemana.fromDayOfWeek(fecha.getDayOfWeek()).getAbreviatura();
+
+        return horarioRepository.findIdHorarioActivo(senderoId, hora, dia)
+            .map(horarioRepository::getReferenceById)
+            .orElse(null);
+    }
+
+    /**
+     * Convertir una fila del listado a DTO sin tocar entidades ni asociaciones perezosas
+     */
+    private ReservaResponseDTO convertirListadoADTO(ReservaListadoProjection fila) {
         ReservaResponseDTO dto = new ReservaResponseDTO();
-        
-        dto.setIdReserva(reserva.getIdReserva());
-        dto.setFechaReserva(reserva.getFechaReserva());
-        dto.setFechaVisita(reserva.getFechaVisita());
-        dto.setNumeroPersonas(reserva.getNumeroPersonas());
-        dto.setHoraInicio(reserva.getHoraInicio());
-        dto.setEstado(reserva.getEstado());
-        dto.setObservaciones(reserva.getObservaciones());
-        dto.setFechaCreacion(reserva.getFechaCreacion());
-        dto.setFechaModificacion(reserva.getFechaModificacion());
-        dto.setFechaCancelacion(reserva.getFechaCancelacion());
-        dto.setMotivoCancelacion(reserva.getMotivoCancelacion());
-        
-        // Mapear visitante
-        dto.setVisitante(modelMapper.map(reserva.getVisitante(), VisitanteResponseDTO.class));
-        
-        // Mapear sendero
-        dto.setSendero(modelMapper.map(reserva.getSendero(), SenderoResponseDTO.class));
-        
-        // Información de guía asignado
-        dto.setTieneGuiaAsignado(reserva.tieneGuiaAsignado());
-        if (reserva.getAsignacionGuia() != null) {
-            dto.setGuiaAsignado(modelMapper.map(
-                reserva.getAsignacionGuia().getGuia(), 
-                com.uptc.bases2.demo.models.dto.response.GuiaResponseDTO.class
-            ));
+
+        dto.setIdReserva(fila.getIdReserva());
+        dto.setFechaReserva(fila.getFechaReserva());
+        dto.setFechaVisita(fila.getFechaVisita());
+        dto.setNumeroPersonas(fila.getNumeroPersonas());
+        dto.setHoraInicio(fila.getHoraInicio());
+        dto.setEstado(fila.getEstado());
+        dto.setObservaciones(fila.getObservaciones());
+        dto.setFechaCreacion(fila.getFechaCreacion());
+        dto.setFechaModificacion(fila.getFechaModificacion());
+        dto.setFechaCancelacion(fila.getFechaCancelacion());
+        dto.setMotivoCancelacion(fila.getMotivoCancelacion());
+        dto.setFechaExpiracionRetencion(fila.getFechaExpiracionRetencion());
+
+        VisitanteResponseDTO visitante = new VisitanteResponseDTO();
+        visitante.setId(fila.getVisitanteId());
+        visitante.setCedula(fila.getVisitanteCedula());
+        visitante.setNombre(fila.getVisitanteNombre());
+        visitante.setApellido(fila.getVisitanteApellido());
+        visitante.setTelefono(fila.getVisitanteTelefono());
+        visitante.setEmail(fila.getVisitanteEmail());
+        visitante.setEstado(fila.getVisitanteEstado());
+        visitante.setNumeroVisitas(fila.getVisitanteNumeroVisitas());
+        visitante.setPuntuacionPromedio(fila.getVisitantePuntuacion());
+        visitante.setFechaRegistro(fila.getVisitanteFechaRegistro());
+        dto.setVisitante(visitante);
+
+        // La descripción (CLOB) no se incluye en los listados
+        SenderoResponseDTO sendero = new SenderoResponseDTO();
+        sendero.setIdSendero(fila.getSenderoId());
+        sendero.setNombre(fila.getSenderoNombre());
+        sendero.setDificultad(fila.getSenderoDificultad());
+        sendero.setDuracionHoras(fila.getSenderoDuracionHoras());
+        sendero.setCupoMaximoDia(fila.getSenderoCupoMaximoDia());
+        sendero.setDistanciaKm(fila.getSenderoDistanciaKm());
+        sendero.setEstado(fila.getSenderoEstado());
+        sendero.setImagenUrl(fila.getSenderoImagenUrl());
+        sendero.setFechaCreacion(fila.getSenderoFechaCreacion());
+        sendero.setFechaModificacion(fila.getSenderoFechaModificacion());
+        dto.setSendero(sendero);
+
+        dto.setTieneGuiaAsignado(fila.getGuiaId() != null);
+        if (fila.getGuiaId() != null) {
+            GuiaResponseDTO guia = new GuiaResponseDTO();
+            guia.setId(fila.getGuiaId());
+            guia.setCedula(fila.getGuiaCedula());
+            guia.setNombre(fila.getGuiaNombre());
+            guia.setApellido(fila.getGuiaApellido());
+            guia.setTelefono(fila.getGuiaTelefono());
+            guia.setEmail(fila.getGuiaEmail());
+            guia.setEspecialidades(fila.getGuiaEspecialidades());
+            guia.setMaxPersonasGrupo(fila.getGuiaMaxPersonasGrupo());
+            guia.setCalificacionPromedio(fila.getGuiaCalificacion());
+            guia.setNumeroRecorridos(fila.getGuiaNumeroRecorridos());
+            guia.setEstado(fila.getGuiaEstado());
+            guia.setFechaRegistro(fila.getGuiaFechaRegistro());
+            dto.setGuiaAsignado(guia);
         }
-        
+
         return dto;
     }
 }
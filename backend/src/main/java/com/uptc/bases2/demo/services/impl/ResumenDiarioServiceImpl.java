@@ -0,0 +1,180 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.exceptions.BadRequestException;
+import com.uptc.bases2.demo.models.entities.Reserva;
+import com.uptc.bases2.demo.models.entities.ReservaDiariaId;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.repositories.ReservaDiariaRepository;
+import com.uptc.bases2.demo.repositories.ReservaRepository;
+import com.uptc.bases2.demo.services.interfaces.ClasificacionService;
+import com.uptc.bases2.demo.services.interfaces.CuboReservasService;
+import com.uptc.bases2.demo.services.interfaces.HorasPicoService;
+import com.uptc.bases2.demo.services.interfaces.ResumenDiarioService;
+import com.uptc.bases2.demo.services.interfaces.SeriesReservasService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Implementación del resumen diario de reservas.
+ *
+ * Cada cambio se aplica como un UPDATE con delta sobre la fila (fecha, sendero, estado, hora),
+ * igual que el ledger de ocupación: las filas se crean en cero en una transacción propia
+ * y se bloquean solo hasta el commit de la reserva.
+ */
+@Service
+@Transactional
+public class ResumenDiarioServiceImpl implements ResumenDiarioService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumenDiarioServiceImpl.class);
+
+    // Orden fijo de actualización para que dos lotes concurrentes no se bloqueen mutuamente
+    private static final Comparator<ReservaDiariaId> ORDEN_FILAS = Comparator
+        .comparing(ReservaDiariaId::getFecha)
+        .thenComparing(ReservaDiariaId::getIdSendero)
+        .thenComparing(ReservaDiariaId::getEstado)
+        .thenComparing(ReservaDiariaId::getHora);
+
+    @Autowired
+    private ReservaDiariaRepository reservaDiariaRepository;
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @Autowired
+    private HorasPicoService horasPicoService;
+
+    @Autowired
+    private SeriesReservasService seriesReservasService;
+
+    @Autowired
+    private ClasificacionService clasificacionService;
+
+    @Autowired
+    private CuboReservasService cuboReservasService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Override
+    public void registrar(Reserva reserva) {
+        ajustar(reserva.getSendero().getIdSendero(), reserva.getFechaVisita(), reserva.getEstado(),
+            reserva.getHoraInicio(), 1, reserva.getNumeroPersonas());
+        cuboReservasService.registrar(reserva);
+    }
+
+    @Override
+    public void registrar(Collection<Reserva> reservas) {
+        Map<ReservaDiariaId, int[]> deltas = new TreeMap<>(ORDEN_FILAS);
+        for (Reserva reserva : reservas) {
+            acumular(deltas, reserva, reserva.getEstado(), 1);
+        }
+        aplicar(deltas);
+        cuboReservasService.registrar(reservas);
+    }
+
+    @Override
+    public void cambiarEstado(Reserva reserva, EstadoReserva origen, EstadoReserva destino) {
+        if (origen == destino) {
+            return;
+        }
+        Map<ReservaDiariaId, int[]> deltas = new TreeMap<>(ORDEN_FILAS);
+        acumular(deltas, reserva, origen, -1);
+        acumular(deltas, reserva, destino, 1);
+        aplicar(deltas);
+        cuboReservasService.cambiarEstado(List.of(reserva), destino);
+    }
+
+    @Override
+    public void cambiarEstado(Collection<Reserva> reservas, EstadoReserva origen, EstadoReserva destino) {
+        if (origen == destino || reservas.isEmpty()) {
+            return;
+        }
+        Map<ReservaDiariaId, int[]> deltas = new TreeMap<>(ORDEN_FILAS);
+        for (Reserva reserva : reservas) {
+            acumular(deltas, reserva, origen, -1);
+            acumular(deltas, reserva, destino, 1);
+        }
+        aplicar(deltas);
+        cuboReservasService.cambiarEstado(reservas, destino);
+    }
+
+    @Override
+    public void ajustar(Long senderoId, LocalDate fecha, EstadoReserva estado, LocalTime hora,
+                        int reservas, int personas) {
+        if (reservas == 0 && personas == 0) {
+            return;
+        }
+        Integer horaDelDia = hora.getHour();
+        if (estado.cuentaComoDemanda()) {
+            horasPicoService.registrar(senderoId, fecha, horaDelDia, reservas, personas);
+        }
+        seriesReservasService.registrar(senderoId, fecha, estado, reservas, personas);
+        clasificacionService.registrarReservas(senderoId, reservas, personas);
+        if (reservaDiariaRepository.sumar(fecha, senderoId, estado, horaDelDia, reservas, personas) == 1) {
+            return;
+        }
+        // Primera reserva en esa combinación: crear la fila en cero y volver a sumar
+        crearFila(() -> reservaDiariaRepository.asegurarFila(fecha, senderoId, estado.name(), horaDelDia));
+        reservaDiariaRepository.sumar(fecha, senderoId, estado, horaDelDia, reservas, personas);
+    }
+
+    @Override
+    public int reconstruir(LocalDate desde, LocalDate hasta) {
+        LocalDate inicio = desde != null ? desde : reservaRepository.findPrimeraFechaVisita();
+        LocalDate fin = hasta != null ? hasta : reservaRepository.findUltimaFechaVisita();
+        if (inicio == null || fin == null) {
+            return 0;
+        }
+        if (fin.isBefore(inicio)) {
+            throw new BadRequestException("La fecha final no puede ser anterior a la inicial");
+        }
+
+        int eliminadas = reservaDiariaRepository.eliminarEntre(inicio, fin);
+        int generadas = reservaDiariaRepository.reconstruirEntre(inicio, fin);
+        logger.info("Resumen diario reconstruido entre {} y {}: {} filas eliminadas, {} generadas",
+            inicio, fin, eliminadas, generadas);
+        return generadas;
+    }
+
+    private void acumular(Map<ReservaDiariaId, int[]> deltas, Reserva reserva, EstadoReserva estado, int signo) {
+        ReservaDiariaId id = new ReservaDiariaId(reserva.getFechaVisita(), reserva.getSendero().getIdSendero(),
+            estado, reserva.getHoraInicio().getHour());
+        int[] delta = deltas.computeIfAbsent(id, k -> new int[2]);
+        delta[0] += signo;
+        delta[1] += signo * reserva.getNumeroPersonas();
+    }
+
+    private void aplicar(Map<ReservaDiariaId, int[]> deltas) {
+        deltas.forEach((id, delta) -> ajustar(id.getIdSendero(), id.getFecha(), id.getEstado(),
+            LocalTime.of(id.getHora(), 0), delta[0], delta[1]));
+    }
+
+    /**
+     * Crea la fila del resumen en una transacción propia y la confirma de inmediato.
+     * Si otra transacción concurrente la creó primero, la violación de llave se ignora.
+     */
+    private void crearFila(Runnable merge) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            tx.executeWithoutResult(status -> merge.run());
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Fila de resumen diario creada por otra transacción: {}", e.getMessage());
+        }
+    }
+}
@@ -1,19 +1,34 @@
 package com.uptc.bases2.demo.services.impl;
 
+import com.uptc.bases2.demo.exceptions.BadRequestException;
 import com.uptc.bases2.demo.exceptions.ConflictException;
 import com.uptc.bases2.demo.exceptions.ResourceNotFoundException;
+import com.uptc.bases2.demo.mappers.SenderoMapper;
 import com.uptc.bases2.demo.models.dto.request.SenderoRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.CalendarioCupoDTO;
+import com.uptc.bases2.demo.models.dto.response.DisponibilidadSenderoDTO;
+import com.uptc.bases2.demo.models.dto.response.PaginaDTO;
 import com.uptc.bases2.demo.models.dto.response.SenderoResponseDTO;
 import com.uptc.bases2.demo.models.entities.Sendero;
+import com.uptc.bases2.demo.models.enums.Dificultad;
 import com.uptc.bases2.demo.models.enums.EstadoGeneral;
+import com.uptc.bases2.demo.repositories.SenderoOcupacionRepository;
 import com.uptc.bases2.demo.repositories.SenderoRepository;
+import com.uptc.bases2.demo.repositories.projections.DisponibilidadSenderoProjection;
+import com.uptc.bases2.demo.repositories.projections.OcupacionDiaProjection;
+import com.uptc.bases2.demo.services.interfaces.OcupacionService;
 import com.uptc.bases2.demo.services.interfaces.SenderoService;
-import org.modelmapper.ModelMapper;
+import com.uptc.bases2.demo.utils.Constants;
+import com.uptc.bases2.demo.utils.PaginacionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,7 +43,13 @@ public class SenderoServiceImpl implements SenderoService {
     private SenderoRepository senderoRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private OcupacionService ocupacionService;
+
+    @Autowired
+    private SenderoOcupacionRepository ocupacionRepository;
+
+    @Autowired
+    private SenderoMapper senderoMapper;
 
     @Override
     public SenderoResponseDTO crear(SenderoRequestDTO request) {
@@ -37,10 +58,10 @@ public class SenderoServiceImpl implements SenderoService {
             throw new ConflictException("Ya existe un sendero con ese nombre");
         }
 
-        Sendero sendero = modelMapper.map(request, Sendero.class);
+        Sendero sendero = senderoMapper.toEntity(request);
         sendero = senderoRepository.save(sendero);
         
-        return modelMapper.map(sendero, SenderoResponseDTO.class);
+        return senderoMapper.toResponseDTO(sendero);
     }
 
     @Override
@@ -49,22 +70,35 @@ public class SenderoServiceImpl implements SenderoService {
         Sendero sendero = senderoRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Sendero", "id", id));
         
-        return modelMapper.map(sendero, SenderoResponseDTO.class);
+        return senderoMapper.toResponseDTO(sendero);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<SenderoResponseDTO> obtenerTodos() {
         return senderoRepository.findAll().stream()
-            .map(sendero -> modelMapper.map(sendero, SenderoResponseDTO.class))
+            .map(sendero -> senderoMapper.toResponseDTO(sendero))
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaDTO<SenderoResponseDTO> obtenerPagina(String cursor, Integer tamano, 
+                                                       EstadoGeneral estado, Dificultad dificultad) {
+        int tamanoPagina = PaginacionUtils.normalizarTamano(tamano);
+        List<Sendero> filas = senderoRepository.findPagina(
+            PaginacionUtils.decodificarId(cursor), estado, dificultad, PaginacionUtils.limite(tamanoPagina));
+
+        return PaginaDTO.desdeFilas(filas, tamanoPagina,
+            sendero -> senderoMapper.toResponseDTO(sendero),
+            sendero -> PaginacionUtils.codificarCursor(sendero.getIdSendero()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<SenderoResponseDTO> obtenerActivos() {
         return senderoRepository.findAllActivos().stream()
-            .map(sendero -> modelMapper.map(sendero, SenderoResponseDTO.class))
+            .map(sendero -> senderoMapper.toResponseDTO(sendero))
             .collect(Collectors.toList());
     }
 
@@ -72,7 +106,7 @@ public class SenderoServiceImpl implements SenderoService {
     @Transactional(readOnly = true)
     public List<SenderoResponseDTO> obtenerDisponibles(LocalDate fecha) {
         return senderoRepository.findSenderosDisponibles(fecha).stream()
-            .map(sendero -> modelMapper.map(sendero, SenderoResponseDTO.class))
+            .map(sendero -> senderoMapper.toResponseDTO(sendero))
             .collect(Collectors.toList());
     }
 
@@ -95,7 +129,7 @@ public class SenderoServiceImpl implements SenderoService {
         sendero.setImagenUrl(request.getImagenUrl());
 
         sendero = senderoRepository.save(sendero);
-        return modelMapper.map(sendero, SenderoResponseDTO.class);
+        return senderoMapper.toResponseDTO(sendero);
     }
 
     @Override
@@ -119,7 +153,118 @@ public class SenderoServiceImpl implements SenderoService {
     @Override
     @Transactional(readOnly = true)
     public Integer calcularCupoDisponible(Long senderoId, LocalDate fecha) {
-        Integer cupo = senderoRepository.calcularCupoDisponible(senderoId, fecha);
+        Integer cupo = ocupacionService.calcularCupoDisponible(senderoId, fecha);
         return cupo != null ? cupo : 0;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CalendarioCupoDTO obtenerCalendario(Long senderoId, LocalDate desde, LocalDate hasta) {
+        validarRango(desde, hasta);
+
+        // Los días anteriores a la primera fecha reservable no se ofrecen; si no queda ninguno
+        // el calendario sale vacío desde esa fecha
+        desde = max(desde, primeraFechaReservable());
+        int dias = hasta.isBefore(desde) ? 0 : (int) ChronoUnit.DAYS.between(desde, hasta) + 1;
+
+        // Una sola consulta: cupo del sendero + días con ocupación registrada en el ledger
+        List<OcupacionDiaProjection> ocupacion = ocupacionRepository.findOcupacionRango(senderoId, desde, hasta);
+        if (ocupacion.isEmpty()) {
+            throw new ResourceNotFoundException("Sendero", "id", senderoId);
+        }
+
+        int cupoMaximo = ocupacion.get(0).getCupoMaximoDia();
+        int[] cupos = new int[dias];
+        Arrays.fill(cupos, cupoMaximo);
+
+        for (OcupacionDiaProjection dia : ocupacion) {
+            if (dia.getFecha() != null) {
+                int indice = (int) ChronoUnit.DAYS.between(desde, dia.getFecha());
+                cupos[indice] = Math.max(cupoMaximo - dia.getPersonasReservadas(), 0);
+            }
+        }
+
+        return new CalendarioCupoDTO(senderoId, desde, hasta, cupoMaximo, cupos);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DisponibilidadSenderoDTO> buscarDisponibilidad(LocalDate desde, LocalDate hasta, Integer personas,
+                                                               Dificultad dificultad, BigDecimal duracionMaxima) {
+        validarRango(desde, hasta);
+        if (personas == null || personas < 1) {
+            throw new BadRequestException("Debe haber al menos 1 persona");
+        }
+
+        // Solo se buscan fechas que todavía admiten reservas
+        desde = max(desde, primeraFechaReservable());
+        if (hasta.isBefore(desde)) {
+            return new ArrayList<>();
+        }
+        int dias = (int) ChronoUnit.DAYS.between(desde, hasta) + 1;
+
+        // Una sola consulta para todos los senderos; las filas llegan agrupadas por sendero
+        List<DisponibilidadSenderoProjection> filas = ocupacionRepository
+            .findDisponibilidadRango(desde, hasta, personas, dificultad, duracionMaxima);
+
+        List<DisponibilidadSenderoDTO> resultado = new ArrayList<>();
+        int[] cupos = new int[dias];
+        int inicio = 0;
+        while (inicio < filas.size()) {
+            DisponibilidadSenderoProjection sendero = filas.get(inicio);
+            int cupoMaximo = sendero.getCupoMaximoDia();
+            Arrays.fill(cupos, cupoMaximo);
+
+            int fin = inicio;
+            while (fin < filas.size() && filas.get(fin).getIdSendero().equals(sendero.getIdSendero())) {
+                DisponibilidadSenderoProjection dia = filas.get(fin++);
+                if (dia.getFecha() != null) {
+                    int indice = (int) ChronoUnit.DAYS.between(desde, dia.getFecha());
+                    cupos[indice] = cupoMaximo - dia.getPersonasReservadas();
+                }
+            }
+            inicio = fin;
+
+            DisponibilidadSenderoDTO disponibilidad = new DisponibilidadSenderoDTO(
+                sendero.getIdSendero(), sendero.getNombre(), sendero.getDificultad().name(),
+                sendero.getDuracionHoras(), cupoMaximo);
+            for (int i = 0; i < dias; i++) {
+                if (cupos[i] >= personas) {
+                    disponibilidad.getDias().add(
+                        new DisponibilidadSenderoDTO.DiaDisponibleDTO(desde.plusDays(i), cupos[i]));
+                }
+            }
+            if (!disponibilidad.getDias().isEmpty()) {
+                resultado.add(disponibilidad);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Primera fecha que admite reservas según la anticipación mínima (la misma regla de crearReserva)
+     */
+    private LocalDate primeraFechaReservable() {
+        return LocalDate.now().plusDays(Constants.HORAS_MINIMAS_ANTICIPACION_RESERVA / 24);
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    /**
+     * Validar un rango de fechas y retornar su número de días
+     */
+    private int validarRango(LocalDate desde, LocalDate hasta) {
+        if (hasta.isBefore(desde)) {
+            throw new BadRequestException("La fecha 'hasta' no puede ser anterior a 'desde'");
+        }
+
+        long dias = ChronoUnit.DAYS.between(desde, hasta) + 1;
+        if (dias > Constants.MAX_DIAS_CALENDARIO) {
+            throw new BadRequestException(
+                "El rango de fechas no puede exceder " + Constants.MAX_DIAS_CALENDARIO + " días");
+        }
+        return (int) dias;
+    }
 }
@@ -0,0 +1,313 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.exceptions.BadRequestException;
+import com.uptc.bases2.demo.models.dto.response.PromedioPersonasDTO;
+import com.uptc.bases2.demo.models.dto.response.PromedioPersonasDTO.PromedioSenderoDTO;
+import com.uptc.bases2.demo.models.dto.response.PuntoMensualDTO;
+import com.uptc.bases2.demo.models.dto.response.TasaCancelacionDTO;
+import com.uptc.bases2.demo.models.dto.response.TendenciasDTO;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.models.enums.PeriodoEstadistica;
+import com.uptc.bases2.demo.repositories.ReservaDiariaRepository;
+import com.uptc.bases2.demo.repositories.projections.TotalesDiaProjection;
+import com.uptc.bases2.demo.services.interfaces.SeriesReservasService;
+import com.uptc.bases2.demo.utils.DeltasPostCommit;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementación de las series mensuales de reservas.
+ *
+ * Cada sendero guarda dos arreglos de enteros (reservas y personas) con una posición por
+ * mes y estado. Se cargan con un único recorrido de RESERVA_DIARIA por rango de fechas y luego
+ * reciben los mismos deltas que el resumen diario, aplicados tras el commit. Las consultas
+ * solo suman arreglos en memoria, sin funciones YEAR()/MONTH() sobre la base de datos.
+ */
+@Service
+@Transactional
+public class SeriesReservasServiceImpl implements SeriesReservasService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeriesReservasServiceImpl.class);
+
+    private static final int ESTADOS = EstadoReserva.values().length;
+    private static final int CANCELADA = EstadoReserva.CANCELADA.ordinal();
+
+    @Autowired
+    private ReservaDiariaRepository reservaDiariaRepository;
+
+    @Value("${app.estadisticas.series-meses-historia:36}")
+    private int mesesHistoria;
+
+    private volatile Map<Long, SerieSendero> series = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void iniciar() {
+        recargar();
+    }
+
+    @Override
+    public void registrar(Long senderoId, LocalDate fecha, EstadoReserva estado, int reservas, int personas) {
+        if (reservas == 0 && personas == 0) {
+            return;
+        }
+        // Clave: sendero | mes (21 bits) | estado (3 bits)
+        long clave = ((long) senderoId << 24) | ((long) indiceMes(YearMonth.from(fecha)) << 3) | estado.ordinal();
+        DeltasPostCommit.sumar(this, clave, reservas, personas, this::aplicar);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void recargar() {
+        long inicio = System.currentTimeMillis();
+        LocalDate desde = YearMonth.now().minusMonths(mesesHistoria - 1L).atDay(1);
+        List<TotalesDiaProjection> filas = reservaDiariaRepository.totalizarPorDiaDesde(desde);
+
+        Map<Long, SerieSendero> nuevas = new ConcurrentHashMap<>();
+        for (TotalesDiaProjection fila : filas) {
+            nuevas.computeIfAbsent(fila.getIdSendero(), k -> new SerieSendero())
+                .sumar(indiceMes(YearMonth.from(fila.getFecha())), fila.getEstado().ordinal(),
+                    fila.getTotalReservas().intValue(), fila.getTotalPersonas().intValue());
+        }
+        series = nuevas;
+        logger.info("Series mensuales de reservas cargadas desde {}: {} senderos, {} filas en {} ms",
+            desde, nuevas.size(), filas.size(), System.currentTimeMillis() - inicio);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TendenciasDTO obtenerTendencias(int meses, Long senderoId) {
+        if (meses < 1 || meses > mesesHistoria) {
+            throw new BadRequestException("El número de meses debe estar entre 1 y " + mesesHistoria);
+        }
+
+        // Un mes adicional al inicio para calcular la variación del primer punto
+        YearMonth primero = YearMonth.now().minusMonths(meses - 1L);
+        List<PuntoMensualDTO> serie = construirSerie(primero.minusMonths(1), meses + 1, senderoId);
+        serie = serie.subList(1, serie.size());
+
+        TendenciasDTO dto = new TendenciasDTO();
+        dto.setIdSendero(senderoId);
+        dto.setMeses(meses);
+        dto.setSerie(serie);
+        dto.setTotalReservas(serie.stream().mapToLong(PuntoMensualDTO::getReservas).sum());
+        dto.setTotalPersonas(serie.stream().mapToLong(PuntoMensualDTO::getPersonas).sum());
+        return dto;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TasaCancelacionDTO obtenerTasaCancelacion(String periodo, Long senderoId) {
+        PeriodoEstadistica p = PeriodoEstadistica.fromString(periodo);
+        if (p == null) {
+            throw new BadRequestException("Periodo no válido: " + periodo + ". Use mes, trimestre, semestre o año");
+        }
+
+        YearMonth hasta = YearMonth.now();
+        YearMonth desde = hasta.minusMonths(p.getMeses() - 1L);
+        long[] reservas = new long[p.getMeses() * ESTADOS];
+        long[] personas = new long[p.getMeses() * ESTADOS];
+        copiar(senderoId, indiceMes(desde), p.getMeses(), reservas, personas);
+
+        long total = Arrays.stream(reservas).sum();
+        long canceladas = 0;
+        for (int m = 0; m < p.getMeses(); m++) {
+            canceladas += reservas[m * ESTADOS + CANCELADA];
+        }
+
+        TasaCancelacionDTO dto = new TasaCancelacionDTO();
+        dto.setPeriodo(p);
+        dto.setIdSendero(senderoId);
+        dto.setDesde(desde);
+        dto.setHasta(hasta);
+        dto.setTotalReservas(total);
+        dto.setCanceladas(canceladas);
+        dto.setTasaCancelacion(porcentaje(canceladas, total));
+        dto.setSerie(puntos(desde, p.getMeses(), reservas, personas));
+        return dto;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PromedioPersonasDTO obtenerPromedioPersonas() {
+        PromedioPersonasDTO dto = new PromedioPersonasDTO();
+        long totalReservas = 0;
+        long totalPersonas = 0;
+        // Orden por ID de sendero para una respuesta estable
+        for (Map.Entry<Long, SerieSendero> entrada : new TreeMap<>(series).entrySet()) {
+            long[] reservas = new long[ESTADOS];
+            long[] personas = new long[ESTADOS];
+            entrada.getValue().totalizarEn(reservas, personas);
+            long r = sumarDemanda(reservas, 0);
+            long p = sumarDemanda(personas, 0);
+            if (r == 0) {
+                continue;
+            }
+            dto.getSenderos().add(new PromedioSenderoDTO(entrada.getKey(), r, p, promedio(p, r)));
+            totalReservas += r;
+            totalPersonas += p;
+        }
+        dto.setTotalReservas(totalReservas);
+        dto.setTotalPersonas(totalPersonas);
+        dto.setPromedioGeneral(promedio(totalPersonas, totalReservas));
+        return dto;
+    }
+
+    private List<PuntoMensualDTO> construirSerie(YearMonth desde, int meses, Long senderoId) {
+        long[] reservas = new long[meses * ESTADOS];
+        long[] personas = new long[meses * ESTADOS];
+        copiar(senderoId, indiceMes(desde), meses, reservas, personas);
+        return puntos(desde, meses, reservas, personas);
+    }
+
+    /**
+     * Un punto por mes; la variación compara las reservas con las del mes anterior de la ventana
+     */
+    private List<PuntoMensualDTO> puntos(YearMonth desde, int meses, long[] reservas, long[] personas) {
+        PuntoMensualDTO[] puntos = new PuntoMensualDTO[meses];
+        for (int m = 0; m < meses; m++) {
+            YearMonth mes = desde.plusMonths(m);
+            int base = m * ESTADOS;
+            long demanda = sumarDemanda(reservas, base);
+            long personasDemanda = sumarDemanda(personas, base);
+            long total = 0;
+            for (int e = 0; e < ESTADOS; e++) {
+                total += reservas[base + e];
+            }
+
+            PuntoMensualDTO punto = new PuntoMensualDTO(mes.getYear(), mes.getMonthValue());
+            punto.setReservas(demanda);
+            punto.setPersonas(personasDemanda);
+            punto.setCanceladas(reservas[base + CANCELADA]);
+            punto.setTasaCancelacion(porcentaje(reservas[base + CANCELADA], total));
+            punto.setPromedioPersonas(promedio(personasDemanda, demanda));
+            if (m > 0 && puntos[m - 1].getReservas() > 0) {
+                long anterior = puntos[m - 1].getReservas();
+                punto.setVariacionReservas(Math.round((demanda - anterior) * 1000.0 / anterior) / 10.0);
+            }
+            puntos[m] = punto;
+        }
+        return Arrays.asList(puntos);
+    }
+
+    private void copiar(Long senderoId, int desde, int meses, long[] reservas, long[] personas) {
+        if (senderoId != null) {
+            SerieSendero serie = series.get(senderoId);
+            if (serie != null) {
+                serie.copiarEn(desde, meses, reservas, personas);
+            }
+        } else {
+            series.values().forEach(s -> s.copiarEn(desde, meses, reservas, personas));
+        }
+    }
+
+    private void aplicar(long clave, int reservas, int personas) {
+        series.computeIfAbsent(clave >>> 24, k -> new SerieSendero())
+            .sumar((int) ((clave >>> 3) & 0x1FFFFF), (int) (clave & 0x7), reservas, personas);
+    }
+
+    /**
+     * Reservas que cuentan como demanda (sin canceladas ni expiradas) de un mes de la ventana
+     */
+    private static long sumarDemanda(long[] valores, int base) {
+        long suma = 0;
+        for (EstadoReserva estado : EstadoReserva.values()) {
+            if (estado.cuentaComoDemanda()) {
+                suma += valores[base + estado.ordinal()];
+            }
+        }
+        return suma;
+    }
+
+    private static int indiceMes(YearMonth mes) {
+        return mes.getYear() * 12 + mes.getMonthValue() - 1;
+    }
+
+    private static double porcentaje(long parte, long total) {
+        return total > 0 ? Math.round(parte * 1000.0 / total) / 10.0 : 0.0;
+    }
+
+    private static double promedio(long personas, long reservas) {
+        return reservas > 0 ? Math.round(personas * 100.0 / reservas) / 100.0 : 0.0;
+    }
+
+    /**
+     * Contadores de un sendero: posición (mes - mesBase) * ESTADOS + estado.
+     * El arreglo crece hacia atrás o hacia adelante cuando llega un mes fuera del rango.
+     */
+    private static class SerieSendero {
+
+        private int mesBase;
+        private int[] reservas = new int[0];
+        private int[] personas = new int[0];
+
+        synchronized void sumar(int mes, int estado, int totalReservas, int totalPersonas) {
+            asegurarMes(mes);
+            int i = (mes - mesBase) * ESTADOS + estado;
+            reservas[i] += totalReservas;
+            personas[i] += totalPersonas;
+        }
+
+        /**
+         * Sumar los meses [desde, desde + meses) en los destinos, en la posición (mes - desde) * ESTADOS + estado
+         */
+        synchronized void copiarEn(int desde, int meses, long[] destinoReservas, long[] destinoPersonas) {
+            int inicio = Math.max(desde, mesBase);
+            int fin = Math.min(desde + meses, mesBase + reservas.length / ESTADOS);
+            for (int mes = inicio; mes < fin; mes++) {
+                int origen = (mes - mesBase) * ESTADOS;
+                int destino = (mes - desde) * ESTADOS;
+                for (int e = 0; e < ESTADOS; e++) {
+                    destinoReservas[destino + e] += reservas[origen + e];
+                    destinoPersonas[destino + e] += personas[origen + e];
+                }
+            }
+        }
+
+        /**
+         * Sumar todos los meses por estado
+         */
+        synchronized void totalizarEn(long[] destinoReservas, long[] destinoPersonas) {
+            for (int i = 0; i < reservas.length; i++) {
+                destinoReservas[i % ESTADOS] += reservas[i];
+                destinoPersonas[i % ESTADOS] += personas[i];
+            }
+        }
+
+        private void asegurarMes(int mes) {
+            int cargados = reservas.length / ESTADOS;
+            if (cargados == 0) {
+                mesBase = mes;
+                reservas = new int[12 * ESTADOS];
+                personas = new int[12 * ESTADOS];
+            } else if (mes < mesBase) {
+                int adelanto = (mesBase - mes) * ESTADOS;
+                reservas = desplazar(reservas, adelanto);
+                personas = desplazar(personas, adelanto);
+                mesBase = mes;
+            } else if (mes >= mesBase + cargados) {
+                int nuevos = Math.max(mes - mesBase + 1, cargados + 12);
+                reservas = Arrays.copyOf(reservas, nuevos * ESTADOS);
+                personas = Arrays.copyOf(personas, nuevos * ESTADOS);
+            }
+        }
+
+        private static int[] desplazar(int[] valores, int posiciones) {
+            int[] nuevo = new int[valores.length + posiciones];
+            System.arraycopy(valores, 0, nuevo, posiciones, valores.length);
+            return nuevo;
+        }
+    }
+}
@@ -2,13 +2,15 @@ package com.uptc.bases2.demo.services.impl;
 
 import com.uptc.bases2.demo.exceptions.ConflictException;
 import com.uptc.bases2.demo.exceptions.ResourceNotFoundException;
+import com.uptc.bases2.demo.mappers.VisitanteMapper;
 import com.uptc.bases2.demo.models.dto.request.VisitanteRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.PaginaDTO;
 import com.uptc.bases2.demo.models.dto.response.VisitanteResponseDTO;
 import com.uptc.bases2.demo.models.entities.Visitante;
 import com.uptc.bases2.demo.models.enums.EstadoGeneral;
 import com.uptc.bases2.demo.repositories.VisitanteRepository;
 import com.uptc.bases2.demo.services.interfaces.VisitanteService;
-import org.modelmapper.ModelMapper;
+import com.uptc.bases2.demo.utils.PaginacionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -28,7 +30,7 @@ public class VisitanteServiceImpl implements VisitanteService {
     private VisitanteRepository visitanteRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private VisitanteMapper visitanteMapper;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -39,7 +41,7 @@ public class VisitanteServiceImpl implements VisitanteService {
         Visitante visitante = visitanteRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Visitante", "id", id));
         
-        return modelMapper.map(visitante, VisitanteResponseDTO.class);
+        return visitanteMapper.toResponseDTO(visitante);
     }
 
     @Override
@@ -48,22 +50,34 @@ public class VisitanteServiceImpl implements VisitanteService {
         Visitante visitante = visitanteRepository.findByEmail(email)
             .orElseThrow(() -> new ResourceNotFoundException("Visitante", "email", email));
         
-        return modelMapper.map(visitante, VisitanteResponseDTO.class);
+        return visitanteMapper.toResponseDTO(visitante);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<VisitanteResponseDTO> obtenerTodos() {
         return visitanteRepository.findAll().stream()
-            .map(visitante -> modelMapper.map(visitante, VisitanteResponseDTO.class))
+            .map(visitante -> visitanteMapper.toResponseDTO(visitante))
             .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaDTO<VisitanteResponseDTO> obtenerPagina(String cursor, Integer tamano, EstadoGeneral estado) {
+        int tamanoPagina = PaginacionUtils.normalizarTamano(tamano);
+        List<Visitante> filas = visitanteRepository.findPagina(
+            PaginacionUtils.decodificarId(cursor), estado, PaginacionUtils.limite(tamanoPagina));
+
+        return PaginaDTO.desdeFilas(filas, tamanoPagina,
+            visitante -> visitanteMapper.toResponseDTO(visitante),
+            visitante -> PaginacionUtils.codificarCursor(visitante.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<VisitanteResponseDTO> obtenerActivos() {
         return visitanteRepository.findAllActivos().stream()
-            .map(visitante -> modelMapper.map(visitante, VisitanteResponseDTO.class))
+            .map(visitante -> visitanteMapper.toResponseDTO(visitante))
             .collect(Collectors.toList());
     }
 
@@ -92,7 +106,7 @@ public class VisitanteServiceImpl implements VisitanteService {
         }
 
         visitante = visitanteRepository.save(visitante);
-        return modelMapper.map(visitante, VisitanteResponseDTO.class);
+        return visitanteMapper.toResponseDTO(visitante);
     }
 
     @Override
@@ -5,6 +5,7 @@ import com.uptc.bases2.demo.models.dto.request.FinalizarRecorridoDTO;
 import com.uptc.bases2.demo.models.dto.request.IniciarRecorridoDTO;
 import com.uptc.bases2.demo.models.dto.response.AsignacionResponseDTO;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -20,6 +21,8 @@ public interface AsignacionGuiaService {
     
     List<AsignacionResponseDTO> obtenerPorGuia(Long guiaId);
     
+    List<AsignacionResponseDTO> obtenerPorGuiaYFecha(Long guiaId, LocalDate fecha);
+    
     void iniciarRecorrido(IniciarRecorridoDTO request);
     
     void finalizarRecorrido(FinalizarRecorridoDTO request);
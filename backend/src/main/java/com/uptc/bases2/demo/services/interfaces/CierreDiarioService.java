@@ -0,0 +1,19 @@
+package com.uptc.bases2.demo.services.interfaces;
+
+import com.uptc.bases2.demo.models.dto.response.ProcesoBatchResponseDTO;
+
+import java.util.List;
+
+/**
+ * Interface para el cierre diario de reservas con fecha de visita pasada
+ */
+public interface CierreDiarioService {
+
+    /**
+     * Pasar a NO_ASISTIO las CONFIRMADAS sin recorrido iniciado y a EXPIRADA las PENDIENTES,
+     * por lotes con punto de control. Retorna las métricas de cada fase.
+     */
+    List<ProcesoBatchResponseDTO> ejecutarCierre();
+
+    List<ProcesoBatchResponseDTO> obtenerEstado();
+}
@@ -0,0 +1,57 @@
+package com.uptc.bases2.demo.services.interfaces;
+
+import com.uptc.bases2.demo.models.dto.response.GuiaRankingDTO;
+import com.uptc.bases2.demo.models.dto.response.SenderoPopularDTO;
+import com.uptc.bases2.demo.models.dto.response.VisitanteFrecuenteDTO;
+import com.uptc.bases2.demo.models.entities.Guia;
+import com.uptc.bases2.demo.models.entities.Visitante;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interface para las clasificaciones de guías, visitantes y senderos.
+ * Cada una guarda en memoria solo las primeras posiciones y se actualiza con los cambios confirmados.
+ */
+public interface ClasificacionService {
+
+    /**
+     * Registra la calificación y los recorridos actuales de un guía tras finalizar un recorrido
+     */
+    void registrarRecorrido(Guia guia);
+
+    /**
+     * Registra el número de visitas actual de un visitante tras completar una reserva
+     */
+    void registrarVisita(Visitante visitante);
+
+    /**
+     * Suma visitas a varios visitantes (completado masivo), por ID de visitante
+     */
+    void registrarVisitas(Map<Long, Long> visitasPorVisitante);
+
+    /**
+     * Suma (o resta, con valores negativos) reservas y personas a un sendero
+     */
+    void registrarReservas(Long senderoId, int reservas, int personas);
+
+    /**
+     * Marca las tres clasificaciones para recargarse desde la base de datos en la siguiente consulta
+     */
+    void invalidar();
+
+    /**
+     * Guías activos con mejor calificación
+     */
+    List<GuiaRankingDTO> obtenerTopGuias(int limite);
+
+    /**
+     * Visitantes activos con más visitas
+     */
+    List<VisitanteFrecuenteDTO> obtenerVisitantesFrecuentes(int limite);
+
+    /**
+     * Senderos activos con más reservas
+     */
+    List<SenderoPopularDTO> obtenerSenderosPopulares(int limite);
+}
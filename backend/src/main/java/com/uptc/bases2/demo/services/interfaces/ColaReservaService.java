@@ -0,0 +1,19 @@
+package com.uptc.bases2.demo.services.interfaces;
+
+import com.uptc.bases2.demo.models.dto.request.ReservaRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.TicketReservaDTO;
+
+/**
+ * Interface para la recepción asíncrona de reservas (cola en memoria con procesamiento por lotes)
+ */
+public interface ColaReservaService {
+
+    /**
+     * Encolar una solicitud de reserva. Lanza ServiceUnavailableException si la cola está llena.
+     */
+    TicketReservaDTO encolar(Long visitanteId, ReservaRequestDTO request);
+
+    TicketReservaDTO obtenerTicket(String ticketId);
+
+    int limpiarTicketsFinalizados();
+}
@@ -0,0 +1,40 @@
+package com.uptc.bases2.demo.services.interfaces;
+
+import com.uptc.bases2.demo.models.dto.response.CuboReservasDTO;
+import com.uptc.bases2.demo.models.entities.Reserva;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Interface para el cubo de reservas en memoria: una fila por reserva guardada por columnas,
+ * con consultas de agrupación, filtro y suma sin pasar por la base de datos.
+ */
+public interface CuboReservasService {
+
+    /**
+     * Agrega la reserva al cubo o reemplaza sus valores (creación o modificación).
+     * Dentro de una transacción el cambio se aplica solo si esta se confirma.
+     */
+    void registrar(Reserva reserva);
+
+    void registrar(Collection<Reserva> reservas);
+
+    /**
+     * Cambia el estado de las reservas en el cubo tras el commit
+     */
+    void cambiarEstado(Collection<Reserva> reservas, EstadoReserva destino);
+
+    /**
+     * Vuelve a cargar el cubo completo desde RESERVA
+     */
+    void recargar();
+
+    /**
+     * Reservas y personas agrupadas por las dimensiones indicadas (separadas por coma),
+     * filtrando por sendero, dificultad, estados (separados por coma) y rango de fechas de visita
+     */
+    CuboReservasDTO consultar(String agrupar, Long senderoId, String dificultad, String estados,
+                              LocalDate desde, LocalDate hasta);
+}
@@ -0,0 +1,15 @@
+package com.uptc.bases2.demo.services.interfaces;
+
+import com.uptc.bases2.demo.models.dto.response.DashboardDTO;
+
+/**
+ * Interface para la instantánea del tablero de administración
+ */
+public interface DashboardService {
+
+    /**
+     * Ocupación de hoy, reservas por confirmar, reservas sin guía, recorridos en curso y totales del mes.
+     * Las secciones se calculan en paralelo y el resultado se comparte durante unos segundos.
+     */
+    DashboardDTO obtenerDashboard();
+}
@@ -0,0 +1,41 @@
+package com.uptc.bases2.demo.services.interfaces;
+
+import com.uptc.bases2.demo.models.dto.response.EstadisticasGeneralesDTO;
+import com.uptc.bases2.demo.models.dto.response.EstadisticasRangoDTO;
+import com.uptc.bases2.demo.models.dto.response.OcupacionSenderoDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservasPorEstadoDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservasPorMesDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Interface para las estadísticas de reservas, leídas del resumen diario RESERVA_DIARIA
+ */
+public interface EstadisticasService {
+
+    EstadisticasGeneralesDTO obtenerGenerales();
+
+    /**
+     * Reservas por estado; sin fechas considera todas las reservas
+     */
+    List<ReservasPorEstadoDTO> obtenerReservasPorEstado(LocalDate desde, LocalDate hasta);
+
+    /**
+     * Reservas de cada mes del año (12 elementos, en cero los meses sin reservas)
+     */
+    List<ReservasPorMesDTO> obtenerReservasPorMes(int anio);
+
+    EstadisticasRangoDTO obtenerPorRango(LocalDate fechaInicio, LocalDate fechaFin);
+
+    /**
+     * Ocupación de todos los senderos activos en una fecha, con el detalle por horario.
+     * El resultado se reutiliza durante unos segundos para cada fecha.
+     */
+    List<OcupacionSenderoDTO> obtenerOcupacion(LocalDate fecha);
+
+    /**
+     * Recalcula el resumen diario desde RESERVA. Retorna las filas generadas.
+     */
+    int reconstruirResumen(LocalDate desde, LocalDate hasta);
+}
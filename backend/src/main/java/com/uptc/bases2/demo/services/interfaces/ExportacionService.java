@@ -0,0 +1,21 @@
+package com.uptc.bases2.demo.services.interfaces;
+
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.models.enums.FormatoExportacion;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * Interface para la exportación masiva de datos por streaming
+ */
+public interface ExportacionService {
+
+    /**
+     * Escribe las reservas filtradas en la salida a medida que se leen de la base de datos
+     * @return número de filas exportadas
+     */
+    long exportarReservas(FormatoExportacion formato, LocalDate desde, LocalDate hasta,
+                          Long senderoId, EstadoReserva estado, OutputStream salida) throws IOException;
+}
@@ -3,6 +3,8 @@ package com.uptc.bases2.demo.services.interfaces;
 import com.uptc.bases2.demo.models.dto.request.GuiaRequestDTO;
 import com.uptc.bases2.demo.models.dto.response.AgendaGuiaResponseDTO;
 import com.uptc.bases2.demo.models.dto.response.GuiaResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.PaginaDTO;
+import com.uptc.bases2.demo.models.enums.EstadoGeneral;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -20,6 +22,8 @@ public interface GuiaService {
     
     List<GuiaResponseDTO> obtenerTodos();
     
+    PaginaDTO<GuiaResponseDTO> obtenerPagina(String cursor, Integer tamano, EstadoGeneral estado);
+    
     List<GuiaResponseDTO> obtenerActivos();
     
     List<GuiaResponseDTO> obtenerDisponiblesPorFecha(LocalDate fecha);
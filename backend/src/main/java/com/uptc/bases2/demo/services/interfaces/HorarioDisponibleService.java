@@ -1,8 +1,10 @@
 package com.uptc.bases2.demo.services.interfaces;
 
 import com.uptc.bases2.demo.models.dto.request.HorarioRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.HorarioDisponibilidadDTO;
 import com.uptc.bases2.demo.models.dto.response.HorarioResponseDTO;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -18,6 +20,8 @@ public interface HorarioDisponibleService {
     
     List<HorarioResponseDTO> obtenerActivosPorSendero(Long senderoId);
     
+    List<HorarioDisponibilidadDTO> obtenerDisponibilidad(Long senderoId, LocalDate fecha);
+    
     HorarioResponseDTO actualizar(Long id, HorarioRequestDTO request);
     
     void activar(Long id);
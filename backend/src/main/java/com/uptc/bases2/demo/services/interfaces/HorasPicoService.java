@@ -0,0 +1,36 @@
+package com.uptc.bases2.demo.services.interfaces;
+
+import com.uptc.bases2.demo.models.dto.response.HoraPicoDTO;
+import com.uptc.bases2.demo.models.dto.response.RecomendacionCupoDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Interface para el histograma de reservas por sendero, día de la semana y hora de inicio.
+ * Se mantiene en memoria y se actualiza con cada cambio confirmado del resumen diario.
+ */
+public interface HorasPicoService {
+
+    /**
+     * Suma (o resta, con valores negativos) reservas y personas a una celda del histograma.
+     * Dentro de una transacción el cambio se aplica solo si esta se confirma.
+     */
+    void registrar(Long senderoId, LocalDate fecha, int hora, int reservas, int personas);
+
+    /**
+     * Vuelve a cargar el histograma completo desde RESERVA_DIARIA
+     */
+    void recargar();
+
+    /**
+     * Celdas con reservas ordenadas de mayor a menor demanda; sin sendero suma todos los senderos
+     */
+    List<HoraPicoDTO> obtenerHorasPico(Long senderoId, Integer limite);
+
+    /**
+     * Cupo recomendado para cada horario activo del sendero, repartiendo el cupo diario
+     * según la participación de cada horario en la demanda histórica de su día
+     */
+    List<RecomendacionCupoDTO> recomendarCupos(Long senderoId);
+}
@@ -0,0 +1,23 @@
+package com.uptc.bases2.demo.services.interfaces;
+
+import com.uptc.bases2.demo.models.entities.Idempotencia;
+
+import java.util.Optional;
+
+/**
+ * Interface para el almacenamiento de respuestas por Idempotency-Key
+ */
+public interface IdempotenciaService {
+
+    /**
+     * Respuesta guardada para la clave, si existe y no ha expirado
+     */
+    Optional<Idempotencia> buscarVigente(String clave);
+
+    /**
+     * Guardar la respuesta de una petición; la expiración se calcula con el TTL configurado
+     */
+    void guardar(Idempotencia registro);
+
+    int eliminarExpiradas();
+}
@@ -0,0 +1,28 @@
+package com.uptc.bases2.demo.services.interfaces;
+
+import com.uptc.bases2.demo.models.dto.response.ImportacionResponseDTO;
+import com.uptc.bases2.demo.models.enums.FormatoImportacion;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Interface para la importación masiva de datos por streaming
+ */
+public interface ImportacionService {
+
+    /**
+     * Importa visitantes (mismos campos que el registro); las filas inválidas se reportan sin detener la carga
+     */
+    ImportacionResponseDTO importarVisitantes(FormatoImportacion formato, InputStream entrada) throws IOException;
+
+    /**
+     * Importa senderos; el nombre debe ser único en la base y en el archivo
+     */
+    ImportacionResponseDTO importarSenderos(FormatoImportacion formato, InputStream entrada) throws IOException;
+
+    /**
+     * Importa horarios; el sendero debe existir y el horario no puede solaparse con otro activo
+     */
+    ImportacionResponseDTO importarHorarios(FormatoImportacion formato, InputStream entrada) throws IOException;
+}
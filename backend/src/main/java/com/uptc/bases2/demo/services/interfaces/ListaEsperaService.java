@@ -0,0 +1,21 @@
+package com.uptc.bases2.demo.services.interfaces;
+
+import com.uptc.bases2.demo.models.dto.request.ReservaRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.ListaEsperaResponseDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Interface para servicios de lista de espera
+ */
+public interface ListaEsperaService {
+    
+    ListaEsperaResponseDTO inscribir(Long visitanteId, ReservaRequestDTO request);
+    
+    List<ListaEsperaResponseDTO> obtenerPorVisitante(Long visitanteId);
+    
+    List<ListaEsperaResponseDTO> obtenerCola(Long senderoId, LocalDate fecha);
+    
+    void cancelar(Long listaEsperaId);
+}
@@ -0,0 +1,44 @@
+package com.uptc.bases2.demo.services.interfaces;
+
+import com.uptc.bases2.demo.models.entities.Reserva;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Interface para el control de cupo por sendero y por horario
+ * (ledgers SENDERO_OCUPACION y HORARIO_OCUPACION)
+ */
+public interface OcupacionService {
+
+    /**
+     * Reserva cupo diario de forma atómica. Retorna false si no hay cupo suficiente.
+     */
+    boolean reservarCupo(Long senderoId, LocalDate fecha, int personas);
+
+    void liberarCupo(Long senderoId, LocalDate fecha, int personas);
+
+    /**
+     * Reserva cupo de una franja horaria de forma atómica. Retorna false si no hay cupo suficiente.
+     */
+    boolean reservarCupoHorario(Long horarioId, LocalDate fecha, int personas);
+
+    void liberarCupoHorario(Long horarioId, LocalDate fecha, int personas);
+
+    /**
+     * Libera el cupo diario y el de la franja horaria ocupados por una reserva
+     */
+    void liberarReserva(Reserva reserva);
+
+    /**
+     * Libera el cupo de varias reservas con un UPDATE por (sendero, fecha) y por (horario, fecha)
+     */
+    void liberarReservas(Collection<Reserva> reservas);
+
+    Integer calcularCupoDisponible(Long senderoId, LocalDate fecha);
+
+    /**
+     * Reconstruye los ledgers a partir de RESERVA para las fechas desde hoy
+     */
+    int reconciliar();
+}
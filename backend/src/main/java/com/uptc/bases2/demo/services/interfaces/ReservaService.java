@@ -1,8 +1,15 @@
 package com.uptc.bases2.demo.services.interfaces;
 
+import com.uptc.bases2.demo.models.dto.request.ReservaLoteRequestDTO;
 import com.uptc.bases2.demo.models.dto.request.ReservaRequestDTO;
 import com.uptc.bases2.demo.models.dto.request.ReservaUpdateDTO;
+import com.uptc.bases2.demo.models.dto.request.TransicionMasivaRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.PaginaDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservaLoteResponseDTO;
 import com.uptc.bases2.demo.models.dto.response.ReservaResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.TransicionMasivaResponseDTO;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.models.enums.TransicionReserva;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -14,6 +21,14 @@ public interface ReservaService {
     
     ReservaResponseDTO crear(Long visitanteId, ReservaRequestDTO request);
     
+    ReservaResponseDTO retener(Long visitanteId, ReservaRequestDTO request);
+    
+    ReservaResponseDTO confirmarRetencion(Long reservaId);
+    
+    int liberarRetencionesVencidas();
+    
+    ReservaLoteResponseDTO crearLote(ReservaLoteRequestDTO request);
+    
     ReservaResponseDTO obtenerPorId(Long id);
     
     List<ReservaResponseDTO> obtenerPorVisitante(Long visitanteId);
@@ -26,6 +41,9 @@ public interface ReservaService {
     
     List<ReservaResponseDTO> obtenerTodas();
     
+    PaginaDTO<ReservaResponseDTO> obtenerPagina(String cursor, Integer tamano, EstadoReserva estado,
+                                                Long senderoId, LocalDate desde, LocalDate hasta);
+    
     ReservaResponseDTO modificar(Long reservaId, ReservaUpdateDTO request);
     
     void cancelar(Long reservaId, String motivo);
@@ -35,4 +53,7 @@ public interface ReservaService {
     void completar(Long reservaId);
     
     void marcarNoAsistio(Long reservaId);
+    
+    TransicionMasivaResponseDTO aplicarTransicionMasiva(TransicionReserva transicion, 
+                                                        TransicionMasivaRequestDTO request);
 }
@@ -0,0 +1,44 @@
+package com.uptc.bases2.demo.services.interfaces;
+
+import com.uptc.bases2.demo.models.entities.Reserva;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+
+/**
+ * Interface para el mantenimiento del resumen diario de reservas (RESERVA_DIARIA).
+ * Cada método debe llamarse en la misma transacción que cambia las reservas.
+ */
+public interface ResumenDiarioService {
+
+    /**
+     * Suma reservas nuevas en su estado actual
+     */
+    void registrar(Reserva reserva);
+
+    void registrar(Collection<Reserva> reservas);
+
+    /**
+     * Mueve reservas del estado de origen al de destino
+     */
+    void cambiarEstado(Reserva reserva, EstadoReserva origen, EstadoReserva destino);
+
+    /**
+     * Mueve varias reservas con un UPDATE por fila afectada del resumen
+     */
+    void cambiarEstado(Collection<Reserva> reservas, EstadoReserva origen, EstadoReserva destino);
+
+    /**
+     * Suma (o resta, con valores negativos) reservas y personas a una fila del resumen
+     */
+    void ajustar(Long senderoId, LocalDate fecha, EstadoReserva estado, LocalTime hora,
+                 int reservas, int personas);
+
+    /**
+     * Recalcula el resumen de un rango de fechas desde RESERVA; con fechas null usa
+     * el rango completo de fechas de visita. Retorna las filas generadas.
+     */
+    int reconstruir(LocalDate desde, LocalDate hasta);
+}
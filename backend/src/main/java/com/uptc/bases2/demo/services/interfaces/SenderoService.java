@@ -1,8 +1,14 @@
 package com.uptc.bases2.demo.services.interfaces;
 
 import com.uptc.bases2.demo.models.dto.request.SenderoRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.CalendarioCupoDTO;
+import com.uptc.bases2.demo.models.dto.response.DisponibilidadSenderoDTO;
+import com.uptc.bases2.demo.models.dto.response.PaginaDTO;
 import com.uptc.bases2.demo.models.dto.response.SenderoResponseDTO;
+import com.uptc.bases2.demo.models.enums.Dificultad;
+import com.uptc.bases2.demo.models.enums.EstadoGeneral;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -17,6 +23,9 @@ public interface SenderoService {
     
     List<SenderoResponseDTO> obtenerTodos();
     
+    PaginaDTO<SenderoResponseDTO> obtenerPagina(String cursor, Integer tamano, 
+                                                EstadoGeneral estado, Dificultad dificultad);
+    
     List<SenderoResponseDTO> obtenerActivos();
     
     List<SenderoResponseDTO> obtenerDisponibles(LocalDate fecha);
@@ -28,4 +37,9 @@ public interface SenderoService {
     void eliminar(Long id);
     
     Integer calcularCupoDisponible(Long senderoId, LocalDate fecha);
+    
+    CalendarioCupoDTO obtenerCalendario(Long senderoId, LocalDate desde, LocalDate hasta);
+    
+    List<DisponibilidadSenderoDTO> buscarDisponibilidad(LocalDate desde, LocalDate hasta, Integer personas,
+                                                        Dificultad dificultad, BigDecimal duracionMaxima);
 }
@@ -0,0 +1,41 @@
+package com.uptc.bases2.demo.services.interfaces;
+
+import com.uptc.bases2.demo.models.dto.response.PromedioPersonasDTO;
+import com.uptc.bases2.demo.models.dto.response.TasaCancelacionDTO;
+import com.uptc.bases2.demo.models.dto.response.TendenciasDTO;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+
+import java.time.LocalDate;
+
+/**
+ * Interface para las series mensuales de reservas por sendero y estado (mes de la fecha de visita).
+ * Se mantienen en memoria y se actualizan con cada cambio confirmado del resumen diario.
+ */
+public interface SeriesReservasService {
+
+    /**
+     * Suma (o resta, con valores negativos) reservas y personas de un sendero, fecha y estado.
+     * Dentro de una transacción el cambio se aplica solo si esta se confirma.
+     */
+    void registrar(Long senderoId, LocalDate fecha, EstadoReserva estado, int reservas, int personas);
+
+    /**
+     * Vuelve a cargar las series desde RESERVA_DIARIA
+     */
+    void recargar();
+
+    /**
+     * Serie de los últimos meses (incluido el actual); sin sendero suma todos los senderos
+     */
+    TendenciasDTO obtenerTendencias(int meses, Long senderoId);
+
+    /**
+     * Tasa de cancelación de un periodo (mes, trimestre, semestre o año)
+     */
+    TasaCancelacionDTO obtenerTasaCancelacion(String periodo, Long senderoId);
+
+    /**
+     * Promedio de personas por reserva de todos los meses cargados, general y por sendero
+     */
+    PromedioPersonasDTO obtenerPromedioPersonas();
+}
@@ -1,7 +1,9 @@
 package com.uptc.bases2.demo.services.interfaces;
 
 import com.uptc.bases2.demo.models.dto.request.VisitanteRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.PaginaDTO;
 import com.uptc.bases2.demo.models.dto.response.VisitanteResponseDTO;
+import com.uptc.bases2.demo.models.enums.EstadoGeneral;
 
 import java.util.List;
 
@@ -16,6 +18,8 @@ public interface VisitanteService {
     
     List<VisitanteResponseDTO> obtenerTodos();
     
+    PaginaDTO<VisitanteResponseDTO> obtenerPagina(String cursor, Integer tamano, EstadoGeneral estado);
+    
     List<VisitanteResponseDTO> obtenerActivos();
     
     VisitanteResponseDTO actualizar(Long id, VisitanteRequestDTO request);
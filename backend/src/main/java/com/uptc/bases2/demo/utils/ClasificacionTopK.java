@@ -0,0 +1,197 @@
+package com.uptc.bases2.demo.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Clasificación en memoria acotada a los K primeros elementos.
+ *
+ * Solo se guardan los K mejores en un TreeSet. Mientras los puntajes suban, cada actualización
+ * mantiene el top exacto sin consultar la base de datos; cuando un elemento del top baja por
+ * debajo del último o sale, o llega un delta de un elemento que no está en memoria, no se sabe
+ * quién ocupa su lugar y la clasificación queda marcada para recargarse.
+ */
+public class ClasificacionTopK {
+
+    /**
+     * Elemento de la clasificación: primero el mayor puntaje, luego el mayor desempate y el menor id
+     */
+    public static class Entrada {
+
+        private final long id;
+        private final String nombre;
+        private final double puntaje;
+        private final long desempate;
+
+        public Entrada(long id, String nombre, double puntaje, long desempate) {
+            this.id = id;
+            this.nombre = nombre;
+            this.puntaje = puntaje;
+            this.desempate = desempate;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getNombre() {
+            return nombre;
+        }
+
+        public double getPuntaje() {
+            return puntaje;
+        }
+
+        public long getDesempate() {
+            return desempate;
+        }
+    }
+
+    private static final Comparator<Entrada> ORDEN = Comparator
+        .comparingDouble(Entrada::getPuntaje).reversed()
+        .thenComparing(Comparator.comparingLong(Entrada::getDesempate).reversed())
+        .thenComparingLong(Entrada::getId);
+
+    private final int capacidad;
+    private final TreeSet<Entrada> top = new TreeSet<>(ORDEN);
+    private final Map<Long, Entrada> porId = new HashMap<>();
+
+    // Hay elementos que califican pero quedaron fuera del top
+    private boolean hayFuera;
+    private boolean vigente;
+    private long version;
+
+    public ClasificacionTopK(int capacidad) {
+        this.capacidad = capacidad;
+    }
+
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    /**
+     * Número de cambios recibidos; se lee antes de consultar la base de datos para una recarga
+     */
+    public synchronized long version() {
+        return version;
+    }
+
+    public synchronized boolean necesitaRecarga() {
+        return !vigente;
+    }
+
+    public synchronized void invalidar() {
+        vigente = false;
+    }
+
+    /**
+     * Reemplaza el top con filas ya ordenadas (hasta capacidad + 1, la última solo indica que hay más).
+     * Si llegaron cambios después de leer versionLeida, la consulta pudo no verlos y se recargará otra vez.
+     */
+    public synchronized void cargar(List<Entrada> filas, long versionLeida) {
+        top.clear();
+        porId.clear();
+        for (int i = 0; i < Math.min(filas.size(), capacidad); i++) {
+            agregar(filas.get(i));
+        }
+        hayFuera = filas.size() > capacidad;
+        vigente = version == versionLeida;
+    }
+
+    /**
+     * Registra el puntaje actual (absoluto) de un elemento
+     */
+    public synchronized void actualizar(Entrada entrada) {
+        version++;
+        if (vigente) {
+            aplicar(entrada);
+        }
+    }
+
+    /**
+     * Suma un delta al puntaje de un elemento; solo se resuelve en memoria si el elemento está en el top
+     */
+    public synchronized void sumar(long id, double delta, long deltaDesempate) {
+        version++;
+        if (!vigente) {
+            return;
+        }
+        Entrada anterior = porId.get(id);
+        if (anterior == null) {
+            // Fuera del top no se conoce su puntaje: si sube podría entrar
+            if (delta > 0 || (delta == 0 && deltaDesempate > 0)) {
+                vigente = false;
+            }
+            return;
+        }
+        aplicar(new Entrada(id, anterior.getNombre(), anterior.getPuntaje() + delta,
+            anterior.getDesempate() + deltaDesempate));
+    }
+
+    /**
+     * Saca un elemento que dejó de calificar (por ejemplo, quedó inactivo)
+     */
+    public synchronized void quitar(long id) {
+        version++;
+        Entrada anterior = porId.get(id);
+        if (!vigente || anterior == null) {
+            return;
+        }
+        quitarDelTop(anterior);
+        if (hayFuera) {
+            vigente = false;
+        }
+    }
+
+    /**
+     * Copia de los primeros elementos en orden
+     */
+    public synchronized List<Entrada> primeros(int limite) {
+        List<Entrada> resultado = new ArrayList<>(Math.min(limite, top.size()));
+        Iterator<Entrada> it = top.iterator();
+        while (it.hasNext() && resultado.size() < limite) {
+            resultado.add(it.next());
+        }
+        return resultado;
+    }
+
+    private void aplicar(Entrada entrada) {
+        Entrada anterior = porId.get(entrada.getId());
+        if (anterior == null) {
+            if (top.size() < capacidad) {
+                agregar(entrada);
+            } else if (ORDEN.compare(entrada, top.last()) < 0) {
+                quitarDelTop(top.last());
+                agregar(entrada);
+                hayFuera = true;
+            } else {
+                hayFuera = true;
+            }
+            return;
+        }
+
+        Entrada ultimo = top.last();
+        quitarDelTop(anterior);
+        if (hayFuera && ORDEN.compare(entrada, ultimo) > 0) {
+            // Bajó por debajo del último del top: algún elemento de fuera podría superarlo
+            vigente = false;
+            return;
+        }
+        agregar(entrada);
+    }
+
+    private void agregar(Entrada entrada) {
+        top.add(entrada);
+        porId.put(entrada.getId(), entrada);
+    }
+
+    private void quitarDelTop(Entrada entrada) {
+        top.remove(entrada);
+        porId.remove(entrada.getId());
+    }
+}
@@ -0,0 +1,255 @@
+package com.uptc.bases2.demo.utils;
+
+import com.uptc.bases2.demo.models.enums.Dificultad;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hechos de reserva guardados por columnas de tipos primitivos: una fila por reserva.
+ *
+ * El sendero se codifica con un diccionario (código corto por ID de sendero, con su nombre y
+ * dificultad) y el estado con su ordinal. Las escrituras se serializan; las lecturas toman una
+ * Vista con el número de filas y los arreglos vigentes y la recorren sin bloquear.
+ *
+ * Las escrituras no publican: quien escribe llama a publicar() al terminar la carga o el lote,
+ * y solo desde ahí las filas nuevas y los senderos nuevos son visibles en vista().
+ */
+public class ColumnasReservas {
+
+    private static final int CAPACIDAD_INICIAL = 1 << 12;
+    private static final int MAX_SENDEROS = 1 << 16;
+
+    /**
+     * Filas visibles y arreglos de una lectura. Las filas que se agregan después no aparecen;
+     * un cambio sobre una fila existente (estado o modificación) puede verse o no.
+     */
+    public static final class Vista {
+
+        private final int filas;
+        private final short[] sendero;
+        private final int[] dia;
+        private final int[] mes;
+        private final byte[] diaSemana;
+        private final byte[] hora;
+        private final short[] personas;
+        private final byte[] estado;
+        private final int senderos;
+        private final long[] idSendero;
+        private final String[] nombreSendero;
+        private final byte[] dificultadSendero;
+
+        private Vista(ColumnasReservas c) {
+            this.filas = c.filas;
+            this.sendero = c.sendero;
+            this.dia = c.dia;
+            this.mes = c.mes;
+            this.diaSemana = c.diaSemana;
+            this.hora = c.hora;
+            this.personas = c.personas;
+            this.estado = c.estado;
+            this.senderos = c.senderos;
+            this.idSendero = c.idSendero;
+            this.nombreSendero = c.nombreSendero;
+            this.dificultadSendero = c.dificultadSendero;
+        }
+
+        public int getFilas() {
+            return filas;
+        }
+
+        /**
+         * Código de diccionario del sendero (0 a 65535)
+         */
+        public int sendero(int fila) {
+            return sendero[fila] & 0xFFFF;
+        }
+
+        /**
+         * Fecha de visita como días desde 1970-01-01
+         */
+        public int dia(int fila) {
+            return dia[fila];
+        }
+
+        /**
+         * Año y mes de visita como año * 12 + (mes - 1)
+         */
+        public int mes(int fila) {
+            return mes[fila];
+        }
+
+        /**
+         * Día de la semana de la visita (0 = lunes)
+         */
+        public int diaSemana(int fila) {
+            return diaSemana[fila];
+        }
+
+        public int hora(int fila) {
+            return hora[fila];
+        }
+
+        public int personas(int fila) {
+            return personas[fila];
+        }
+
+        /**
+         * Ordinal de EstadoReserva
+         */
+        public int estado(int fila) {
+            return estado[fila];
+        }
+
+        /**
+         * Ordinal de Dificultad del sendero con ese código
+         */
+        public int dificultad(int codigoSendero) {
+            return dificultadSendero[codigoSendero];
+        }
+
+        public String nombreSendero(int codigoSendero) {
+            return nombreSendero[codigoSendero];
+        }
+
+        /**
+         * Código de diccionario de un sendero, o -1 si no tiene reservas ni está registrado
+         */
+        public int codigoSendero(long id) {
+            for (int i = 0; i < senderos; i++) {
+                if (idSendero[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private final Map<Long, Integer> filaPorId = new HashMap<>();
+    private final Map<Long, Integer> codigoPorSendero = new HashMap<>();
+
+    private int filas;
+    private short[] sendero = new short[CAPACIDAD_INICIAL];
+    private int[] dia = new int[CAPACIDAD_INICIAL];
+    private int[] mes = new int[CAPACIDAD_INICIAL];
+    private byte[] diaSemana = new byte[CAPACIDAD_INICIAL];
+    private byte[] hora = new byte[CAPACIDAD_INICIAL];
+    private short[] personas = new short[CAPACIDAD_INICIAL];
+    private byte[] estado = new byte[CAPACIDAD_INICIAL];
+
+    private int senderos;
+    private long[] idSendero = new long[16];
+    private String[] nombreSendero = new String[16];
+    private byte[] dificultadSendero = new byte[16];
+
+    private volatile Vista vista = new Vista(this);
+
+    public Vista vista() {
+        return vista;
+    }
+
+    public int getFilas() {
+        return vista.getFilas();
+    }
+
+    /**
+     * Publica a los lectores las filas y senderos escritos hasta ahora
+     */
+    public synchronized void publicar() {
+        vista = new Vista(this);
+    }
+
+    /**
+     * Agrega un sendero al diccionario o actualiza su nombre y dificultad
+     */
+    public synchronized void registrarSendero(long id, String nombre, Dificultad dificultad) {
+        codificarSendero(id, nombre, dificultad);
+    }
+
+    /**
+     * Agrega la reserva o, si ya existe, reemplaza todos sus valores
+     */
+    public synchronized void registrar(long idReserva, long idSendero, String nombreSendero, Dificultad dificultad,
+                                       LocalDate fecha, int horaInicio, int numeroPersonas, EstadoReserva estadoReserva) {
+        int codigo = codificarSendero(idSendero, nombreSendero, dificultad);
+        escribir(idReserva, codigo, fecha, horaInicio, numeroPersonas, estadoReserva);
+    }
+
+    /**
+     * Igual que registrar, para un sendero que ya está en el diccionario (carga inicial)
+     */
+    public synchronized void registrar(long idReserva, long idSendero, LocalDate fecha, int horaInicio,
+                                       int numeroPersonas, EstadoReserva estadoReserva) {
+        Integer codigo = codigoPorSendero.get(idSendero);
+        if (codigo == null) {
+            throw new IllegalStateException("Sendero " + idSendero + " no registrado en el cubo");
+        }
+        escribir(idReserva, codigo, fecha, horaInicio, numeroPersonas, estadoReserva);
+    }
+
+    private void escribir(long idReserva, int codigo, LocalDate fecha, int horaInicio, int numeroPersonas,
+                          EstadoReserva estadoReserva) {
+        Integer existente = filaPorId.get(idReserva);
+        int fila = existente != null ? existente : agregarFila(idReserva);
+
+        sendero[fila] = (short) codigo;
+        dia[fila] = (int) fecha.toEpochDay();
+        mes[fila] = fecha.getYear() * 12 + fecha.getMonthValue() - 1;
+        diaSemana[fila] = (byte) (fecha.getDayOfWeek().getValue() - 1);
+        hora[fila] = (byte) horaInicio;
+        personas[fila] = (short) numeroPersonas;
+        estado[fila] = (byte) estadoReserva.ordinal();
+
+        if (existente == null) {
+            filas++;
+        }
+    }
+
+    /**
+     * Cambia el estado de una reserva; las que no están en el cubo se ignoran
+     */
+    public synchronized void cambiarEstado(long idReserva, EstadoReserva estadoReserva) {
+        Integer fila = filaPorId.get(idReserva);
+        if (fila != null) {
+            estado[fila] = (byte) estadoReserva.ordinal();
+        }
+    }
+
+    private int agregarFila(long idReserva) {
+        if (filas == sendero.length) {
+            int capacidad = filas * 2;
+            sendero = Arrays.copyOf(sendero, capacidad);
+            dia = Arrays.copyOf(dia, capacidad);
+            mes = Arrays.copyOf(mes, capacidad);
+            diaSemana = Arrays.copyOf(diaSemana, capacidad);
+            hora = Arrays.copyOf(hora, capacidad);
+            personas = Arrays.copyOf(personas, capacidad);
+            estado = Arrays.copyOf(estado, capacidad);
+        }
+        filaPorId.put(idReserva, filas);
+        return filas;
+    }
+
+    private int codificarSendero(long id, String nombre, Dificultad dificultad) {
+        Integer codigo = codigoPorSendero.get(id);
+        if (codigo == null) {
+            if (senderos == MAX_SENDEROS) {
+                throw new IllegalStateException("El diccionario de senderos del cubo está lleno");
+            }
+            if (senderos == idSendero.length) {
+                idSendero = Arrays.copyOf(idSendero, senderos * 2);
+                nombreSendero = Arrays.copyOf(nombreSendero, senderos * 2);
+                dificultadSendero = Arrays.copyOf(dificultadSendero, senderos * 2);
+            }
+            codigo = senderos++;
+            codigoPorSendero.put(id, codigo);
+            idSendero[codigo] = id;
+        }
+        nombreSendero[codigo] = nombre;
+        dificultadSendero[codigo] = (byte) dificultad.ordinal();
+        return codigo;
+    }
+}
@@ -11,6 +11,8 @@ public class Constants {
     public static final long HORAS_MINIMAS_ANTICIPACION_RESERVA = 24;
     public static final int MAX_PERSONAS_POR_RESERVA = 20;
     public static final int MIN_PERSONAS_POR_RESERVA = 1;
+    public static final int MAX_RESERVAS_POR_LOTE = 100;
+    public static final int MAX_RESERVAS_POR_TRANSICION = 500;
 
     // Estados de reserva
     public static final String ESTADO_RESERVA_PENDIENTE = "PENDIENTE";
@@ -18,6 +20,7 @@ public class Constants {
     public static final String ESTADO_RESERVA_CANCELADA = "CANCELADA";
     public static final String ESTADO_RESERVA_COMPLETADA = "COMPLETADA";
     public static final String ESTADO_RESERVA_NO_ASISTIO = "NO_ASISTIO";
+    public static final String ESTADO_RESERVA_EXPIRADA = "EXPIRADA";
 
     // Estados generales
     public static final String ESTADO_ACTIVO = "ACTIVO";
@@ -59,6 +62,24 @@ public class Constants {
     public static final int PAGE_SIZE_DEFAULT = 20;
     public static final int PAGE_SIZE_MAX = 100;
 
+    // Calendario de disponibilidad
+    public static final int MAX_DIAS_CALENDARIO = 92;
+    public static final int CACHE_CALENDARIO_SEGUNDOS = 30;
+
+    // Ocupación del día (pantallas de portería que refrescan cada pocos segundos)
+    public static final int CACHE_OCUPACION_SEGUNDOS = 5;
+
+    // Tablero de administración (una instantánea compartida por todas las pestañas abiertas)
+    public static final int CACHE_DASHBOARD_SEGUNDOS = 5;
+    public static final int MAX_RESERVAS_DASHBOARD = 10;
+
+    // Clasificaciones en memoria (guías, visitantes y senderos)
+    public static final int MAX_POSICIONES_CLASIFICACION = 100;
+
+    // Importación masiva (IN de Oracle admite hasta 1000 valores)
+    public static final int MAX_FILAS_LOTE_IMPORTACION = 1000;
+    public static final int MAX_ERRORES_IMPORTACION = 1000;
+
     // Formatos de fecha
     public static final String FORMATO_FECHA = "dd/MM/yyyy";
     public static final String FORMATO_HORA = "HH:mm";
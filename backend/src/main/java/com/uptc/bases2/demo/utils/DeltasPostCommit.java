@@ -0,0 +1,54 @@
+package com.uptc.bases2.demo.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Acumula deltas de contadores en memoria durante la transacción actual y los aplica
+ * solo si esta se confirma; un rollback los descarta.
+ * Sin transacción activa el delta se aplica de inmediato.
+ */
+public class DeltasPostCommit {
+
+    /**
+     * Aplica el delta acumulado de reservas y personas de una clave
+     */
+    @FunctionalInterface
+    public interface Aplicador {
+        void aplicar(long clave, int reservas, int personas);
+    }
+
+    /**
+     * Sumar un delta a la clave dentro de la transacción. duenio identifica el acumulador
+     * (cada servicio en memoria tiene el suyo) y aplicador se invoca una vez por clave tras el commit.
+     */
+    public static void sumar(Object duenio, long clave, int reservas, int personas, Aplicador aplicador) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            aplicador.aplicar(clave, reservas, personas);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Long, int[]> pendientes = (Map<Long, int[]>) TransactionSynchronizationManager.getResource(duenio);
+        if (pendientes == null) {
+            Map<Long, int[]> deltas = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(duenio, deltas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(duenio);
+                    if (status == STATUS_COMMITTED) {
+                        deltas.forEach((c, d) -> aplicador.aplicar(c, d[0], d[1]));
+                    }
+                }
+            });
+            pendientes = deltas;
+        }
+        int[] delta = pendientes.computeIfAbsent(clave, k -> new int[2]);
+        delta[0] += reservas;
+        delta[1] += personas;
+    }
+}
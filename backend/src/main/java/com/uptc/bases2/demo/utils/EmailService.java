@@ -159,6 +159,37 @@ public class EmailService {
         enviarEmail(emailVisitante, subject, body);
     }
 
+    /**
+     * Notificar que una solicitud en lista de espera se convirtió en reserva
+     */
+    @Async
+    public void notificarPromocionListaEspera(String emailVisitante, String nombreVisitante,
+                                              String nombreSendero, LocalDate fechaVisita,
+                                              LocalTime horaInicio, Integer numeroPersonas) {
+        
+        String subject = "Cupo Disponible - Parque Natural";
+        
+        String body = String.format(
+            "Hola %s,\n\n" +
+            "Se liberó cupo y tu solicitud en lista de espera se convirtió en una reserva.\n\n" +
+            "Detalles de la reserva:\n" +
+            "- Sendero: %s\n" +
+            "- Fecha: %s\n" +
+            "- Hora: %s\n" +
+            "- Número de personas: %d\n\n" +
+            "Tu reserva está en estado PENDIENTE. Si ya no puedes asistir, cancélala para liberar el cupo.\n\n" +
+            "Saludos,\n" +
+            "Equipo Parque Natural",
+            nombreVisitante,
+            nombreSendero,
+            fechaVisita.format(DateTimeFormatter.ofPattern("dd/MM/yyyy")),
+            horaInicio.format(DateTimeFormatter.ofPattern("HH:mm")),
+            numeroPersonas
+        );
+        
+        enviarEmail(emailVisitante, subject, body);
+    }
+
     /**
      * Notificar asignación de guía
      */
@@ -0,0 +1,138 @@
+package com.uptc.bases2.demo.utils;
+
+import com.uptc.bases2.demo.exceptions.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Utilidades para paginación por cursor (keyset).
+ * El cursor es opaco para el cliente: Base64 URL de las columnas de orden de la última fila.
+ */
+public class PaginacionUtils {
+
+    private static final String SEPARADOR = "|";
+
+    // Límites usados cuando no se filtra por fecha: el rango siempre va en la consulta
+    public static final LocalDate FECHA_MINIMA = LocalDate.of(1900, 1, 1);
+    public static final LocalDate FECHA_MAXIMA = LocalDate.of(9999, 12, 31);
+
+    /**
+     * Tamaño de página efectivo: por defecto si no se envía, recortado al máximo permitido
+     */
+    public static int normalizarTamano(Integer tamano) {
+        if (tamano == null) {
+            return Constants.PAGE_SIZE_DEFAULT;
+        }
+        if (tamano < 1) {
+            throw new BadRequestException("El tamaño de página debe ser mayor a cero");
+        }
+        return Math.min(tamano, Constants.PAGE_SIZE_MAX);
+    }
+
+    /**
+     * Límite de la consulta: una fila extra para saber si hay página siguiente
+     */
+    public static Pageable limite(int tamano) {
+        return PageRequest.of(0, tamano + 1);
+    }
+
+    /**
+     * Inicio del rango de fechas: el enviado o FECHA_MINIMA
+     */
+    public static LocalDate fechaDesde(LocalDate desde) {
+        return desde != null ? desde : FECHA_MINIMA;
+    }
+
+    /**
+     * Fin del rango de fechas: el enviado o FECHA_MAXIMA
+     */
+    public static LocalDate fechaHasta(LocalDate hasta) {
+        return hasta != null ? hasta : FECHA_MAXIMA;
+    }
+
+    /**
+     * Cursor de una clave numérica (id)
+     */
+    public static String codificarCursor(Long id) {
+        return codificar(String.valueOf(id));
+    }
+
+    /**
+     * Cursor de una clave compuesta (fecha, id)
+     */
+    public static String codificarCursor(LocalDate fecha, Long id) {
+        return codificar(fecha + SEPARADOR + id);
+    }
+
+    /**
+     * Último id visto; 0 si no hay cursor (primera página)
+     */
+    public static Long decodificarId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.valueOf(decodificar(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor de paginación inválido");
+        }
+    }
+
+    /**
+     * Partes (fecha, id) de un cursor compuesto; null si no hay cursor
+     */
+    public static CursorFechaId decodificarFechaId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String valor = decodificar(cursor);
+            int separador = valor.indexOf(SEPARADOR);
+            return new CursorFechaId(
+                LocalDate.parse(valor.substring(0, separador)),
+                Long.valueOf(valor.substring(separador + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Cursor de paginación inválido");
+        }
+    }
+
+    private static String codificar(String valor) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodificar(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Posición decodificada de un cursor compuesto (fecha, id)
+     */
+    public static class CursorFechaId {
+
+        private final LocalDate fecha;
+        private final Long id;
+
+        public CursorFechaId(LocalDate fecha, Long id) {
+            this.fecha = fecha;
+            this.id = id;
+        }
+
+        public LocalDate getFecha() {
+            return fecha;
+        }
+
+        public Long getId() {
+            return id;
+        }
+    }
+
+    private PaginacionUtils() {
+        throw new IllegalStateException("Clase de utilidades - no instanciar");
+    }
+}
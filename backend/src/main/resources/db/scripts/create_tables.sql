@@ -7,23 +7,40 @@ SET SERVEROUTPUT ON;
 
 PROMPT Iniciando creación de tablas...
 
--- Primero, limpiar si existen tablas anteriores
+-- Primero, limpiar si existen tablas anteriores.
+-- Cada DROP va por separado: en una base creada con una versión anterior del script faltan
+-- las tablas nuevas, y eso no debe impedir eliminar las demás.
+DECLARE
+    PROCEDURE eliminar(p_sentencia VARCHAR2) IS
+    BEGIN
+        EXECUTE IMMEDIATE p_sentencia;
+    EXCEPTION
+        WHEN OTHERS THEN
+            -- ORA-00942: la tabla no existe; ORA-02289: la secuencia no existe
+            IF SQLCODE NOT IN (-942, -2289) THEN
+                RAISE;
+            END IF;
+    END;
 BEGIN
-    EXECUTE IMMEDIATE 'DROP TABLE HORARIO_DISPONIBLE CASCADE CONSTRAINTS';
-    EXECUTE IMMEDIATE 'DROP TABLE ASIGNACION_GUIA CASCADE CONSTRAINTS';
-    EXECUTE IMMEDIATE 'DROP TABLE RESERVA CASCADE CONSTRAINTS';
-    EXECUTE IMMEDIATE 'DROP TABLE GUIA CASCADE CONSTRAINTS';
-    EXECUTE IMMEDIATE 'DROP TABLE VISITANTE CASCADE CONSTRAINTS';
-    EXECUTE IMMEDIATE 'DROP TABLE SENDERO CASCADE CONSTRAINTS';
-    EXECUTE IMMEDIATE 'DROP TABLE USUARIO CASCADE CONSTRAINTS';
-    EXECUTE IMMEDIATE 'DROP SEQUENCE SEQ_USUARIO';
-    EXECUTE IMMEDIATE 'DROP SEQUENCE SEQ_SENDERO';
-    EXECUTE IMMEDIATE 'DROP SEQUENCE SEQ_RESERVA';
-    EXECUTE IMMEDIATE 'DROP SEQUENCE SEQ_ASIGNACION';
-    EXECUTE IMMEDIATE 'DROP SEQUENCE SEQ_HORARIO';
-EXCEPTION
-    WHEN OTHERS THEN
-        PROMPT Primera ejecución - no hay tablas que eliminar.
+    eliminar('DROP TABLE RESERVA_DIARIA CASCADE CONSTRAINTS');
+    eliminar('DROP TABLE PROCESO_BATCH CASCADE CONSTRAINTS');
+    eliminar('DROP TABLE IDEMPOTENCIA CASCADE CONSTRAINTS');
+    eliminar('DROP TABLE LISTA_ESPERA CASCADE CONSTRAINTS');
+    eliminar('DROP TABLE HORARIO_OCUPACION CASCADE CONSTRAINTS');
+    eliminar('DROP TABLE SENDERO_OCUPACION CASCADE CONSTRAINTS');
+    eliminar('DROP TABLE HORARIO_DISPONIBLE CASCADE CONSTRAINTS');
+    eliminar('DROP TABLE ASIGNACION_GUIA CASCADE CONSTRAINTS');
+    eliminar('DROP TABLE RESERVA CASCADE CONSTRAINTS');
+    eliminar('DROP TABLE GUIA CASCADE CONSTRAINTS');
+    eliminar('DROP TABLE VISITANTE CASCADE CONSTRAINTS');
+    eliminar('DROP TABLE SENDERO CASCADE CONSTRAINTS');
+    eliminar('DROP TABLE USUARIO CASCADE CONSTRAINTS');
+    eliminar('DROP SEQUENCE SEQ_USUARIO');
+    eliminar('DROP SEQUENCE SEQ_SENDERO');
+    eliminar('DROP SEQUENCE SEQ_RESERVA');
+    eliminar('DROP SEQUENCE SEQ_ASIGNACION');
+    eliminar('DROP SEQUENCE SEQ_HORARIO');
+    eliminar('DROP SEQUENCE SEQ_LISTA_ESPERA');
 END;
 /
 
@@ -114,15 +131,17 @@ CREATE TABLE RESERVA (
     ID_VISITANTE NUMBER NOT NULL,
     ID_SENDERO NUMBER NOT NULL,
     FECHA_RESERVA TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    ID_HORARIO NUMBER,
     FECHA_VISITA DATE NOT NULL,
     NUMERO_PERSONAS NUMBER NOT NULL,
     HORA_INICIO TIMESTAMP NOT NULL,
-    ESTADO VARCHAR2(20) DEFAULT 'PENDIENTE' CHECK (ESTADO IN ('PENDIENTE', 'CONFIRMADA', 'CANCELADA', 'COMPLETADA', 'NO_ASISTIO')),
+    ESTADO VARCHAR2(20) DEFAULT 'PENDIENTE' CHECK (ESTADO IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA', 'CANCELADA', 'COMPLETADA', 'NO_ASISTIO', 'EXPIRADA')),
     OBSERVACIONES VARCHAR2(500),
     FECHA_CREACION TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FECHA_MODIFICACION TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FECHA_CANCELACION TIMESTAMP,
     MOTIVO_CANCELACION VARCHAR2(200),
+    FECHA_EXPIRACION_RETENCION TIMESTAMP,
     CONSTRAINT FK_RESERVA_VISITANTE FOREIGN KEY (ID_VISITANTE) REFERENCES VISITANTE(ID_USUARIO) ON DELETE CASCADE,
     CONSTRAINT FK_RESERVA_SENDERO FOREIGN KEY (ID_SENDERO) REFERENCES SENDERO(ID_SENDERO) ON DELETE CASCADE,
     CONSTRAINT CHK_NUM_PERSONAS CHECK (NUMERO_PERSONAS >= 1 AND NUMERO_PERSONAS <= 20)
@@ -132,8 +151,12 @@ CREATE TABLE RESERVA (
 -- Índices para Reserva
 CREATE INDEX IDX_RESERVA_VISITANTE ON RESERVA(ID_VISITANTE);
 CREATE INDEX IDX_RESERVA_SENDERO ON RESERVA(ID_SENDERO);
-CREATE INDEX IDX_RESERVA_FECHA ON RESERVA(FECHA_VISITA);
-CREATE INDEX IDX_RESERVA_ESTADO ON RESERVA(ESTADO);
+CREATE INDEX IDX_RESERVA_FECHA ON RESERVA(FECHA_VISITA, ID_RESERVA);
+-- (ESTADO, ID_RESERVA): el cierre diario recorre cada estado por ID en orden (paginación por clave)
+CREATE INDEX IDX_RESERVA_ESTADO ON RESERVA(ESTADO, ID_RESERVA);
+-- Solo las reservas RETENIDA tienen fecha de expiración; Oracle no indexa claves nulas,
+-- así que el barrido de retenciones vencidas recorre un índice con muy pocas entradas
+CREATE INDEX IDX_RESERVA_RETENCION ON RESERVA(FECHA_EXPIRACION_RETENCION);
 
 PROMPT Tabla RESERVA creada.
 
@@ -181,16 +204,149 @@ CREATE TABLE HORARIO_DISPONIBLE (
 -- Índices para HorarioDisponible
 CREATE INDEX IDX_HORARIO_SENDERO ON HORARIO_DISPONIBLE(ID_SENDERO);
 
+-- Un solo horario activo por sendero y hora de inicio: la reserva se enlaza con su franja por
+-- (sendero, hora, día). Los horarios inactivos dejan ambas expresiones en NULL y no se indexan.
+CREATE UNIQUE INDEX UK_HORARIO_ACTIVO_INICIO ON HORARIO_DISPONIBLE(
+    CASE WHEN ACTIVO = 1 THEN ID_SENDERO END,
+    CASE WHEN ACTIVO = 1 THEN EXTRACT(HOUR FROM HORA_INICIO) * 60 + EXTRACT(MINUTE FROM HORA_INICIO) END
+);
+
+-- Relación de la reserva con su franja horaria (se crea aquí porque RESERVA es anterior)
+ALTER TABLE RESERVA ADD CONSTRAINT FK_RESERVA_HORARIO
+    FOREIGN KEY (ID_HORARIO) REFERENCES HORARIO_DISPONIBLE(ID_HORARIO) ON DELETE SET NULL;
+CREATE INDEX IDX_RESERVA_HORARIO ON RESERVA(ID_HORARIO, FECHA_VISITA);
+
 PROMPT Tabla HORARIO_DISPONIBLE creada.
 
+-- ============================================================================
+-- TABLA: SENDERO_OCUPACION (contador de cupo por sendero y fecha)
+-- ============================================================================
+-- Las filas de SENDERO_OCUPACION y HORARIO_OCUPACION se crean con la primera reserva de cada
+-- fecha. Las reservas que ya existen (o las del seed) se cargan al iniciar la aplicación, que
+-- reconcilia ambos ledgers desde hoy (app.ocupacion.reconciliar-al-iniciar), y cada noche.
+CREATE TABLE SENDERO_OCUPACION (
+    ID_SENDERO NUMBER NOT NULL,
+    FECHA DATE NOT NULL,
+    PERSONAS_RESERVADAS NUMBER DEFAULT 0 NOT NULL,
+    CONSTRAINT PK_SENDERO_OCUPACION PRIMARY KEY (ID_SENDERO, FECHA),
+    CONSTRAINT FK_OCUPACION_SENDERO FOREIGN KEY (ID_SENDERO) REFERENCES SENDERO(ID_SENDERO) ON DELETE CASCADE,
+    CONSTRAINT CHK_PERSONAS_RESERVADAS CHECK (PERSONAS_RESERVADAS >= 0)
+);
+
+PROMPT Tabla SENDERO_OCUPACION creada.
+
+-- ============================================================================
+-- TABLA: HORARIO_OCUPACION (contador de cupo por horario y fecha)
+-- ============================================================================
+CREATE TABLE HORARIO_OCUPACION (
+    ID_HORARIO NUMBER NOT NULL,
+    FECHA DATE NOT NULL,
+    PERSONAS_RESERVADAS NUMBER DEFAULT 0 NOT NULL,
+    CONSTRAINT PK_HORARIO_OCUPACION PRIMARY KEY (ID_HORARIO, FECHA),
+    CONSTRAINT FK_OCUPACION_HORARIO FOREIGN KEY (ID_HORARIO) REFERENCES HORARIO_DISPONIBLE(ID_HORARIO) ON DELETE CASCADE,
+    CONSTRAINT CHK_PERSONAS_HORARIO CHECK (PERSONAS_RESERVADAS >= 0)
+);
+
+PROMPT Tabla HORARIO_OCUPACION creada.
+
+-- ============================================================================
+-- TABLA: LISTA_ESPERA (solicitudes en espera de cupo por sendero y fecha)
+-- ============================================================================
+CREATE TABLE LISTA_ESPERA (
+    ID_LISTA_ESPERA NUMBER PRIMARY KEY,
+    ID_VISITANTE NUMBER NOT NULL,
+    ID_SENDERO NUMBER NOT NULL,
+    FECHA_VISITA DATE NOT NULL,
+    HORA_INICIO TIMESTAMP NOT NULL,
+    NUMERO_PERSONAS NUMBER NOT NULL,
+    OBSERVACIONES VARCHAR2(500),
+    ESTADO VARCHAR2(20) DEFAULT 'EN_ESPERA' CHECK (ESTADO IN ('EN_ESPERA', 'PROMOVIDA', 'CANCELADA')),
+    FECHA_REGISTRO TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FECHA_PROMOCION TIMESTAMP,
+    ID_RESERVA NUMBER,
+    CONSTRAINT FK_ESPERA_VISITANTE FOREIGN KEY (ID_VISITANTE) REFERENCES VISITANTE(ID_USUARIO) ON DELETE CASCADE,
+    CONSTRAINT FK_ESPERA_SENDERO FOREIGN KEY (ID_SENDERO) REFERENCES SENDERO(ID_SENDERO) ON DELETE CASCADE,
+    CONSTRAINT FK_ESPERA_RESERVA FOREIGN KEY (ID_RESERVA) REFERENCES RESERVA(ID_RESERVA) ON DELETE SET NULL,
+    CONSTRAINT CHK_ESPERA_PERSONAS CHECK (NUMERO_PERSONAS >= 1 AND NUMERO_PERSONAS <= 20)
+);
+
+-- La cola se recorre en orden de llegada (ID creciente) por sendero, fecha y estado
+CREATE INDEX IDX_ESPERA_COLA ON LISTA_ESPERA(ID_SENDERO, FECHA_VISITA, ESTADO, ID_LISTA_ESPERA);
+CREATE INDEX IDX_ESPERA_VISITANTE ON LISTA_ESPERA(ID_VISITANTE);
+
+PROMPT Tabla LISTA_ESPERA creada.
+
+-- ============================================================================
+-- TABLA: IDEMPOTENCIA (respuestas guardadas por Idempotency-Key)
+-- ============================================================================
+CREATE TABLE IDEMPOTENCIA (
+    CLAVE VARCHAR2(250) PRIMARY KEY,
+    METODO VARCHAR2(10) NOT NULL,
+    RUTA VARCHAR2(200) NOT NULL,
+    HASH_PETICION VARCHAR2(64) NOT NULL,
+    ESTADO_HTTP NUMBER(3) NOT NULL,
+    TIPO_CONTENIDO VARCHAR2(100),
+    CUERPO_RESPUESTA CLOB,
+    FECHA_CREACION TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FECHA_EXPIRACION TIMESTAMP NOT NULL
+);
+
+-- La limpieza periódica borra por fecha de expiración
+CREATE INDEX IDX_IDEMPOTENCIA_EXPIRACION ON IDEMPOTENCIA(FECHA_EXPIRACION);
+
+PROMPT Tabla IDEMPOTENCIA creada.
+
+-- ============================================================================
+-- TABLA: PROCESO_BATCH (punto de control y métricas de procesos por lotes)
+-- ============================================================================
+CREATE TABLE PROCESO_BATCH (
+    NOMBRE VARCHAR2(50) PRIMARY KEY,
+    ESTADO VARCHAR2(20) NOT NULL CHECK (ESTADO IN ('EN_CURSO', 'COMPLETADO', 'FALLIDO')),
+    FECHA_CORTE DATE NOT NULL,
+    ULTIMO_ID NUMBER DEFAULT 0 NOT NULL,
+    PROCESADAS NUMBER DEFAULT 0 NOT NULL,
+    LOTES NUMBER DEFAULT 0 NOT NULL,
+    FECHA_INICIO TIMESTAMP,
+    FECHA_FIN TIMESTAMP,
+    DURACION_MS NUMBER,
+    FILAS_POR_SEGUNDO NUMBER(12,2),
+    MENSAJE_ERROR VARCHAR2(500)
+);
+
+PROMPT Tabla PROCESO_BATCH creada.
+
+-- ============================================================================
+-- TABLA: RESERVA_DIARIA (resumen de reservas por fecha de visita, sendero, estado y hora)
+-- ============================================================================
+CREATE TABLE RESERVA_DIARIA (
+    FECHA DATE NOT NULL,
+    ID_SENDERO NUMBER NOT NULL,
+    ESTADO VARCHAR2(20) NOT NULL CHECK (ESTADO IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA', 'CANCELADA', 'COMPLETADA', 'NO_ASISTIO', 'EXPIRADA')),
+    HORA NUMBER(2) NOT NULL,
+    TOTAL_RESERVAS NUMBER DEFAULT 0 NOT NULL,
+    TOTAL_PERSONAS NUMBER DEFAULT 0 NOT NULL,
+    -- FECHA primero: las estadísticas filtran por rango de fechas
+    CONSTRAINT PK_RESERVA_DIARIA PRIMARY KEY (FECHA, ID_SENDERO, ESTADO, HORA),
+    CONSTRAINT FK_DIARIA_SENDERO FOREIGN KEY (ID_SENDERO) REFERENCES SENDERO(ID_SENDERO) ON DELETE CASCADE,
+    CONSTRAINT CHK_DIARIA_HORA CHECK (HORA >= 0 AND HORA <= 23)
+);
+
+PROMPT Tabla RESERVA_DIARIA creada.
+
 -- ============================================================================
 -- SEQUENCES (para IDs autoincrementales)
 -- ============================================================================
-CREATE SEQUENCE SEQ_USUARIO START WITH 1 INCREMENT BY 1 NOCACHE;
-CREATE SEQUENCE SEQ_SENDERO START WITH 1 INCREMENT BY 1 NOCACHE;
-CREATE SEQUENCE SEQ_RESERVA START WITH 1 INCREMENT BY 1 NOCACHE;
+-- SEQ_USUARIO, SEQ_SENDERO y SEQ_HORARIO también incrementan de 50 en 50: la importación masiva
+-- reserva bloques de IDs con un solo NEXTVAL (mismo esquema pooled que usa Hibernate)
+-- En una base existente: ALTER SEQUENCE SEQ_USUARIO INCREMENT BY 50; (igual para SEQ_SENDERO y SEQ_HORARIO)
+CREATE SEQUENCE SEQ_USUARIO START WITH 1 INCREMENT BY 50 NOCACHE;
+CREATE SEQUENCE SEQ_SENDERO START WITH 1 INCREMENT BY 50 NOCACHE;
+-- SEQ_RESERVA incrementa de 50 en 50: Hibernate asigna los IDs en bloque (allocationSize = 50)
+-- En una base existente: ALTER SEQUENCE SEQ_RESERVA INCREMENT BY 50;
+CREATE SEQUENCE SEQ_RESERVA START WITH 1 INCREMENT BY 50 NOCACHE;
 CREATE SEQUENCE SEQ_ASIGNACION START WITH 1 INCREMENT BY 1 NOCACHE;
-CREATE SEQUENCE SEQ_HORARIO START WITH 1 INCREMENT BY 1 NOCACHE;
+CREATE SEQUENCE SEQ_HORARIO START WITH 1 INCREMENT BY 50 NOCACHE;
+CREATE SEQUENCE SEQ_LISTA_ESPERA START WITH 1 INCREMENT BY 1 NOCACHE;
 
 PROMPT Sequences creadas.
 
@@ -34,41 +34,22 @@ END;
 PROMPT Trigger TRG_SENDERO_UPDATE creado.
 
 -- ============================================================================
--- TRIGGER: Validar cupo disponible antes de insertar RESERVA
+-- TRG_VALIDAR_CUPO_RESERVA eliminado: el cupo por sendero y fecha lo controla
+-- SENDERO_OCUPACION con un UPDATE condicional antes de insertar la reserva.
+-- Se elimina también en bases creadas con una versión anterior del script.
 -- ============================================================================
-CREATE OR REPLACE TRIGGER TRG_VALIDAR_CUPO_RESERVA
-BEFORE INSERT ON RESERVA
-FOR EACH ROW
-DECLARE
-    v_cupo_maximo NUMBER;
-    v_personas_reservadas NUMBER;
-    v_cupo_disponible NUMBER;
 BEGIN
-    -- Obtener cupo máximo del sendero
-    SELECT CUPO_MAXIMO_DIA INTO v_cupo_maximo
-    FROM SENDERO
-    WHERE ID_SENDERO = :NEW.ID_SENDERO;
-    
-    -- Calcular personas ya reservadas para esa fecha
-    SELECT NVL(SUM(NUMERO_PERSONAS), 0) INTO v_personas_reservadas
-    FROM RESERVA
-    WHERE ID_SENDERO = :NEW.ID_SENDERO
-      AND FECHA_VISITA = :NEW.FECHA_VISITA
-      AND ESTADO IN ('PENDIENTE', 'CONFIRMADA');
-    
-    -- Calcular cupo disponible
-    v_cupo_disponible := v_cupo_maximo - v_personas_reservadas;
-    
-    -- Validar que hay cupo suficiente
-    IF :NEW.NUMERO_PERSONAS > v_cupo_disponible THEN
-        RAISE_APPLICATION_ERROR(-20001, 
-            'No hay cupo disponible. Cupo disponible: ' || v_cupo_disponible || 
-            ', Solicitado: ' || :NEW.NUMERO_PERSONAS);
-    END IF;
+    EXECUTE IMMEDIATE 'DROP TRIGGER TRG_VALIDAR_CUPO_RESERVA';
+EXCEPTION
+    WHEN OTHERS THEN
+        -- ORA-04080: el trigger no existe
+        IF SQLCODE != -4080 THEN
+            RAISE;
+        END IF;
 END;
 /
 
-PROMPT Trigger TRG_VALIDAR_CUPO_RESERVA creado.
+PROMPT Trigger TRG_VALIDAR_CUPO_RESERVA eliminado.
 
 -- ============================================================================
 -- TRIGGER: Validar máximo de reservas activas por visitante
@@ -83,7 +64,7 @@ BEGIN
     SELECT COUNT(*) INTO v_reservas_activas
     FROM RESERVA
     WHERE ID_VISITANTE = :NEW.ID_VISITANTE
-      AND ESTADO IN ('PENDIENTE', 'CONFIRMADA');
+      AND ESTADO IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA');
     
     -- Validar máximo de 2 reservas activas
     IF v_reservas_activas >= 2 THEN
@@ -151,20 +132,22 @@ END;
 PROMPT Trigger TRG_VALIDAR_MAX_RECORRIDOS_GUIA creado.
 
 -- ============================================================================
--- TRIGGER: Actualizar contador de visitas al completar reserva
+-- TRG_INCREMENTAR_VISITAS eliminado: la aplicación suma las visitas al completar
+-- (una reserva o en bloque con un UPDATE agregado por visitante); con el trigger
+-- cada visita se contaba dos veces. Se elimina también en bases existentes.
 -- ============================================================================
-CREATE OR REPLACE TRIGGER TRG_INCREMENTAR_VISITAS
-AFTER UPDATE OF ESTADO ON RESERVA
-FOR EACH ROW
-WHEN (NEW.ESTADO = 'COMPLETADA' AND OLD.ESTADO != 'COMPLETADA')
 BEGIN
-    UPDATE VISITANTE
-    SET NUMERO_VISITAS = NUMERO_VISITAS + 1
-    WHERE ID_USUARIO = :NEW.ID_VISITANTE;
+    EXECUTE IMMEDIATE 'DROP TRIGGER TRG_INCREMENTAR_VISITAS';
+EXCEPTION
+    WHEN OTHERS THEN
+        -- ORA-04080: el trigger no existe
+        IF SQLCODE != -4080 THEN
+            RAISE;
+        END IF;
 END;
 /
 
-PROMPT Trigger TRG_INCREMENTAR_VISITAS creado.
+PROMPT Trigger TRG_INCREMENTAR_VISITAS eliminado.
 
 -- ============================================================================
 -- TRIGGER: Actualizar contador de recorridos del guía
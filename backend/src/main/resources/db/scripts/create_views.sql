@@ -60,7 +60,7 @@ SELECT
     COUNT(r.ID_RESERVA) AS TOTAL_RESERVAS,
     COUNT(CASE WHEN r.ESTADO = 'COMPLETADA' THEN 1 END) AS RESERVAS_COMPLETADAS,
     COUNT(CASE WHEN r.ESTADO = 'CANCELADA' THEN 1 END) AS RESERVAS_CANCELADAS,
-    NVL(SUM(CASE WHEN r.ESTADO IN ('PENDIENTE', 'CONFIRMADA') THEN r.NUMERO_PERSONAS ELSE 0 END), 0) AS PERSONAS_PROXIMAS,
+    NVL(SUM(CASE WHEN r.ESTADO IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA') THEN r.NUMERO_PERSONAS ELSE 0 END), 0) AS PERSONAS_PROXIMAS,
     NVL(SUM(CASE WHEN r.ESTADO = 'COMPLETADA' THEN r.NUMERO_PERSONAS ELSE 0 END), 0) AS PERSONAS_ATENDIDAS
 FROM SENDERO s
 LEFT JOIN RESERVA r ON s.ID_SENDERO = r.ID_SENDERO
@@ -118,7 +118,7 @@ FROM SENDEROS_ACTIVOS sa
 CROSS JOIN FECHAS f
 LEFT JOIN RESERVA r ON sa.ID_SENDERO = r.ID_SENDERO 
     AND r.FECHA_VISITA = f.FECHA
-    AND r.ESTADO IN ('PENDIENTE', 'CONFIRMADA')
+    AND r.ESTADO IN ('RETENIDA', 'PENDIENTE', 'CONFIRMADA')
 GROUP BY sa.ID_SENDERO, sa.NOMBRE, sa.CUPO_MAXIMO_DIA, f.FECHA
 ORDER BY sa.NOMBRE, f.FECHA;
 
@@ -210,6 +210,7 @@ SELECT
     COUNT(CASE WHEN r.ESTADO = 'COMPLETADA' THEN 1 END) AS COMPLETADAS,
     COUNT(CASE WHEN r.ESTADO = 'CANCELADA' THEN 1 END) AS CANCELADAS,
     COUNT(CASE WHEN r.ESTADO = 'NO_ASISTIO' THEN 1 END) AS NO_ASISTIERON,
+    COUNT(CASE WHEN r.ESTADO = 'EXPIRADA' THEN 1 END) AS EXPIRADAS,
     SUM(r.NUMERO_PERSONAS) AS TOTAL_PERSONAS,
     ROUND(AVG(r.NUMERO_PERSONAS), 2) AS PROMEDIO_PERSONAS_RESERVA
 FROM RESERVA r
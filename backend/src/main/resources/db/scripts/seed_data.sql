@@ -138,48 +138,50 @@ PROMPT Senderos creados.
 -- HORARIOS DISPONIBLES
 -- ============================================================================
 
+-- SEQ_SENDERO incrementa de 50 en 50: los senderos se buscan por nombre, no por ID
+
 -- Horarios para Cascada El Edén (Sendero 1)
 INSERT INTO HORARIO_DISPONIBLE (ID_HORARIO, ID_SENDERO, HORA_INICIO, HORA_FIN, CUPO_HORARIO, DIAS_SEMANA, ACTIVO)
-VALUES (SEQ_HORARIO.NEXTVAL, 1, 
+VALUES (SEQ_HORARIO.NEXTVAL, (SELECT ID_SENDERO FROM SENDERO WHERE NOMBRE = 'Cascada El Edén'), 
         TO_TIMESTAMP('08:00', 'HH24:MI'), TO_TIMESTAMP('10:30', 'HH24:MI'), 
         25, 'L,M,MI,J,V,S,D', 1);
 
 INSERT INTO HORARIO_DISPONIBLE (ID_HORARIO, ID_SENDERO, HORA_INICIO, HORA_FIN, CUPO_HORARIO, DIAS_SEMANA, ACTIVO)
-VALUES (SEQ_HORARIO.NEXTVAL, 1, 
+VALUES (SEQ_HORARIO.NEXTVAL, (SELECT ID_SENDERO FROM SENDERO WHERE NOMBRE = 'Cascada El Edén'), 
         TO_TIMESTAMP('14:00', 'HH24:MI'), TO_TIMESTAMP('16:30', 'HH24:MI'), 
         25, 'L,M,MI,J,V,S,D', 1);
 
 -- Horarios para Mirador del Cóndor (Sendero 2)
 INSERT INTO HORARIO_DISPONIBLE (ID_HORARIO, ID_SENDERO, HORA_INICIO, HORA_FIN, CUPO_HORARIO, DIAS_SEMANA, ACTIVO)
-VALUES (SEQ_HORARIO.NEXTVAL, 2, 
+VALUES (SEQ_HORARIO.NEXTVAL, (SELECT ID_SENDERO FROM SENDERO WHERE NOMBRE = 'Mirador del Cóndor'), 
         TO_TIMESTAMP('07:00', 'HH24:MI'), TO_TIMESTAMP('11:00', 'HH24:MI'), 
         15, 'L,M,MI,J,V,S,D', 1);
 
 INSERT INTO HORARIO_DISPONIBLE (ID_HORARIO, ID_SENDERO, HORA_INICIO, HORA_FIN, CUPO_HORARIO, DIAS_SEMANA, ACTIVO)
-VALUES (SEQ_HORARIO.NEXTVAL, 2, 
+VALUES (SEQ_HORARIO.NEXTVAL, (SELECT ID_SENDERO FROM SENDERO WHERE NOMBRE = 'Mirador del Cóndor'), 
         TO_TIMESTAMP('13:00', 'HH24:MI'), TO_TIMESTAMP('17:00', 'HH24:MI'), 
         15, 'L,M,MI,J,V', 1);
 
 -- Horarios para Pico del Águila (Sendero 3)
 INSERT INTO HORARIO_DISPONIBLE (ID_HORARIO, ID_SENDERO, HORA_INICIO, HORA_FIN, CUPO_HORARIO, DIAS_SEMANA, ACTIVO)
-VALUES (SEQ_HORARIO.NEXTVAL, 3, 
+VALUES (SEQ_HORARIO.NEXTVAL, (SELECT ID_SENDERO FROM SENDERO WHERE NOMBRE = 'Pico del Águila'), 
         TO_TIMESTAMP('06:00', 'HH24:MI'), TO_TIMESTAMP('12:30', 'HH24:MI'), 
         10, 'S,D', 1);
 
 -- Horarios para Travesía Páramo Alto (Sendero 4)
 INSERT INTO HORARIO_DISPONIBLE (ID_HORARIO, ID_SENDERO, HORA_INICIO, HORA_FIN, CUPO_HORARIO, DIAS_SEMANA, ACTIVO)
-VALUES (SEQ_HORARIO.NEXTVAL, 4, 
+VALUES (SEQ_HORARIO.NEXTVAL, (SELECT ID_SENDERO FROM SENDERO WHERE NOMBRE = 'Travesía Páramo Alto'), 
         TO_TIMESTAMP('05:00', 'HH24:MI'), TO_TIMESTAMP('13:00', 'HH24:MI'), 
         5, 'S,D', 1);
 
 -- Horarios para Bosque de las Orquídeas (Sendero 5)
 INSERT INTO HORARIO_DISPONIBLE (ID_HORARIO, ID_SENDERO, HORA_INICIO, HORA_FIN, CUPO_HORARIO, DIAS_SEMANA, ACTIVO)
-VALUES (SEQ_HORARIO.NEXTVAL, 5, 
+VALUES (SEQ_HORARIO.NEXTVAL, (SELECT ID_SENDERO FROM SENDERO WHERE NOMBRE = 'Bosque de las Orquídeas'), 
         TO_TIMESTAMP('09:00', 'HH24:MI'), TO_TIMESTAMP('12:00', 'HH24:MI'), 
         20, 'L,M,MI,J,V,S,D', 1);
 
 INSERT INTO HORARIO_DISPONIBLE (ID_HORARIO, ID_SENDERO, HORA_INICIO, HORA_FIN, CUPO_HORARIO, DIAS_SEMANA, ACTIVO)
-VALUES (SEQ_HORARIO.NEXTVAL, 5, 
+VALUES (SEQ_HORARIO.NEXTVAL, (SELECT ID_SENDERO FROM SENDERO WHERE NOMBRE = 'Bosque de las Orquídeas'), 
         TO_TIMESTAMP('15:00', 'HH24:MI'), TO_TIMESTAMP('18:00', 'HH24:MI'), 
         20, 'L,M,MI,J,V,S,D', 1);
 
@@ -189,40 +191,70 @@ PROMPT Horarios disponibles creados.
 -- RESERVAS DE EJEMPLO (próximos días)
 -- ============================================================================
 
+-- Visitantes, senderos y horarios se buscan por cédula, nombre y hora de inicio
+-- (SEQ_USUARIO, SEQ_SENDERO y SEQ_HORARIO incrementan de 50 en 50). Cada reserva queda enlazada
+-- con su franja (ID_HORARIO) para que el ledger HORARIO_OCUPACION la cuente.
+
 -- Reserva 1: María para Cascada El Edén (mañana)
-INSERT INTO RESERVA (ID_RESERVA, ID_VISITANTE, ID_SENDERO, FECHA_VISITA, NUMERO_PERSONAS, 
+INSERT INTO RESERVA (ID_RESERVA, ID_VISITANTE, ID_SENDERO, ID_HORARIO, FECHA_VISITA, NUMERO_PERSONAS, 
                      HORA_INICIO, ESTADO, OBSERVACIONES)
-VALUES (SEQ_RESERVA.NEXTVAL, 2, 1, TRUNC(SYSDATE) + 2, 4, 
+VALUES (SEQ_RESERVA.NEXTVAL, (SELECT ID_USUARIO FROM USUARIO WHERE CEDULA = '1000000002'),
+        (SELECT ID_SENDERO FROM SENDERO WHERE NOMBRE = 'Cascada El Edén'),
+        (SELECT h.ID_HORARIO FROM HORARIO_DISPONIBLE h JOIN SENDERO s ON s.ID_SENDERO = h.ID_SENDERO
+         WHERE s.NOMBRE = 'Cascada El Edén' AND TO_CHAR(h.HORA_INICIO, 'HH24:MI') = '08:00'),
+        TRUNC(SYSDATE) + 2, 4, 
         TO_TIMESTAMP(TO_CHAR(TRUNC(SYSDATE) + 2, 'DD-MON-YYYY') || ' 08:00', 'DD-MON-YYYY HH24:MI'),
         'CONFIRMADA', 'Familia con dos niños');
 
 -- Reserva 2: Juan para Mirador del Cóndor
-INSERT INTO RESERVA (ID_RESERVA, ID_VISITANTE, ID_SENDERO, FECHA_VISITA, NUMERO_PERSONAS, 
+INSERT INTO RESERVA (ID_RESERVA, ID_VISITANTE, ID_SENDERO, ID_HORARIO, FECHA_VISITA, NUMERO_PERSONAS, 
                      HORA_INICIO, ESTADO)
-VALUES (SEQ_RESERVA.NEXTVAL, 3, 2, TRUNC(SYSDATE) + 3, 2, 
+VALUES (SEQ_RESERVA.NEXTVAL, (SELECT ID_USUARIO FROM USUARIO WHERE CEDULA = '1000000003'),
+        (SELECT ID_SENDERO FROM SENDERO WHERE NOMBRE = 'Mirador del Cóndor'),
+        (SELECT h.ID_HORARIO FROM HORARIO_DISPONIBLE h JOIN SENDERO s ON s.ID_SENDERO = h.ID_SENDERO
+         WHERE s.NOMBRE = 'Mirador del Cóndor' AND TO_CHAR(h.HORA_INICIO, 'HH24:MI') = '07:00'),
+        TRUNC(SYSDATE) + 3, 2, 
         TO_TIMESTAMP(TO_CHAR(TRUNC(SYSDATE) + 3, 'DD-MON-YYYY') || ' 07:00', 'DD-MON-YYYY HH24:MI'),
         'PENDIENTE');
 
 -- Reserva 3: Ana para Bosque de las Orquídeas
-INSERT INTO RESERVA (ID_RESERVA, ID_VISITANTE, ID_SENDERO, FECHA_VISITA, NUMERO_PERSONAS, 
+INSERT INTO RESERVA (ID_RESERVA, ID_VISITANTE, ID_SENDERO, ID_HORARIO, FECHA_VISITA, NUMERO_PERSONAS, 
                      HORA_INICIO, ESTADO, OBSERVACIONES)
-VALUES (SEQ_RESERVA.NEXTVAL, 4, 5, TRUNC(SYSDATE) + 5, 1, 
+VALUES (SEQ_RESERVA.NEXTVAL, (SELECT ID_USUARIO FROM USUARIO WHERE CEDULA = '1000000004'),
+        (SELECT ID_SENDERO FROM SENDERO WHERE NOMBRE = 'Bosque de las Orquídeas'),
+        (SELECT h.ID_HORARIO FROM HORARIO_DISPONIBLE h JOIN SENDERO s ON s.ID_SENDERO = h.ID_SENDERO
+         WHERE s.NOMBRE = 'Bosque de las Orquídeas' AND TO_CHAR(h.HORA_INICIO, 'HH24:MI') = '09:00'),
+        TRUNC(SYSDATE) + 5, 1, 
         TO_TIMESTAMP(TO_CHAR(TRUNC(SYSDATE) + 5, 'DD-MON-YYYY') || ' 09:00', 'DD-MON-YYYY HH24:MI'),
         'CONFIRMADA', 'Interesada en fotografía de flores');
 
+-- Resumen diario de las reservas de ejemplo (la aplicación lo mantiene en cada cambio de estado)
+INSERT INTO RESERVA_DIARIA (FECHA, ID_SENDERO, ESTADO, HORA, TOTAL_RESERVAS, TOTAL_PERSONAS)
+SELECT FECHA_VISITA, ID_SENDERO, ESTADO, EXTRACT(HOUR FROM HORA_INICIO), COUNT(*), SUM(NUMERO_PERSONAS)
+FROM RESERVA
+GROUP BY FECHA_VISITA, ID_SENDERO, ESTADO, EXTRACT(HOUR FROM HORA_INICIO);
+
 PROMPT Reservas de ejemplo creadas.
 
 -- ============================================================================
 -- ASIGNACIONES DE GUÍA
 -- ============================================================================
 
+-- SEQ_RESERVA y SEQ_USUARIO incrementan de 50 en 50: reservas y guías se buscan por clave natural, no por ID
+
 -- Asignar guía Pedro a reserva de María
 INSERT INTO ASIGNACION_GUIA (ID_ASIGNACION, ID_RESERVA, ID_GUIA, FECHA_ASIGNACION)
-VALUES (SEQ_ASIGNACION.NEXTVAL, 1, 5, TRUNC(SYSDATE));
+VALUES (SEQ_ASIGNACION.NEXTVAL,
+        (SELECT r.ID_RESERVA FROM RESERVA r JOIN USUARIO u ON u.ID_USUARIO = r.ID_VISITANTE
+         WHERE u.CEDULA = '1000000002' AND r.FECHA_VISITA = TRUNC(SYSDATE) + 2),
+        (SELECT ID_USUARIO FROM USUARIO WHERE CEDULA = '1000000005'), TRUNC(SYSDATE));
 
 -- Asignar guía Laura a reserva de Ana
 INSERT INTO ASIGNACION_GUIA (ID_ASIGNACION, ID_RESERVA, ID_GUIA, FECHA_ASIGNACION)
-VALUES (SEQ_ASIGNACION.NEXTVAL, 3, 6, TRUNC(SYSDATE));
+VALUES (SEQ_ASIGNACION.NEXTVAL,
+        (SELECT r.ID_RESERVA FROM RESERVA r JOIN USUARIO u ON u.ID_USUARIO = r.ID_VISITANTE
+         WHERE u.CEDULA = '1000000004' AND r.FECHA_VISITA = TRUNC(SYSDATE) + 5),
+        (SELECT ID_USUARIO FROM USUARIO WHERE CEDULA = '1000000006'), TRUNC(SYSDATE));
 
 PROMPT Asignaciones de guía creadas.
 
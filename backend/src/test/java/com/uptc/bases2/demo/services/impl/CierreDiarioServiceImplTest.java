@@ -0,0 +1,58 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.exceptions.ConflictException;
+import com.uptc.bases2.demo.repositories.ProcesoBatchRepository;
+import com.uptc.bases2.demo.repositories.ReservaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Cierre diario con una ejecución ya en curso: la llamada REST responde 409 y la programada se omite.
+ */
+@ExtendWith(MockitoExtension.class)
+class CierreDiarioServiceImplTest {
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private ProcesoBatchRepository procesoRepository;
+
+    @InjectMocks
+    private CierreDiarioServiceImpl cierreService;
+
+    private AtomicBoolean enEjecucion;
+
+    @BeforeEach
+    void configurar() {
+        enEjecucion = (AtomicBoolean) ReflectionTestUtils.getField(cierreService, "enEjecucion");
+        enEjecucion.set(true);
+    }
+
+    @Test
+    void ejecucionManualEnCursoEsConflicto() {
+        assertThrows(ConflictException.class, () -> cierreService.ejecutarCierre());
+        assertTrue(enEjecucion.get());
+        verifyNoInteractions(procesoRepository, reservaRepository);
+    }
+
+    @Test
+    void ejecucionProgramadaSeOmiteSinError() {
+        assertDoesNotThrow(() -> cierreService.ejecutarCierreProgramado());
+        // La ejecución en curso conserva la marca
+        assertTrue(enEjecucion.get());
+        verifyNoInteractions(procesoRepository, reservaRepository);
+    }
+}
@@ -0,0 +1,169 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.exceptions.ResourceNotFoundException;
+import com.uptc.bases2.demo.exceptions.ServiceUnavailableException;
+import com.uptc.bases2.demo.models.dto.request.ReservaLoteItemDTO;
+import com.uptc.bases2.demo.models.dto.request.ReservaLoteRequestDTO;
+import com.uptc.bases2.demo.models.dto.request.ReservaRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservaLoteResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservaLoteResponseDTO.ResultadoItemDTO;
+import com.uptc.bases2.demo.models.dto.response.TicketReservaDTO;
+import com.uptc.bases2.demo.models.enums.EstadoTicket;
+import com.uptc.bases2.demo.models.enums.ModoLote;
+import com.uptc.bases2.demo.services.interfaces.ReservaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cola asíncrona de reservas sin workers: el lote se toma de la cola y se procesa en el hilo del test.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ColaReservaServiceImplTest {
+
+    private static final LocalDate FECHA = LocalDate.now().plusDays(5);
+
+    @Mock
+    private ReservaService reservaService;
+
+    @InjectMocks
+    private ColaReservaServiceImpl colaService;
+
+    @BeforeEach
+    void configurar() {
+        ReflectionTestUtils.setField(colaService, "cola", new ArrayBlockingQueue<>(3));
+        ReflectionTestUtils.setField(colaService, "retencionTicketsMinutos", 60L);
+    }
+
+    @Test
+    void agrupaPorSenderoYFechaYDevuelveCadaResultadoASuTicket() {
+        TicketReservaDTO primero = colaService.encolar(1L, solicitud(10L, FECHA));
+        TicketReservaDTO otroSendero = colaService.encolar(2L, solicitud(20L, FECHA));
+        TicketReservaDTO segundo = colaService.encolar(3L, solicitud(10L, FECHA));
+        assertEquals(EstadoTicket.EN_COLA, colaService.obtenerTicket(primero.getTicketId()).getEstado());
+
+        when(reservaService.crearLote(any())).thenAnswer(invocacion -> {
+            ReservaLoteRequestDTO request = invocacion.getArgument(0);
+            List<ResultadoItemDTO> resultados = new ArrayList<>();
+            for (int i = 0; i < request.getReservas().size(); i++) {
+                ReservaLoteItemDTO item = request.getReservas().get(i);
+                ResultadoItemDTO resultado = new ResultadoItemDTO(i, item.getIdVisitante());
+                if (item.getIdVisitante() == 3L) {
+                    resultado.rechazar("MAX_2_RESERVAS_ACTIVAS", "Límite de reservas");
+                } else {
+                    resultado.setCreada(true);
+                    resultado.setIdReserva(100L + item.getIdVisitante());
+                }
+                resultados.add(resultado);
+            }
+            ReservaLoteResponseDTO respuesta = new ReservaLoteResponseDTO();
+            respuesta.setResultados(resultados);
+            return respuesta;
+        });
+
+        procesarCola();
+
+        ArgumentCaptor<ReservaLoteRequestDTO> lotes = ArgumentCaptor.forClass(ReservaLoteRequestDTO.class);
+        verify(reservaService, times(2)).crearLote(lotes.capture());
+        assertEquals(ModoLote.MEJOR_ESFUERZO, lotes.getAllValues().get(0).getModo());
+        assertEquals(List.of(1L, 3L), visitantes(lotes.getAllValues().get(0)));
+        assertEquals(List.of(2L), visitantes(lotes.getAllValues().get(1)));
+
+        TicketReservaDTO creado = colaService.obtenerTicket(primero.getTicketId());
+        assertEquals(EstadoTicket.CREADA, creado.getEstado());
+        assertEquals(101L, creado.getIdReserva());
+        assertEquals(EstadoTicket.CREADA, colaService.obtenerTicket(otroSendero.getTicketId()).getEstado());
+        TicketReservaDTO rechazado = colaService.obtenerTicket(segundo.getTicketId());
+        assertEquals(EstadoTicket.RECHAZADA, rechazado.getEstado());
+        assertEquals("MAX_2_RESERVAS_ACTIVAS", rechazado.getCodigoRegla());
+        assertNull(rechazado.getIdReserva());
+    }
+
+    @Test
+    void unErrorDelLoteRechazaTodosSusTickets() {
+        TicketReservaDTO primero = colaService.encolar(1L, solicitud(10L, FECHA));
+        TicketReservaDTO segundo = colaService.encolar(2L, solicitud(10L, FECHA));
+        when(reservaService.crearLote(any())).thenThrow(new IllegalStateException("sin conexión"));
+
+        procesarCola();
+
+        for (TicketReservaDTO ticket : List.of(primero, segundo)) {
+            TicketReservaDTO actual = colaService.obtenerTicket(ticket.getTicketId());
+            assertEquals(EstadoTicket.RECHAZADA, actual.getEstado());
+            assertEquals("ERROR_INTERNO", actual.getCodigoRegla());
+        }
+    }
+
+    @Test
+    void colaLlenaRechazaSinDejarTicket() {
+        for (long v = 1; v <= 3; v++) {
+            colaService.encolar(v, solicitud(10L, FECHA));
+        }
+
+        assertThrows(ServiceUnavailableException.class, () -> colaService.encolar(4L, solicitud(10L, FECHA)));
+        assertEquals(3, ((Map<?, ?>) ReflectionTestUtils.getField(colaService, "tickets")).size());
+    }
+
+    @Test
+    void limpiarSoloQuitaTicketsFinalizadosVencidos() {
+        TicketReservaDTO finalizado = colaService.encolar(1L, solicitud(10L, FECHA));
+        when(reservaService.crearLote(any())).thenThrow(new IllegalStateException("sin conexión"));
+        procesarCola();
+        colaService.encolar(2L, solicitud(10L, FECHA));
+
+        assertEquals(0, colaService.limpiarTicketsFinalizados());
+
+        // Con retención negativa el ticket finalizado ya está vencido; el que sigue en cola no
+        ReflectionTestUtils.setField(colaService, "retencionTicketsMinutos", -1L);
+        assertEquals(1, colaService.limpiarTicketsFinalizados());
+        assertThrows(ResourceNotFoundException.class, () -> colaService.obtenerTicket(finalizado.getTicketId()));
+    }
+
+    /**
+     * Toma lo que haya en la cola como un solo micro-lote
+     */
+    private void procesarCola() {
+        @SuppressWarnings("unchecked")
+        BlockingQueue<Object> cola = (BlockingQueue<Object>) ReflectionTestUtils.getField(colaService, "cola");
+        List<Object> lote = new ArrayList<>();
+        cola.drainTo(lote);
+        ReflectionTestUtils.invokeMethod(colaService, "procesarLote", lote);
+    }
+
+    private static List<Long> visitantes(ReservaLoteRequestDTO request) {
+        return request.getReservas().stream().map(ReservaLoteItemDTO::getIdVisitante).toList();
+    }
+
+    private static ReservaRequestDTO solicitud(Long senderoId, LocalDate fecha) {
+        ReservaRequestDTO request = new ReservaRequestDTO();
+        request.setIdSendero(senderoId);
+        request.setFechaVisita(fecha);
+        request.setHoraInicio(LocalTime.of(9, 0));
+        request.setNumeroPersonas(2);
+        return request;
+    }
+}
@@ -0,0 +1,205 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.exceptions.BadRequestException;
+import com.uptc.bases2.demo.models.dto.response.CuboReservasDTO;
+import com.uptc.bases2.demo.models.dto.response.CuboReservasDTO.GrupoDTO;
+import com.uptc.bases2.demo.models.entities.Reserva;
+import com.uptc.bases2.demo.models.entities.Sendero;
+import com.uptc.bases2.demo.models.enums.DiaSemana;
+import com.uptc.bases2.demo.models.enums.Dificultad;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cubo de reservas sin base de datos: fuera de una transacción los cambios se aplican de inmediato.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CuboReservasServiceImplTest {
+
+    // Miércoles
+    private static final LocalDate FECHA = LocalDate.of(2026, 3, 4);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private CuboReservasServiceImpl cubo;
+
+    private final Sendero laguna = sendero(1L, "Laguna", Dificultad.FACIL);
+    private final Sendero cascada = sendero(2L, "Cascada", Dificultad.DIFICIL);
+
+    @BeforeEach
+    void configurar() {
+        // Bloques pequeños para que la consulta combine varios bloques
+        ReflectionTestUtils.setField(cubo, "tamanoBloque", 2);
+        ReflectionTestUtils.setField(cubo, "fetchSize", 100);
+    }
+
+    @Test
+    void agrupaPorVariasDimensionesEnOrdenDeLlave() {
+        cubo.registrar(List.of(
+            reserva(1L, cascada, FECHA, 8, 4, EstadoReserva.CONFIRMADA),
+            reserva(2L, laguna, FECHA, 9, 2, EstadoReserva.PENDIENTE),
+            reserva(3L, laguna, FECHA, 9, 3, EstadoReserva.PENDIENTE),
+            reserva(4L, laguna, FECHA, 14, 1, EstadoReserva.CANCELADA),
+            reserva(5L, cascada, FECHA, 8, 5, EstadoReserva.CONFIRMADA)));
+
+        CuboReservasDTO dto = cubo.consultar("sendero,estado,hora", null, null, null, null, null);
+
+        assertEquals(List.of("sendero", "estado", "hora"), dto.getDimensiones());
+        assertEquals(5, dto.getFilasCubo());
+        assertEquals(5L, dto.getTotalReservas());
+        assertEquals(15L, dto.getTotalPersonas());
+        // Cascada tiene el código 0 en el diccionario: va primero
+        List<GrupoDTO> grupos = dto.getGrupos();
+        assertEquals(3, grupos.size());
+        assertGrupo(grupos.get(0), Map.of("sendero", "Cascada", "estado", EstadoReserva.CONFIRMADA, "hora", 8), 2, 9);
+        assertGrupo(grupos.get(1), Map.of("sendero", "Laguna", "estado", EstadoReserva.PENDIENTE, "hora", 9), 2, 5);
+        assertGrupo(grupos.get(2), Map.of("sendero", "Laguna", "estado", EstadoReserva.CANCELADA, "hora", 14), 1, 1);
+    }
+
+    @Test
+    void decodificaLasDimensionesDeFecha() {
+        cubo.registrar(reserva(1L, laguna, FECHA, 8, 2, EstadoReserva.PENDIENTE));
+        cubo.registrar(reserva(2L, cascada, FECHA.plusMonths(10), 8, 3, EstadoReserva.PENDIENTE));
+
+        CuboReservasDTO dto = cubo.consultar("anio,mes,diaSemana,dificultad", null, null, null, null, null);
+
+        assertEquals(2, dto.getGrupos().size());
+        assertGrupo(dto.getGrupos().get(0), Map.of("anio", 2026, "mes", "2026-03",
+            "diaSemana", DiaSemana.MIERCOLES, "dificultad", Dificultad.FACIL), 1, 2);
+        assertGrupo(dto.getGrupos().get(1), Map.of("anio", 2027, "mes", "2027-01",
+            "diaSemana", DiaSemana.fromDayOfWeek(FECHA.plusMonths(10).getDayOfWeek()),
+            "dificultad", Dificultad.DIFICIL), 1, 3);
+    }
+
+    @Test
+    void personasSeSaturaEnSuAnchoDeBits() {
+        cubo.registrar(reserva(1L, laguna, FECHA, 8, 5000, EstadoReserva.PENDIENTE));
+
+        CuboReservasDTO dto = cubo.consultar("personas,sendero", null, null, null, null, null);
+
+        assertGrupo(dto.getGrupos().get(0), Map.of("personas", 1023, "sendero", "Laguna"), 1, 5000);
+    }
+
+    @Test
+    void rechazaLlavesDeMasDe63Bits() {
+        // 16 + 18 + 15 + 10 + 5 = 64 bits
+        assertThrows(BadRequestException.class,
+            () -> cubo.consultar("sendero,mes,anio,personas,hora", null, null, null, null, null));
+        assertThrows(BadRequestException.class,
+            () -> cubo.consultar("sendero,semana", null, null, null, null, null));
+    }
+
+    @Test
+    void filtraAntesDeAgrupar() {
+        cubo.registrar(List.of(
+            reserva(1L, laguna, FECHA, 8, 2, EstadoReserva.PENDIENTE),
+            reserva(2L, laguna, FECHA.plusDays(1), 8, 3, EstadoReserva.CANCELADA),
+            reserva(3L, cascada, FECHA, 8, 4, EstadoReserva.PENDIENTE)));
+
+        assertEquals(5L, cubo.consultar(null, 1L, null, null, null, null).getTotalPersonas());
+        assertEquals(2L, cubo.consultar(null, 1L, null, "PENDIENTE", null, null).getTotalPersonas());
+        assertEquals(6L, cubo.consultar(null, null, null, null, FECHA, FECHA).getTotalPersonas());
+        assertEquals(4L, cubo.consultar(null, null, "DIFICIL", null, null, null).getTotalPersonas());
+        assertEquals(0L, cubo.consultar(null, 99L, null, null, null, null).getTotalReservas());
+    }
+
+    @Test
+    void laRecargaRepiteLosCambiosQueLleganMientrasLee() throws Exception {
+        ResultSet senderos = mock(ResultSet.class);
+        when(senderos.getLong("ID_SENDERO")).thenReturn(1L);
+        when(senderos.getString("NOMBRE")).thenReturn("Laguna");
+        when(senderos.getString("DIFICULTAD")).thenReturn("FACIL");
+        doAnswer(invocacion -> {
+            invocacion.<RowCallbackHandler>getArgument(1).processRow(senderos);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        ResultSet reservas = mock(ResultSet.class);
+        when(reservas.getLong("ID_RESERVA")).thenReturn(1L);
+        when(reservas.getLong("ID_SENDERO")).thenReturn(1L);
+        when(reservas.getDate("FECHA_VISITA")).thenReturn(Date.valueOf(FECHA));
+        when(reservas.getTimestamp("HORA_INICIO")).thenReturn(Timestamp.valueOf(FECHA.atTime(8, 0)));
+        when(reservas.getInt("NUMERO_PERSONAS")).thenReturn(2);
+        when(reservas.getString("ESTADO")).thenReturn("PENDIENTE");
+        doAnswer(invocacion -> {
+            // Cambios confirmados por otras transacciones durante la lectura: la fila 1 se lee
+            // con su estado anterior y la reserva 2 ya no aparece en el cursor
+            cubo.registrar(reserva(1L, laguna, FECHA, 8, 2, EstadoReserva.PENDIENTE));
+            cubo.registrar(reserva(2L, laguna, FECHA, 9, 3, EstadoReserva.CONFIRMADA));
+            cubo.cambiarEstado(List.of(reserva(1L, laguna, FECHA, 8, 2, EstadoReserva.CANCELADA)),
+                EstadoReserva.CANCELADA);
+            // Las columnas vigentes reciben los cambios sin esperar a la recarga
+            assertEquals(2, cubo.consultar(null, null, null, null, null, null).getFilasCubo());
+            invocacion.<RowCallbackHandler>getArgument(1).processRow(reservas);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        cubo.recargar();
+
+        CuboReservasDTO dto = cubo.consultar("estado", null, null, null, null, null);
+        assertEquals(2, dto.getFilasCubo());
+        assertEquals(2, dto.getGrupos().size());
+        assertGrupo(dto.getGrupos().get(0), Map.of("estado", EstadoReserva.CONFIRMADA), 1, 3);
+        assertGrupo(dto.getGrupos().get(1), Map.of("estado", EstadoReserva.CANCELADA), 1, 2);
+
+        // Terminada la recarga, los cambios van directo a las columnas nuevas
+        cubo.registrar(reserva(3L, laguna, FECHA, 10, 1, EstadoReserva.PENDIENTE));
+        assertEquals(3, cubo.consultar(null, null, null, null, null, null).getFilasCubo());
+    }
+
+    private static void assertGrupo(GrupoDTO grupo, Map<String, Object> claves, long reservas, long personas) {
+        assertEquals(claves, grupo.getClaves());
+        assertEquals(reservas, grupo.getReservas());
+        assertEquals(personas, grupo.getPersonas());
+    }
+
+    private static Sendero sendero(long id, String nombre, Dificultad dificultad) {
+        Sendero sendero = new Sendero();
+        sendero.setIdSendero(id);
+        sendero.setNombre(nombre);
+        sendero.setDificultad(dificultad);
+        return sendero;
+    }
+
+    private static Reserva reserva(long id, Sendero sendero, LocalDate fecha, int hora, int personas,
+                                   EstadoReserva estado) {
+        Reserva reserva = new Reserva();
+        reserva.setIdReserva(id);
+        reserva.setSendero(sendero);
+        reserva.setFechaVisita(fecha);
+        reserva.setHoraInicio(LocalTime.of(hora, 0));
+        reserva.setNumeroPersonas(personas);
+        reserva.setEstado(estado);
+        return reserva;
+    }
+}
@@ -0,0 +1,194 @@
+package com.uptc.bases2.demo.services.impl;
+
+import com.uptc.bases2.demo.models.dto.request.ReservaLoteItemDTO;
+import com.uptc.bases2.demo.models.dto.request.ReservaLoteRequestDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservaLoteResponseDTO;
+import com.uptc.bases2.demo.models.dto.response.ReservaLoteResponseDTO.ResultadoItemDTO;
+import com.uptc.bases2.demo.models.entities.Reserva;
+import com.uptc.bases2.demo.models.entities.Sendero;
+import com.uptc.bases2.demo.models.entities.Visitante;
+import com.uptc.bases2.demo.models.enums.EstadoGeneral;
+import com.uptc.bases2.demo.models.enums.ModoLote;
+import com.uptc.bases2.demo.repositories.HorarioDisponibleRepository;
+import com.uptc.bases2.demo.repositories.ReservaRepository;
+import com.uptc.bases2.demo.repositories.SenderoRepository;
+import com.uptc.bases2.demo.repositories.VisitanteRepository;
+import com.uptc.bases2.demo.repositories.projections.VisitanteLoteProjection;
+import com.uptc.bases2.demo.services.interfaces.OcupacionService;
+import com.uptc.bases2.demo.services.interfaces.ResumenDiarioService;
+import com.uptc.bases2.demo.utils.Constants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Reservas en lote en modo MEJOR_ESFUERZO: una reserva rechazada por cupo no debe contar
+ * para las reglas por visitante de las reservas siguientes del mismo visitante.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReservaServiceImplLoteTest {
+
+    private static final long VISITANTE = 7L;
+    private static final long SENDERO_LLENO = 1L;
+    private static final long SENDERO_LIBRE = 2L;
+    private static final LocalDate FECHA = LocalDate.now().plusDays(5);
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private VisitanteRepository visitanteRepository;
+
+    @Mock
+    private SenderoRepository senderoRepository;
+
+    @Mock
+    private HorarioDisponibleRepository horarioRepository;
+
+    @Mock
+    private OcupacionService ocupacionService;
+
+    @Mock
+    private ResumenDiarioService resumenDiarioService;
+
+    @InjectMocks
+    private ReservaServiceImpl reservaService;
+
+    @BeforeEach
+    void configurar() {
+        when(senderoRepository.findAllById(anyCollection()))
+            .thenReturn(List.of(sendero(SENDERO_LLENO), sendero(SENDERO_LIBRE)));
+        when(horarioRepository.findBySenderoIdSenderoInAndActivoTrue(anyCollection())).thenReturn(List.of());
+        when(reservaRepository.findHorariosActivosByVisitantes(anyCollection(), anyCollection()))
+            .thenReturn(List.of());
+        when(visitanteRepository.getReferenceById(anyLong())).thenReturn(new Visitante());
+        when(reservaRepository.saveAll(anyCollection())).thenAnswer(invocacion -> {
+            List<Reserva> guardadas = new ArrayList<>(invocacion.getArgument(0));
+            for (int i = 0; i < guardadas.size(); i++) {
+                guardadas.get(i).setIdReserva(100L + i);
+            }
+            return guardadas;
+        });
+        when(ocupacionService.reservarCupo(eq(SENDERO_LLENO), any(), anyInt())).thenReturn(false);
+        when(ocupacionService.reservarCupo(eq(SENDERO_LIBRE), any(), anyInt())).thenReturn(true);
+    }
+
+    @Test
+    void reservaSinCupoNoCuentaParaElMaximoDelVisitante() {
+        visitanteConReservasActivas(1L);
+
+        ReservaLoteResponseDTO respuesta = reservaService.crearLote(lote(
+            item(SENDERO_LLENO, LocalTime.of(9, 0)),
+            item(SENDERO_LIBRE, LocalTime.of(14, 0))));
+
+        List<ResultadoItemDTO> resultados = respuesta.getResultados();
+        assertEquals(Constants.REGLA_CUPO_INSUFICIENTE, resultados.get(0).getCodigoRegla());
+        assertTrue(resultados.get(1).getCreada());
+        assertNull(resultados.get(1).getCodigoRegla());
+        assertEquals(1, respuesta.getTotalCreadas());
+    }
+
+    @Test
+    void reservaSinCupoNoOcupaElHorarioDelVisitante() {
+        visitanteConReservasActivas(0L);
+
+        ReservaLoteResponseDTO respuesta = reservaService.crearLote(lote(
+            item(SENDERO_LLENO, LocalTime.of(9, 0)),
+            item(SENDERO_LIBRE, LocalTime.of(9, 0))));
+
+        List<ResultadoItemDTO> resultados = respuesta.getResultados();
+        assertEquals(Constants.REGLA_CUPO_INSUFICIENTE, resultados.get(0).getCodigoRegla());
+        assertTrue(resultados.get(1).getCreada());
+    }
+
+    @Test
+    void reservaReadmitidaSinCupoQuedaRechazadaPorCupo() {
+        visitanteConReservasActivas(1L);
+
+        ReservaLoteResponseDTO respuesta = reservaService.crearLote(lote(
+            item(SENDERO_LLENO, LocalTime.of(9, 0)),
+            item(SENDERO_LLENO, LocalTime.of(14, 0))));
+
+        List<ResultadoItemDTO> resultados = respuesta.getResultados();
+        assertEquals(Constants.REGLA_CUPO_INSUFICIENTE, resultados.get(0).getCodigoRegla());
+        assertEquals(Constants.REGLA_CUPO_INSUFICIENTE, resultados.get(1).getCodigoRegla());
+        assertEquals(0, respuesta.getTotalCreadas());
+    }
+
+    @Test
+    void elMaximoSigueAplicandoACadaReservaConCupo() {
+        visitanteConReservasActivas(1L);
+
+        ReservaLoteResponseDTO respuesta = reservaService.crearLote(lote(
+            item(SENDERO_LIBRE, LocalTime.of(9, 0)),
+            item(SENDERO_LIBRE, LocalTime.of(14, 0))));
+
+        List<ResultadoItemDTO> resultados = respuesta.getResultados();
+        assertTrue(resultados.get(0).getCreada());
+        assertEquals(Constants.REGLA_MAX_RESERVAS, resultados.get(1).getCodigoRegla());
+    }
+
+    private void visitanteConReservasActivas(long reservasActivas) {
+        VisitanteLoteProjection visitante = new VisitanteLoteProjection() {
+            @Override
+            public Long getIdVisitante() {
+                return VISITANTE;
+            }
+
+            @Override
+            public EstadoGeneral getEstado() {
+                return EstadoGeneral.ACTIVO;
+            }
+
+            @Override
+            public Long getReservasActivas() {
+                return reservasActivas;
+            }
+        };
+        when(visitanteRepository.findEstadoReservasByIds(anyCollection())).thenReturn(List.of(visitante));
+    }
+
+    private Sendero sendero(long id) {
+        Sendero sendero = new Sendero();
+        sendero.setIdSendero(id);
+        return sendero;
+    }
+
+    private ReservaLoteItemDTO item(long senderoId, LocalTime hora) {
+        ReservaLoteItemDTO item = new ReservaLoteItemDTO();
+        item.setIdVisitante(VISITANTE);
+        item.setIdSendero(senderoId);
+        item.setFechaVisita(FECHA);
+        item.setHoraInicio(hora);
+        item.setNumeroPersonas(2);
+        return item;
+    }
+
+    private ReservaLoteRequestDTO lote(ReservaLoteItemDTO... items) {
+        ReservaLoteRequestDTO request = new ReservaLoteRequestDTO();
+        request.setModo(ModoLote.MEJOR_ESFUERZO);
+        request.setReservas(List.of(items));
+        return request;
+    }
+}
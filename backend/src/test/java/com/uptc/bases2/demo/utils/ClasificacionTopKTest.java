@@ -0,0 +1,156 @@
+package com.uptc.bases2.demo.utils;
+
+import com.uptc.bases2.demo.utils.ClasificacionTopK.Entrada;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClasificacionTopKTest {
+
+    @Test
+    void sinCargarNecesitaRecarga() {
+        assertTrue(new ClasificacionTopK(3).necesitaRecarga());
+    }
+
+    @Test
+    void cargarConservaLosPrimerosKEnOrden() {
+        ClasificacionTopK clasificacion = cargada(3, 5.0, 4.0, 3.0, 2.0);
+
+        assertFalse(clasificacion.necesitaRecarga());
+        assertEquals(List.of(1L, 2L, 3L), ids(clasificacion.primeros(10)));
+        assertEquals(List.of(1L, 2L), ids(clasificacion.primeros(2)));
+    }
+
+    @Test
+    void cargaConCambiosPosterioresALaLecturaQuedaVencida() {
+        ClasificacionTopK clasificacion = new ClasificacionTopK(3);
+        long versionLeida = clasificacion.version();
+        clasificacion.sumar(1L, 1.0, 0);
+
+        clasificacion.cargar(List.of(entrada(1L, 5.0)), versionLeida);
+        assertTrue(clasificacion.necesitaRecarga());
+
+        clasificacion.cargar(List.of(entrada(1L, 6.0)), clasificacion.version());
+        assertFalse(clasificacion.necesitaRecarga());
+    }
+
+    @Test
+    void unaEntradaMejorDesplazaALaUltima() {
+        ClasificacionTopK clasificacion = cargada(3, 5.0, 4.0, 3.0);
+
+        clasificacion.actualizar(entrada(9L, 4.5));
+        clasificacion.actualizar(entrada(8L, 1.0));
+
+        assertFalse(clasificacion.necesitaRecarga());
+        assertEquals(List.of(1L, 9L, 2L), ids(clasificacion.primeros(3)));
+    }
+
+    @Test
+    void elDesempateOrdenaPuntajesIguales() {
+        ClasificacionTopK clasificacion = new ClasificacionTopK(3);
+        clasificacion.cargar(List.of(), clasificacion.version());
+
+        clasificacion.actualizar(new Entrada(2L, "B", 4.0, 10));
+        clasificacion.actualizar(new Entrada(1L, "A", 4.0, 10));
+        clasificacion.actualizar(new Entrada(3L, "C", 4.0, 20));
+
+        assertEquals(List.of(3L, 1L, 2L), ids(clasificacion.primeros(3)));
+    }
+
+    @Test
+    void sumarReordenaElTop() {
+        ClasificacionTopK clasificacion = cargada(3, 5.0, 4.0, 3.0, 2.0);
+
+        clasificacion.sumar(3L, 2.5, 1);
+
+        assertFalse(clasificacion.necesitaRecarga());
+        List<Entrada> primeros = clasificacion.primeros(3);
+        assertEquals(List.of(3L, 1L, 2L), ids(primeros));
+        assertEquals(5.5, primeros.get(0).getPuntaje());
+        assertEquals(1L, primeros.get(0).getDesempate());
+    }
+
+    @Test
+    void bajarDebajoDelUltimoConElementosFueraInvalida() {
+        ClasificacionTopK clasificacion = cargada(3, 5.0, 4.0, 3.0, 2.0);
+
+        clasificacion.sumar(1L, -4.0, 0);
+
+        assertTrue(clasificacion.necesitaRecarga());
+    }
+
+    @Test
+    void bajarSinElementosFueraSigueExacto() {
+        ClasificacionTopK clasificacion = cargada(3, 5.0, 4.0, 3.0);
+
+        clasificacion.sumar(1L, -4.0, 0);
+
+        assertFalse(clasificacion.necesitaRecarga());
+        assertEquals(List.of(2L, 3L, 1L), ids(clasificacion.primeros(3)));
+    }
+
+    @Test
+    void unDeltaPositivoDeUnElementoFueraDelTopInvalida() {
+        ClasificacionTopK clasificacion = cargada(3, 5.0, 4.0, 3.0, 2.0);
+
+        clasificacion.sumar(4L, -1.0, 0);
+        assertFalse(clasificacion.necesitaRecarga());
+
+        clasificacion.sumar(4L, 0, 1);
+        assertTrue(clasificacion.necesitaRecarga());
+    }
+
+    @Test
+    void quitarConElementosFueraInvalida() {
+        ClasificacionTopK sinFuera = cargada(3, 5.0, 4.0, 3.0);
+        sinFuera.quitar(2L);
+        assertFalse(sinFuera.necesitaRecarga());
+        assertEquals(List.of(1L, 3L), ids(sinFuera.primeros(3)));
+
+        ClasificacionTopK conFuera = cargada(3, 5.0, 4.0, 3.0, 2.0);
+        conFuera.quitar(2L);
+        assertTrue(conFuera.necesitaRecarga());
+    }
+
+    @Test
+    void invalidadaNoAplicaCambiosPeroCuentaVersiones() {
+        ClasificacionTopK clasificacion = cargada(3, 5.0, 4.0, 3.0);
+        long version = clasificacion.version();
+
+        clasificacion.invalidar();
+        clasificacion.actualizar(entrada(9L, 10.0));
+        clasificacion.sumar(2L, 10.0, 0);
+        clasificacion.quitar(3L);
+
+        assertTrue(clasificacion.necesitaRecarga());
+        assertEquals(version + 3, clasificacion.version());
+        assertEquals(List.of(1L, 2L, 3L), ids(clasificacion.primeros(3)));
+    }
+
+    /**
+     * Clasificación vigente cargada con ids 1, 2, ... y los puntajes dados (ya ordenados)
+     */
+    private static ClasificacionTopK cargada(int capacidad, double... puntajes) {
+        ClasificacionTopK clasificacion = new ClasificacionTopK(capacidad);
+        List<Entrada> filas = new ArrayList<>();
+        for (int i = 0; i < puntajes.length; i++) {
+            filas.add(entrada(i + 1L, puntajes[i]));
+        }
+        clasificacion.cargar(filas, clasificacion.version());
+        return clasificacion;
+    }
+
+    private static Entrada entrada(long id, double puntaje) {
+        return new Entrada(id, "Elemento " + id, puntaje, 0);
+    }
+
+    private static List<Long> ids(List<Entrada> entradas) {
+        return entradas.stream().map(Entrada::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,121 @@
+package com.uptc.bases2.demo.utils;
+
+import com.uptc.bases2.demo.models.enums.Dificultad;
+import com.uptc.bases2.demo.models.enums.EstadoReserva;
+import com.uptc.bases2.demo.utils.ColumnasReservas.Vista;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnasReservasTest {
+
+    private static final LocalDate FECHA = LocalDate.of(2026, 3, 4);
+
+    @Test
+    void lasEscriturasSoloSeVenAlPublicar() {
+        ColumnasReservas columnas = new ColumnasReservas();
+        columnas.registrar(1L, 10L, "Laguna", Dificultad.FACIL, FECHA, 8, 3, EstadoReserva.PENDIENTE);
+
+        assertEquals(0, columnas.vista().getFilas());
+
+        columnas.publicar();
+        assertEquals(1, columnas.vista().getFilas());
+    }
+
+    @Test
+    void codificaLaFilaPorColumnas() {
+        ColumnasReservas columnas = new ColumnasReservas();
+        columnas.registrar(1L, 10L, "Laguna", Dificultad.DIFICIL, FECHA, 14, 6, EstadoReserva.CONFIRMADA);
+        columnas.publicar();
+
+        Vista vista = columnas.vista();
+        int codigo = vista.sendero(0);
+        assertEquals(0, codigo);
+        assertEquals("Laguna", vista.nombreSendero(codigo));
+        assertEquals(Dificultad.DIFICIL.ordinal(), vista.dificultad(codigo));
+        assertEquals(FECHA.toEpochDay(), vista.dia(0));
+        assertEquals(2026 * 12 + 2, vista.mes(0));
+        // 2026-03-04 es miércoles
+        assertEquals(2, vista.diaSemana(0));
+        assertEquals(14, vista.hora(0));
+        assertEquals(6, vista.personas(0));
+        assertEquals(EstadoReserva.CONFIRMADA.ordinal(), vista.estado(0));
+    }
+
+    @Test
+    void registrarUnaReservaExistenteReemplazaSuFila() {
+        ColumnasReservas columnas = new ColumnasReservas();
+        columnas.registrar(1L, 10L, "Laguna", Dificultad.FACIL, FECHA, 8, 3, EstadoReserva.PENDIENTE);
+        columnas.registrar(2L, 10L, "Laguna", Dificultad.FACIL, FECHA, 9, 2, EstadoReserva.PENDIENTE);
+        columnas.registrar(1L, 20L, "Cascada", Dificultad.MODERADO, FECHA.plusDays(1), 10, 5,
+            EstadoReserva.CONFIRMADA);
+        columnas.publicar();
+
+        Vista vista = columnas.vista();
+        assertEquals(2, vista.getFilas());
+        assertEquals(1, vista.sendero(0));
+        assertEquals(10, vista.hora(0));
+        assertEquals(5, vista.personas(0));
+        assertEquals(EstadoReserva.CONFIRMADA.ordinal(), vista.estado(0));
+        assertEquals(9, vista.hora(1));
+    }
+
+    @Test
+    void creceMasAllaDeLaCapacidadInicial() {
+        ColumnasReservas columnas = new ColumnasReservas();
+        columnas.registrarSendero(10L, "Laguna", Dificultad.FACIL);
+        int total = 10_000;
+        for (int i = 0; i < total; i++) {
+            columnas.registrar(i, 10L, FECHA.plusDays(i % 30), 6 + i % 12, 1 + i % 20, EstadoReserva.PENDIENTE);
+        }
+        columnas.publicar();
+        // Una vista anterior al crecimiento conserva sus arreglos
+        Vista anterior = columnas.vista();
+        columnas.registrar(total, 10L, FECHA, 8, 1, EstadoReserva.PENDIENTE);
+        columnas.publicar();
+
+        assertEquals(total, anterior.getFilas());
+        Vista vista = columnas.vista();
+        assertEquals(total + 1, vista.getFilas());
+        for (int i = 0; i < total; i += 997) {
+            assertEquals(FECHA.plusDays(i % 30).toEpochDay(), vista.dia(i));
+            assertEquals(6 + i % 12, vista.hora(i));
+            assertEquals(1 + i % 20, vista.personas(i));
+        }
+    }
+
+    @Test
+    void cambiarEstadoIgnoraReservasDesconocidas() {
+        ColumnasReservas columnas = new ColumnasReservas();
+        columnas.registrar(1L, 10L, "Laguna", Dificultad.FACIL, FECHA, 8, 3, EstadoReserva.RETENIDA);
+        columnas.cambiarEstado(1L, EstadoReserva.EXPIRADA);
+        columnas.cambiarEstado(99L, EstadoReserva.CANCELADA);
+        columnas.publicar();
+
+        Vista vista = columnas.vista();
+        assertEquals(1, vista.getFilas());
+        assertEquals(EstadoReserva.EXPIRADA.ordinal(), vista.estado(0));
+    }
+
+    @Test
+    void diccionarioDeSenderos() {
+        ColumnasReservas columnas = new ColumnasReservas();
+        for (long id = 1; id <= 40; id++) {
+            columnas.registrarSendero(id * 50, "Sendero " + id, Dificultad.FACIL);
+        }
+        columnas.registrarSendero(100L, "Renombrado", Dificultad.EXPERTO);
+        columnas.publicar();
+
+        Vista vista = columnas.vista();
+        assertEquals(1, vista.codigoSendero(100L));
+        assertEquals("Renombrado", vista.nombreSendero(1));
+        assertEquals(Dificultad.EXPERTO.ordinal(), vista.dificultad(1));
+        assertEquals(39, vista.codigoSendero(2000L));
+        assertEquals(-1, vista.codigoSendero(7L));
+        assertThrows(IllegalStateException.class,
+            () -> columnas.registrar(1L, 7L, FECHA, 8, 1, EstadoReserva.PENDIENTE));
+    }
+}
@@ -0,0 +1,80 @@
+package com.uptc.bases2.demo.utils;
+
+import com.uptc.bases2.demo.exceptions.BadRequestException;
+import com.uptc.bases2.demo.utils.PaginacionUtils.CursorFechaId;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PaginacionUtilsTest {
+
+    @Test
+    void cursorNumericoIdaYVuelta() {
+        String cursor = PaginacionUtils.codificarCursor(123456789L);
+
+        assertEquals(123456789L, PaginacionUtils.decodificarId(cursor));
+    }
+
+    @Test
+    void cursorCompuestoIdaYVuelta() {
+        LocalDate fecha = LocalDate.of(2026, 2, 28);
+        String cursor = PaginacionUtils.codificarCursor(fecha, 51L);
+
+        CursorFechaId posicion = PaginacionUtils.decodificarFechaId(cursor);
+        assertEquals(fecha, posicion.getFecha());
+        assertEquals(51L, posicion.getId());
+    }
+
+    @Test
+    void cursorEsSeguroEnUrl() {
+        String cursor = PaginacionUtils.codificarCursor(LocalDate.of(2026, 12, 31), Long.MAX_VALUE);
+
+        assertFalse(cursor.contains("+") || cursor.contains("/") || cursor.contains("="));
+    }
+
+    @Test
+    void sinCursorEsLaPrimeraPagina() {
+        assertEquals(0L, PaginacionUtils.decodificarId(null));
+        assertEquals(0L, PaginacionUtils.decodificarId(" "));
+        assertNull(PaginacionUtils.decodificarFechaId(null));
+        assertNull(PaginacionUtils.decodificarFechaId(""));
+    }
+
+    @Test
+    void cursorInvalidoEsBadRequest() {
+        String sinSeparador = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("2026-01-01".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BadRequestException.class, () -> PaginacionUtils.decodificarId("%%%"));
+        assertThrows(BadRequestException.class,
+            () -> PaginacionUtils.decodificarId(PaginacionUtils.codificarCursor(LocalDate.now(), 1L)));
+        assertThrows(BadRequestException.class, () -> PaginacionUtils.decodificarFechaId(sinSeparador));
+        assertThrows(BadRequestException.class, () -> PaginacionUtils.decodificarFechaId("%%%"));
+    }
+
+    @Test
+    void tamanoDePagina() {
+        assertEquals(Constants.PAGE_SIZE_DEFAULT, PaginacionUtils.normalizarTamano(null));
+        assertEquals(5, PaginacionUtils.normalizarTamano(5));
+        assertEquals(Constants.PAGE_SIZE_MAX, PaginacionUtils.normalizarTamano(Constants.PAGE_SIZE_MAX + 1));
+        assertThrows(BadRequestException.class, () -> PaginacionUtils.normalizarTamano(0));
+        assertEquals(6, PaginacionUtils.limite(5).getPageSize());
+    }
+
+    @Test
+    void rangoDeFechasSinFiltro() {
+        LocalDate fecha = LocalDate.of(2026, 5, 1);
+
+        assertEquals(PaginacionUtils.FECHA_MINIMA, PaginacionUtils.fechaDesde(null));
+        assertEquals(PaginacionUtils.FECHA_MAXIMA, PaginacionUtils.fechaHasta(null));
+        assertEquals(fecha, PaginacionUtils.fechaDesde(fecha));
+        assertEquals(fecha, PaginacionUtils.fechaHasta(fecha));
+    }
+}